@@ -14,7 +14,6 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
-import org.eclipse.scout.rt.platform.cache.BasicCache;
 import org.eclipse.scout.rt.platform.cache.CacheBuilder;
 import org.eclipse.scout.rt.platform.cache.ICache;
 import org.eclipse.scout.rt.platform.cache.ICacheValueResolver;
@@ -32,7 +31,7 @@ public class ClientCacheBuilder<K, V> extends CacheBuilder<K, V> {
     if (isSharedAndRemoteAvailable() && isRemoteValueResolverEnabled()) {
       valueResolver = new RemoteCacheValueResolver<>(getCacheId());
     }
-    return new BasicCache<>(getCacheId(), getLabelSupplier(), valueResolver, cacheMap);
+    return createBasicCache(cacheMap, valueResolver);
   }
 
   @Override
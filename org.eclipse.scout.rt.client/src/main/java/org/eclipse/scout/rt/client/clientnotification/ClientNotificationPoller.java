@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.client.clientnotification;
 
+import java.io.IOException;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -25,6 +26,7 @@ import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.RunContext;
@@ -43,8 +45,10 @@ import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.NotificationSubjectProperty;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamRequest;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnel;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnel;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -141,8 +145,7 @@ public class ClientNotificationPoller {
               .withParentRunMonitor(outerRunMonitor)
               .run(() -> {
                 try {
-                  LOG.debug("Getting notifications from backend [clientNodeId={}]", IIds.toString(NodeId.current()));
-                  handleMessagesReceived(BEANS.get(IClientNotificationService.class).getNotifications(NodeId.current()));
+                  receiveNotifications();
                 }
                 finally {
                   outerRunMonitor.unregisterCancellable(tempRunMonitor);
@@ -161,6 +164,24 @@ public class ClientNotificationPoller {
       }
       LOG.debug("Client notification polling has ended because the job was cancelled. [clientNodeId={}]", IIds.toString(NodeId.current()));
     }
+
+    @SuppressWarnings("unchecked")
+    private void receiveNotifications() throws IOException, ClassNotFoundException {
+      IServiceTunnel tunnel = BEANS.get(IServiceTunnel.class);
+      if (CONFIG.getPropertyValue(NotificationPushProperty.class) && tunnel instanceof HttpServiceTunnel) {
+        LOG.debug("Receiving pushed notifications from backend [clientNodeId={}]", IIds.toString(NodeId.current()));
+        ((HttpServiceTunnel) tunnel).receiveStream(new ClientNotificationStreamRequest(NodeId.current()), response -> {
+          m_livenessCheck.run();
+          if (response.getException() != null) {
+            throw new PlatformException("Error receiving pushed notifications", response.getException());
+          }
+          handleMessagesReceived((List<ClientNotificationMessage>) response.getData());
+        });
+        return;
+      }
+      LOG.debug("Getting notifications from backend [clientNodeId={}]", IIds.toString(NodeId.current()));
+      handleMessagesReceived(BEANS.get(IClientNotificationService.class).getNotifications(NodeId.current()));
+    }
   }
 
   // --- liveness check methods ------------------------------------------------
@@ -253,6 +274,28 @@ public class ClientNotificationPoller {
     }
   }
 
+  /**
+   * @since 23.2
+   */
+  public static class NotificationPushProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the backend server pushes the client notifications over a persistent connection instead of answering one poll request per batch of notifications. "
+          + "Queue capacity, chunk size and blocking timeout of the backend apply in both cases. Requires an HTTP service tunnel. The default is false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.push";
+    }
+  }
+
   public static class NotificationPollerLivenessCheckIntervalMillis extends AbstractPositiveLongConfigProperty {
 
     @Override
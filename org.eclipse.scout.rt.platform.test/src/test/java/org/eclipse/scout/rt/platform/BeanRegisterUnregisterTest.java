@@ -28,7 +28,31 @@ public class BeanRegisterUnregisterTest {
     Assert.assertEquals(0, context.getBeans(Object.class).size());
   }
 
+  @Test
+  public void testRegisterAfterQuery() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+
+    IBean<?> reg = context.registerClass(TestObject.class);
+    Assert.assertSame(reg, context.getBean(TestObject.class));
+    Assert.assertEquals(1, context.getBeans(Object.class).size());
+
+    IBean<?> other = context.registerClass(OtherTestObject.class);
+    Assert.assertSame(reg, context.getBean(TestObject.class));
+    Assert.assertSame(other, context.getBean(OtherTestObject.class));
+    Assert.assertEquals(2, context.getBeans(Object.class).size());
+
+    context.unregisterBean(reg);
+    Assert.assertNull(context.optBean(TestObject.class));
+    Assert.assertFalse(context.isBean(TestObject.class));
+    Assert.assertSame(other, context.getBean(OtherTestObject.class));
+    Assert.assertEquals(1, context.getBeans(Object.class).size());
+  }
+
   private static class TestObject {
 
   }
+
+  private static class OtherTestObject {
+
+  }
 }
@@ -614,4 +614,57 @@ public class BasicCacheTest {
     assertEquals("newValue_4", RunContexts.empty().call(() -> cache.get(4)));
     assertEquals("newValue_5", RunContexts.empty().call(() -> cache.get(5)));
   }
+
+  @Test
+  public void testStatistics() {
+    ICache<Integer, String> cache = createCache("BasicCacheTestCacheId_testStatistics");
+    cache.get(1);
+    cache.get(1);
+    cache.get(2);
+    cache.getAll(Arrays.asList(1, 2, 3));
+
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertNotNull(statistics);
+    assertEquals("BasicCacheTestCacheId_testStatistics", statistics.getCacheId());
+    assertEquals(3, statistics.getHitCount());
+    assertEquals(3, statistics.getMissCount());
+    assertEquals(0, statistics.getEvictionCount());
+    assertEquals(3, statistics.getSize());
+    assertEquals(0.5d, statistics.getHitRate(), 0d);
+
+    CacheStatistics registryStatistics = BEANS.get(ICacheRegistryService.class).getStatistics("BasicCacheTestCacheId_testStatistics");
+    assertEquals(3, registryStatistics.getHitCount());
+    assertTrue(BEANS.get(ICacheRegistryService.class).getAllStatistics().stream()
+        .anyMatch(s -> "BasicCacheTestCacheId_testStatistics".equals(s.getCacheId())));
+  }
+
+  @Test
+  public void testMaximumWeight() {
+    //noinspection unchecked
+    ICache<Integer, String> cache = BEANS.get(ICacheBuilder.class)
+        .withCacheId("BasicCacheTestCacheId_testMaximumWeight")
+        .withValueResolver(k -> "value" + k)
+        .withMaximumWeight(100L, (k, v) -> 10)
+        .withReplaceIfExists(true)
+        .build();
+
+    for (int i = 0; i < 50; i++) {
+      assertEquals("value" + i, cache.get(i));
+    }
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertEquals(10, statistics.getSize());
+    assertEquals(40, statistics.getEvictionCount());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMaximumWeightTransactional() {
+    //noinspection unchecked
+    BEANS.get(ICacheBuilder.class)
+        .withCacheId("BasicCacheTestCacheId_testMaximumWeightTransactional")
+        .withValueResolver(k -> "value" + k)
+        .withMaximumWeight(100L, null)
+        .withTransactional(true)
+        .withReplaceIfExists(true)
+        .build();
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class RefreshAheadCacheTest {
+
+  @SuppressWarnings("unchecked")
+  protected ICache<Integer, String> createCache(String id, ICacheValueResolver<Integer, String> resolver) {
+    return BEANS.get(ICacheBuilder.class)
+        .withCacheId(id)
+        .withValueResolver(resolver)
+        .withTimeToLive(1L, TimeUnit.HOURS, false)
+        .withRefreshAhead(10L, TimeUnit.MILLISECONDS)
+        .withReplaceIfExists(true)
+        .build();
+  }
+
+  @Test
+  public void testRefreshAhead() {
+    final AtomicInteger resolveCount = new AtomicInteger();
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheTest_testRefreshAhead", key -> key + "." + resolveCount.incrementAndGet());
+    assertTrue(cache instanceof RefreshAheadCache);
+
+    assertEquals("1.1", cache.get(1));
+    SleepUtil.sleepSafe(50, TimeUnit.MILLISECONDS);
+
+    // stale value is returned and a refresh is scheduled
+    assertEquals("1.1", cache.get(1));
+    Jobs.getJobManager().awaitDone(Jobs.newFutureFilterBuilder().andMatchName("Refreshing cache entry [cacheId=RefreshAheadCacheTest_testRefreshAhead]").toFilter(), 10, TimeUnit.SECONDS);
+    assertEquals(2, resolveCount.get());
+    assertEquals("1.2", cache.getCachedValue(1));
+  }
+
+  @Test
+  public void testRefreshDoesNotUndoInvalidation() {
+    final AtomicInteger resolveCount = new AtomicInteger();
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheTest_testRefreshDoesNotUndoInvalidation", key -> key + "." + resolveCount.incrementAndGet());
+    RefreshAheadCache<Integer, String> refreshAheadCache = (RefreshAheadCache<Integer, String>) cache;
+
+    assertEquals("1.1", cache.get(1));
+    cache.invalidate(new KeyCacheEntryFilter<>(Collections.singleton(1)), false);
+    refreshAheadCache.refresh(1, "1.1");
+    assertNull(cache.getCachedValue(1));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRefreshAheadRequiresTimeToLive() {
+    //noinspection unchecked
+    BEANS.get(ICacheBuilder.class)
+        .withCacheId("RefreshAheadCacheTest_testRefreshAheadRequiresTimeToLive")
+        .withValueResolver(key -> "value")
+        .withRefreshAhead(10L, TimeUnit.MILLISECONDS)
+        .withReplaceIfExists(true)
+        .build();
+  }
+}
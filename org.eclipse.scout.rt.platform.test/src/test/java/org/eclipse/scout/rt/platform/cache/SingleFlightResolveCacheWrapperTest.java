@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class SingleFlightResolveCacheWrapperTest {
+
+  private static final int CALLERS = 5;
+
+  @SuppressWarnings("unchecked")
+  protected ICache<Integer, String> createCache(String id, ICacheValueResolver<Integer, String> resolver) {
+    ICache<Integer, String> cache = BEANS.get(ICacheBuilder.class)
+        .withCacheId(id)
+        .withValueResolver(resolver)
+        .withSingleFlightResolve(true)
+        .withReplaceIfExists(true)
+        .build();
+    assertTrue(cache instanceof SingleFlightResolveCacheWrapper);
+    return cache;
+  }
+
+  @Test
+  public void testSingleResolvePerKey() throws Exception {
+    final AtomicInteger resolveCount = new AtomicInteger();
+    final CountDownLatch resolveStarted = new CountDownLatch(1);
+    final CountDownLatch releaseResolve = new CountDownLatch(1);
+    ICache<Integer, String> cache = createCache("SingleFlightResolveCacheWrapperTest_testSingleResolvePerKey", key -> {
+      resolveCount.incrementAndGet();
+      resolveStarted.countDown();
+      try {
+        releaseResolve.await(10, TimeUnit.SECONDS);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "value" + key;
+    });
+
+    List<IFuture<String>> futures = new ArrayList<>();
+    futures.add(Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.copyCurrent(true))));
+    assertTrue(resolveStarted.await(10, TimeUnit.SECONDS));
+    for (int i = 1; i < CALLERS; i++) {
+      futures.add(Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.copyCurrent(true))));
+    }
+    releaseResolve.countDown();
+
+    for (IFuture<String> future : futures) {
+      assertEquals("value1", future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    }
+    assertEquals(1, resolveCount.get());
+    assertEquals("value1", cache.get(1));
+    assertEquals(1, resolveCount.get());
+  }
+
+  @Test
+  public void testResolveAfterFailure() {
+    final AtomicInteger resolveCount = new AtomicInteger();
+    ICache<Integer, String> cache = createCache("SingleFlightResolveCacheWrapperTest_testResolveAfterFailure", key -> {
+      if (resolveCount.incrementAndGet() == 1) {
+        throw new ProcessingException("Test exception - thrown");
+      }
+      return "value" + key;
+    });
+
+    assertThrows(ProcessingException.class, () -> cache.get(1));
+    assertEquals("value1", cache.get(1));
+    assertEquals(2, resolveCount.get());
+  }
+}
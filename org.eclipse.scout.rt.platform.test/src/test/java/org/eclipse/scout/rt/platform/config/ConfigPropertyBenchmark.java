@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationNameProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of a config property lookup using {@link CONFIG} (indexed by {@link ConfigPropertyRegistry})
+ * with a lookup using {@link BEANS} and measures the time to build the index when the platform has been started.
+ * <p>
+ * Run using {@link #main(String[])} which executes the lookup benchmarks with 1 and 8 threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigPropertyBenchmark {
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // starts the platform
+    Platform.get();
+  }
+
+  @Benchmark
+  public String lookupConfig() {
+    return CONFIG.getPropertyValue(ApplicationNameProperty.class);
+  }
+
+  @Benchmark
+  public String lookupBeans() {
+    return BEANS.get(ApplicationNameProperty.class).getValue();
+  }
+
+  @Benchmark
+  public Boolean lookupConfigBoolean() {
+    return CONFIG.getPropertyValue(PlatformDevModeProperty.class);
+  }
+
+  @Benchmark
+  public Boolean lookupBeansBoolean() {
+    return BEANS.get(PlatformDevModeProperty.class).getValue();
+  }
+
+  /**
+   * Time to index all config properties (executed once when the platform has been started).
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 5)
+  @Measurement(iterations = 20)
+  public int buildIndex() {
+    ConfigPropertyRegistry.get().build(Platform.get());
+    return ConfigPropertyRegistry.get().size();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[]{1, 8}) {
+      new Runner(new OptionsBuilder()
+          .include(ConfigPropertyBenchmark.class.getSimpleName() + ".lookup")
+          .threads(threads)
+          .build())
+          .run();
+    }
+    new Runner(new OptionsBuilder()
+        .include(ConfigPropertyBenchmark.class.getSimpleName() + ".buildIndex")
+        .build())
+        .run();
+  }
+}
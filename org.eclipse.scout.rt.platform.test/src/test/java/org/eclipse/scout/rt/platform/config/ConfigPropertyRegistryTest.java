@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.config;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationNameProperty;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ConfigPropertyRegistryTest {
+
+  @Test
+  public void testSameInstanceAsBeans() {
+    ConfigPropertyRegistry.get().build(Platform.get());
+    assertTrue(ConfigPropertyRegistry.get().size() > 0);
+    assertSame(BEANS.get(ApplicationNameProperty.class), ConfigPropertyRegistry.get().getProperty(ApplicationNameProperty.class));
+    assertEquals(BEANS.get(ApplicationNameProperty.class).getValue(), CONFIG.getPropertyValue(ApplicationNameProperty.class));
+  }
+
+  @Test
+  public void testResolveOnDemand() {
+    ConfigPropertyRegistry.get().clear();
+    assertEquals(0, ConfigPropertyRegistry.get().size());
+    assertSame(BEANS.get(ApplicationNameProperty.class), ConfigPropertyRegistry.get().getProperty(ApplicationNameProperty.class));
+    assertEquals(1, ConfigPropertyRegistry.get().size());
+  }
+
+  @Test
+  public void testBeanRegistrationInvalidatesIndex() {
+    ConfigPropertyRegistry.get().build(Platform.get());
+    String original = CONFIG.getPropertyValue(ApplicationNameProperty.class);
+
+    IBean<?> bean = BeanTestingHelper.get().mockConfigProperty(ApplicationNameProperty.class, "mocked");
+    try {
+      assertEquals("mocked", CONFIG.getPropertyValue(ApplicationNameProperty.class));
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+    assertEquals(original, CONFIG.getPropertyValue(ApplicationNameProperty.class));
+  }
+
+  @Test
+  public void testValueChangesAreVisible() {
+    ConfigPropertyRegistry.get().build(Platform.get());
+    ApplicationNameProperty property = BEANS.get(ApplicationNameProperty.class);
+    String original = property.getValue();
+    try {
+      property.setValue("changed");
+      assertEquals("changed", CONFIG.getPropertyValue(ApplicationNameProperty.class));
+      property.invalidate();
+      assertEquals(original, CONFIG.getPropertyValue(ApplicationNameProperty.class));
+    }
+    finally {
+      property.invalidate();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.Replace;
+import org.eclipse.scout.rt.platform.SimpleBeanDecorationFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of bean lookups of the snapshot based {@link BeanManagerImplementor} with a bean manager
+ * acquiring a fair read lock for every lookup (as {@link BeanManagerImplementor} did before queries became lock-free).
+ * <p>
+ * Run using {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class BeanManagerImplementorBenchmark {
+
+  @Param({"snapshot", "readLock"})
+  private String m_implementation;
+
+  private BeanManagerImplementor m_beanManager;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    m_beanManager = "readLock".equals(m_implementation) ? new ReadLockingBeanManagerImplementor() : new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    m_beanManager.registerClass(BenchmarkService.class);
+    m_beanManager.registerClass(BenchmarkServiceEx.class);
+    m_beanManager.registerClass(OtherBenchmarkService.class);
+    m_beanManager.registerClass(StandaloneBean.class);
+  }
+
+  @Benchmark
+  public IBean<IBenchmarkService> getBeanByInterface() {
+    return m_beanManager.getBean(IBenchmarkService.class);
+  }
+
+  @Benchmark
+  public IBean<StandaloneBean> getBeanByClass() {
+    return m_beanManager.getBean(StandaloneBean.class);
+  }
+
+  @Benchmark
+  public List<IBean<IBenchmarkService>> getBeans() {
+    return m_beanManager.getBeans(IBenchmarkService.class);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(BeanManagerImplementorBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+
+  /**
+   * Bean manager acquiring a fair read lock for every query.
+   */
+  private static class ReadLockingBeanManagerImplementor extends BeanManagerImplementor {
+    private final ReentrantReadWriteLock m_queryLock = new ReentrantReadWriteLock(true);
+
+    ReadLockingBeanManagerImplementor() {
+      super(new SimpleBeanDecorationFactory());
+    }
+
+    @Override
+    protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
+      m_queryLock.readLock().lock();
+      try {
+        return super.querySingle(beanClazz);
+      }
+      finally {
+        m_queryLock.readLock().unlock();
+      }
+    }
+
+    @Override
+    protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
+      m_queryLock.readLock().lock();
+      try {
+        return super.queryAll(beanClazz);
+      }
+      finally {
+        m_queryLock.readLock().unlock();
+      }
+    }
+  }
+
+  public interface IBenchmarkService {
+  }
+
+  public static class BenchmarkService implements IBenchmarkService {
+  }
+
+  @Replace
+  public static class BenchmarkServiceEx extends BenchmarkService {
+  }
+
+  @Order(100)
+  public static class OtherBenchmarkService implements IBenchmarkService {
+  }
+
+  public static class StandaloneBean {
+  }
+}
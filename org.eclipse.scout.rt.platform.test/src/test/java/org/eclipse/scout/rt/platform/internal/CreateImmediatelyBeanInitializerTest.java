@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.exception.InitializationException;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler.Step;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler.StepKind;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CreateImmediatelyBeanInitializerTest {
+
+  private static final List<String> CREATED = new CopyOnWriteArrayList<>();
+
+  private ExecutorService m_executor;
+
+  @Before
+  public void before() {
+    CREATED.clear();
+    m_executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void after() {
+    m_executor.shutdownNow();
+  }
+
+  @Test
+  public void testSequential() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    beanManager.registerClass(P_First.class);
+    beanManager.registerClass(P_Second.class);
+    PlatformStartupProfiler profiler = new PlatformStartupProfiler();
+
+    new CreateImmediatelyBeanInitializer(beanManager, profiler).createBeans();
+
+    assertEquals(2, CREATED.size());
+    assertEquals(2, profiler.getSteps().size());
+  }
+
+  @Test
+  public void testParallelRespectsDependencies() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    beanManager.registerClass(P_Third.class);
+    beanManager.registerClass(P_Second.class);
+    beanManager.registerClass(P_First.class);
+    beanManager.registerClass(P_Independent.class);
+    PlatformStartupProfiler profiler = new PlatformStartupProfiler();
+
+    new CreateImmediatelyBeanInitializer(beanManager, profiler).createBeans(m_executor);
+
+    assertEquals(4, CREATED.size());
+    assertTrue(CREATED.indexOf(P_First.class.getSimpleName()) < CREATED.indexOf(P_Second.class.getSimpleName()));
+    assertTrue(CREATED.indexOf(P_Second.class.getSimpleName()) < CREATED.indexOf(P_Third.class.getSimpleName()));
+    List<String> profiled = profiler.getSteps().stream()
+        .filter(step -> step.getKind() == StepKind.BEAN)
+        .map(Step::getName)
+        .collect(Collectors.toList());
+    assertEquals(4, profiled.size());
+    assertTrue(profiled.contains(P_Independent.class.getName()));
+  }
+
+  @Test(expected = InitializationException.class)
+  public void testParallelCyclicDependencies() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    beanManager.registerClass(P_CyclicA.class);
+    beanManager.registerClass(P_CyclicB.class);
+    new CreateImmediatelyBeanInitializer(beanManager, null).createBeans(m_executor);
+  }
+
+  @Test(expected = InitializationException.class)
+  public void testNotApplicationScoped() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    beanManager.registerClass(P_NotApplicationScoped.class);
+    new CreateImmediatelyBeanInitializer(beanManager, null).createBeans();
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  public static class P_First {
+    public P_First() {
+      SleepUtil.sleepSafe(50, TimeUnit.MILLISECONDS);
+      CREATED.add(getClass().getSimpleName());
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately(dependsOn = P_First.class)
+  public static class P_Second {
+    public P_Second() {
+      CREATED.add(getClass().getSimpleName());
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately(dependsOn = P_Second.class)
+  public static class P_Third {
+    public P_Third() {
+      CREATED.add(getClass().getSimpleName());
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  public static class P_Independent {
+    public P_Independent() {
+      CREATED.add(getClass().getSimpleName());
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately(dependsOn = P_CyclicB.class)
+  public static class P_CyclicA {
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately(dependsOn = P_CyclicA.class)
+  public static class P_CyclicB {
+  }
+
+  @IgnoreBean
+  @CreateImmediately
+  public static class P_NotApplicationScoped {
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler.Step;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler.StepKind;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class PlatformStartupProfilerTest {
+
+  @Test
+  public void testRecord() {
+    PlatformStartupProfiler profiler = new PlatformStartupProfiler();
+    long t0 = System.nanoTime();
+    long ms = TimeUnit.MILLISECONDS.toNanos(1);
+    profiler.record(StepKind.PHASE, "phase", null, t0, t0 + 100 * ms);
+    profiler.record(StepKind.LISTENER, "slowListener", State.BeanManagerPrepared, t0, t0 + 30 * ms);
+    profiler.record(StepKind.LISTENER, "fastListener", State.BeanManagerPrepared, t0 + 30 * ms, t0 + 31 * ms);
+    profiler.record(StepKind.BEAN, "bean", null, t0 + 40 * ms, t0 + 60 * ms);
+    profiler.finish();
+
+    assertEquals(4, profiler.getSteps().size());
+
+    List<Step> slowest = profiler.getSlowestSteps(2);
+    assertEquals(2, slowest.size());
+    assertEquals("slowListener", slowest.get(0).getName());
+    assertEquals("bean", slowest.get(1).getName());
+
+    JSONObject json = profiler.toJson();
+    JSONArray steps = json.getJSONArray("steps");
+    assertEquals(4, steps.length());
+    assertEquals("LISTENER", steps.getJSONObject(1).getString("kind"));
+    assertEquals("BeanManagerPrepared", steps.getJSONObject(1).getString("state"));
+    assertEquals(30d, steps.getJSONObject(1).getDouble("duration"), 0.001d);
+    assertFalse(steps.getJSONObject(0).has("state"));
+  }
+}
@@ -18,10 +18,15 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
 import org.eclipse.scout.rt.platform.job.IFuture;
@@ -31,6 +36,7 @@ import org.eclipse.scout.rt.platform.util.SleepUtil;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
 import org.junit.Test;
 
 public class JandexInventoryBuilderTest {
@@ -185,6 +191,78 @@ public class JandexInventoryBuilderTest {
     assertTrue(indexFile.exists());
   }
 
+  @Test
+  public void testScanAllModulesWithCache() {
+    File cacheDir = IOUtility.createTempDirectory("jandexCache");
+    try {
+      AtomicInteger scanCount = new AtomicInteger();
+      JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, cacheDir.toPath(), 4) {
+        @Override
+        public Index scanModule(URI indexUri) {
+          scanCount.incrementAndGet();
+          return super.scanModule(indexUri);
+        }
+      };
+      builder.scanAllModules();
+      int moduleCount = scanCount.get();
+      assertTrue(moduleCount > 0);
+      int classCount = builder.finish().getKnownClasses().size();
+      String[] cacheFiles = cacheDir.list();
+      assertNotNull(cacheFiles);
+      assertEquals(1, cacheFiles.length);
+
+      // warm start: nothing is scanned
+      scanCount.set(0);
+      JandexInventoryBuilder cachedBuilder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, cacheDir.toPath(), 4) {
+        @Override
+        public Index scanModule(URI indexUri) {
+          scanCount.incrementAndGet();
+          return super.scanModule(indexUri);
+        }
+      };
+      cachedBuilder.scanAllModules();
+      assertEquals(0, scanCount.get());
+      assertEquals(classCount, cachedBuilder.finish().getKnownClasses().size());
+      assertEquals(moduleCount, cachedBuilder.getIndexList().size());
+    }
+    finally {
+      IOUtility.deleteDirectory(cacheDir);
+    }
+  }
+
+  @Test
+  public void testInventoryCacheIgnoresCorruptFile() throws IOException {
+    File cacheDir = IOUtility.createTempDirectory("jandexCache");
+    try {
+      JandexInventoryCache cache = new JandexInventoryCache(cacheDir.toPath());
+      String key = cache.computeKey(Arrays.asList("a", "b"));
+      assertNotEquals(key, cache.computeKey(Arrays.asList("a", "c")));
+      assertNull(cache.read(key));
+
+      Files.write(cache.getCacheFile(key), new byte[]{1, 2, 3});
+      assertNull(cache.read(key));
+
+      Indexer indexer = new Indexer();
+      try (InputStream in = getClass().getResourceAsStream("JandexInventoryBuilderTest$FixtureJandexInventoryObject.class")) {
+        indexer.index(in);
+      }
+      cache.write(key, Collections.singletonList(indexer.complete()));
+      List<Index> indexes = cache.read(key);
+      assertNotNull(indexes);
+      assertEquals(1, indexes.size());
+      assertNotNull(indexes.get(0).getClassByName(DotName.createSimple(FixtureJandexInventoryObject.class.getName())));
+
+      String otherKey = cache.computeKey(Collections.singletonList("other"));
+      cache.write(otherKey, Collections.emptyList());
+      cache.deleteOutdated(otherKey);
+      assertFalse(Files.exists(cache.getCacheFile(key)));
+      assertEquals(0, cache.read(otherKey).size());
+    }
+    finally {
+      IOUtility.deleteDirectory(cacheDir);
+    }
+  }
+
   @Test
   public void testFileLockLastModified() throws URISyntaxException, IOException {
     URL scoutXml = getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH);
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.Date;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost to schedule and cancel a delayed Runnable using the timing wheel of {@link DelayedExecutor} with
+ * the {@link DelayQueue} based implementation it replaced, while a given number of other Runnables is pending.
+ * <p>
+ * {@link #main(String[])} also runs the benchmarks with 8 threads, where all submitters of the {@link DelayQueue}
+ * contend on its lock while those of the timing wheel only append to lock-free queues.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DelayedExecutorBenchmark {
+
+  private static final Runnable NOOP = () -> {
+  };
+
+  @Param({"1000", "100000"})
+  public int m_pending;
+
+  private ExecutorService m_executor;
+  private DelayedExecutor m_delayedExecutor;
+  private DelayQueueExecutor m_delayQueueExecutor;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    m_executor = Executors.newCachedThreadPool(new NamedThreadFactory("benchmark"));
+    m_delayedExecutor = new DelayedExecutor(m_executor, "benchmark-timing-wheel");
+    m_delayQueueExecutor = new DelayQueueExecutor();
+    for (int i = 0; i < m_pending; i++) {
+      Date fireTime = randomFireTime();
+      m_delayedExecutor.schedule(NOOP, fireTime);
+      m_delayQueueExecutor.schedule(NOOP, fireTime);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    m_executor.shutdownNow();
+  }
+
+  @Benchmark
+  public boolean scheduleAndCancelTimingWheel() {
+    return m_delayedExecutor.schedule(NOOP, randomFireTime()).cancel(false);
+  }
+
+  @Benchmark
+  public boolean scheduleAndCancelDelayQueue() {
+    return m_delayQueueExecutor.schedule(NOOP, randomFireTime()).cancel(false);
+  }
+
+  /**
+   * @return fire time in one to two hours, so that no Runnable fires while the benchmark runs
+   */
+  protected static Date randomFireTime() {
+    return new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1) + ThreadLocalRandom.current().nextLong(TimeUnit.HOURS.toMillis(1)));
+  }
+
+  /**
+   * The former implementation of {@link DelayedExecutor}: Runnables are kept in a {@link DelayQueue} (a priority queue
+   * guarded by a single lock), cancelling removes the Runnable from that queue.
+   */
+  protected static class DelayQueueExecutor {
+
+    private final DelayQueue<P_DelayedTask> m_delayedTaskQueue = new DelayQueue<>();
+    private final AtomicLong m_sequencer = new AtomicLong();
+
+    public ICancellable schedule(final Runnable runnable, final Date fireTime) {
+      final P_DelayedTask task = new P_DelayedTask(runnable, fireTime.getTime(), m_sequencer.incrementAndGet());
+      m_delayedTaskQueue.put(task);
+      return task;
+    }
+
+    private class P_DelayedTask implements Delayed, ICancellable {
+
+      private final Runnable m_runnable;
+      private final long m_executionTime;
+      private final long m_sequenceNumber;
+
+      P_DelayedTask(final Runnable runnable, final long executionTime, final long sequenceNumber) {
+        m_runnable = runnable;
+        m_executionTime = executionTime;
+        m_sequenceNumber = sequenceNumber;
+      }
+
+      @Override
+      public boolean cancel(final boolean interruptIfRunning) {
+        return m_delayedTaskQueue.remove(this);
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return !m_delayedTaskQueue.contains(this);
+      }
+
+      @Override
+      public long getDelay(final TimeUnit unit) {
+        return unit.convert(m_executionTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+      }
+
+      @Override
+      public int compareTo(final Delayed other) {
+        if (other == this) { // NOSONAR
+          return 0;
+        }
+        final P_DelayedTask otherDelayedTask = (P_DelayedTask) other;
+        final int signum = Long.compare(m_executionTime, otherDelayedTask.m_executionTime);
+        return signum != 0 ? signum : Long.compare(m_sequenceNumber, otherDelayedTask.m_sequenceNumber);
+      }
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[]{1, 8}) {
+      new Runner(new OptionsBuilder()
+          .include(DelayedExecutorBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build())
+          .run();
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DelayedExecutorTest {
+
+  private ExecutorService m_executor;
+  private DelayedExecutor m_delayedExecutor;
+
+  @Before
+  public void before() {
+    m_executor = Executors.newCachedThreadPool(new NamedThreadFactory("test-delayed-executor"));
+    m_delayedExecutor = new DelayedExecutor(m_executor, "test-scheduler-thread");
+  }
+
+  @After
+  public void after() {
+    m_executor.shutdownNow();
+  }
+
+  @Test
+  public void testFireOrder() throws InterruptedException {
+    final List<Integer> protocol = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch latch = new CountDownLatch(4);
+    final long now = System.currentTimeMillis();
+    m_delayedExecutor.schedule(() -> fire(protocol, 3, latch), new Date(now + 300));
+    m_delayedExecutor.schedule(() -> fire(protocol, 1, latch), new Date(now + 100));
+    m_delayedExecutor.schedule(() -> fire(protocol, 0, latch), new Date(now - 100)); // already elapsed
+    m_delayedExecutor.schedule(() -> fire(protocol, 2, latch), new Date(now + 200));
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(List.of(0, 1, 2, 3), protocol);
+  }
+
+  @Test
+  public void testNotFiredEarly() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final long fireTime = System.currentTimeMillis() + 150;
+    final long[] firedAt = new long[1];
+    m_delayedExecutor.schedule(() -> {
+      firedAt[0] = System.currentTimeMillis();
+      latch.countDown();
+    }, new Date(fireTime));
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertTrue(firedAt[0] >= fireTime);
+  }
+
+  @Test
+  public void testCancel() throws InterruptedException {
+    final AtomicInteger fired = new AtomicInteger();
+    final CountDownLatch latch = new CountDownLatch(1);
+    final long now = System.currentTimeMillis();
+    final ICancellable cancelled = m_delayedExecutor.schedule(fired::incrementAndGet, new Date(now + 50));
+    m_delayedExecutor.schedule(latch::countDown, new Date(now + 200));
+
+    assertTrue(cancelled.cancel(false));
+    assertTrue(cancelled.isCancelled());
+    assertFalse(cancelled.cancel(false));
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(0, fired.get());
+  }
+
+  @Test
+  public void testCancelAfterFired() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final ICancellable handle = m_delayedExecutor.schedule(latch::countDown, new Date());
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertFalse(handle.cancel(false));
+    assertFalse(handle.isCancelled());
+  }
+
+  @Test
+  public void testFarFuture() throws InterruptedException {
+    // beyond the range of the timing wheel
+    final ICancellable far = m_delayedExecutor.schedule(() -> fail("must not fire"), new Date(Long.MAX_VALUE));
+    final CountDownLatch latch = new CountDownLatch(1);
+    m_delayedExecutor.schedule(latch::countDown, new Date(System.currentTimeMillis() + 100));
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertTrue(far.cancel(false));
+  }
+
+  /**
+   * Far-future Runnables are kept in the wheel once the wheel position is not at its origin anymore. The wheel is driven
+   * by the test instead of the 'Dispatch-Loop-Runnable'.
+   */
+  @Test
+  public void testFarFutureAfterElapsedTime() {
+    final DelayedExecutor delayedExecutor = new DelayedExecutor(mock(ExecutorService.class), "test-scheduler-thread");
+    delayedExecutor.advance(5_000);
+
+    final AtomicInteger farFired = new AtomicInteger();
+    final AtomicInteger nearFired = new AtomicInteger();
+    final ICancellable far = delayedExecutor.schedule(farFired::incrementAndGet, new Date(Long.MAX_VALUE));
+    delayedExecutor.schedule(nearFired::incrementAndGet, new Date(System.currentTimeMillis() + (1L << 31)));
+    delayedExecutor.drainScheduledQueue(5_000);
+
+    // the near Runnable is not delayed by the far-future Runnable
+    final long nearFiredAt = advanceUntilFired(delayedExecutor, nearFired);
+    assertTrue(nearFiredAt >= 1L << 31);
+    assertTrue(nearFiredAt < 1L << 32);
+
+    // the far-future Runnable is held by the wheel across many rotations of its top level
+    for (int i = 0; i < 200; i++) {
+      final long next = delayedExecutor.nextExpiration();
+      assertNotEquals(Long.MAX_VALUE, next);
+      delayedExecutor.advance(next);
+    }
+    assertEquals(0, farFired.get());
+
+    assertTrue(far.cancel(false));
+    delayedExecutor.drainCancelledQueue();
+    assertEquals(Long.MAX_VALUE, delayedExecutor.nextExpiration());
+    assertEquals(0, farFired.get());
+  }
+
+  /**
+   * A Runnable whose fire time is in the next rotation of the top level of the wheel (about 795 days) fires on time.
+   */
+  @Test
+  public void testFireAcrossTopLevelRotation() {
+    final long rotation = 1L << 36;
+    final DelayedExecutor delayedExecutor = new DelayedExecutor(mock(ExecutorService.class), "test-scheduler-thread");
+    delayedExecutor.advance(rotation - 50);
+
+    final AtomicInteger fired = new AtomicInteger();
+    delayedExecutor.schedule(fired::incrementAndGet, new Date(System.currentTimeMillis() + rotation + 100));
+    delayedExecutor.drainScheduledQueue(rotation - 50);
+    assertEquals(0, fired.get());
+
+    final long firedAt = advanceUntilFired(delayedExecutor, fired);
+    assertEquals(1, fired.get());
+    assertTrue(firedAt >= rotation + 50);
+    assertTrue(firedAt < rotation + 10_000);
+    assertEquals(Long.MAX_VALUE, delayedExecutor.nextExpiration());
+  }
+
+  /**
+   * Advances the wheel from expiration to expiration until the given counter is incremented.
+   *
+   * @return the tick at which the counter was incremented
+   */
+  private static long advanceUntilFired(DelayedExecutor delayedExecutor, AtomicInteger fired) {
+    for (int i = 0; i < 100; i++) {
+      final long next = delayedExecutor.nextExpiration();
+      assertNotEquals(Long.MAX_VALUE, next);
+      delayedExecutor.advance(next);
+      if (fired.get() > 0) {
+        return next;
+      }
+    }
+    fail("Runnable did not fire");
+    return -1;
+  }
+
+  private static void fire(List<Integer> protocol, int id, CountDownLatch latch) {
+    protocol.add(id);
+    latch.countDown();
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadFactoryTest {
+
+  @Test
+  public void testThreadInfo() throws InterruptedException {
+    Assume.assumeTrue("Virtual threads not supported by this Java runtime", VirtualThreadFactory.isSupported());
+
+    final AtomicReference<ThreadInfo> threadInfo = new AtomicReference<>();
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    Thread thread = new VirtualThreadFactory("virtual-test-thread").newThread(() -> {
+      threadInfo.set(ThreadInfo.CURRENT.get());
+      threadName.set(Thread.currentThread().getName());
+      latch.countDown();
+    });
+    thread.start();
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertTrue(thread.isDaemon());
+    assertNotNull(threadInfo.get());
+    assertEquals("virtual-test-thread-1", threadName.get());
+  }
+
+  @Test
+  public void testFallbackToPlatformThreads() throws InterruptedException {
+    final AtomicReference<ThreadInfo> threadInfo = new AtomicReference<>();
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    VirtualThreadFactory factory = new VirtualThreadFactory("fallback-test-thread") {
+      @Override
+      protected ThreadFactory getVirtualThreadFactory() {
+        return null; // as if virtual threads were not supported
+      }
+    };
+    Thread thread = factory.newThread(() -> {
+      threadInfo.set(ThreadInfo.CURRENT.get());
+      threadName.set(Thread.currentThread().getName());
+      latch.countDown();
+    });
+    assertFalse(thread.isDaemon());
+    thread.start();
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertNotNull(threadInfo.get());
+    assertEquals("fallback-test-thread-1", threadName.get());
+    assertSame(factory, thread.getUncaughtExceptionHandler());
+  }
+}
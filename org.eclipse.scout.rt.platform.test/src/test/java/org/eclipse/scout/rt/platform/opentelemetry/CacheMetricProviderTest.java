@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.opentelemetry;
+
+import static org.mockito.ArgumentMatchers.*;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+
+public class CacheMetricProviderTest {
+
+  @Test
+  public void testRecordResolveDuration() {
+    OpenTelemetry openTelemetry = Mockito.mock(OpenTelemetry.class, Mockito.RETURNS_DEEP_STUBS);
+    DoubleHistogram histogram = openTelemetry.getMeter(anyString()).histogramBuilder(anyString()).setDescription(anyString()).setUnit(anyString()).build();
+
+    CacheMetricProvider provider = new CacheMetricProvider();
+    provider.recordResolveDuration("cache", CacheMetricProvider.OPERATION_RESOLVE, 1_000_000L); // not registered yet
+    Mockito.verifyNoInteractions(histogram);
+
+    provider.register(openTelemetry);
+    provider.recordResolveDuration("cache", CacheMetricProvider.OPERATION_RESOLVE, 2_000_000L);
+    Mockito.verify(histogram).record(2d, Attributes.of(AttributeKey.stringKey("scout.cache.id"), "cache", AttributeKey.stringKey("scout.cache.operation"), CacheMetricProvider.OPERATION_RESOLVE));
+
+    provider.close();
+    provider.recordResolveDuration("cache", CacheMetricProvider.OPERATION_RESOLVE, 3_000_000L);
+    Mockito.verifyNoMoreInteractions(histogram);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.StripedConcurrentExpiringMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of {@link ConcurrentExpiringMap} with {@link StripedConcurrentExpiringMap} for a LRU
+ * configuration (touch on get, size bound) and a TTL configuration.
+ * <p>
+ * Run using {@link #main(String[])} which executes all benchmarks with 1, 8 and 64 threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentExpiringMapBenchmark {
+
+  private static final int KEY_SPACE = 10_000;
+  private static final int HOT_KEYS = 16;
+
+  @Param({"default", "striped"})
+  private String m_implementation;
+
+  @Param({"lru", "ttl"})
+  private String m_configuration;
+
+  private ConcurrentExpiringMap<Integer, String> m_map;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    boolean lru = "lru".equals(m_configuration);
+    long timeToLive = TimeUnit.MINUTES.toMillis(10);
+    int targetSize = lru ? KEY_SPACE / 2 : 0;
+    if ("striped".equals(m_implementation)) {
+      m_map = new StripedConcurrentExpiringMap<>(new ConcurrentHashMap<>(), timeToLive, lru, targetSize);
+    }
+    else {
+      m_map = new ConcurrentExpiringMap<>(new ConcurrentHashMap<>(), timeToLive, lru, targetSize);
+    }
+    for (int i = 0; i < KEY_SPACE; i++) {
+      m_map.put(i, "value" + i);
+    }
+  }
+
+  /**
+   * All threads read a few hot keys.
+   */
+  @Benchmark
+  public String getHotKey() {
+    Integer key = ThreadLocalRandom.current().nextInt(HOT_KEYS);
+    return m_map.get(key);
+  }
+
+  /**
+   * 90% reads and 10% writes on a uniformly distributed key space.
+   */
+  @Benchmark
+  public String readWrite() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Integer key = random.nextInt(KEY_SPACE);
+    if (random.nextInt(10) == 0) {
+      return m_map.put(key, "value");
+    }
+    return m_map.get(key);
+  }
+
+  /**
+   * Writes only on a uniformly distributed key space.
+   */
+  @Benchmark
+  public String put() {
+    Integer key = ThreadLocalRandom.current().nextInt(KEY_SPACE);
+    return m_map.put(key, "value");
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[]{1, 8, 64}) {
+      new Runner(new OptionsBuilder()
+          .include(ConcurrentExpiringMapBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build())
+          .run();
+    }
+  }
+}
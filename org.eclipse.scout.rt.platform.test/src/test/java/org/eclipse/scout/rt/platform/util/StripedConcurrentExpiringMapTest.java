@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.ExpiringElement;
+import org.eclipse.scout.rt.platform.util.collection.StripedConcurrentExpiringMap;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StripedConcurrentExpiringMap}
+ *
+ * @since 23.2
+ */
+public class StripedConcurrentExpiringMapTest {
+
+  @Test
+  public void testHotReadDoesNotWrite() {
+    StripedConcurrentExpiringMap<Integer, String> map = new StripedConcurrentExpiringMap<>(1, TimeUnit.HOURS, 100);
+    map.put(1, "a");
+    ExpiringElement<String> element = map.getElementMap().get(1);
+    for (int i = 0; i < 100; i++) {
+      assertEquals("a", map.get(1));
+    }
+    assertSame(element, map.getElementMap().get(1));
+  }
+
+  @Test
+  public void testTouchAfterGranularity() throws InterruptedException {
+    StripedConcurrentExpiringMap<Integer, String> map = new StripedConcurrentExpiringMap<>(160, TimeUnit.MILLISECONDS, 100);
+    assertEquals(10, map.getTouchGranularity());
+    map.put(1, "a");
+    ExpiringElement<String> element = map.getElementMap().get(1);
+    Thread.sleep(20);
+    assertEquals("a", map.get(1));
+    assertNotSame(element, map.getElementMap().get(1));
+  }
+
+  @Test
+  public void testExpiredEntriesAreSwept() throws InterruptedException {
+    TestStripedConcurrentExpiringMap map = new TestStripedConcurrentExpiringMap(10, 0);
+    for (int i = 0; i < 100; i++) {
+      map.put(i, "v" + i);
+    }
+    Thread.sleep(20);
+    // sweep interval elapsed: the next write sweeps expired entries
+    map.put(1000, "new");
+    assertEquals(1, map.getElementMap().size());
+    assertEquals(100, map.m_evicted.size());
+    assertEquals(100, map.getEvictionCount());
+    assertEquals("new", map.get(1000));
+  }
+
+  @Test
+  public void testSizeBound() {
+    TestStripedConcurrentExpiringMap map = new TestStripedConcurrentExpiringMap(0, 100);
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, "v" + i);
+      assertTrue(map.size() < map.getOverflowSize());
+    }
+    assertEquals(1000 - map.size(), map.m_evicted.size());
+  }
+
+  @Test
+  public void testEvictExpiredEntries() throws InterruptedException {
+    TestStripedConcurrentExpiringMap map = new TestStripedConcurrentExpiringMap(10, 0);
+    Map<Integer, String> entries = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      entries.put(i, "v" + i);
+    }
+    map.putAll(entries);
+    Thread.sleep(20);
+    map.evictExpiredEntries();
+    assertEquals(0, map.getElementMap().size());
+    assertEquals(1000, map.m_evicted.size());
+  }
+
+  private static class TestStripedConcurrentExpiringMap extends StripedConcurrentExpiringMap<Integer, String> {
+    private final Map<Integer, String> m_evicted = new ConcurrentHashMap<>();
+
+    TestStripedConcurrentExpiringMap(long timeToLiveMillis, int targetSize) {
+      super(new ConcurrentHashMap<>(), timeToLiveMillis, targetSize > 0, targetSize);
+    }
+
+    @Override
+    public void evictExpiredEntries() {
+      super.evictExpiredEntries();
+    }
+
+    @Override
+    protected void execEntryEvicted(Integer key, String value) {
+      m_evicted.put(key, value);
+    }
+  }
+}
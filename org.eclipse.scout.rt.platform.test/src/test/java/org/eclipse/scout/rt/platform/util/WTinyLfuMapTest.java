@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntBiFunction;
+
+import org.eclipse.scout.rt.platform.util.collection.FrequencySketch;
+import org.eclipse.scout.rt.platform.util.collection.WTinyLfuMap;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WTinyLfuMap} and {@link FrequencySketch}
+ *
+ * @since 23.2
+ */
+public class WTinyLfuMapTest {
+
+  @Test
+  public void testPutGetRemove() {
+    WTinyLfuMap<Integer, String> map = new WTinyLfuMap<>(10);
+    assertNull(map.put(1, "a"));
+    assertEquals("a", map.put(1, "b"));
+    assertEquals("b", map.get(1));
+    assertTrue(map.containsKey(1));
+    assertEquals("b", map.putIfAbsent(1, "c"));
+    assertFalse(map.replace(1, "a", "c"));
+    assertTrue(map.replace(1, "b", "c"));
+    assertEquals("c", map.replace(1, "d"));
+    assertFalse(map.remove(1, "c"));
+    assertTrue(map.remove(1, "d"));
+    assertNull(map.get(1));
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.getWeightedSize());
+  }
+
+  @Test
+  public void testMaximumSize() {
+    TestWTinyLfuMap map = new TestWTinyLfuMap(100, null);
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, "v" + i);
+      assertTrue(map.size() <= 100);
+    }
+    assertEquals(100, map.size());
+    assertEquals(100, map.getWeightedSize());
+    assertEquals(900, map.getEvictionCount());
+    assertEquals(900, map.m_evicted.size());
+  }
+
+  @Test
+  public void testMaximumWeight() {
+    TestWTinyLfuMap map = new TestWTinyLfuMap(100, (k, v) -> v.length());
+    map.put(1, "0123456789");
+    map.put(2, "0123456789");
+    assertEquals(20, map.getWeightedSize());
+    for (int i = 3; i < 100; i++) {
+      map.put(i, "01234567890123456789");
+    }
+    assertTrue(map.getWeightedSize() <= 100);
+    assertTrue(map.size() <= 10);
+
+    // an entry heavier than the maximum weight is evicted immediately
+    map.put(1000, new String(new char[101]));
+    assertFalse(map.containsKey(1000));
+  }
+
+  @Test
+  public void testFrequentEntriesAreRetained() {
+    WTinyLfuMap<Integer, String> map = new WTinyLfuMap<>(100);
+    for (int i = 0; i < 50; i++) {
+      map.put(i, "hot" + i);
+    }
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 50; i++) {
+        assertEquals("hot" + i, map.get(i));
+      }
+    }
+
+    // scan of entries which are accessed only once
+    for (int i = 1000; i < 2000; i++) {
+      map.put(i, "cold" + i);
+    }
+
+    int hotEntries = 0;
+    for (int i = 0; i < 50; i++) {
+      if (map.containsKey(i)) {
+        hotEntries++;
+      }
+    }
+    assertEquals(50, hotEntries);
+  }
+
+  @Test
+  public void testTimeToLive() throws InterruptedException {
+    TestWTinyLfuMap map = new TestWTinyLfuMap(10, null, 10, TimeUnit.MILLISECONDS);
+    map.put(1, "a");
+    assertEquals("a", map.get(1));
+    Thread.sleep(20);
+    assertFalse(map.containsKey(1));
+    assertNull(map.get(1));
+    assertEquals(1, map.getEvictionCount());
+    assertEquals("a", map.m_evicted.get(1));
+    assertNull(map.putIfAbsent(1, "b"));
+    assertEquals("b", map.get(1));
+  }
+
+  @Test
+  public void testEntrySet() {
+    WTinyLfuMap<Integer, String> map = new WTinyLfuMap<>(10);
+    map.put(1, "a");
+    map.put(2, "b");
+    map.put(3, "c");
+
+    Map<Integer, String> copy = new HashMap<>(map);
+    assertEquals(3, copy.size());
+    assertEquals("b", copy.get(2));
+
+    map.entrySet().removeIf(e -> e.getKey() == 2);
+    assertFalse(map.containsKey(2));
+    assertEquals(2, map.getWeightedSize());
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.getWeightedSize());
+  }
+
+  @Test
+  public void testConcurrentAccess() throws InterruptedException {
+    WTinyLfuMap<Integer, Integer> map = new WTinyLfuMap<>(64);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int offset = t;
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 10000; i++) {
+          int key = (i * 7 + offset) % 256;
+          if (map.get(key) == null) {
+            map.put(key, key);
+          }
+          if (i % 10 == 0) {
+            map.remove(key);
+          }
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(map.size() <= 64);
+    assertEquals(map.size(), map.getWeightedSize());
+  }
+
+  @Test
+  public void testFrequencySketch() {
+    FrequencySketch sketch = new FrequencySketch();
+    sketch.ensureCapacity(512);
+    assertEquals(0, sketch.frequency("a"));
+    for (int i = 0; i < 5; i++) {
+      sketch.increment("a");
+    }
+    assertEquals(5, sketch.frequency("a"));
+    for (int i = 0; i < 20; i++) {
+      sketch.increment("a");
+    }
+    assertEquals(15, sketch.frequency("a"));
+  }
+
+  private static class TestWTinyLfuMap extends WTinyLfuMap<Integer, String> {
+    private final Map<Integer, String> m_evicted = new HashMap<>();
+
+    TestWTinyLfuMap(long maximumWeight, ToIntBiFunction<Integer, String> weigher) {
+      this(maximumWeight, weigher, 0L, TimeUnit.MILLISECONDS);
+    }
+
+    TestWTinyLfuMap(long maximumWeight, ToIntBiFunction<Integer, String> weigher, long timeToLive, TimeUnit unit) {
+      super(maximumWeight, weigher, timeToLive, unit);
+    }
+
+    @Override
+    protected void execEntryEvicted(Integer key, String value) {
+      m_evicted.put(key, value);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.junit.Test;
+
+public class BoundedRingBufferTest {
+
+  @Test
+  public void testOfferPoll() {
+    BoundedRingBuffer<String> buffer = new BoundedRingBuffer<>(3);
+    assertTrue(buffer.isEmpty());
+    assertNull(buffer.poll());
+
+    assertTrue(buffer.offer("a"));
+    assertTrue(buffer.offer("b"));
+    assertTrue(buffer.offer("c"));
+    assertFalse(buffer.offer("d"));
+    assertEquals(3, buffer.size());
+
+    assertEquals("a", buffer.poll());
+    assertTrue(buffer.offer("d"));
+    assertEquals("b", buffer.poll());
+    assertEquals("c", buffer.poll());
+    assertEquals("d", buffer.poll());
+    assertNull(buffer.poll());
+    assertTrue(buffer.isEmpty());
+    assertEquals(0, buffer.size());
+  }
+
+  @Test
+  public void testDrainTo() {
+    BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(10);
+    for (int i = 0; i < 5; i++) {
+      buffer.offer(i);
+    }
+    List<Integer> drained = new ArrayList<>();
+    assertEquals(3, buffer.drainTo(drained, 3));
+    assertEquals(List.of(0, 1, 2), drained);
+    assertEquals(2, buffer.drainTo(drained, 10));
+    assertEquals(List.of(0, 1, 2, 3, 4), drained);
+  }
+
+  @Test
+  public void testAwaitNotEmpty() throws InterruptedException {
+    BoundedRingBuffer<String> buffer = new BoundedRingBuffer<>(2);
+    assertFalse(buffer.awaitNotEmpty(10, TimeUnit.MILLISECONDS));
+
+    Thread producer = new Thread(() -> {
+      SleepUtil.sleepSafe(50, TimeUnit.MILLISECONDS);
+      buffer.offer("a");
+    });
+    producer.start();
+    assertTrue(buffer.awaitNotEmpty(10, TimeUnit.SECONDS));
+    assertEquals("a", buffer.poll());
+    producer.join();
+  }
+
+  @Test
+  public void testConcurrentProducers() throws InterruptedException {
+    final int producerCount = 4;
+    final int elementsPerProducer = 10_000;
+    BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(64);
+    CountDownLatch done = new CountDownLatch(producerCount);
+    for (int p = 0; p < producerCount; p++) {
+      int offset = p * elementsPerProducer;
+      new Thread(() -> {
+        for (int i = 0; i < elementsPerProducer; i++) {
+          while (!buffer.offer(offset + i)) {
+            Thread.yield();
+          }
+        }
+        done.countDown();
+      }).start();
+    }
+
+    Set<Integer> received = new HashSet<>();
+    while (received.size() < producerCount * elementsPerProducer) {
+      if (buffer.awaitNotEmpty(10, TimeUnit.SECONDS)) {
+        buffer.drainTo(received, 16);
+      }
+      else {
+        fail("no element received");
+      }
+    }
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertTrue(buffer.isEmpty());
+  }
+}
@@ -43,6 +43,11 @@ public final class AnnotationFactory {
       return CreateImmediately.class;
     }
 
+    @Override
+    public Class<?>[] dependsOn() {
+      return new Class<?>[0];
+    }
+
     @Override
     public boolean equals(Object obj) {
       if (this == obj) {
@@ -18,10 +18,21 @@ import java.lang.annotation.Target;
 /**
  * Indicates that an 'application-scoped' bean should be instantiated immediately upon platform startup. However, the
  * bean must be declared as 'application-scoped', otherwise platform startup fails.
+ * <p>
+ * If the beans are created in parallel (see
+ * {@link org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CreateImmediatelyParallelismProperty}), a bean
+ * is only created after all the {@link CreateImmediately} beans it {@link #dependsOn() depends on}.
  */
 @Bean // do not remove to enforce validation on platform startup.
 @Inherited
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface CreateImmediately {
+
+  /**
+   * @return the types of the {@link CreateImmediately} beans which must be created before this bean. Types which are
+   *         not {@link CreateImmediately} beans are ignored.
+   * @since 23.2
+   */
+  Class<?>[] dependsOn() default {};
 }
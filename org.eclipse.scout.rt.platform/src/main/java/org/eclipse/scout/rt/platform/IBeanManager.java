@@ -152,4 +152,13 @@ public interface IBeanManager {
    *          The {@link IBean} to unregister.
    */
   void unregisterBean(IBean<?> bean);
+
+  /**
+   * @return a counter which is incremented whenever beans are registered or unregistered, or <code>-1</code> if not
+   *         supported. Callers may use it to detect whether query results they cached are still up to date.
+   * @since 23.2
+   */
+  default long getModificationCount() {
+    return -1L;
+  }
 }
@@ -16,12 +16,16 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.CacheMetricProvider;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.WTinyLfuMap;
 
 /**
  * Basic implementation of {@link ICache}.
@@ -44,6 +48,10 @@ public class BasicCache<K, V> implements ICache<K, V> {
 
   protected final AbstractTransactionalMap<K, ?> m_transactionalMap; // is null if not transactional cache
 
+  protected final LongAdder m_hitCount = new LongAdder();
+  protected final LongAdder m_missCount = new LongAdder();
+  protected final LongAdder m_invalidationCount = new LongAdder();
+
   /**
    * @deprecated Use constructor including label supplier as second argument. Label supplier can be retrieved via
    * {@link CacheBuilder#getLabelSupplier()}.
@@ -118,11 +126,17 @@ public class BasicCache<K, V> implements ICache<K, V> {
       return null;
     }
     V value = m_cacheMap.get(key);
-    if (value == null) {
+    if (value != null) {
+      m_hitCount.increment();
+    }
+    else {
+      m_missCount.increment();
       if (m_transactionalMap != null) {
         m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
       }
+      long start = System.nanoTime();
       value = m_resolver.resolve(key);
+      recordResolveDuration(CacheMetricProvider.OPERATION_RESOLVE, start);
       if (value != null) {
         V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
         value = alreadySetValue != null ? alreadySetValue : value;
@@ -146,15 +160,19 @@ public class BasicCache<K, V> implements ICache<K, V> {
         iterator.remove();
       }
     }
+    m_hitCount.add(result.size());
     if (keys.isEmpty()) {
       // all keys could be resolved with cache
       return result;
     }
+    m_missCount.add(keys.size());
 
     if (m_transactionalMap != null) {
       m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
     }
+    long start = System.nanoTime();
     Map<K, V> resolvedValues = m_resolver.resolveAll(keys);
+    recordResolveDuration(CacheMetricProvider.OPERATION_RESOLVE_ALL, start);
     for (Iterator<Entry<K, V>> iterator = resolvedValues.entrySet().iterator(); iterator.hasNext();) {
       Entry<K, V> entry = iterator.next();
       // remove any null values from the resolved values map
@@ -174,6 +192,7 @@ public class BasicCache<K, V> implements ICache<K, V> {
 
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    m_invalidationCount.increment();
     boolean markInsertsDirty = true;
 
     if (filter instanceof AllCacheEntryFilter) {
@@ -196,8 +215,42 @@ public class BasicCache<K, V> implements ICache<K, V> {
     }
   }
 
+  /**
+   * Records the duration of a (successful) resolve operation, see {@link CacheMetricProvider}.
+   */
+  protected void recordResolveDuration(String operation, long startNanos) {
+    CacheMetricProvider metricProvider = BEANS.opt(CacheMetricProvider.class);
+    if (metricProvider != null) {
+      metricProvider.recordResolveDuration(getCacheId(), operation, System.nanoTime() - startNanos);
+    }
+  }
+
+  /**
+   * @return snapshot of the hit, miss, eviction and invalidation counters of this cache
+   * @since 23.2
+   */
+  public CacheStatistics getStatistics() {
+    return new CacheStatistics(getCacheId(), m_hitCount.sum(), m_missCount.sum(), getEvictionCount(), m_invalidationCount.sum(), m_cacheMap.size());
+  }
+
+  /**
+   * @return number of entries evicted by the cache map; 0 if the cache map does not evict entries
+   */
+  protected long getEvictionCount() {
+    if (m_cacheMap instanceof ConcurrentExpiringMap) {
+      return ((ConcurrentExpiringMap<K, V>) m_cacheMap).getEvictionCount();
+    }
+    if (m_cacheMap instanceof WTinyLfuMap) {
+      return ((WTinyLfuMap<K, V>) m_cacheMap).getEvictionCount();
+    }
+    return 0L;
+  }
+
   @Override
   public <T> T getAdapter(Class<T> clazz) {
+    if (clazz == CacheStatistics.class) {
+      return clazz.cast(getStatistics());
+    }
     return null;
   }
 }
@@ -26,6 +26,8 @@ import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.CopyOnWriteTransactionalMap;
+import org.eclipse.scout.rt.platform.util.collection.StripedConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.WTinyLfuMap;
 
 /**
  * @since 5.2
@@ -48,7 +50,11 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private Long m_maximumWeight;
+  private ICacheEntryWeigher<K, V> m_weigher;
   private Integer m_maxConcurrentResolve;
+  private boolean m_singleFlightResolve;
+  private Long m_refreshAfter;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
 
@@ -94,6 +100,9 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected Map<K, V> createCacheMap() {
+    if (getMaximumWeight() != null) {
+      return createWeightBoundedMap();
+    }
     if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
@@ -101,7 +110,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
       boolean touchOnGet = isTouchOnGet() || getSizeBound() != null;
       long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
       int targetSize = NumberUtility.nvl(getSizeBound(), -1);
-      return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize);
+      return new StripedConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize);
     }
     else if (isThreadSafe() || isTransactional()) {
       return createConcurrentMap();
@@ -109,6 +118,15 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return new HashMap<>();
   }
 
+  protected Map<K, V> createWeightBoundedMap() {
+    if (isTransactional() || getSizeBound() != null) {
+      throw new IllegalStateException("maximum weight cannot be combined with a size bound and is not supported for transactional caches [cacheId=" + getCacheId() + "]");
+    }
+    ICacheEntryWeigher<K, V> weigher = getWeigher();
+    long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
+    return new WTinyLfuMap<>(getMaximumWeight(), weigher == null ? null : weigher::weigh, timeToLive, TimeUnit.MILLISECONDS);
+  }
+
   protected <KK, VV> ConcurrentMap<KK, VV> createConcurrentMap() {
     if (isTransactional()) {
       return new ConcurrentTransactionalMap<>(getCacheId(), isTransactionalFastForward());
@@ -123,10 +141,31 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    return new BasicCache<>(getCacheId(), getLabelSupplier(), getValueResolver(), cacheMap);
+    return createBasicCache(cacheMap, getValueResolver());
+  }
+
+  @SuppressWarnings("unchecked")
+  protected ICache<K, V> createBasicCache(Map<K, V> cacheMap, ICacheValueResolver<K, V> valueResolver) {
+    if (isCreateRefreshAheadCache(cacheMap)) {
+      return new RefreshAheadCache<>(getCacheId(), getLabelSupplier(), valueResolver, (ConcurrentExpiringMap<K, V>) cacheMap, getRefreshAfter());
+    }
+    return new BasicCache<>(getCacheId(), getLabelSupplier(), valueResolver, cacheMap);
+  }
+
+  protected boolean isCreateRefreshAheadCache(Map<K, V> cacheMap) {
+    if (getRefreshAfter() == null) {
+      return false;
+    }
+    if (isTransactional() || !(cacheMap instanceof ConcurrentExpiringMap)) {
+      throw new IllegalStateException("refresh ahead requires a time to live and is not supported for transactional caches [cacheId=" + getCacheId() + "]");
+    }
+    return true;
   }
 
   protected ICache<K, V> addBeforeCustomWrappers(ICache<K, V> cache) {
+    if (isSingleFlightResolve()) {
+      cache = new SingleFlightResolveCacheWrapper<>(cache);
+    }
     if (getMaxConcurrentResolve() != null) {
       cache = new BoundedResolveCacheWrapper<>(cache, getMaxConcurrentResolve());
     }
@@ -313,6 +352,24 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ICacheEntryWeigher<K, V> weigher) {
+    if (maximumWeight != null && maximumWeight <= 0L) {
+      throw new IllegalArgumentException("maximumWeight must be positive");
+    }
+    m_maximumWeight = maximumWeight;
+    m_weigher = weigher;
+    return this;
+  }
+
+  public Long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  public ICacheEntryWeigher<K, V> getWeigher() {
+    return m_weigher;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
@@ -326,6 +383,37 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_maxConcurrentResolve;
   }
 
+  @Override
+  public CacheBuilder<K, V> withSingleFlightResolve(boolean singleFlightResolve) {
+    m_singleFlightResolve = singleFlightResolve;
+    return this;
+  }
+
+  public boolean isSingleFlightResolve() {
+    return m_singleFlightResolve;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withRefreshAhead(Long refreshAfterDuration, TimeUnit refreshAfterUnit) {
+    if (refreshAfterDuration == null || refreshAfterUnit == null) {
+      m_refreshAfter = null;
+    }
+    else {
+      if (refreshAfterDuration <= 0L) {
+        throw new IllegalArgumentException("refreshAfterDuration must be positive");
+      }
+      m_refreshAfter = refreshAfterUnit.toMillis(refreshAfterDuration);
+    }
+    return this;
+  }
+
+  /**
+   * @return refresh after duration in milliseconds
+   */
+  public Long getRefreshAfter() {
+    return m_refreshAfter;
+  }
+
   @Override
   public CacheBuilder<K, V> withAdditionalCustomWrapper(Class<? extends ICache> cacheClass, Object... arguments) {
     if (cacheClass != null) {
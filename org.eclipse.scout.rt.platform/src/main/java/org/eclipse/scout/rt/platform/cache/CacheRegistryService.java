@@ -9,8 +9,11 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.platform.util.Assertions;
 
@@ -50,6 +53,15 @@ public class CacheRegistryService implements ICacheRegistryService {
     return getMap().get(cacheId);
   }
 
+  @SuppressWarnings("unchecked")
+  @Override
+  public List<CacheStatistics> getAllStatistics() {
+    return getMap().values().stream()
+        .map(cache -> (CacheStatistics) cache.getAdapter(CacheStatistics.class))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
   protected Map<String, ICache> getMap() {
     return m_map;
   }
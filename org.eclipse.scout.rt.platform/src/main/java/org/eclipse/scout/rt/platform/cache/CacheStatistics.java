@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.io.Serializable;
+
+/**
+ * Immutable snapshot of the statistics of a cache. All counters are accumulated since the creation of the cache.
+ *
+ * @see BasicCache#getStatistics()
+ * @see ICacheRegistryService#getStatistics(String)
+ * @since 23.2
+ */
+public final class CacheStatistics implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final String m_cacheId;
+  private final long m_hitCount;
+  private final long m_missCount;
+  private final long m_evictionCount;
+  private final long m_invalidationCount;
+  private final int m_size;
+
+  public CacheStatistics(String cacheId, long hitCount, long missCount, long evictionCount, long invalidationCount, int size) {
+    m_cacheId = cacheId;
+    m_hitCount = hitCount;
+    m_missCount = missCount;
+    m_evictionCount = evictionCount;
+    m_invalidationCount = invalidationCount;
+    m_size = size;
+  }
+
+  public String getCacheId() {
+    return m_cacheId;
+  }
+
+  /**
+   * @return number of lookups which returned a cached value
+   */
+  public long getHitCount() {
+    return m_hitCount;
+  }
+
+  /**
+   * @return number of lookups which required to resolve the value
+   */
+  public long getMissCount() {
+    return m_missCount;
+  }
+
+  /**
+   * @return number of entries removed by the cache because of its size bound or because their time to live elapsed
+   *         (invalidations are not counted)
+   */
+  public long getEvictionCount() {
+    return m_evictionCount;
+  }
+
+  /**
+   * @return number of invalidate operations (local and received from other cluster nodes)
+   */
+  public long getInvalidationCount() {
+    return m_invalidationCount;
+  }
+
+  /**
+   * @return number of entries at the time this snapshot was taken
+   */
+  public int getSize() {
+    return m_size;
+  }
+
+  public long getRequestCount() {
+    return m_hitCount + m_missCount;
+  }
+
+  /**
+   * @return ratio of lookups which returned a cached value, <code>1.0</code> if there were no lookups
+   */
+  public double getHitRate() {
+    long requestCount = getRequestCount();
+    return requestCount == 0 ? 1.0d : (double) m_hitCount / requestCount;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[cacheId=" + m_cacheId + ", hitCount=" + m_hitCount + ", missCount=" + m_missCount + ", evictionCount=" + m_evictionCount + ", invalidationCount=" + m_invalidationCount + ", size=" + m_size + "]";
+  }
+}
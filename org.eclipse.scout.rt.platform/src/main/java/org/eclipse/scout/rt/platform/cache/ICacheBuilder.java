@@ -16,6 +16,7 @@ import java.util.function.Supplier;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.collection.WTinyLfuMap;
 
 /**
  * All caches should be build through this builder. After building a cache, <b>do not</b> surround it with another
@@ -197,6 +198,32 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * If set to a non-null value, the cache is bounded by the total weight of its entries and entries are evicted using
+   * the W-TinyLFU policy: recently added entries compete with the least recently used entries for admission based on
+   * their estimated access frequency. In contrast to {@link #withSizeBound(Integer)}, the maximum weight is enforced on
+   * each write access.
+   * <p>
+   * The weigher is called once when an entry is written and may for example return the estimated memory consumption of
+   * the entry. If it is <code>null</code>, each entry has a weight of one and the maximum weight is the maximum number
+   * of entries.
+   * <p>
+   * If additionally a time to live is set (see {@link #withTimeToLive(Long, TimeUnit, boolean)}), it is measured from
+   * the last write access and the parameter <tt>touchOnGet</tt> is ignored. The option cannot be combined with
+   * {@link #withSizeBound(Integer)} or transactional caches.
+   *
+   * @param maximumWeight
+   *          maximum total weight of all cached entries
+   * @param weigher
+   *          computes the weight of an entry, may be <code>null</code>
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maximumWeight is not positive
+   * @see WTinyLfuMap
+   * @since 23.2
+   */
+  ICacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ICacheEntryWeigher<K, V> weigher);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
@@ -211,6 +238,42 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve);
 
+  /**
+   * If set to true, at most one resolve operation per key is running at the same time. Concurrent callers asking for a
+   * key which is currently being resolved wait for the result of the running resolve operation instead of resolving the
+   * value themselves (single-flight). This prevents a cache stampede on the value resolver if a popular entry expires
+   * or is invalidated.
+   * <p>
+   * <b>Warning: Potential deadlock</b> if the {@link #withValueResolver(ICacheValueResolver)} itself accesses this
+   * cache recursively for other keys which are resolved concurrently.
+   *
+   * @param singleFlightResolve
+   *          if true only one resolve operation per key is running at the same time (Default false)
+   * @return this builder
+   * @see SingleFlightResolveCacheWrapper
+   */
+  ICacheBuilder<K, V> withSingleFlightResolve(boolean singleFlightResolve);
+
+  /**
+   * If booth arguments are not null and a time to live is set (see
+   * {@link #withTimeToLive(Long, TimeUnit, boolean)}), entries older than the given duration are reloaded
+   * asynchronously on the next access while the current value is still returned (refresh-ahead). The refresh-after
+   * duration should therefore be shorter than the time to live.
+   * <p>
+   * Refresh-ahead is not supported for transactional caches and has no effect if the time to live is reset on each
+   * access.
+   *
+   * @param refreshAfterDuration
+   *          age of an entry after which it is reloaded asynchronously
+   * @param refreshAfterUnit
+   *          refresh after unit
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if refreshAfterDuration is not positive
+   * @see RefreshAheadCache
+   */
+  ICacheBuilder<K, V> withRefreshAhead(Long refreshAfterDuration, TimeUnit refreshAfterUnit);
+
   /**
    * Adds a cache wrapper to the constructed cache instance. In the cache instance these additional wrappers are ordered
    * in the same sequence as they were added. The cache wrapper is created always through a constructor that takes as
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+/**
+ * Computes the weight of a cache entry (e.g. its estimated memory consumption).
+ *
+ * @param <K>
+ *          the type of keys maintained by the cache
+ * @param <V>
+ *          the type of mapped values in the cache
+ * @see ICacheBuilder#withMaximumWeight(Long, ICacheEntryWeigher)
+ * @since 23.2
+ */
+@FunctionalInterface
+public interface ICacheEntryWeigher<K, V> {
+
+  /**
+   * @param key
+   *          of an entry; not null
+   * @param value
+   *          of the same entry; not null
+   * @return the weight of the entry; must not be negative
+   */
+  int weigh(K key, V value);
+}
@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.List;
+
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 
@@ -59,4 +61,19 @@ public interface ICacheRegistryService {
    */
   <K, V> ICache<K, V> opt(String cacheId);
 
+  /**
+   * @return statistics of a previously registered cache or <code>null</code> if not found or if the cache does not
+   *         collect statistics (see {@link ICache#getAdapter(Class)} with {@link CacheStatistics})
+   * @since 23.2
+   */
+  default CacheStatistics getStatistics(String cacheId) {
+    ICache<Object, Object> cache = opt(cacheId);
+    return cache == null ? null : cache.getAdapter(CacheStatistics.class);
+  }
+
+  /**
+   * @return statistics of all registered caches which collect statistics
+   * @since 23.2
+   */
+  List<CacheStatistics> getAllStatistics();
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.ExpiringElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BasicCache} which asynchronously reloads entries which are close to their time to live (refresh-ahead). A
+ * {@link #get(Object)} access to an entry older than the refresh-after duration returns the current value and schedules
+ * a job which resolves the value again and replaces the entry. At most one refresh per key is running at the same time.
+ * <p>
+ * A refreshed value only replaces the entry if it was not changed or invalidated in the meantime. Hence, an
+ * invalidation (also one received from the cluster) is never undone by a refresh started before the invalidation.
+ * <p>
+ * Refresh-ahead has no effect for entries whose time to live is reset on each access (touch on get).
+ *
+ * @since 23.2
+ */
+public class RefreshAheadCache<K, V> extends BasicCache<K, V> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+  protected final ConcurrentExpiringMap<K, V> m_expiringMap;
+  protected final long m_refreshAfterMillis;
+  protected final Set<K> m_pendingRefreshes;
+
+  public RefreshAheadCache(String cacheId, Supplier<String> labelSupplier, ICacheValueResolver<K, V> resolver, ConcurrentExpiringMap<K, V> cacheMap, long refreshAfterMillis) {
+    super(cacheId, labelSupplier, resolver, cacheMap);
+    Assertions.assertTrue(refreshAfterMillis > 0, "refreshAfterMillis must be positive");
+    m_expiringMap = cacheMap;
+    m_refreshAfterMillis = refreshAfterMillis;
+    m_pendingRefreshes = ConcurrentHashMap.newKeySet();
+  }
+
+  public long getRefreshAfterMillis() {
+    return m_refreshAfterMillis;
+  }
+
+  @Override
+  public V get(K key) {
+    V value = super.get(key);
+    if (value != null) {
+      ExpiringElement<V> element = m_expiringMap.getElementMap().get(key);
+      if (element != null && isRefreshRequired(element)) {
+        scheduleRefresh(key, element.getValue());
+      }
+    }
+    return value;
+  }
+
+  protected boolean isRefreshRequired(ExpiringElement<V> element) {
+    return element.getTimestamp() + m_refreshAfterMillis <= System.currentTimeMillis();
+  }
+
+  protected void scheduleRefresh(K key, V staleValue) {
+    if (!m_pendingRefreshes.add(key)) {
+      return; // refresh already running
+    }
+    try {
+      Jobs.schedule(() -> refresh(key, staleValue), Jobs.newInput()
+          .withName("Refreshing cache entry [cacheId={}]", getCacheId())
+          .withRunContext(RunContexts.copyCurrent(true)
+              .withTransactionScope(TransactionScope.REQUIRES_NEW)));
+    }
+    catch (RuntimeException e) {
+      m_pendingRefreshes.remove(key);
+      LOG.warn("Could not schedule refresh of cache entry [cacheId={}, key={}]", getCacheId(), key, e);
+    }
+  }
+
+  protected void refresh(K key, V staleValue) {
+    try {
+      V value = m_resolver.resolve(key);
+      if (value == null) {
+        m_cacheMap.remove(key, staleValue);
+      }
+      else {
+        // only replace the stale value: if the entry was invalidated in the meantime, the refreshed value is discarded
+        m_cacheMap.replace(key, staleValue, value);
+      }
+    }
+    finally {
+      m_pendingRefreshes.remove(key);
+    }
+  }
+}
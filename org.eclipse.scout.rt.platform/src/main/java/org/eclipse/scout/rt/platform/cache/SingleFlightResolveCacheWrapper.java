@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+
+/**
+ * This wrapper ensures that at most one resolve operation per key is running at the same time (single-flight). If a
+ * value is not cached, the first caller resolves it while all other callers asking for the same key wait for the result
+ * of this resolve operation. This prevents a cache stampede if a popular entry expires.
+ * <p>
+ * If the resolve operation fails, its exception is propagated to all waiting callers. {@link #getAll(java.util.Collection)}
+ * is not affected by this wrapper because it resolves all missing keys within one operation anyway.
+ * <p>
+ * <b>Warning: Potential deadlock</b><br>
+ * A value resolver which recursively accesses this cache for a key currently being resolved by another thread may
+ * deadlock.
+ * <p>
+ * <b>The cache implementation on which this wrapper is based on must be still thread safe.</b>
+ *
+ * @since 23.2
+ */
+public class SingleFlightResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
+  private final ConcurrentMap<K, CompletableFuture<V>> m_pendingResolves;
+
+  public SingleFlightResolveCacheWrapper(ICache<K, V> delegate) {
+    super(delegate);
+    m_pendingResolves = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) {
+      return null;
+    }
+    V value = getCachedValue(key);
+    if (value != null) {
+      return value;
+    }
+
+    CompletableFuture<V> pendingResolve = new CompletableFuture<>();
+    CompletableFuture<V> existingResolve = m_pendingResolves.putIfAbsent(key, pendingResolve);
+    if (existingResolve != null) {
+      return awaitResolve(existingResolve);
+    }
+
+    try {
+      value = super.get(key);
+      pendingResolve.complete(value);
+      return value;
+    }
+    catch (RuntimeException | Error e) {
+      pendingResolve.completeExceptionally(e);
+      throw e;
+    }
+    finally {
+      m_pendingResolves.remove(key, pendingResolve);
+    }
+  }
+
+  protected V awaitResolve(CompletableFuture<V> pendingResolve) {
+    try {
+      return pendingResolve.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ThreadInterruptedError("Interrupted while waiting for value resolve of cache {}", getCacheId(), e);
+    }
+    catch (ExecutionException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e.getCause());
+    }
+  }
+
+  @Override
+  public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    super.invalidate(filter, propagate);
+    // callers arriving after the invalidation must not join a resolve started before the invalidation
+    if (filter instanceof KeyCacheEntryFilter) {
+      for (K key : ((KeyCacheEntryFilter<K, V>) filter).getKeys()) {
+        m_pendingResolves.remove(key);
+      }
+    }
+    else if (filter != null) {
+      m_pendingResolves.clear();
+    }
+  }
+}
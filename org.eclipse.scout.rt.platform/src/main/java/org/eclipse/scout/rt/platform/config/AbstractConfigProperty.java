@@ -22,6 +22,9 @@ public abstract class AbstractConfigProperty<DATA_TYPE, RAW_TYPE> implements ICo
 
   private final Map<String /* namespace ( may be null) | key  */, P_ParsedPropertyValueEntry<DATA_TYPE>> m_values = new ConcurrentHashMap<>();
   private final FastListenerList<IConfigChangedListener> m_listeners = new FastListenerList<>();
+  // value without namespace: read with a single volatile access (no key creation)
+  private final Object m_defaultNamespaceLock = new Object();
+  private volatile P_ParsedPropertyValueEntry<DATA_TYPE> m_defaultNamespaceValue;
 
   @Override
   public DATA_TYPE getDefaultValue() {
@@ -42,12 +45,18 @@ public abstract class AbstractConfigProperty<DATA_TYPE, RAW_TYPE> implements ICo
 
   @Override
   public DATA_TYPE getValue(String namespace) {
-    String key = createKey(namespace);
-    // Optimized for non-blocking read performance
-    // http://cs.oswego.edu/pipermail/concurrency-interest/2014-December/013360.html
-    P_ParsedPropertyValueEntry<DATA_TYPE> entry = m_values.get(key);
-    if (entry == null) {
-      entry = m_values.computeIfAbsent(key, k -> read(namespace));
+    P_ParsedPropertyValueEntry<DATA_TYPE> entry;
+    if (StringUtility.hasText(namespace)) {
+      String key = createKey(namespace);
+      // Optimized for non-blocking read performance
+      // http://cs.oswego.edu/pipermail/concurrency-interest/2014-December/013360.html
+      entry = m_values.get(key);
+      if (entry == null) {
+        entry = m_values.computeIfAbsent(key, k -> read(namespace));
+      }
+    }
+    else {
+      entry = getDefaultNamespaceValue();
     }
 
     if (entry.m_exc != null) {
@@ -56,6 +65,20 @@ public abstract class AbstractConfigProperty<DATA_TYPE, RAW_TYPE> implements ICo
     return entry.m_value;
   }
 
+  private P_ParsedPropertyValueEntry<DATA_TYPE> getDefaultNamespaceValue() {
+    P_ParsedPropertyValueEntry<DATA_TYPE> entry = m_defaultNamespaceValue;
+    if (entry == null) {
+      synchronized (m_defaultNamespaceLock) {
+        entry = m_defaultNamespaceValue;
+        if (entry == null) {
+          entry = read(null);
+          m_defaultNamespaceValue = entry;
+        }
+      }
+    }
+    return entry;
+  }
+
   @SuppressWarnings("unchecked")
   protected RAW_TYPE readFromSource(String namespace) {
     return (RAW_TYPE) ConfigUtility.getProperty(getKey(), null, namespace);
@@ -95,14 +118,25 @@ public abstract class AbstractConfigProperty<DATA_TYPE, RAW_TYPE> implements ICo
 
   @Override
   public void invalidate() {
+    synchronized (m_defaultNamespaceLock) {
+      m_defaultNamespaceValue = null;
+    }
     m_values.clear();
     fireConfigChangedEvent(new ConfigPropertyChangeEvent(this, null, null, null, ConfigPropertyChangeEvent.TYPE_INVALIDATE));
   }
 
   @Override
   public void setValue(DATA_TYPE newValue, String namespace) {
-    String key = createKey(namespace);
-    P_ParsedPropertyValueEntry<DATA_TYPE> old = m_values.put(key, new P_ParsedPropertyValueEntry<>(newValue, null));
+    P_ParsedPropertyValueEntry<DATA_TYPE> old;
+    if (StringUtility.hasText(namespace)) {
+      old = m_values.put(createKey(namespace), new P_ParsedPropertyValueEntry<>(newValue, null));
+    }
+    else {
+      synchronized (m_defaultNamespaceLock) {
+        old = m_defaultNamespaceValue;
+        m_defaultNamespaceValue = new P_ParsedPropertyValueEntry<>(newValue, null);
+      }
+    }
     Object oldValue = null;
     if (old != null) {
       oldValue = old.m_value;
@@ -9,7 +9,6 @@
  */
 package org.eclipse.scout.rt.platform.config;
 
-import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 
 /**
@@ -49,6 +48,6 @@ public final class CONFIG {
    *           if the property is invalid
    */
   public static <DATA_TYPE> DATA_TYPE getPropertyValue(Class<? extends IConfigProperty<DATA_TYPE>> clazz, String namespace) {
-    return BEANS.get(clazz).getValue(namespace);
+    return ConfigPropertyRegistry.get().getProperty(clazz).getValue(namespace);
   }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanManager;
+import org.eclipse.scout.rt.platform.IPlatform;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+
+/**
+ * Index of the {@link IConfigProperty} instances used by {@link CONFIG}.
+ * <p>
+ * The index is an immutable snapshot mapping a config property class to the instance returned by
+ * {@code BEANS.get(clazz)} (only for {@link ApplicationScoped} beans). It is built when the platform has been started
+ * and lookups are constant-time and do neither lock nor allocate. Whenever beans are registered or unregistered (see {@link IBeanManager#getModificationCount()}) or
+ * the platform changes, the snapshot is discarded and rebuilt on demand. Properties not yet indexed are resolved using
+ * the bean manager and added to a new snapshot which is swapped in atomically.
+ * <p>
+ * The registry does not hold any lock while accessing the bean manager: during platform startup the starting thread
+ * holds the platform lock and reads config properties too, so waiting for a lock of this registry while accessing the
+ * bean manager could deadlock.
+ * <p>
+ * The values of the properties are not part of the index, they are held by each property. Therefore,
+ * {@link IConfigProperty#setValue(Object)} and {@link IConfigProperty#invalidate()} (and the corresponding
+ * {@link IConfigChangedListener} notifications) are visible immediately.
+ *
+ * @since 23.2
+ */
+public final class ConfigPropertyRegistry {
+
+  private static final ConfigPropertyRegistry INSTANCE = new ConfigPropertyRegistry();
+
+  private final AtomicReference<Snapshot> m_snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+  private ConfigPropertyRegistry() {
+  }
+
+  public static ConfigPropertyRegistry get() {
+    return INSTANCE;
+  }
+
+  /**
+   * @return the {@link IConfigProperty} instance for the given class (same as {@code BEANS.get(clazz)})
+   * @throws AssertionException
+   *           if no or multiple instances are found
+   */
+  @SuppressWarnings("unchecked")
+  public <DATA_TYPE> IConfigProperty<DATA_TYPE> getProperty(Class<? extends IConfigProperty<DATA_TYPE>> clazz) {
+    IPlatform platform = Platform.get();
+    Snapshot snapshot = m_snapshot.get();
+    if (snapshot.isValid(platform)) {
+      IConfigProperty<?> property = snapshot.m_properties.get(clazz);
+      if (property != null) {
+        return (IConfigProperty<DATA_TYPE>) property;
+      }
+    }
+    return (IConfigProperty<DATA_TYPE>) resolve(platform, clazz);
+  }
+
+  private IConfigProperty<?> resolve(IPlatform platform, Class<? extends IConfigProperty<?>> clazz) {
+    IBeanManager beanManager = platform.getBeanManager();
+    // read the modification count first: if beans are modified concurrently the new snapshot is already outdated
+    long modificationCount = beanManager.getModificationCount();
+    IBean<? extends IConfigProperty<?>> bean = beanManager.getBean(clazz);
+    IConfigProperty<?> property = Assertions.assertNotNull(bean.getInstance(), "no instance found for query: {}", clazz);
+    if (modificationCount < 0 || !bean.hasAnnotation(ApplicationScoped.class)) {
+      // bean manager does not support detection of modifications or a new instance is created per lookup: cannot be indexed
+      return property;
+    }
+
+    while (true) {
+      Snapshot snapshot = m_snapshot.get();
+      Map<Class<?>, IConfigProperty<?>> properties = new HashMap<>();
+      if (snapshot.m_platform == platform && snapshot.m_beanManager == beanManager) {
+        if (snapshot.m_modificationCount > modificationCount) {
+          return property; // a newer snapshot was published in the meantime: do not replace it with an outdated one
+        }
+        if (snapshot.m_modificationCount == modificationCount) {
+          properties.putAll(snapshot.m_properties);
+        }
+      }
+      properties.put(clazz, property);
+      if (m_snapshot.compareAndSet(snapshot, new Snapshot(platform, beanManager, modificationCount, properties))) {
+        return property;
+      }
+    }
+  }
+
+  /**
+   * Indexes all {@link IConfigProperty} beans of the given platform.
+   */
+  @SuppressWarnings("unchecked")
+  public void build(IPlatform platform) {
+    IBeanManager beanManager = platform.getBeanManager();
+    long modificationCount = beanManager.getModificationCount();
+    if (modificationCount < 0) {
+      return;
+    }
+    Map<Class<?>, IConfigProperty<?>> properties = new HashMap<>();
+    for (IBean<IConfigProperty> bean : beanManager.getBeans(IConfigProperty.class)) {
+      Class<? extends IConfigProperty> beanClazz = bean.getBeanClazz();
+      try {
+        // query by class to get exactly the same instance as BEANS.get(beanClazz)
+        IBean<? extends IConfigProperty> effectiveBean = beanManager.optBean(beanClazz);
+        if (effectiveBean != null && effectiveBean.hasAnnotation(ApplicationScoped.class)) {
+          properties.put(beanClazz, effectiveBean.getInstance());
+        }
+      }
+      catch (AssertionException e) { // NOSONAR
+        // ambiguous query: not indexed, a lookup fails the same way as BEANS.get
+      }
+    }
+    m_snapshot.set(new Snapshot(platform, beanManager, modificationCount, properties));
+  }
+
+  /**
+   * Discards the current index.
+   */
+  public void clear() {
+    m_snapshot.set(Snapshot.EMPTY);
+  }
+
+  /**
+   * @return number of indexed properties
+   */
+  public int size() {
+    return m_snapshot.get().m_properties.size();
+  }
+
+  private static final class Snapshot {
+    private static final Snapshot EMPTY = new Snapshot(null, null, -1L, Collections.emptyMap());
+
+    private final IPlatform m_platform;
+    private final IBeanManager m_beanManager;
+    private final long m_modificationCount;
+    private final Map<Class<?>, IConfigProperty<?>> m_properties;
+
+    private Snapshot(IPlatform platform, IBeanManager beanManager, long modificationCount, Map<Class<?>, IConfigProperty<?>> properties) {
+      m_platform = platform;
+      m_beanManager = beanManager;
+      m_modificationCount = modificationCount;
+      m_properties = properties;
+    }
+
+    private boolean isValid(IPlatform platform) {
+      return m_platform == platform && m_beanManager.getModificationCount() == m_modificationCount;
+    }
+  }
+
+  /**
+   * Builds the index when the platform has been started and discards it when the platform is stopped.
+   */
+  public static class ConfigPropertyRegistryPlatformListener implements IPlatformListener {
+
+    @Override
+    public void stateChanged(PlatformEvent event) {
+      switch (event.getState()) {
+        case BeanManagerPrepared:
+        case PlatformStopped:
+          get().clear();
+          break;
+        case PlatformStarted:
+          get().build(event.getSource());
+          break;
+        default:
+          break;
+      }
+    }
+  }
+}
@@ -145,6 +145,89 @@ public final class PlatformConfigProperties {
     }
   }
 
+  /**
+   * @since 23.2
+   */
+  public static class JandexCacheDirectoryProperty extends AbstractPathConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jandex.cacheDirectory";
+    }
+
+    @Override
+    public String description() {
+      return "Directory in which the Jandex indexes of all modules are cached in one file. If set, the class inventory is read from this file on startup "
+          + "unless a module was changed. The directory must not be shared by different applications. By default no cache is used.";
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class JandexParallelismProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jandex.parallelism";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of modules scanned in parallel when building the Jandex class inventory. The default value is the number of available processors.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return Runtime.getRuntime().availableProcessors();
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class CreateImmediatelyParallelismProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.platform.createImmediatelyParallelism";
+    }
+
+    @Override
+    public String description() {
+      return "Number of threads used to create the @CreateImmediately beans on platform startup. With more than one thread, independent beans are created in parallel "
+          + "and a bean is created after all the beans declared by @CreateImmediately(dependsOn = ...). Beans accessing other @CreateImmediately beans during their creation must declare them. "
+          + "The default value is 1 (one bean after the other).";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1;
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class PlatformStartupSpansEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.platform.startupSpansEnabled";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether the durations of the platform startup phases, platform listeners and @CreateImmediately beans are exported as OpenTelemetry spans "
+          + "once the platform has been started. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class JobManagerCorePoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -240,6 +323,31 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies whether jobs should be run on virtual threads instead of pooled platform threads. Requires a Java runtime supporting virtual threads (Java 21 or newer). "
+          + "If enabled, every job gets its own virtual thread and the properties '%s', '%s' and '%s' are ignored. The property '%s' still limits the number of concurrently running jobs.\n"
+          + "The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey(),
+          BEANS.get(JobManagerKeepAliveTimeProperty.class).getKey(),
+          BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.platform.internal;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -19,8 +20,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.Order;
@@ -29,21 +28,27 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 /**
- * This class is not thread safe
+ * This class is not thread safe for modifications. Once it is no longer modified (e.g. as part of a published snapshot
+ * of the {@link BeanManagerImplementor}) it may be queried concurrently without any locking.
  */
 public class BeanHierarchy<T> {
 
   private final Class<T> m_clazz;
   private final List<IBean<T>> m_beans;
-  private final ReadWriteLock m_queryCacheLock;
 
-  private List<IBean<T>> m_single;
-  private List<IBean<T>> m_all;
+  private volatile QueryResult<T> m_queryResult;
 
   public BeanHierarchy(Class<T> clazz) {
     m_clazz = clazz;
     m_beans = new ArrayList<>();
-    m_queryCacheLock = new ReentrantReadWriteLock();
+  }
+
+  /**
+   * Creates a new hierarchy for the given type containing the given beans (in insertion order).
+   */
+  public BeanHierarchy(Class<T> clazz, Collection<IBean<T>> beans) {
+    m_clazz = clazz;
+    m_beans = new ArrayList<>(beans);
   }
 
   public Class<T> getClazz() {
@@ -98,14 +103,7 @@ public class BeanHierarchy<T> {
   }
 
   protected void invalidate() {
-    m_queryCacheLock.writeLock().lock();
-    try {
-      m_single = null;
-      m_all = null;
-    }
-    finally {
-      m_queryCacheLock.writeLock().unlock();
-    }
+    m_queryResult = null;
   }
 
   /**
@@ -131,104 +129,85 @@ public class BeanHierarchy<T> {
     return sorted;
   }
 
-  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
   protected List<IBean<T>> query(boolean querySingle) {
-    boolean isInitialized = false;
-    m_queryCacheLock.readLock().lock();
-    try {
-      isInitialized = m_single != null && m_all != null;
-    }
-    finally {
-      m_queryCacheLock.readLock().unlock();
+    QueryResult<T> result = m_queryResult;
+    if (result == null) {
+      // computing the result is idempotent: concurrent callers may compute it more than once but never block each other
+      result = computeQueryResult();
+      m_queryResult = result;
     }
+    return querySingle ? result.m_single : result.m_all;
+  }
 
-    if (!isInitialized) {
-      m_queryCacheLock.writeLock().lock();
-      try {
-        isInitialized = m_single != null && m_all != null;
-        if (!isInitialized) {
-          List<IBean<T>> list = sortedBeanCopy();
-          //manage replaced beans
-          final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
-          for (IBean<T> bean : list) {
-            if (bean.hasAnnotation(Replace.class)) {
-              Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
-              Class<?> superClazz = bean.getBeanClazz().getSuperclass();
-              Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
-
-              IBean<?> existingBean = extendsMap.get(superClazz);
-              if (existingBean == null) {
-                //only add if first to override, respects @Order annotation
-                extendsMap.put(superClazz, bean);
-              }
-              else {
-                // there is no calculation performed on bean orders (typically these are literals).
-                // therefore we accept direct equality check without epsilon.
-                Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
-                    "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
-                    existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
-              }
-            }
-          }
-
-          //find most specific version of @Replaced class
-          Class<T> refClazz = m_clazz;
-          while (extendsMap.containsKey(refClazz)) {
-            refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
-          }
-
-          //remove replaced beans
-          list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
-
-          if (list.isEmpty()) {
-            m_all = Collections.emptyList();
-            m_single = Collections.emptyList();
-          }
-          else {
-            m_all = Collections.unmodifiableList(new ArrayList<>(list));
-
-            IBean<T> exactBean = getExactBean(list, refClazz);
-            if (exactBean != null) {
-              // we have an exact match: use it
-              m_single = Collections.singletonList(exactBean);
-            }
-            else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
-              // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
-              m_single = Collections.emptyList();
-            }
-            else if (list.size() == 1) {
-              m_single = Collections.singletonList(list.get(0));
-            }
-            else {
-              //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
-              List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
-              Iterator<IBean<T>> iterator = list.iterator();
-
-              // first bean
-              IBean<T> curBean = iterator.next();
-              double lowestOrder = orderOf(curBean);
-              lowestOrderBeans.add(curBean);
-
-              // all others having the same order
-              while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
-                lowestOrderBeans.add(curBean);
-              }
-              m_single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
-            }
-          }
+  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
+  protected QueryResult<T> computeQueryResult() {
+    List<IBean<T>> list = sortedBeanCopy();
+    //manage replaced beans
+    final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
+    for (IBean<T> bean : list) {
+      if (bean.hasAnnotation(Replace.class)) {
+        Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
+        Class<?> superClazz = bean.getBeanClazz().getSuperclass();
+        Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
+
+        IBean<?> existingBean = extendsMap.get(superClazz);
+        if (existingBean == null) {
+          //only add if first to override, respects @Order annotation
+          extendsMap.put(superClazz, bean);
+        }
+        else {
+          // there is no calculation performed on bean orders (typically these are literals).
+          // therefore we accept direct equality check without epsilon.
+          Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
+              "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
+              existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
         }
-      }
-      finally {
-        m_queryCacheLock.writeLock().unlock();
       }
     }
 
-    if (querySingle) {
-      return m_single;
+    //find most specific version of @Replaced class
+    Class<T> refClazz = m_clazz;
+    while (extendsMap.containsKey(refClazz)) {
+      refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
     }
-    return m_all;
+
+    //remove replaced beans
+    list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
+
+    if (list.isEmpty()) {
+      return new QueryResult<>(Collections.emptyList(), Collections.emptyList());
+    }
+
+    List<IBean<T>> all = Collections.unmodifiableList(new ArrayList<>(list));
+    IBean<T> exactBean = getExactBean(list, refClazz);
+    if (exactBean != null) {
+      // we have an exact match: use it
+      return new QueryResult<>(Collections.singletonList(exactBean), all);
+    }
+    if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
+      // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
+      return new QueryResult<>(Collections.emptyList(), all);
+    }
+    if (list.size() == 1) {
+      return new QueryResult<>(Collections.singletonList(list.get(0)), all);
+    }
+
+    //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
+    List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
+    Iterator<IBean<T>> iterator = list.iterator();
+
+    // first bean
+    IBean<T> curBean = iterator.next();
+    double lowestOrder = orderOf(curBean);
+    lowestOrderBeans.add(curBean);
+
+    // all others having the same order
+    while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
+      lowestOrderBeans.add(curBean);
+    }
+    return new QueryResult<>(Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans)), all);
   }
 
   /**
@@ -259,4 +238,17 @@ public class BeanHierarchy<T> {
     }
     return IBean.DEFAULT_BEAN_ORDER;
   }
+
+  /**
+   * Immutable result of {@link BeanHierarchy#computeQueryResult()}.
+   */
+  protected static final class QueryResult<T> {
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
+
+    protected QueryResult(List<IBean<T>> single, List<IBean<T>> all) {
+      m_single = single;
+      m_all = all;
+    }
+  }
 }
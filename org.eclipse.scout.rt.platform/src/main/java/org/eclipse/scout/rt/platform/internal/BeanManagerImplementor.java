@@ -27,7 +27,6 @@ import org.eclipse.scout.rt.platform.CreateImmediately;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.IBeanManager;
-import org.eclipse.scout.rt.platform.exception.InitializationException;
 import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
 import org.eclipse.scout.rt.platform.interceptor.internal.BeanProxyImplementor;
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -36,12 +35,37 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Default {@link IBeanManager}.
+ * <p>
+ * Modifications ({@link #registerBean(BeanMetaData)}, {@link #unregisterBean(IBean)}) are applied to a private working
+ * copy of the bean hierarchies under the write lock. Queries never lock: they operate on an immutable snapshot of the
+ * bean hierarchies which is (re-)published lazily by the first query after a modification. Hierarchies not affected by
+ * a modification are shared between consecutive snapshots, and each hierarchy of a snapshot caches its resolved query
+ * results.
+ */
 public class BeanManagerImplementor implements IBeanManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(BeanManagerImplementor.class);
 
   private final ReentrantReadWriteLock m_lock;
+  /**
+   * Working copy of the bean hierarchies. Only accessed while holding the write lock.
+   */
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
+  /**
+   * Types whose hierarchy changed since the last snapshot was published. Only accessed while holding the write lock.
+   */
+  private final Set<Class<?>> m_dirtyTypes;
+  /**
+   * Last snapshot that was published. Only accessed while holding the write lock.
+   */
+  private Map<Class<?>, BeanHierarchy<?>> m_lastSnapshot;
+  /**
+   * Current snapshot or {@code null} if the bean hierarchies were modified since the last snapshot was published.
+   */
+  private volatile Map<Class<?>, BeanHierarchy<?>> m_snapshot;
+  private volatile long m_modificationCount;
   private IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
@@ -51,9 +75,15 @@ public class BeanManagerImplementor implements IBeanManager {
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
     m_beanHierarchies = new HashMap<>();
+    m_dirtyTypes = new HashSet<>();
+    m_lastSnapshot = Collections.emptyMap();
+    m_snapshot = m_lastSnapshot;
     m_beanDecorationFactory = f;
   }
 
+  /**
+   * @return the lock guarding modifications of this bean manager. Queries do not acquire this lock.
+   */
   public ReentrantReadWriteLock getReadWriteLock() {
     return m_lock;
   }
@@ -62,40 +92,88 @@ public class BeanManagerImplementor implements IBeanManager {
     //subclasses may limit access
   }
 
-  protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
-    checkAccess();
-    m_lock.readLock().lock();
+  /**
+   * @return the immutable snapshot of all bean hierarchies. Publishes a new snapshot if the bean hierarchies were
+   *         modified since the last call.
+   */
+  protected Map<Class<?>, BeanHierarchy<?>> getSnapshot() {
+    Map<Class<?>, BeanHierarchy<?>> snapshot = m_snapshot;
+    if (snapshot != null) {
+      return snapshot;
+    }
+
+    m_lock.writeLock().lock();
     try {
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
+      snapshot = m_snapshot;
+      if (snapshot == null) {
+        snapshot = createSnapshot();
+        m_lastSnapshot = snapshot;
+        m_snapshot = snapshot;
       }
+      return snapshot;
     }
     finally {
-      m_lock.readLock().unlock();
+      m_lock.writeLock().unlock();
     }
   }
 
-  protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
+  /**
+   * Creates a new snapshot based on the last published one. Only the hierarchies of modified types are copied, all
+   * others are shared with the last snapshot. Must be called while holding the write lock.
+   */
+  @SuppressWarnings("unchecked")
+  protected Map<Class<?>, BeanHierarchy<?>> createSnapshot() {
+    Map<Class<?>, BeanHierarchy<?>> snapshot = new HashMap<>(m_lastSnapshot);
+    for (Class<?> type : m_dirtyTypes) {
+      BeanHierarchy<?> h = m_beanHierarchies.get(type);
+      if (h == null || h.getBeans().isEmpty()) {
+        snapshot.remove(type);
+      }
+      else {
+        snapshot.put(type, new BeanHierarchy(h.getClazz(), h.getBeans()));
       }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
     }
-    finally {
-      m_lock.readLock().unlock();
+    m_dirtyTypes.clear();
+    return snapshot;
+  }
+
+  /**
+   * Marks the hierarchy of the given type as modified. Must be called while holding the write lock.
+   */
+  protected void invalidateSnapshot(Class<?> type) {
+    m_dirtyTypes.add(type);
+    m_snapshot = null;
+    m_modificationCount++; // NOSONAR guarded by write lock
+  }
+
+  @Override
+  public long getModificationCount() {
+    return m_modificationCount;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <T> BeanHierarchy<T> getBeanHierarchy(Class<?> beanClazz) {
+    return (BeanHierarchy<T>) getSnapshot().get(beanClazz);
+  }
+
+  protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
+    checkAccess();
+    BeanHierarchy<T> h = getBeanHierarchy(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    List<IBean<T>> singleBean = h.querySingle();
+    return getDecoratedBeans(singleBean, beanClazz);
+  }
+
+  protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
+    checkAccess();
+    BeanHierarchy<T> h = getBeanHierarchy(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
+    }
+    List<IBean<T>> allBeans = h.queryAll();
+    return getDecoratedBeans(allBeans, beanClazz);
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -160,6 +238,7 @@ public class BeanManagerImplementor implements IBeanManager {
       for (Class<?> type : listImplementedTypes(bean)) {
         BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
         h.addBean(bean);
+        invalidateSnapshot(type);
       }
       return bean;
     }
@@ -178,6 +257,7 @@ public class BeanManagerImplementor implements IBeanManager {
         BeanHierarchy h = m_beanHierarchies.get(type);
         if (h != null) {
           h.removeBean(bean);
+          invalidateSnapshot(type);
         }
       }
       if (bean instanceof BeanImplementor) {
@@ -190,35 +270,21 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public <T> List<IBean<T>> getRegisteredBeans(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return CollectionUtility.emptyArrayList();
-      }
-      return new ArrayList<>(h.getBeans());
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy<T> h = getBeanHierarchy(beanClazz);
+    if (h == null) {
+      return CollectionUtility.emptyArrayList();
     }
+    return new ArrayList<>(h.getBeans());
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public <T> IBean<T> getRegisteredBean(Class<?> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(beanClazz);
-      if (h != null) {
-        return h.getExactBean(beanClazz);
-      }
-      return null;
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy<T> h = getBeanHierarchy(beanClazz);
+    if (h != null) {
+      return h.getExactBean(beanClazz);
     }
+    return null;
   }
 
   @Override
@@ -260,7 +326,7 @@ public class BeanManagerImplementor implements IBeanManager {
 
   protected Set<IBean<?>> getAllBeans() {
     Set<IBean<?>> all = new HashSet<>();
-    for (BeanHierarchy<?> h : m_beanHierarchies.values()) {
+    for (BeanHierarchy<?> h : getSnapshot().values()) {
       all.addAll(h.getBeans());
     }
     return all;
@@ -268,14 +334,8 @@ public class BeanManagerImplementor implements IBeanManager {
 
   @Override
   public <T> boolean isBean(Class<T> clazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(clazz);
-      return h != null && !h.getBeans().isEmpty();
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    BeanHierarchy<T> h = getBeanHierarchy(clazz);
+    return h != null && !h.getBeans().isEmpty();
   }
 
   protected void callPreDestroyOnBeans() {
@@ -331,20 +391,7 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   public void startCreateImmediatelyBeans() {
-    for (IBean bean : getBeans(Object.class)) {
-      if (isCreateImmediately(bean)) {
-        if (isApplicationScoped(bean)) {
-          bean.getInstance();
-        }
-        else {
-          throw new InitializationException(String.format(
-              "Bean '%s' is marked with @%s and is not application scoped (@%s) - unexpected configuration! ",
-              bean.getBeanClazz(),
-              CreateImmediately.class.getSimpleName(),
-              ApplicationScoped.class.getSimpleName()));
-        }
-      }
-    }
+    new CreateImmediatelyBeanInitializer(this, null).createBeans();
   }
 
   public static boolean isCreateImmediately(IBean<?> bean) {
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.exception.InitializationException;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler.StepKind;
+
+/**
+ * Creates the instances of all {@link CreateImmediately} beans, either one after the other or in parallel.
+ * <p>
+ * In parallel mode, each bean is created as soon as all the {@link CreateImmediately} beans it depends on (see
+ * {@link CreateImmediately#dependsOn()}) have been created. Independent beans are created concurrently. If a bean
+ * fails, the beans depending on it are not created and the first failure is thrown.
+ *
+ * @since 23.2
+ */
+public class CreateImmediatelyBeanInitializer {
+
+  private final BeanManagerImplementor m_beanManager;
+  private final PlatformStartupProfiler m_profiler;
+
+  public CreateImmediatelyBeanInitializer(BeanManagerImplementor beanManager, PlatformStartupProfiler profiler) {
+    m_beanManager = beanManager;
+    m_profiler = profiler;
+  }
+
+  /**
+   * @return all {@link CreateImmediately} beans
+   * @throws InitializationException
+   *           if a {@link CreateImmediately} bean is not {@link ApplicationScoped}
+   */
+  @SuppressWarnings("unchecked")
+  public List<IBean<?>> collectBeans() {
+    List<IBean<?>> beans = new ArrayList<>();
+    for (IBean bean : m_beanManager.getBeans(Object.class)) {
+      if (BeanManagerImplementor.isCreateImmediately(bean)) {
+        if (!BeanManagerImplementor.isApplicationScoped(bean)) {
+          throw new InitializationException(String.format(
+              "Bean '%s' is marked with @%s and is not application scoped (@%s) - unexpected configuration! ",
+              bean.getBeanClazz(),
+              CreateImmediately.class.getSimpleName(),
+              ApplicationScoped.class.getSimpleName()));
+        }
+        beans.add(bean);
+      }
+    }
+    return beans;
+  }
+
+  /**
+   * Creates the beans one after the other in the order of {@link #collectBeans()}.
+   */
+  public void createBeans() {
+    for (IBean<?> bean : collectBeans()) {
+      createBean(bean);
+    }
+  }
+
+  /**
+   * Creates the beans in parallel using the given executor and waits until all beans are created.
+   *
+   * @throws InitializationException
+   *           if the declared dependencies contain a cycle
+   */
+  public void createBeans(Executor executor) {
+    List<IBean<?>> beans = collectBeans();
+    Map<IBean<?>, List<IBean<?>>> dependencies = new HashMap<>();
+    for (IBean<?> bean : beans) {
+      dependencies.put(bean, resolveDependencies(bean, beans));
+    }
+
+    Map<IBean<?>, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+    for (IBean<?> bean : beans) {
+      schedule(bean, dependencies, futures, new LinkedHashSet<>(), executor);
+    }
+    try {
+      CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+    }
+    catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new PlatformException("Failed to create @{} beans", CreateImmediately.class.getSimpleName(), cause);
+    }
+  }
+
+  protected CompletableFuture<Void> schedule(IBean<?> bean, Map<IBean<?>, List<IBean<?>>> dependencies, Map<IBean<?>, CompletableFuture<Void>> futures, Set<IBean<?>> path, Executor executor) {
+    CompletableFuture<Void> future = futures.get(bean);
+    if (future != null) {
+      return future;
+    }
+    if (!path.add(bean)) {
+      throw new InitializationException(String.format("Cyclic dependency between @%s beans: %s", CreateImmediately.class.getSimpleName(), path));
+    }
+    List<CompletableFuture<Void>> prerequisites = new ArrayList<>();
+    for (IBean<?> dependency : dependencies.get(bean)) {
+      prerequisites.add(schedule(dependency, dependencies, futures, path, executor));
+    }
+    path.remove(bean);
+    future = CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture[0]))
+        .thenRunAsync(() -> createBean(bean), executor);
+    futures.put(bean, future);
+    return future;
+  }
+
+  /**
+   * @return the beans of <code>candidates</code> the given bean depends on
+   */
+  protected List<IBean<?>> resolveDependencies(IBean<?> bean, List<IBean<?>> candidates) {
+    CreateImmediately annotation = bean.getBeanAnnotation(CreateImmediately.class);
+    if (annotation == null || annotation.dependsOn().length == 0) {
+      return new ArrayList<>();
+    }
+    List<IBean<?>> result = new ArrayList<>();
+    for (Class<?> type : annotation.dependsOn()) {
+      for (IBean<?> candidate : candidates) {
+        if (candidate != bean && type.isAssignableFrom(candidate.getBeanClazz()) && !result.contains(candidate)) {
+          result.add(candidate);
+        }
+      }
+    }
+    return result;
+  }
+
+  protected void createBean(IBean<?> bean) {
+    long t0 = System.nanoTime();
+    bean.getInstance();
+    if (m_profiler != null) {
+      m_profiler.record(StepKind.BEAN, bean.getBeanClazz().getName(), null, t0, System.nanoTime());
+    }
+  }
+}
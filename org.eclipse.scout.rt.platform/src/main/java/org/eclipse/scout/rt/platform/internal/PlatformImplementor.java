@@ -15,9 +15,14 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IBean;
@@ -30,10 +35,13 @@ import org.eclipse.scout.rt.platform.SimpleBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.IConfigurationValidator;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CreateImmediatelyParallelismProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler.StepKind;
 import org.eclipse.scout.rt.platform.inventory.ClassInventory;
 import org.eclipse.scout.rt.platform.inventory.IClassInventory;
+import org.eclipse.scout.rt.platform.opentelemetry.PlatformStartupSpanExporter;
 import org.eclipse.scout.rt.platform.util.BooleanUtility;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.StringUtility;
@@ -57,6 +65,9 @@ public class PlatformImplementor implements IPlatform {
   private volatile CountDownLatch m_platformStarting = new CountDownLatch(1);
   private final AtomicReference<State> m_state; // may be read at any time by any thread
   private BeanManagerImplementor m_beanManager;
+  private volatile PlatformStartupProfiler m_startupProfiler;
+  private final Set<Thread> m_startupWorkers = ConcurrentHashMap.newKeySet();
+  private volatile boolean m_startupWorkersActive;
 
   public PlatformImplementor() {
     m_state = new AtomicReference<>(State.PlatformStopped);
@@ -69,6 +80,10 @@ public class PlatformImplementor implements IPlatform {
 
   @Override
   public IBeanManager getBeanManager() {
+    if (m_startupWorkersActive && m_startupWorkers.contains(Thread.currentThread())) {
+      // startup worker of the thread holding the write lock
+      return m_beanManager;
+    }
     // use lock to ensure the caller waits until the platform has been started completely
     m_platformLock.readLock().lock();
     try {
@@ -122,6 +137,8 @@ public class PlatformImplementor implements IPlatform {
   @Override
   @SuppressWarnings("squid:S1181")
   public void start() {
+    PlatformStartupProfiler profiler = new PlatformStartupProfiler();
+    m_startupProfiler = profiler;
     try {
       m_platformLock.writeLock().lock();
       try {
@@ -131,16 +148,22 @@ public class PlatformImplementor implements IPlatform {
         }
 
         try {
+          long t = System.nanoTime();
           validateHeadless();
           m_beanManager = createBeanManager();
+          t = recordPhase("bean manager", t);
           //now all IPlatformListener are registered and can receive platform events
           changeState(State.BeanManagerPrepared, true);
+          t = recordPhase(State.BeanManagerPrepared.name(), t);
 
           validateConfiguration();
           initBeanDecorationFactory();
+          t = recordPhase("configuration", t);
 
           changeState(State.BeanManagerValid, true);
+          t = recordPhase(State.BeanManagerValid.name(), t);
           startCreateImmediatelyBeans();
+          recordPhase("create immediately beans", t);
         }
         catch (RuntimeException | Error e) {
           LOG.error("Error during platform startup", e);
@@ -153,13 +176,58 @@ public class PlatformImplementor implements IPlatform {
         //lock has to be released after the State.BeanManagerValid change to make sure everything is initialized correctly, before beans can be accessed.
         m_platformLock.writeLock().unlock();
       }
+      long t = System.nanoTime();
       changeState(State.PlatformStarted, true);
+      recordPhase(State.PlatformStarted.name(), t);
+      profiler.finish();
+      logStartupProfile(profiler);
+      exportStartupProfile(profiler);
     }
     finally {
       notifyPlatformStarted();
     }
   }
 
+  /**
+   * @return the profile of the last platform startup, <code>null</code> if the platform has not been started yet
+   * @since 23.2
+   */
+  public PlatformStartupProfiler getStartupProfiler() {
+    return m_startupProfiler;
+  }
+
+  protected long recordPhase(String name, long startNanos) {
+    long endNanos = System.nanoTime();
+    m_startupProfiler.record(StepKind.PHASE, name, null, startNanos, endNanos);
+    return endNanos;
+  }
+
+  protected void logStartupProfile(PlatformStartupProfiler profiler) {
+    if (LOG.isInfoEnabled()) {
+      String phases = profiler.getSteps().stream()
+          .filter(step -> step.getKind() == StepKind.PHASE)
+          .map(step -> step.getName() + ": " + StringUtility.formatNanos(step.getDurationNanos()) + " ms")
+          .collect(Collectors.joining(", "));
+      LOG.info("Platform started in {} ms [{}]", StringUtility.formatNanos(profiler.getTotalNanos()), phases);
+      LOG.info("Slowest startup steps: {}", profiler.getSlowestSteps(10));
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Startup profile: {}", profiler.toJson());
+    }
+  }
+
+  protected void exportStartupProfile(PlatformStartupProfiler profiler) {
+    try {
+      IBean<PlatformStartupSpanExporter> bean = m_beanManager.optBean(PlatformStartupSpanExporter.class);
+      if (bean != null) {
+        bean.getInstance().export(profiler);
+      }
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Could not export platform startup profile", e);
+    }
+  }
+
   protected void validateHeadless() {
     final boolean scoutHeadless = ConfigUtility.getPropertyBoolean(SCOUT_HEADLESS_PROPERTY, true);
     String awtHeadlessStr = System.getProperty(AWT_HEADLESS_PROPERTY);
@@ -213,9 +281,11 @@ public class PlatformImplementor implements IPlatform {
   }
 
   protected BeanManagerImplementor createBeanManager() {
+    long t = System.nanoTime();
     BeanManagerImplementor beanManager = newBeanManagerImplementor();
     IClassInventory inv = ClassInventory.get();
     long t0 = System.nanoTime();
+    LOG.info("Class inventory available after {} ms", StringUtility.formatNanos(t0 - t));
     Set<Class> allBeans = new BeanFilter().collect(inv);
     long t1 = System.nanoTime();
     LOG.info("Collected {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t1 - t0));
@@ -241,7 +311,43 @@ public class PlatformImplementor implements IPlatform {
   }
 
   protected void startCreateImmediatelyBeans() {
-    m_beanManager.startCreateImmediatelyBeans();
+    CreateImmediatelyBeanInitializer initializer = new CreateImmediatelyBeanInitializer(m_beanManager, m_startupProfiler);
+    int parallelism = CONFIG.getPropertyValue(CreateImmediatelyParallelismProperty.class);
+    if (parallelism <= 1) {
+      initializer.createBeans();
+      return;
+    }
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+      Thread thread = new Thread(() -> runAsStartupWorker(runnable), "scout-platform-startup-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    m_startupWorkersActive = true;
+    try {
+      initializer.createBeans(executor);
+    }
+    finally {
+      m_startupWorkersActive = false;
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Runs the given runnable in a thread which creates {@link org.eclipse.scout.rt.platform.CreateImmediately} beans in
+   * parallel. Such threads may access the bean manager while the platform is starting (the starting thread holds the
+   * platform lock and waits for them).
+   */
+  protected void runAsStartupWorker(Runnable runnable) {
+    Thread thread = Thread.currentThread();
+    m_startupWorkers.add(thread);
+    try {
+      runnable.run();
+    }
+    finally {
+      m_startupWorkers.remove(thread);
+    }
   }
 
   @Override
@@ -322,6 +428,10 @@ public class PlatformImplementor implements IPlatform {
         long t0 = System.nanoTime();
         listener.stateChanged(event);
         long t1 = System.nanoTime();
+        PlatformStartupProfiler profiler = m_startupProfiler;
+        if (profiler != null && isStartupState(newState)) {
+          profiler.record(StepKind.LISTENER, bean.getBeanClazz().getName(), newState, t0, t1);
+        }
         if (LOG.isDebugEnabled()) {
           LOG.debug("StateEvent {} took {} ms for '{}' ", newState, StringUtility.formatNanos(t1 - t0), bean);
         }
@@ -341,6 +451,10 @@ public class PlatformImplementor implements IPlatform {
     }
   }
 
+  protected static boolean isStartupState(State state) {
+    return state == State.BeanManagerPrepared || state == State.BeanManagerValid || state == State.PlatformStarted;
+  }
+
   @Override
   public boolean inDevelopmentMode() {
     return IN_DEVELOPMENT_MODE.get(); // cannot be null
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+/**
+ * Records the duration of the steps executed while the platform is started: the startup phases, the
+ * {@link org.eclipse.scout.rt.platform.IPlatformListener#stateChanged(org.eclipse.scout.rt.platform.PlatformEvent)}
+ * calls and the construction of {@link org.eclipse.scout.rt.platform.CreateImmediately} beans.
+ * <p>
+ * The recorded steps may be exported as JSON ({@link #toJson()}) or as OpenTelemetry spans
+ * ({@link #exportSpans(OpenTelemetry)}). This class is thread-safe.
+ *
+ * @since 23.2
+ */
+public class PlatformStartupProfiler {
+
+  public static final String SPAN_NAME = "scout.platform.startup";
+
+  private static final AttributeKey<String> STEP_KIND = AttributeKey.stringKey("scout.platform.startup.kind");
+  private static final AttributeKey<String> STEP_STATE = AttributeKey.stringKey("scout.platform.startup.state");
+  private static final AttributeKey<String> STEP_THREAD = AttributeKey.stringKey("thread.name");
+
+  public enum StepKind {
+    /**
+     * A phase of the platform startup
+     */
+    PHASE,
+    /**
+     * A call of {@link org.eclipse.scout.rt.platform.IPlatformListener#stateChanged}
+     */
+    LISTENER,
+    /**
+     * The construction of a {@link org.eclipse.scout.rt.platform.CreateImmediately} bean
+     */
+    BEAN
+  }
+
+  private final long m_startEpochNanos;
+  private final long m_startNanos;
+  private final List<Step> m_steps = new ArrayList<>();
+  private volatile long m_endNanos;
+
+  public PlatformStartupProfiler() {
+    m_startEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    m_startNanos = System.nanoTime();
+  }
+
+  /**
+   * Records a step.
+   *
+   * @param startNanos
+   *          value of {@link System#nanoTime()} when the step started
+   * @param endNanos
+   *          value of {@link System#nanoTime()} when the step ended
+   */
+  public void record(StepKind kind, String name, State state, long startNanos, long endNanos) {
+    Step step = new Step(kind, name, state, Thread.currentThread().getName(), startNanos - m_startNanos, endNanos - startNanos);
+    synchronized (m_steps) {
+      m_steps.add(step);
+    }
+  }
+
+  /**
+   * Marks the end of the startup.
+   */
+  public void finish() {
+    m_endNanos = System.nanoTime();
+  }
+
+  /**
+   * @return total duration of the startup or until now if it has not finished yet
+   */
+  public long getTotalNanos() {
+    long endNanos = m_endNanos;
+    return (endNanos == 0 ? System.nanoTime() : endNanos) - m_startNanos;
+  }
+
+  /**
+   * @return all recorded steps in the order they were recorded
+   */
+  public List<Step> getSteps() {
+    synchronized (m_steps) {
+      return new ArrayList<>(m_steps);
+    }
+  }
+
+  /**
+   * @return the <code>count</code> slowest steps (excluding {@link StepKind#PHASE}), slowest first
+   */
+  public List<Step> getSlowestSteps(int count) {
+    return getSteps().stream()
+        .filter(step -> step.getKind() != StepKind.PHASE)
+        .sorted(Comparator.comparingLong(Step::getDurationNanos).reversed())
+        .limit(count)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return the recorded steps as JSON object with the total duration and an array of steps (durations in
+   *         milliseconds)
+   */
+  public JSONObject toJson() {
+    JSONArray steps = new JSONArray();
+    for (Step step : getSteps()) {
+      JSONObject json = new JSONObject();
+      json.put("kind", step.getKind().name());
+      json.put("name", step.getName());
+      json.putOpt("state", step.getState() == null ? null : step.getState().name());
+      json.put("thread", step.getThreadName());
+      json.put("start", toMillis(step.getStartOffsetNanos()));
+      json.put("duration", toMillis(step.getDurationNanos()));
+      steps.put(json);
+    }
+    JSONObject json = new JSONObject();
+    json.put("duration", toMillis(getTotalNanos()));
+    json.put("steps", steps);
+    return json;
+  }
+
+  /**
+   * Exports the recorded steps as spans: one root span {@value #SPAN_NAME} with a child span per step.
+   */
+  public void exportSpans(OpenTelemetry openTelemetry) {
+    Tracer tracer = openTelemetry.getTracer(getClass().getName());
+    Span root = tracer.spanBuilder(SPAN_NAME)
+        .setNoParent()
+        .setStartTimestamp(m_startEpochNanos, TimeUnit.NANOSECONDS)
+        .startSpan();
+    Context parent = Context.root().with(root);
+    for (Step step : getSteps()) {
+      long stepStart = m_startEpochNanos + step.getStartOffsetNanos();
+      Span span = tracer.spanBuilder(step.getName())
+          .setParent(parent)
+          .setStartTimestamp(stepStart, TimeUnit.NANOSECONDS)
+          .setAttribute(STEP_KIND, step.getKind().name())
+          .setAttribute(STEP_THREAD, step.getThreadName())
+          .startSpan();
+      if (step.getState() != null) {
+        span.setAttribute(STEP_STATE, step.getState().name());
+      }
+      span.end(stepStart + step.getDurationNanos(), TimeUnit.NANOSECONDS);
+    }
+    root.end(m_startEpochNanos + getTotalNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  protected static double toMillis(long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * A recorded startup step.
+   */
+  public static final class Step {
+    private final StepKind m_kind;
+    private final String m_name;
+    private final State m_state;
+    private final String m_threadName;
+    private final long m_startOffsetNanos;
+    private final long m_durationNanos;
+
+    private Step(StepKind kind, String name, State state, String threadName, long startOffsetNanos, long durationNanos) {
+      m_kind = kind;
+      m_name = name;
+      m_state = state;
+      m_threadName = threadName;
+      m_startOffsetNanos = startOffsetNanos;
+      m_durationNanos = durationNanos;
+    }
+
+    public StepKind getKind() {
+      return m_kind;
+    }
+
+    public String getName() {
+      return m_name;
+    }
+
+    /**
+     * @return the state the platform changed to or <code>null</code> if the step is not related to a state change
+     */
+    public State getState() {
+      return m_state;
+    }
+
+    public String getThreadName() {
+      return m_threadName;
+    }
+
+    /**
+     * @return start of this step relative to the start of the profiler
+     */
+    public long getStartOffsetNanos() {
+      return m_startOffsetNanos;
+    }
+
+    public long getDurationNanos() {
+      return m_durationNanos;
+    }
+
+    @Override
+    public String toString() {
+      return m_kind + " " + m_name + (m_state == null ? "" : " (" + m_state + ")") + ": " + StringUtility.formatNanos(m_durationNanos) + " ms";
+    }
+  }
+}
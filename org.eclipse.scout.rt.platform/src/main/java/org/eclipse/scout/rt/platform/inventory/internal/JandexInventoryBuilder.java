@@ -23,9 +23,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexCacheDirectoryProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexParallelismProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexRebuildProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
@@ -68,16 +73,34 @@ public class JandexInventoryBuilder {
   }
 
   private final RebuildStrategy m_rebuildStrategy;
+  private final Path m_cacheDirectory;
+  private final int m_parallelism;
 
   private final List<IndexView> m_indexList;
 
   public JandexInventoryBuilder() {
     // do not use the CONFIG class here because the platform is not ready yet
-    this(new JandexRebuildProperty().getValue());
+    this(new JandexRebuildProperty().getValue(), new JandexCacheDirectoryProperty().getValue(), new JandexParallelismProperty().getValue());
   }
 
   public JandexInventoryBuilder(RebuildStrategy rebuildStrategy) {
+    this(rebuildStrategy, null, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param rebuildStrategy
+   *          see {@link RebuildStrategy}
+   * @param cacheDirectory
+   *          directory of the persistent inventory cache (see {@link JandexInventoryCache}) or <code>null</code> to
+   *          disable the cache
+   * @param parallelism
+   *          maximum number of modules scanned in parallel
+   * @since 23.2
+   */
+  public JandexInventoryBuilder(RebuildStrategy rebuildStrategy, Path cacheDirectory, int parallelism) {
     m_rebuildStrategy = rebuildStrategy;
+    m_cacheDirectory = cacheDirectory;
+    m_parallelism = Math.max(parallelism, 1);
     m_indexList = new ArrayList<>();
   }
 
@@ -85,18 +108,162 @@ public class JandexInventoryBuilder {
     return m_rebuildStrategy;
   }
 
+  /**
+   * @since 23.2
+   */
+  public Path getCacheDirectory() {
+    return m_cacheDirectory;
+  }
+
+  /**
+   * @since 23.2
+   */
+  public int getParallelism() {
+    return m_parallelism;
+  }
+
+  /**
+   * Scans all modules containing a {@value #SCOUT_XML_PATH}.
+   * <p>
+   * If a cache directory is configured and the rebuild strategy is not {@link RebuildStrategy#ALWAYS}, the indexes of
+   * all modules are read from the persistent {@link JandexInventoryCache} if no module has changed since the cache file
+   * was written. Otherwise, the modules are scanned in parallel on a dedicated {@link ForkJoinPool} and the cache file
+   * is written afterwards.
+   */
   public void scanAllModules() {
+    List<URI> indexUris = findAllIndexUris();
+    JandexInventoryCache cache = createCache();
+    if (cache != null) {
+      String cacheKey = computeCacheKey(cache, indexUris);
+      List<Index> cachedIndexes = cacheKey == null ? null : cache.read(cacheKey);
+      if (cachedIndexes != null) {
+        LOG.info("Using cached jandex class inventory '{}'", cache.getCacheFile(cacheKey));
+        synchronized (m_indexList) {
+          m_indexList.addAll(cachedIndexes);
+        }
+        return;
+      }
+    }
+
+    List<Index> indexes = scanModules(indexUris);
+
+    if (cache != null) {
+      // scanning may have written missing or outdated module index files which changes the fingerprint
+      String cacheKey = computeCacheKey(cache, indexUris);
+      if (cacheKey != null) {
+        cache.write(cacheKey, indexes);
+        cache.deleteOutdated(cacheKey);
+      }
+    }
+  }
+
+  /**
+   * @return URIs of the jandex index of all modules, sorted to get a stable cache key
+   * @since 23.2
+   */
+  protected List<URI> findAllIndexUris() {
     try {
-      Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH))
-          .parallelStream()
+      return Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH))
+          .stream()
           .map(this::findIndexUri)
-          .forEach(this::scanModule);
+          .sorted()
+          .collect(Collectors.toList());
     }
     catch (IOException ex) {
       throw new PlatformException("Error while reading resources '{}'", SCOUT_XML_PATH, ex);
     }
   }
 
+  /**
+   * Scans the given modules in parallel.
+   *
+   * @since 23.2
+   */
+  protected List<Index> scanModules(List<URI> indexUris) {
+    if (m_parallelism == 1 || indexUris.size() < 2) {
+      return indexUris.stream()
+          .map(this::scanModule)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+    }
+    // a parallel stream started from within a fork join pool uses this pool (and not the common pool)
+    ForkJoinPool pool = new ForkJoinPool(Math.min(m_parallelism, indexUris.size()));
+    try {
+      return pool.submit(() -> indexUris.parallelStream()
+          .map(this::scanModule)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList()))
+          .join();
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * @return the persistent inventory cache or <code>null</code> if no cache should be used
+   * @since 23.2
+   */
+  protected JandexInventoryCache createCache() {
+    if (m_cacheDirectory == null || m_rebuildStrategy == RebuildStrategy.ALWAYS) {
+      return null;
+    }
+    return new JandexInventoryCache(m_cacheDirectory);
+  }
+
+  /**
+   * @return key of the cache file for the given modules or <code>null</code> if they cannot be cached
+   * @since 23.2
+   */
+  protected String computeCacheKey(JandexInventoryCache cache, List<URI> indexUris) {
+    List<String> fingerprints = new ArrayList<>(indexUris.size());
+    for (URI indexUri : indexUris) {
+      String fingerprint;
+      try {
+        fingerprint = fingerprint(indexUri);
+      }
+      catch (IOException | URISyntaxException | RuntimeException e) {
+        LOG.debug("Cannot compute fingerprint of '{}'", indexUri, e);
+        fingerprint = null;
+      }
+      if (fingerprint == null) {
+        LOG.info("Jandex class inventory is not cached because location '{}' is not supported", indexUri);
+        return null;
+      }
+      fingerprints.add(fingerprint);
+    }
+    return cache.computeKey(fingerprints);
+  }
+
+  /**
+   * Computes a fingerprint of a module which changes whenever the index of the module could change. The fingerprint
+   * consists of the location of the module and the size and timestamp of the jar file or the index file respectively.
+   * If the rebuild strategy is {@link RebuildStrategy#IF_MODIFIED}, the timestamp and the number of class files of a
+   * folder are used instead.
+   *
+   * @return fingerprint or <code>null</code> if the module cannot be cached
+   * @since 23.2
+   */
+  protected String fingerprint(URI indexUri) throws IOException, URISyntaxException {
+    if ("file".equals(indexUri.getScheme())) {
+      File indexFile = new File(indexUri);
+      if (m_rebuildStrategy == RebuildStrategy.IF_MODIFIED) {
+        IndexMetaData meta = indexMetaData(indexFile.getParentFile().getParentFile().toPath());
+        return indexUri + "|" + meta.lastModified() + "|" + meta.fileCount();
+      }
+      return indexUri + "|" + indexFile.exists() + "|" + indexFile.length() + "|" + indexFile.lastModified();
+    }
+    if ("jar".equals(indexUri.getScheme())) {
+      String s = indexUri.getRawSchemeSpecificPart();
+      File jarFile = new File(new URI(s.substring(0, s.lastIndexOf('!'))));
+      if (!jarFile.isFile()) {
+        return null;
+      }
+      return indexUri + "|" + jarFile.length() + "|" + jarFile.lastModified();
+    }
+    return null;
+  }
+
   public Index scanModule(URI indexUri) {
     try {
       Index index = scanModuleUnsafe(indexUri);
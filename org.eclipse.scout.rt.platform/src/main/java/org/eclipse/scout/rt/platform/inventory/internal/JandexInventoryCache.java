@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of all the jandex indexes of a class inventory.
+ * <p>
+ * All indexes are stored in one file in the cache directory. Its name is the SHA-256 hash of the fingerprints of all
+ * modules (see {@link JandexInventoryBuilder#fingerprint(java.net.URI)}). Therefore, a cache file is never updated:
+ * if any module changes, a new file with a different name is written. A corrupt or unreadable cache file is ignored
+ * and the inventory is built from the modules.
+ *
+ * @since 23.2
+ */
+public class JandexInventoryCache {
+  private static final Logger LOG = LoggerFactory.getLogger(JandexInventoryCache.class);
+
+  public static final String CACHE_FILE_PREFIX = "jandex-inventory-";
+  public static final String CACHE_FILE_SUFFIX = ".idx";
+
+  private static final int MAGIC = 0x5343_4a49; // SCJI
+  private static final int VERSION = 1;
+
+  private final Path m_directory;
+
+  public JandexInventoryCache(Path directory) {
+    m_directory = directory;
+  }
+
+  public Path getDirectory() {
+    return m_directory;
+  }
+
+  /**
+   * @param fingerprints
+   *          module fingerprints in a stable order
+   * @return the key of the cache file (hex encoded SHA-256 hash of the fingerprints)
+   */
+  public String computeKey(List<String> fingerprints) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new PlatformException("SHA-256 is not supported", e);
+    }
+    digest.update(Integer.toString(VERSION).getBytes(StandardCharsets.UTF_8));
+    for (String fingerprint : fingerprints) {
+      digest.update((byte) '\n');
+      digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+    }
+    StringBuilder sb = new StringBuilder();
+    for (byte b : digest.digest()) {
+      sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+    }
+    return sb.toString();
+  }
+
+  public Path getCacheFile(String key) {
+    return m_directory.resolve(CACHE_FILE_PREFIX + key + CACHE_FILE_SUFFIX);
+  }
+
+  /**
+   * @return the cached indexes or <code>null</code> if there is no (valid) cache file for the given key
+   */
+  public List<Index> read(String key) {
+    Path file = getCacheFile(key);
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        LOG.warn("Ignoring jandex inventory cache file '{}' with unknown format", file);
+        return null;
+      }
+      int count = in.readInt();
+      List<Index> indexes = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        indexes.add(new IndexReader(new ByteArrayInputStream(data)).read());
+      }
+      return indexes;
+    }
+    catch (NoSuchFileException e) { // NOSONAR
+      LOG.debug("No jandex inventory cache file '{}'", file);
+      return null;
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.warn("Ignoring unreadable jandex inventory cache file '{}'", file, e);
+      return null;
+    }
+  }
+
+  /**
+   * Writes the indexes to the cache file for the given key. The file is written to a temporary file first and then
+   * moved, so concurrently starting processes never read a partially written file. Errors are logged only.
+   */
+  public void write(String key, List<Index> indexes) {
+    Path file = getCacheFile(key);
+    Path tmp = null;
+    try {
+      Files.createDirectories(m_directory);
+      tmp = Files.createTempFile(m_directory, CACHE_FILE_PREFIX, ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(indexes.size());
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        for (Index index : indexes) {
+          buf.reset();
+          new IndexWriter(buf).write(index);
+          out.writeInt(buf.size());
+          buf.writeTo(out);
+        }
+      }
+      try {
+        Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (AtomicMoveNotSupportedException e) { // NOSONAR
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      tmp = null;
+      LOG.info("Wrote jandex inventory cache file '{}' with {} indexes", file, indexes.size());
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.warn("Cannot write jandex inventory cache file '{}'", file, e);
+    }
+    finally {
+      deleteQuietly(tmp);
+    }
+  }
+
+  /**
+   * Deletes all cache files except the one for the given key. Hence, the cache directory must not be shared by
+   * different applications.
+   */
+  public void deleteOutdated(String currentKey) {
+    String current = getCacheFile(currentKey).getFileName().toString();
+    List<Path> outdated = Collections.emptyList();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(m_directory, CACHE_FILE_PREFIX + "*" + CACHE_FILE_SUFFIX)) {
+      outdated = new ArrayList<>();
+      for (Path f : files) {
+        if (!current.equals(f.getFileName().toString())) {
+          outdated.add(f);
+        }
+      }
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.debug("Cannot list jandex inventory cache directory '{}'", m_directory, e);
+    }
+    outdated.forEach(this::deleteQuietly);
+  }
+
+  protected void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    }
+    catch (IOException e) {
+      LOG.debug("Cannot delete '{}'", file, e);
+    }
+  }
+}
@@ -10,16 +10,18 @@
 package org.eclipse.scout.rt.platform.job.internal;
 
 import java.util.Date;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +36,13 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Also, this executor is used over Quartz Scheduler because of its better performance when having more than 10'000 jobs
  * running simultaneously.
+ * <p>
+ * The Runnables are kept in a hierarchical timing wheel with a resolution of one millisecond: {@value #LEVELS} levels
+ * of {@value #SLOTS} slots each, a slot of level <i>n</i> covering 64<sup>n</sup> milliseconds. Scheduling and
+ * cancellation are O(1): submitters only append to lock-free queues, which are drained by the 'Dispatch-Loop-Runnable'.
+ * The wheel is owned by the 'Dispatch-Loop-Runnable' exclusively, which sleeps until the next occupied slot expires
+ * (found by a bitmap per level), moves Runnables of higher levels down as their time approaches and runs the expired
+ * ones.
  *
  * @since 5.1
  */
@@ -41,10 +50,35 @@ class DelayedExecutor {
 
   private static final Logger LOG = LoggerFactory.getLogger(DelayedExecutor.class);
 
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int LEVELS = 6;
+  private static final long MAX_WHEEL_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+  private static final long MAX_DELAY = Long.MAX_VALUE / 4;
+  private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /**
+   * Number of cancelled Runnables after which a sleeping 'Dispatch-Loop-Runnable' is woken up to remove them from the
+   * wheel.
+   */
+  private static final int CANCELLED_WAKEUP_THRESHOLD = 1024;
+
   private final ExecutorService m_executor;
   private final String m_threadName;
-  private final AtomicLong m_sequencer = new AtomicLong(-Long.MAX_VALUE);
-  private final DelayQueue<P_DelayedTask> m_delayedTaskQueue = new DelayQueue<>();
+  private final long m_startNanos = System.nanoTime();
+
+  private final Queue<P_DelayedTask> m_scheduledQueue = new ConcurrentLinkedQueue<>();
+  private final Queue<P_DelayedTask> m_cancelledQueue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger m_cancelledCount = new AtomicInteger();
+  private volatile Thread m_dispatchThread;
+  /**
+   * Tick until which the 'Dispatch-Loop-Runnable' sleeps, or {@link Long#MIN_VALUE} if it is awake.
+   */
+  private volatile long m_sleepingUntil = Long.MIN_VALUE;
+
+  // owned by the 'Dispatch-Loop-Runnable'
+  private final P_Level[] m_levels = new P_Level[LEVELS];
+  private long m_elapsed;
 
   /**
    * @param executor
@@ -55,6 +89,9 @@ class DelayedExecutor {
   DelayedExecutor(final ExecutorService executor, final String threadName) {
     m_executor = executor;
     m_threadName = threadName;
+    for (int i = 0; i < LEVELS; i++) {
+      m_levels[i] = new P_Level(i);
+    }
     m_executor.execute(new P_DispatchLoop());
   }
 
@@ -69,20 +106,172 @@ class DelayedExecutor {
    *          the Runnable to be executed some time in the future.
    * @param fireTime
    *          the time the Runnable should commence execution. Must not be <code>null</code>.
+   * @return handle to cancel the execution of the Runnable
    */
-  public void schedule(final Runnable runnable, final Date fireTime) {
+  public ICancellable schedule(final Runnable runnable, final Date fireTime) {
     Assertions.assertNotNull(fireTime, "FireTime must not be null");
-    m_delayedTaskQueue.put(new P_DelayedTask(runnable, fireTime));
+    final long delay = Math.min(Math.max(fireTime.getTime() - System.currentTimeMillis(), 0), MAX_DELAY);
+    final P_DelayedTask task = new P_DelayedTask(runnable, currentTickCeil() + delay);
+    m_scheduledQueue.offer(task);
+    if (task.m_deadline < m_sleepingUntil) {
+      wakeUpDispatchThread();
+    }
+    return task;
+  }
+
+  protected void wakeUpDispatchThread() {
+    final Thread dispatchThread = m_dispatchThread;
+    if (dispatchThread != null) {
+      LockSupport.unpark(dispatchThread);
+    }
+  }
+
+  /**
+   * @return the current tick (milliseconds since this executor was created), rounded down
+   */
+  protected long currentTick() {
+    return (System.nanoTime() - m_startNanos) / NANOS_PER_TICK;
+  }
+
+  /**
+   * @return the current tick, rounded up so that Runnables are never run too early
+   */
+  protected long currentTickCeil() {
+    return (System.nanoTime() - m_startNanos + NANOS_PER_TICK - 1) / NANOS_PER_TICK;
+  }
+
+  /**
+   * Moves newly scheduled Runnables into the wheel and runs the ones already expired.
+   */
+  protected void drainScheduledQueue(final long now) {
+    P_DelayedTask task;
+    while ((task = m_scheduledQueue.poll()) != null) {
+      if (task.isCancelled()) {
+        continue;
+      }
+      if (task.m_deadline <= now) {
+        fire(task);
+      }
+      else {
+        insert(task);
+      }
+    }
+  }
+
+  /**
+   * Removes cancelled Runnables from the wheel.
+   */
+  protected void drainCancelledQueue() {
+    P_DelayedTask task;
+    while ((task = m_cancelledQueue.poll()) != null) {
+      m_cancelledCount.decrementAndGet();
+      if (task.m_level >= 0) {
+        m_levels[task.m_level].remove(task);
+      }
+    }
+  }
+
+  protected void insert(final P_DelayedTask task) {
+    final long when = Math.min(task.m_deadline, m_elapsed + MAX_WHEEL_DELAY);
+    // the level is given by the most significant group of bits in which the deadline differs from the wheel position.
+    // A deadline in the next rotation of the top level may differ in higher bits: it is put into the top level, whose
+    // slot expires at the latest at the deadline (see slotDeadline) and is then cascaded again.
+    final long masked = (m_elapsed ^ when) | (SLOTS - 1);
+    final int level = Math.min((63 - Long.numberOfLeadingZeros(masked)) / SLOT_BITS, LEVELS - 1);
+    final int slot = (int) ((when >>> (level * SLOT_BITS)) & (SLOTS - 1));
+    m_levels[level].add(task, slot);
+  }
+
+  /**
+   * Processes all slots which expired until the given tick: runs the expired Runnables and moves the others to lower
+   * levels.
+   */
+  protected void advance(final long now) {
+    while (true) {
+      P_Level level = null;
+      int slot = -1;
+      long deadline = Long.MAX_VALUE;
+      for (final P_Level candidate : m_levels) {
+        final int candidateSlot = candidate.nextOccupiedSlot(m_elapsed);
+        if (candidateSlot >= 0) {
+          final long candidateDeadline = candidate.slotDeadline(m_elapsed, candidateSlot);
+          if (candidateDeadline < deadline) {
+            level = candidate;
+            slot = candidateSlot;
+            deadline = candidateDeadline;
+          }
+        }
+      }
+      if (level == null || deadline > now) {
+        break;
+      }
+
+      m_elapsed = deadline;
+      P_DelayedTask task = level.takeSlot(slot);
+      while (task != null) {
+        final P_DelayedTask next = task.m_next;
+        task.m_next = null;
+        if (task.m_deadline <= now) {
+          fire(task);
+        }
+        else {
+          insert(task);
+        }
+        task = next;
+      }
+    }
+    m_elapsed = Math.max(m_elapsed, now);
+  }
+
+  /**
+   * @return tick of the next occupied slot or {@link Long#MAX_VALUE} if the wheel is empty
+   */
+  protected long nextExpiration() {
+    long deadline = Long.MAX_VALUE;
+    for (final P_Level level : m_levels) {
+      final int slot = level.nextOccupiedSlot(m_elapsed);
+      if (slot >= 0) {
+        deadline = Math.min(deadline, level.slotDeadline(m_elapsed, slot));
+      }
+    }
+    return deadline;
+  }
+
+  protected void fire(final P_DelayedTask task) {
+    if (!task.m_state.compareAndSet(P_DelayedTask.PENDING, P_DelayedTask.FIRED)) {
+      return;
+    }
+    try {
+      task.m_runnable.run();
+    }
+    catch (final RuntimeException | Error t) { // NOSONAR
+      LOG.error("Unexpected exception while executing expired runnable.", t);
+    }
   }
 
   /**
-   * Returns <code>-1</code> if <code>value1</code> is less than <code>value2</code>, or <code>+1</code> if
-   * <code>value1</code> is greater than <code>value2</code>, or <code>0</code> if the two values are equals.
+   * Blocks the 'Dispatch-Loop-Runnable' until the given tick, or until it is woken up.
    */
-  private int signum(final long value1, final long value2) {
-    // do not subtract because of potential overflow.
-    // do not subtract because of potential overflow.
-    return Long.compare(value1, value2);
+  protected void sleep(final long until) {
+    m_sleepingUntil = until;
+    try {
+      // re-check after publishing the wake-up tick: a submitter either sees it or its Runnable is seen here
+      if (!m_scheduledQueue.isEmpty() || m_cancelledCount.get() >= CANCELLED_WAKEUP_THRESHOLD) {
+        return;
+      }
+      if (until == Long.MAX_VALUE) {
+        LockSupport.park(this);
+      }
+      else {
+        final long nanos = m_startNanos + until * NANOS_PER_TICK - System.nanoTime();
+        if (nanos > 0) {
+          LockSupport.parkNanos(this, nanos);
+        }
+      }
+    }
+    finally {
+      m_sleepingUntil = Long.MIN_VALUE;
+    }
   }
 
   /**
@@ -94,12 +283,15 @@ class DelayedExecutor {
     @Override
     public void run() {
       ThreadInfo.CURRENT.get().updateThreadName(m_threadName, null);
+      m_dispatchThread = Thread.currentThread();
       try {
         while (!m_executor.isShutdown()) {
           try {
-            m_delayedTaskQueue.take().run(); // 'DelayQueue#take' blocks until a Runnable's delay expired to be executed.
-          }
-          catch (final InterruptedException e) {
+            final long now = currentTick();
+            drainScheduledQueue(now);
+            drainCancelledQueue();
+            advance(now);
+            sleep(nextExpiration());
             Thread.interrupted(); // ensure the interrupted status to be cleared.
           }
           catch (final RuntimeException | Error t) { // NOSONAR
@@ -108,50 +300,149 @@ class DelayedExecutor {
         }
       }
       finally {
+        m_dispatchThread = null;
         ThreadInfo.CURRENT.get().reset();
       }
     }
   }
 
   /**
-   * Represents a task to be executed some time in the future.
+   * One level of the timing wheel. Each slot holds a singly linked list of tasks (appended at the tail to keep the
+   * scheduling order). Only accessed by the 'Dispatch-Loop-Runnable'.
    */
-  private class P_DelayedTask implements Delayed, Runnable {
+  private static final class P_Level {
 
-    private final Runnable m_runnable;
-    private final long m_executionTime;
-    private final long m_sequenceNumber;
+    private final int m_level;
+    private final P_DelayedTask[] m_heads = new P_DelayedTask[SLOTS];
+    private final P_DelayedTask[] m_tails = new P_DelayedTask[SLOTS];
+    private long m_occupied;
 
-    P_DelayedTask(final Runnable runnable, final Date fireTime) {
-      m_runnable = runnable;
-      m_executionTime = fireTime.getTime();
-      m_sequenceNumber = m_sequencer.incrementAndGet();
+    P_Level(final int level) {
+      m_level = level;
     }
 
-    @Override
-    public void run() {
-      m_runnable.run();
+    void add(final P_DelayedTask task, final int slot) {
+      task.m_level = m_level;
+      task.m_slot = slot;
+      task.m_prev = m_tails[slot];
+      task.m_next = null;
+      if (m_tails[slot] == null) {
+        m_heads[slot] = task;
+      }
+      else {
+        m_tails[slot].m_next = task;
+      }
+      m_tails[slot] = task;
+      m_occupied |= 1L << slot;
     }
 
-    @Override
-    public long getDelay(final TimeUnit unit) {
-      return unit.convert(m_executionTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    void remove(final P_DelayedTask task) {
+      final int slot = task.m_slot;
+      if (task.m_prev == null) {
+        m_heads[slot] = task.m_next;
+      }
+      else {
+        task.m_prev.m_next = task.m_next;
+      }
+      if (task.m_next == null) {
+        m_tails[slot] = task.m_prev;
+      }
+      else {
+        task.m_next.m_prev = task.m_prev;
+      }
+      task.m_prev = null;
+      task.m_next = null;
+      task.m_level = -1;
+      if (m_heads[slot] == null) {
+        m_occupied &= ~(1L << slot);
+      }
     }
 
-    @Override
-    public int compareTo(final Delayed other) {
-      if (other == this) { // NOSONAR
-        return 0;
+    /**
+     * Removes all tasks of the given slot.
+     *
+     * @return head of the linked list of the removed tasks
+     */
+    P_DelayedTask takeSlot(final int slot) {
+      final P_DelayedTask head = m_heads[slot];
+      m_heads[slot] = null;
+      m_tails[slot] = null;
+      m_occupied &= ~(1L << slot);
+      for (P_DelayedTask task = head; task != null; task = task.m_next) {
+        task.m_level = -1;
+        task.m_prev = null;
       }
+      return head;
+    }
 
-      final P_DelayedTask otherDelayedTask = (P_DelayedTask) other;
-      final int signum = signum(m_executionTime, otherDelayedTask.m_executionTime);
-      if (signum != 0) {
-        return signum;
+    /**
+     * @return the next occupied slot after the wheel position or -1 if this level is empty
+     */
+    int nextOccupiedSlot(final long elapsed) {
+      if (m_occupied == 0) {
+        return -1;
       }
-      else {
-        return signum(m_sequenceNumber, otherDelayedTask.m_sequenceNumber);
+      // the slot at the wheel position is only occupied by tasks of the next rotation of the top level: search it last
+      final int start = (int) (((elapsed >>> (m_level * SLOT_BITS)) + 1) & (SLOTS - 1));
+      final long rotated = Long.rotateRight(m_occupied, start);
+      return (Long.numberOfTrailingZeros(rotated) + start) & (SLOTS - 1);
+    }
+
+    /**
+     * @return the tick at which the given slot expires
+     */
+    long slotDeadline(final long elapsed, final int slot) {
+      final long slotRange = 1L << (m_level * SLOT_BITS);
+      final long levelRange = slotRange << SLOT_BITS;
+      final long levelStart = elapsed & -levelRange;
+      long deadline = levelStart + slot * slotRange;
+      if (deadline <= elapsed && m_level > 0) {
+        // slot of the next rotation (only used for tasks beyond the range of the wheel)
+        deadline += levelRange;
+      }
+      return deadline;
+    }
+  }
+
+  /**
+   * Represents a task to be executed some time in the future.
+   */
+  private final class P_DelayedTask implements ICancellable {
+
+    private static final int PENDING = 0;
+    private static final int FIRED = 1;
+    private static final int CANCELLED = 2;
+
+    private final Runnable m_runnable;
+    private final long m_deadline;
+    private final AtomicInteger m_state = new AtomicInteger(PENDING);
+
+    // owned by the 'Dispatch-Loop-Runnable'
+    private int m_level = -1;
+    private int m_slot;
+    private P_DelayedTask m_prev;
+    private P_DelayedTask m_next;
+
+    P_DelayedTask(final Runnable runnable, final long deadline) {
+      m_runnable = runnable;
+      m_deadline = deadline;
+    }
+
+    @Override
+    public boolean cancel(final boolean interruptIfRunning) {
+      if (!m_state.compareAndSet(PENDING, CANCELLED)) {
+        return false;
+      }
+      m_cancelledQueue.offer(this);
+      if (m_cancelledCount.incrementAndGet() == CANCELLED_WAKEUP_THRESHOLD) {
+        wakeUpDispatchThread();
       }
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return m_state.get() == CANCELLED;
     }
   }
 }
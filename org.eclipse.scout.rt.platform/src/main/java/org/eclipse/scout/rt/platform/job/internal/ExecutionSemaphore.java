@@ -15,6 +15,8 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
@@ -123,25 +125,32 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
   protected void acquire(final IFuture<?> task, final QueuePosition queuePosition) {
     assertSameSemaphore(task);
 
-    final Object acquisitionLock = new Object();
+    // Use a lock instead of an object monitor so that waiting virtual threads do not pin their carrier thread.
+    final ReentrantLock acquisitionLock = new ReentrantLock();
+    final Condition permitAcquiredCondition = acquisitionLock.newCondition();
     final AtomicBoolean waitingForPermit = new AtomicBoolean(true);
 
     compete(task, queuePosition, () -> {
-      synchronized (acquisitionLock) {
+      acquisitionLock.lock();
+      try {
         if (waitingForPermit.get()) {
-          acquisitionLock.notify();
+          permitAcquiredCondition.signal();
         }
         else {
           release(task);
         }
       }
+      finally {
+        acquisitionLock.unlock();
+      }
     });
 
     // Block the current thread until a permit is acquired.
-    synchronized (acquisitionLock) {
+    acquisitionLock.lock();
+    try {
       while (!isPermitOwner(task)) {
         try {
-          acquisitionLock.wait();
+          permitAcquiredCondition.await();
         }
         catch (final InterruptedException e) {
           Thread.currentThread().interrupt(); // Restore the interrupted status because cleared by catching InterruptedException.
@@ -153,6 +162,9 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
         }
       }
     }
+    finally {
+      acquisitionLock.unlock();
+    }
   }
 
   /**
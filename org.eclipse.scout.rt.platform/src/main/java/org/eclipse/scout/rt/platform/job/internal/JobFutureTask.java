@@ -52,6 +52,7 @@ import org.eclipse.scout.rt.platform.job.listener.JobEventType;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.quartz.Calendar;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
@@ -101,6 +102,13 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   protected volatile Thread m_runner;
   protected final Object m_runnerLock = new Object();
 
+  /**
+   * Handle of the pending execution scheduled via {@link DelayedExecutor}, if any.
+   *
+   * @since 23.2
+   */
+  protected volatile ICancellable m_delayedTask;
+
   public JobFutureTask(final JobManager jobManager, final RunMonitor runMonitor, final JobInput input, final CallableChain<RESULT> callableChain, final Callable<RESULT> callable) {
     super(() -> callableChain.call(callable) /* run all processors as contained in the chain before invoking the callable */ );
 
@@ -199,9 +207,33 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     m_completionPromise.done();
     finishInternal();
 
+    // Release a pending delayed execution, so that it is not kept in the DelayedExecutor until its fire time.
+    cancelDelayedTask();
+
     // IMPORTANT: do not release permit here because also invoked upon cancellation.
   }
 
+  /**
+   * Remembers the handle of the pending execution scheduled via {@link DelayedExecutor}, which is cancelled once this
+   * task is done.
+   *
+   * @since 23.2
+   */
+  protected void setDelayedTask(final ICancellable delayedTask) {
+    m_delayedTask = delayedTask;
+    if (isDone()) {
+      cancelDelayedTask();
+    }
+  }
+
+  protected void cancelDelayedTask() {
+    final ICancellable delayedTask = m_delayedTask;
+    if (delayedTask != null) {
+      m_delayedTask = null;
+      delayedTask.cancel(false);
+    }
+  }
+
   /**
    * Method invoked once this task gets cancelled, and is invoked only once.
    */
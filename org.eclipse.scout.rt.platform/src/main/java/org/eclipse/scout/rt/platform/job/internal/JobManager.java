@@ -33,6 +33,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -126,7 +127,7 @@ public class JobManager implements IJobManager {
           futureTask.changeState(JobState.PENDING);
         }
 
-        m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime());
+        futureTask.setDelayedTask(m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime()));
       }
     }
     catch (final RuntimeException | Error e) { // NOSONAR
@@ -251,14 +252,44 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      if (VirtualThreadFactory.isSupported()) {
+        return createVirtualThreadExecutor();
+      }
+      LOG.warn("Virtual threads are not supported by this Java runtime [version={}]. Using platform threads instead. Please check property '{}'.",
+          System.getProperty("java.version"), BEANS.get(JobManagerVirtualThreadsProperty.class).getKey());
+    }
+
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
     final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
     final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
-    // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), createRejectedExecutionHandler());
+    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
+    if (prestartCoreThreads) {
+      executor.prestartAllCoreThreads();
+    }
+
+    return executor;
+  }
+
+  /**
+   * Creates the executor to run jobs on virtual threads. Virtual threads are not pooled: every job gets its own
+   * virtual thread which terminates once the job completes. Blocked jobs therefore do not hold a platform thread.
+   */
+  protected ExecutorService createVirtualThreadExecutor() {
+    final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
+    LOG.info("Running jobs on virtual threads [maxConcurrentJobs={}]", maximumPoolSize);
+    return new ThreadPoolExecutor(0, maximumPoolSize, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), new VirtualThreadFactory("scout-thread"), createRejectedExecutionHandler());
+  }
+
+  /**
+   * Creates the handler invoked if the executor cannot accept a job.
+   */
+  protected RejectedExecutionHandler createRejectedExecutionHandler() {
+    return (runnable, executor) -> {
       if (isShutdown()) {
         LOG.debug("Job rejected because the job manager is shutdown.");
       }
@@ -271,14 +302,6 @@ public class JobManager implements IJobManager {
         ((IRejectableRunnable) runnable).reject();
       }
     };
-
-    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
-    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
-    if (prestartCoreThreads) {
-      executor.prestartAllCoreThreads();
-    }
-
-    return executor;
   }
 
   /**
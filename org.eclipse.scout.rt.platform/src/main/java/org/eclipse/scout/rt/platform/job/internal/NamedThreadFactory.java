@@ -43,6 +43,20 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
     m_group = (securityManager != null) ? securityManager.getThreadGroup() : Thread.currentThread().getThreadGroup();
   }
 
+  /**
+   * @return the name of the threads created by this factory (without sequence number).
+   */
+  protected String getThreadName() {
+    return m_threadName;
+  }
+
+  /**
+   * @return the next sequence number to be used for a new thread.
+   */
+  protected long nextSequence() {
+    return m_sequence.incrementAndGet();
+  }
+
   @Override
   public Thread newThread(final Runnable runnable) {
     final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
@@ -66,7 +80,7 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
         }
       }
     };
-    threadInfoRef.set(new ThreadInfo(thread, m_threadName, m_sequence.incrementAndGet()));
+    threadInfoRef.set(new ThreadInfo(thread, m_threadName, nextSequence()));
 
     thread.setDaemon(false);
     thread.setPriority(Thread.NORM_PRIORITY);
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.MDC;
+
+/**
+ * Thread factory for named virtual threads and to handle uncaught exceptions.
+ * <p>
+ * Virtual threads are only available in Java 21 or newer. Because Scout is compiled against an older Java release, the
+ * virtual thread builder is accessed reflectively. Use {@link #isSupported()} to check whether the current Java runtime
+ * supports virtual threads. If not supported, this factory falls back to the platform threads of
+ * {@link NamedThreadFactory}.
+ *
+ * @since 23.2
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable) {
+    final ThreadFactory virtualThreadFactory = getVirtualThreadFactory();
+    if (virtualThreadFactory == null) {
+      return super.newThread(runnable);
+    }
+
+    final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
+    final Thread thread = virtualThreadFactory.newThread(() -> {
+      // virtual threads do not inherit the MDC, but clear it anyway to be consistent with platform threads.
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    threadInfoRef.set(new ThreadInfo(thread, getThreadName(), nextSequence()));
+
+    // virtual threads are always daemon threads and have a fixed priority
+    thread.setUncaughtExceptionHandler(this);
+
+    return thread;
+  }
+
+  /**
+   * @return the factory creating the virtual threads, or {@code null} to create platform threads instead.
+   */
+  protected ThreadFactory getVirtualThreadFactory() {
+    return VIRTUAL_THREAD_FACTORY;
+  }
+
+  /**
+   * @return {@code true} if the current Java runtime supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  /**
+   * @return the factory returned by {@code Thread.ofVirtual().factory()}, or {@code null} if not supported.
+   */
+  private static ThreadFactory createVirtualThreadFactory() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) { // NOSONAR
+      LOG.debug("Virtual threads are not supported by this Java runtime", e);
+      return null;
+    }
+  }
+}
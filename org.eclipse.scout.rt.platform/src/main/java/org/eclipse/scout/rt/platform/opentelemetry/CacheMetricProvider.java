@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.opentelemetry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.BasicCache;
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} for all caches registered in the {@link ICacheRegistryService}, tagged by cache id.
+ * <p>
+ * Hits, misses, evictions, invalidations and the current size are read from the {@link CacheStatistics} of each cache
+ * when the metrics are collected, hence nothing is recorded on the {@code get()} path of a cache. Resolve durations are
+ * recorded by {@link BasicCache} using {@link #recordResolveDuration(String, String, long)}.
+ *
+ * @since 23.2
+ */
+public class CacheMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CacheMetricProvider.class);
+
+  public static final String OTEL_METRIC_CACHE_RESOLVE_DURATION = "scout.cache.resolve.duration";
+  public static final String OPERATION_RESOLVE = "resolve";
+  public static final String OPERATION_RESOLVE_ALL = "resolveAll";
+
+  private static final AttributeKey<String> CACHE_ID = AttributeKey.stringKey("scout.cache.id");
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("scout.cache.result");
+  private static final AttributeKey<String> OPERATION = AttributeKey.stringKey("scout.cache.operation");
+  private static final String RESULT_HIT = "hit";
+  private static final String RESULT_MISS = "miss";
+  private static final String NO_QUALIFIER = "";
+
+  private final AttributesCache<String, String> m_requestAttributes = AttributesCache.of(128, 2, (cacheId, result) -> Attributes.of(CACHE_ID, cacheId, RESULT, result));
+  private final AttributesCache<String, String> m_resolveAttributes = AttributesCache.of(128, 2, (cacheId, operation) -> Attributes.of(CACHE_ID, cacheId, OPERATION, operation));
+  private final AttributesCache<String, String> m_cacheAttributes = AttributesCache.of(128, 1, (cacheId, unused) -> Attributes.of(CACHE_ID, cacheId));
+
+  private volatile DoubleHistogram m_resolveDuration;
+  private BatchCallback m_batchCallback;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+
+    ObservableLongMeasurement requests = meter.counterBuilder("scout.cache.requests")
+        .setDescription("The number of cache lookups, by result (hit or miss).")
+        .setUnit("{request}")
+        .buildObserver();
+    ObservableLongMeasurement evictions = meter.counterBuilder("scout.cache.evictions")
+        .setDescription("The number of entries evicted because of the size bound or because their time to live elapsed.")
+        .setUnit("{entry}")
+        .buildObserver();
+    ObservableLongMeasurement invalidations = meter.counterBuilder("scout.cache.invalidations")
+        .setDescription("The number of invalidate operations.")
+        .setUnit("{invalidation}")
+        .buildObserver();
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.cache.size")
+        .setDescription("The number of entries currently cached.")
+        .setUnit("{entry}")
+        .buildObserver();
+
+    m_batchCallback = meter.batchCallback(() -> {
+      for (CacheStatistics statistics : getAllStatistics()) {
+        String cacheId = statistics.getCacheId();
+        Attributes cacheAttributes = m_cacheAttributes.getOrCreate(cacheId, NO_QUALIFIER);
+        requests.record(statistics.getHitCount(), m_requestAttributes.getOrCreate(cacheId, RESULT_HIT));
+        requests.record(statistics.getMissCount(), m_requestAttributes.getOrCreate(cacheId, RESULT_MISS));
+        evictions.record(statistics.getEvictionCount(), cacheAttributes);
+        invalidations.record(statistics.getInvalidationCount(), cacheAttributes);
+        size.record(statistics.getSize(), cacheAttributes);
+      }
+    },
+        requests,
+        evictions,
+        invalidations,
+        size);
+
+    m_resolveDuration = meter.histogramBuilder(OTEL_METRIC_CACHE_RESOLVE_DURATION)
+        .setDescription("The time it took to resolve missing cache values.")
+        .setUnit("ms")
+        .build();
+  }
+
+  protected List<CacheStatistics> getAllStatistics() {
+    return BEANS.get(ICacheRegistryService.class).getAllStatistics();
+  }
+
+  /**
+   * Records the duration of a resolve operation. Does nothing if this provider is not registered.
+   *
+   * @param cacheId
+   *          id of the cache
+   * @param operation
+   *          {@link #OPERATION_RESOLVE} or {@link #OPERATION_RESOLVE_ALL}
+   * @param durationNanos
+   *          duration in nanoseconds
+   */
+  public void recordResolveDuration(String cacheId, String operation, long durationNanos) {
+    DoubleHistogram resolveDuration = m_resolveDuration;
+    if (resolveDuration != null) {
+      resolveDuration.record(durationNanos / (double) TimeUnit.MILLISECONDS.toNanos(1), m_resolveAttributes.getOrCreate(cacheId, operation));
+    }
+  }
+
+  @Override
+  public void close() {
+    m_resolveDuration = null;
+    if (m_batchCallback != null) {
+      try {
+        m_batchCallback.close();
+      }
+      catch (RuntimeException e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+      m_batchCallback = null;
+    }
+  }
+
+  /**
+   * Custom histogram buckets for <code>scout.cache.resolve.duration</code> (time unit: milliseconds).
+   */
+  public static class ResolveDurationHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_CACHE_RESOLVE_DURATION;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(0.5d, 1d, 2d, 5d, 10d, 25d, 50d, 100d, 500d, 1_000d, 5_000d);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.opentelemetry;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformStartupSpansEnabledProperty;
+import org.eclipse.scout.rt.platform.internal.PlatformImplementor;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+
+/**
+ * Exports the {@link PlatformStartupProfiler} of the platform as OpenTelemetry spans once the platform has been
+ * started, if enabled by {@link PlatformStartupSpansEnabledProperty}.
+ * <p>
+ * Called by {@link PlatformImplementor} after the profiler has been finished, hence the spans contain all platform
+ * listeners of the {@code PlatformStarted} state as well.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class PlatformStartupSpanExporter {
+
+  public void export(PlatformStartupProfiler profiler) {
+    if (!CONFIG.getPropertyValue(PlatformStartupSpansEnabledProperty.class)) {
+      return;
+    }
+    profiler.exportSpans(GlobalOpenTelemetry.get());
+  }
+}
@@ -22,6 +22,7 @@ import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -69,6 +70,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   private final int m_targetSize;
   private final int m_overflowSize;
   private final Lock m_validateSizeLock = new ReentrantLock();
+  private final LongAdder m_evictionCount = new LongAdder();
 
   /**
    * Creates a new map with a default timeout of 60 seconds and no target size.
@@ -228,6 +230,13 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     return m_overflowSize;
   }
 
+  /**
+   * @return the number of entries evicted by this map since its creation (see {@link #execEntryEvicted(Object, Object)})
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
   /**
    * <b>Note:</b> The implementation of this method does not check if entries are expired, else it would have to iterate
    * though the whole map at each call. Therefore the following may be true: {@code size()==1 && isEmpty()}. Like the
@@ -321,7 +330,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     if (e != null && !isElementValid(e)) {
       // timeout
       if (m_elementMap.remove(key, e)) {
-        execEntryEvicted(key, e.getValue());
+        entryEvicted(key, e.getValue());
       }
       // retry
       e = m_elementMap.putIfAbsent(key, createElement(value));
@@ -394,7 +403,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
       else {
         // timeout
         if (m_elementMap.remove(key, e)) {
-          execEntryEvicted((K) key, e.getValue());
+          entryEvicted((K) key, e.getValue());
         }
       }
     }
@@ -451,7 +460,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
       K key = entry.getKey();
       ExpiringElement<V> element = entry.getValue();
       if (!isElementValid(element) && m_elementMap.remove(key, element)) {
-        execEntryEvicted(key, element.getValue());
+        entryEvicted(key, element.getValue());
       }
     }
   }
@@ -479,7 +488,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
       ExpiringElement<V> element = oldestEntry.getValue();
       if (m_elementMap.remove(key, element)) {
         numberOfEntriesToEvict--;
-        execEntryEvicted(key, element.getValue());
+        entryEvicted(key, element.getValue());
       }
       else if (!m_elementMap.containsKey(key)) {
         // concurrently removed by another thread
@@ -507,6 +516,11 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
+  protected final void entryEvicted(K key, V value) {
+    m_evictionCount.increment();
+    execEntryEvicted(key, value);
+  }
+
   /**
    * Called when the map evicted an entry because its time to live elapsed or because the map is reducing its size.
    *
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2015 Ben Manes
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contributors:
+ *     Ben Manes - initial implementation (com.github.benmanes.caffeine.cache.FrequencySketch of Caffeine)
+ *     BSI Business Systems Integration AG - adaption to Scout
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+/**
+ * Probabilistic estimate of the popularity of elements within a time window (TinyLFU). The sketch is a Count-Min
+ * sketch with four 4-bit counters per element, stored in a table of longs (16 counters per long). The maximum
+ * frequency of an element is therefore 15.
+ * <p>
+ * To age the history, all counters are halved once the number of recorded increments reaches ten times the capacity of
+ * the sketch.
+ * <p>
+ * This class is not thread safe.
+ * <p>
+ * Adapted from the <code>FrequencySketch</code> of Caffeine (https://github.com/ben-manes/caffeine), Apache License
+ * 2.0.
+ *
+ * @since 23.2
+ */
+public final class FrequencySketch {
+
+  private static final long[] SEED = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK = 0x1111111111111111L;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private long[] m_table;
+  private int m_tableMask;
+  private int m_sampleSize;
+  private int m_size;
+
+  public FrequencySketch() {
+    ensureCapacity(16);
+  }
+
+  /**
+   * Grows the sketch to hold the frequencies of about the given number of elements. Growing the sketch discards all
+   * recorded frequencies.
+   */
+  public void ensureCapacity(long maximumSize) {
+    int maximum = (int) Math.min(Math.max(maximumSize, 1), MAXIMUM_CAPACITY);
+    if (m_table != null && m_table.length >= maximum) {
+      return;
+    }
+    m_table = new long[Math.max(ceilingPowerOfTwo(maximum), 8)];
+    m_tableMask = m_table.length - 1;
+    m_sampleSize = 10 * maximum;
+    if (m_sampleSize <= 0) {
+      m_sampleSize = Integer.MAX_VALUE;
+    }
+    m_size = 0;
+  }
+
+  /**
+   * @return the estimated number of occurrences of the element (at most 15)
+   */
+  public int frequency(Object e) {
+    int hash = spread(e.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((m_table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Increments the popularity of the element if it does not exceed the maximum (15). The popularity of all elements is
+   * periodically halved when the sample size is reached.
+   */
+  public void increment(Object e) {
+    int hash = spread(e.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && ++m_size == m_sampleSize) {
+      reset();
+    }
+  }
+
+  private boolean incrementAt(int i, int j) {
+    int offset = j << 2;
+    long mask = 0xfL << offset;
+    if ((m_table[i] & mask) != mask) {
+      m_table[i] += 1L << offset;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Halves every counter and adjusts the sample size.
+   */
+  private void reset() {
+    int count = 0;
+    for (int i = 0; i < m_table.length; i++) {
+      count += Long.bitCount(m_table[i] & ONE_MASK);
+      m_table[i] = (m_table[i] >>> 1) & RESET_MASK;
+    }
+    m_size = (m_size >>> 1) - (count >>> 2);
+  }
+
+  private int indexOf(int item, int i) {
+    long hash = (item + SEED[i]) * SEED[i];
+    hash += hash >>> 32;
+    return ((int) hash) & m_tableMask;
+  }
+
+  /**
+   * Applies a supplemental hash function to defend against poor quality hash codes.
+   */
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+
+  private static int ceilingPowerOfTwo(int x) {
+    return 1 << -Integer.numberOfLeadingZeros(x - 1);
+  }
+}
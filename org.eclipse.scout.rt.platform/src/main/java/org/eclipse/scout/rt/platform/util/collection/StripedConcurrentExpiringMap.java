@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link ConcurrentExpiringMap} which amortizes its bookkeeping for highly concurrent access:
+ * <ul>
+ * <li>Read accesses of an entry which was touched within the last <tt>touchGranularity</tt> milliseconds do not update
+ * its timestamp. Reads of hot keys therefore do not write to the shared map.</li>
+ * <li>Write accesses are counted in a striped counter ({@link LongAdder}). Expiry and eviction run as a batched
+ * maintenance task once {@value #MAINTENANCE_WRITE_THRESHOLD} writes are pending, the overflow size is reached or the
+ * sweep interval elapsed, instead of inspecting the map on every write.</li>
+ * <li>Expired entries are swept incrementally: each maintenance run inspects at most
+ * {@value #EXPIRY_SWEEP_BATCH_SIZE} entries and continues where the previous run stopped.</li>
+ * </ul>
+ * Maintenance is executed by the writing thread which is able to acquire the maintenance lock (other writers do not
+ * wait). Therefore, {@link #execEntryEvicted(Object, Object)} is still called synchronously by a thread accessing the
+ * map.
+ * <p>
+ * The timestamps of entries are less accurate than in {@link ConcurrentExpiringMap} (at most by the touch
+ * granularity), which may slightly change the order in which entries are evicted and shorten their time to live
+ * accordingly. Expired entries are never returned.
+ *
+ * @since 23.2
+ */
+@SuppressWarnings("squid:S2160")
+public class StripedConcurrentExpiringMap<K, V> extends ConcurrentExpiringMap<K, V> {
+
+  /**
+   * Number of pending write accesses after which a maintenance run is executed.
+   */
+  public static final int MAINTENANCE_WRITE_THRESHOLD = 64;
+
+  /**
+   * Maximum number of entries inspected for expiry by one maintenance run.
+   */
+  public static final int EXPIRY_SWEEP_BATCH_SIZE = 256;
+
+  private static final long MAX_TOUCH_GRANULARITY_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+  private final long m_touchGranularity;
+  private final long m_sweepInterval;
+  private final LongAdder m_pendingWrites = new LongAdder();
+  private final ReentrantLock m_maintenanceLock = new ReentrantLock();
+  private volatile long m_nextSweep;
+
+  // guarded by m_maintenanceLock
+  private Iterator<Entry<K, ExpiringElement<V>>> m_sweepIterator;
+
+  /**
+   * <b>TTL cache</b>
+   *
+   * @see ConcurrentExpiringMap#ConcurrentExpiringMap(long, TimeUnit)
+   */
+  public StripedConcurrentExpiringMap(long timeToLiveDuration, TimeUnit timeToLiveUnit) {
+    this(new ConcurrentHashMap<>(), timeToLiveUnit.toMillis(timeToLiveDuration), false, 0);
+  }
+
+  /**
+   * <b>LRU cache</b>
+   *
+   * @see ConcurrentExpiringMap#ConcurrentExpiringMap(long, TimeUnit, int)
+   */
+  public StripedConcurrentExpiringMap(long timeToLiveDuration, TimeUnit timeToLiveUnit, int targetSize) {
+    this(new ConcurrentHashMap<>(), timeToLiveUnit.toMillis(timeToLiveDuration), true, targetSize);
+  }
+
+  /**
+   * @see ConcurrentExpiringMap#ConcurrentExpiringMap(ConcurrentMap, long, boolean, int)
+   */
+  public StripedConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, int targetSize) {
+    this(elementMap, timeToLiveDurationMillis, touchOnGet, false, targetSize, targetSize == 1 ? 2 : targetSize * 3 / 2);
+  }
+
+  /**
+   * @see ConcurrentExpiringMap#ConcurrentExpiringMap(ConcurrentMap, long, boolean, boolean, int, int)
+   */
+  public StripedConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, boolean touchOnIterate, int targetSize, int overflowSize) {
+    super(elementMap, timeToLiveDurationMillis, touchOnGet, touchOnIterate, targetSize, overflowSize);
+    if (timeToLiveDurationMillis > 0) {
+      m_touchGranularity = Math.min(timeToLiveDurationMillis / 16, MAX_TOUCH_GRANULARITY_MILLIS);
+      m_sweepInterval = Math.max(timeToLiveDurationMillis / 4, 1L);
+    }
+    else {
+      m_touchGranularity = MAX_TOUCH_GRANULARITY_MILLIS;
+      m_sweepInterval = Long.MAX_VALUE;
+    }
+    m_nextSweep = nextSweep(System.currentTimeMillis());
+  }
+
+  /**
+   * @return interval in milliseconds within which read accesses do not update the timestamp of an entry again
+   */
+  public long getTouchGranularity() {
+    return m_touchGranularity;
+  }
+
+  @Override
+  protected ExpiringElement<V> touch(K key, ExpiringElement<V> e) {
+    if (System.currentTimeMillis() - e.getTimestamp() < m_touchGranularity) {
+      // touched recently, do not write to the map
+      return e;
+    }
+    return super.touch(key, e);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    // one write is recorded by validateSize()
+    m_pendingWrites.add(Math.max(m.size() - 1, 0));
+    super.putAll(m);
+  }
+
+  @Override
+  protected void validateSize() {
+    m_pendingWrites.increment();
+    if (!isMaintenanceRequired()) {
+      return;
+    }
+    // maximum one thread at the time should maintain the map, others do not wait
+    if (m_maintenanceLock.tryLock()) { // NOSONAR
+      try {
+        runMaintenance();
+      }
+      finally {
+        m_maintenanceLock.unlock();
+      }
+    }
+  }
+
+  protected boolean isMaintenanceRequired() {
+    if (getTargetSize() > 0) {
+      return getElementMap().size() >= getOverflowSize();
+    }
+    if (getTimeToLive() > 0) {
+      return m_pendingWrites.sum() >= MAINTENANCE_WRITE_THRESHOLD || System.currentTimeMillis() >= m_nextSweep;
+    }
+    return false;
+  }
+
+  /**
+   * Executes the pending maintenance. The caller must hold the maintenance lock.
+   */
+  protected void runMaintenance() {
+    m_pendingWrites.reset();
+    if (getTargetSize() > 0) {
+      if (getElementMap().size() >= getOverflowSize()) {
+        evictOldestEntries();
+      }
+    }
+    else if (getTimeToLive() > 0) {
+      sweepExpiredEntries(EXPIRY_SWEEP_BATCH_SIZE);
+    }
+  }
+
+  /**
+   * Inspects at most the given number of entries for expiry, continuing where the previous sweep stopped. The caller
+   * must hold the maintenance lock.
+   */
+  protected void sweepExpiredEntries(int batchSize) {
+    long now = System.currentTimeMillis();
+    if (m_sweepIterator == null) {
+      m_sweepIterator = getElementMap().entrySet().iterator();
+    }
+    for (int i = 0; i < batchSize && m_sweepIterator.hasNext(); i++) {
+      Entry<K, ExpiringElement<V>> entry = m_sweepIterator.next();
+      K key = entry.getKey();
+      ExpiringElement<V> element = entry.getValue();
+      if (!isElementValid(element) && getElementMap().remove(key, element)) {
+        entryEvicted(key, element.getValue());
+      }
+    }
+    if (!m_sweepIterator.hasNext()) {
+      // pass completed, start the next pass after the sweep interval at the latest
+      m_sweepIterator = null;
+      m_nextSweep = nextSweep(now);
+    }
+  }
+
+  @Override
+  protected void evictExpiredEntries() {
+    m_maintenanceLock.lock();
+    try {
+      m_sweepIterator = null;
+      sweepExpiredEntries(Integer.MAX_VALUE);
+    }
+    finally {
+      m_maintenanceLock.unlock();
+    }
+  }
+
+  private long nextSweep(long now) {
+    return m_sweepInterval == Long.MAX_VALUE ? Long.MAX_VALUE : now + m_sweepInterval;
+  }
+}
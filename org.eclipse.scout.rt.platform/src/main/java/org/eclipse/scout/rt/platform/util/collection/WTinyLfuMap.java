@@ -0,0 +1,680 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * A thread-safe concurrent map bounded by a maximum weight using the W-TinyLFU eviction policy.
+ * <p>
+ * New entries are added to a small admission window (1% of the maximum weight) which is managed in LRU order. Entries
+ * leaving the window compete with the least recently used entry of the main space for admission: the entry with the
+ * higher estimated access frequency (see {@link FrequencySketch}) is retained. The main space is a segmented LRU with
+ * a probation and a protected (80% of the main space) segment. Compared to plain LRU this policy achieves a
+ * significantly higher hit rate for skewed access patterns and is resistant to scans.
+ * <p>
+ * The weight of an entry is computed once when the entry is written using the weigher given to the constructor. This
+ * allows to bound a map by the estimated memory consumption of its entries instead of their number. Without a weigher
+ * every entry has a weight of one.
+ * <p>
+ * Optionally, entries expire after a time to live (measured from the last write access).
+ * <p>
+ * Bookkeeping of the policy is guarded by a lock. Read accesses only update the policy if the lock is available
+ * ({@link ReentrantLock#tryLock()}) and never block. The maximum weight is therefore a bound which is enforced on each
+ * write access but read accesses may lose some popularity information under high contention.
+ * <p>
+ * Every time an entry in the map is evicted because of its size or because its time to live elapsed,
+ * {@link #execEntryEvicted(Object, Object)} is called.
+ * <p>
+ * This class does neither allow <tt>null</tt> keys nor <tt>null</tt> values.
+ *
+ * @param <K>
+ *          the type of keys maintained by this map
+ * @param <V>
+ *          the type of mapped values
+ * @since 23.2
+ */
+public class WTinyLfuMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+  private static final double WINDOW_PERCENTAGE = 0.01d;
+  private static final double PROTECTED_PERCENTAGE = 0.8d;
+
+  private static final int WINDOW = 0;
+  private static final int PROBATION = 1;
+  private static final int PROTECTED = 2;
+
+  private final ConcurrentMap<K, Node<K, V>> m_data;
+  private final ToIntBiFunction<? super K, ? super V> m_weigher;
+  private final long m_maximumWeight;
+  private final long m_windowMaximum;
+  private final long m_protectedMaximum;
+  private final long m_timeToLive;
+  private final LongAdder m_evictionCount;
+
+  // policy, guarded by m_evictionLock
+  private final ReentrantLock m_evictionLock;
+  private final FrequencySketch m_sketch;
+  private final AccessOrderDeque<K, V> m_window;
+  private final AccessOrderDeque<K, V> m_probation;
+  private final AccessOrderDeque<K, V> m_protected;
+  private long m_windowWeight;
+  private long m_protectedWeight;
+  private long m_weightedSize;
+
+  /**
+   * Creates a new map bounded by the number of entries.
+   *
+   * @param maximumSize
+   *          maximum number of entries
+   */
+  public WTinyLfuMap(long maximumSize) {
+    this(maximumSize, null, 0L, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @param maximumWeight
+   *          maximum total weight of all entries
+   * @param weigher
+   *          computes the weight of an entry (must not be negative). If <code>null</code>, each entry has a weight of
+   *          one.
+   * @param timeToLiveDuration
+   *          if greater than zero, entries expire after the given duration (measured from the last write access)
+   * @param timeToLiveUnit
+   *          unit of timeToLive
+   */
+  public WTinyLfuMap(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher, long timeToLiveDuration, TimeUnit timeToLiveUnit) {
+    Assertions.assertTrue(maximumWeight > 0, "maximumWeight must be positive");
+    m_data = new ConcurrentHashMap<>();
+    m_weigher = weigher;
+    m_maximumWeight = maximumWeight;
+    m_windowMaximum = Math.max(1L, (long) (maximumWeight * WINDOW_PERCENTAGE));
+    m_protectedMaximum = (long) ((maximumWeight - m_windowMaximum) * PROTECTED_PERCENTAGE);
+    m_timeToLive = timeToLiveUnit.toMillis(timeToLiveDuration);
+    m_evictionCount = new LongAdder();
+
+    m_evictionLock = new ReentrantLock();
+    m_sketch = new FrequencySketch();
+    m_sketch.ensureCapacity(weigher == null ? Math.min(maximumWeight, 1024L) : 16L);
+    m_window = new AccessOrderDeque<>();
+    m_probation = new AccessOrderDeque<>();
+    m_protected = new AccessOrderDeque<>();
+  }
+
+  public long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  /**
+   * @return time to live in milliseconds (not greater than zero if entries do not expire)
+   */
+  public long getTimeToLive() {
+    return m_timeToLive;
+  }
+
+  /**
+   * @return the total weight of all entries currently managed by the eviction policy
+   */
+  public long getWeightedSize() {
+    m_evictionLock.lock();
+    try {
+      return m_weightedSize;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of entries evicted by this map since its creation (see {@link #execEntryEvicted(Object, Object)})
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  /**
+   * <b>Note:</b> The implementation of this method does not check if entries are expired.
+   */
+  @Override
+  public int size() {
+    return m_data.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Node<K, V> node = m_data.get(key);
+    return node != null && !isExpired(node);
+  }
+
+  @Override
+  public V get(Object key) {
+    Node<K, V> node = m_data.get(key);
+    if (node == null) {
+      afterMiss(key);
+      return null;
+    }
+    if (isExpired(node)) {
+      expire(node);
+      return null;
+    }
+    afterRead(node);
+    return node.m_value;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    Node<K, V> node = newNode(key, value);
+    Node<K, V> oldNode = m_data.put(key, node);
+    afterWrite(node, oldNode);
+    return validValue(oldNode);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    Node<K, V> node = newNode(key, value);
+    while (true) {
+      Node<K, V> prior = m_data.putIfAbsent(key, node);
+      if (prior == null) {
+        afterWrite(node, null);
+        return null;
+      }
+      if (!isExpired(prior)) {
+        afterRead(prior);
+        return prior.m_value;
+      }
+      if (m_data.replace(key, prior, node)) {
+        m_evictionCount.increment();
+        execEntryEvicted(prior.m_key, prior.m_value);
+        afterWrite(node, prior);
+        return null;
+      }
+      // concurrently modified: retry
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    Node<K, V> node = m_data.remove(key);
+    if (node == null) {
+      return null;
+    }
+    afterRemove(node);
+    return validValue(node);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    Node<K, V> node = m_data.get(key);
+    if (node == null || isExpired(node) || !node.m_value.equals(value)) {
+      return false;
+    }
+    if (m_data.remove(key, node)) {
+      afterRemove(node);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Node<K, V> node = m_data.get(key);
+    if (node == null || isExpired(node) || !node.m_value.equals(oldValue)) {
+      return false;
+    }
+    Node<K, V> newNode = newNode(key, newValue);
+    if (m_data.replace(key, node, newNode)) {
+      afterWrite(newNode, node);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    Node<K, V> newNode = newNode(key, value);
+    while (true) {
+      Node<K, V> node = m_data.get(key);
+      if (node == null || isExpired(node)) {
+        return null;
+      }
+      if (m_data.replace(key, node, newNode)) {
+        afterWrite(newNode, node);
+        return node.m_value;
+      }
+      // concurrently modified: retry
+    }
+  }
+
+  @Override
+  public void clear() {
+    m_evictionLock.lock();
+    try {
+      for (Node<K, V> node : m_data.values()) {
+        if (m_data.remove(node.m_key, node)) {
+          unlink(node);
+          node.m_retired = true;
+        }
+      }
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  /**
+   * Called when the map evicted an entry because its time to live elapsed or because the map is reducing its size.
+   */
+  protected void execEntryEvicted(K key, V value) {
+    // hook method for subclasses
+  }
+
+  protected int weigh(K key, V value) {
+    if (m_weigher == null) {
+      return 1;
+    }
+    int weight = m_weigher.applyAsInt(key, value);
+    Assertions.assertTrue(weight >= 0, "weight must not be negative [key={}, weight={}]", key, weight);
+    return weight;
+  }
+
+  protected boolean isExpired(Node<K, V> node) {
+    return m_timeToLive > 0 && node.m_writeTime + m_timeToLive <= System.currentTimeMillis();
+  }
+
+  private Node<K, V> newNode(K key, V value) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(value);
+    return new Node<>(key, value, weigh(key, value), m_timeToLive > 0 ? System.currentTimeMillis() : 0L);
+  }
+
+  private V validValue(Node<K, V> node) {
+    if (node == null || isExpired(node)) {
+      return null;
+    }
+    return node.m_value;
+  }
+
+  private void expire(Node<K, V> node) {
+    if (m_data.remove(node.m_key, node)) {
+      m_evictionCount.increment();
+      execEntryEvicted(node.m_key, node.m_value);
+      afterRemove(node);
+    }
+  }
+
+  private void afterMiss(Object key) {
+    if (m_evictionLock.tryLock()) {
+      try {
+        m_sketch.increment(key);
+      }
+      finally {
+        m_evictionLock.unlock();
+      }
+    }
+  }
+
+  private void afterRead(Node<K, V> node) {
+    if (m_evictionLock.tryLock()) {
+      try {
+        m_sketch.increment(node.m_key);
+        onAccess(node);
+      }
+      finally {
+        m_evictionLock.unlock();
+      }
+    }
+  }
+
+  private void afterWrite(Node<K, V> node, Node<K, V> oldNode) {
+    m_evictionLock.lock();
+    try {
+      if (oldNode != null) {
+        unlink(oldNode);
+        oldNode.m_retired = true;
+      }
+      if (!node.m_retired) {
+        // the node was not removed concurrently
+        m_sketch.ensureCapacity(m_data.size());
+        m_sketch.increment(node.m_key);
+        linkToWindow(node);
+        evict();
+      }
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  private void afterRemove(Node<K, V> node) {
+    m_evictionLock.lock();
+    try {
+      unlink(node);
+      node.m_retired = true;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  private void onAccess(Node<K, V> node) {
+    if (!node.m_linked) {
+      return;
+    }
+    switch (node.m_queue) {
+      case WINDOW:
+        m_window.moveToBack(node);
+        break;
+      case PROBATION:
+        // promote to protected segment
+        m_probation.remove(node);
+        node.m_queue = PROTECTED;
+        m_protected.addLast(node);
+        m_protectedWeight += node.m_weight;
+        demoteFromProtected();
+        break;
+      default:
+        m_protected.moveToBack(node);
+        break;
+    }
+  }
+
+  private void demoteFromProtected() {
+    while (m_protectedWeight > m_protectedMaximum) {
+      Node<K, V> demoted = m_protected.pollFirst();
+      if (demoted == null) {
+        return;
+      }
+      m_protectedWeight -= demoted.m_weight;
+      demoted.m_queue = PROBATION;
+      m_probation.addLast(demoted);
+    }
+  }
+
+  private void linkToWindow(Node<K, V> node) {
+    node.m_queue = WINDOW;
+    node.m_linked = true;
+    m_window.addLast(node);
+    m_windowWeight += node.m_weight;
+    m_weightedSize += node.m_weight;
+  }
+
+  private void unlink(Node<K, V> node) {
+    if (!node.m_linked) {
+      return;
+    }
+    switch (node.m_queue) {
+      case WINDOW:
+        m_window.remove(node);
+        m_windowWeight -= node.m_weight;
+        break;
+      case PROBATION:
+        m_probation.remove(node);
+        break;
+      default:
+        m_protected.remove(node);
+        m_protectedWeight -= node.m_weight;
+        break;
+    }
+    m_weightedSize -= node.m_weight;
+    node.m_linked = false;
+  }
+
+  /**
+   * Moves entries exceeding the window to the probation segment and evicts entries until the maximum weight is
+   * respected. An entry coming from the window (candidate) is only admitted to the main space if it is more popular
+   * than the entry which would be evicted instead (victim).
+   */
+  private void evict() {
+    int candidates = 0;
+    while (m_windowWeight > m_windowMaximum) {
+      Node<K, V> node = m_window.pollFirst();
+      m_windowWeight -= node.m_weight;
+      node.m_queue = PROBATION;
+      m_probation.addLast(node);
+      candidates++;
+    }
+
+    while (m_weightedSize > m_maximumWeight) {
+      Node<K, V> candidate = candidates > 0 ? m_probation.peekLast() : null;
+      Node<K, V> victim = m_probation.peekFirst();
+      if (victim == null || victim == candidate) {
+        victim = m_protected.peekFirst();
+      }
+      if (victim == null) {
+        victim = m_window.peekFirst();
+      }
+
+      if (candidate == null) {
+        if (victim == null) {
+          return;
+        }
+        evictNode(victim);
+      }
+      else if (victim == null || !admit(candidate, victim)) {
+        evictNode(candidate);
+        candidates--;
+      }
+      else {
+        evictNode(victim);
+      }
+    }
+  }
+
+  private boolean admit(Node<K, V> candidate, Node<K, V> victim) {
+    return m_sketch.frequency(candidate.m_key) > m_sketch.frequency(victim.m_key);
+  }
+
+  private void evictNode(Node<K, V> node) {
+    unlink(node);
+    node.m_retired = true;
+    if (m_data.remove(node.m_key, node)) {
+      m_evictionCount.increment();
+      execEntryEvicted(node.m_key, node.m_value);
+    }
+  }
+
+  /**
+   * Entry of the map. Key, value and weight are immutable: every write creates a new node.
+   */
+  private static final class Node<K, V> {
+    private final K m_key;
+    private final V m_value;
+    private final int m_weight;
+    private final long m_writeTime;
+
+    // guarded by m_evictionLock
+    private Node<K, V> m_prev;
+    private Node<K, V> m_next;
+    private int m_queue;
+    private boolean m_linked;
+    private boolean m_retired;
+
+    private Node(K key, V value, int weight, long writeTime) {
+      m_key = key;
+      m_value = value;
+      m_weight = weight;
+      m_writeTime = writeTime;
+    }
+  }
+
+  /**
+   * Doubly linked list of nodes in access order (least recently used first). Not thread safe.
+   */
+  private static final class AccessOrderDeque<K, V> {
+    private Node<K, V> m_first;
+    private Node<K, V> m_last;
+
+    private Node<K, V> peekFirst() {
+      return m_first;
+    }
+
+    private Node<K, V> peekLast() {
+      return m_last;
+    }
+
+    private Node<K, V> pollFirst() {
+      Node<K, V> node = m_first;
+      if (node != null) {
+        remove(node);
+      }
+      return node;
+    }
+
+    private void addLast(Node<K, V> node) {
+      node.m_prev = m_last;
+      node.m_next = null;
+      if (m_last == null) {
+        m_first = node;
+      }
+      else {
+        m_last.m_next = node;
+      }
+      m_last = node;
+    }
+
+    private void remove(Node<K, V> node) {
+      if (node.m_prev == null) {
+        m_first = node.m_next;
+      }
+      else {
+        node.m_prev.m_next = node.m_next;
+      }
+      if (node.m_next == null) {
+        m_last = node.m_prev;
+      }
+      else {
+        node.m_next.m_prev = node.m_prev;
+      }
+      node.m_prev = null;
+      node.m_next = null;
+    }
+
+    private void moveToBack(Node<K, V> node) {
+      if (node != m_last) {
+        remove(node);
+        addLast(node);
+      }
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      Node<K, V> node = m_data.get(e.getKey());
+      return node != null && !isExpired(node) && node.m_value.equals(e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      return WTinyLfuMap.this.remove(e.getKey(), e.getValue());
+    }
+
+    @Override
+    public int size() {
+      return WTinyLfuMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      WTinyLfuMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<Node<K, V>> m_nodeIterator = m_data.values().iterator();
+    private Node<K, V> m_next;
+    private Node<K, V> m_lastReturned;
+
+    private EntryIterator() {
+      advance();
+    }
+
+    private void advance() {
+      m_next = null;
+      while (m_nodeIterator.hasNext()) {
+        Node<K, V> node = m_nodeIterator.next();
+        if (!isExpired(node)) {
+          m_next = node;
+          return;
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return m_next != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (m_next == null) {
+        throw new NoSuchElementException();
+      }
+      m_lastReturned = m_next;
+      advance();
+      return new WriteThroughEntry(m_lastReturned.m_key, m_lastReturned.m_value);
+    }
+
+    @Override
+    public void remove() {
+      if (m_lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      WTinyLfuMap.this.remove(m_lastReturned.m_key, m_lastReturned.m_value);
+      m_lastReturned = null;
+    }
+  }
+
+  private final class WriteThroughEntry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    private WriteThroughEntry(K k, V v) {
+      super(k, v);
+    }
+
+    @Override
+    public V setValue(V value) {
+      V v = super.setValue(value);
+      WTinyLfuMap.this.put(getKey(), value);
+      return v;
+    }
+  }
+}
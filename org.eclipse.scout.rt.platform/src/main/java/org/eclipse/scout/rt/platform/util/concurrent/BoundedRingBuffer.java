@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.concurrent;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Bounded FIFO queue backed by a ring buffer, without locks on the producer and the consumer path.
+ * <p>
+ * Each slot carries a sequence number telling whether it is ready to be written or to be read at a given position.
+ * Producers and consumers claim a position by a CAS on the tail respectively the head counter and publish the slot by
+ * advancing its sequence. Hence concurrent producers do not block each other and a producer does not block the
+ * consumer, except for the short time between claiming and publishing a slot.
+ * <p>
+ * The buffer is intended for many producers and a single consumer, but any number of threads may {@link #poll()}
+ * (e.g. a producer removing the oldest element if the buffer is full). A consumer may wait for elements using
+ * {@link #awaitNotEmpty(long, TimeUnit)}, it is woken up by the next {@link #offer(Object)}.
+ *
+ * @since 23.2
+ */
+public class BoundedRingBuffer<E> {
+
+  private final int m_capacity;
+  private final AtomicReferenceArray<E> m_elements;
+  private final AtomicLongArray m_sequences;
+  private final AtomicLong m_head = new AtomicLong();
+  private final AtomicLong m_tail = new AtomicLong();
+  private final Queue<Thread> m_waiters = new ConcurrentLinkedQueue<>();
+
+  public BoundedRingBuffer(int capacity) {
+    Assertions.assertTrue(capacity > 0, "capacity must be > 0");
+    m_capacity = capacity;
+    m_elements = new AtomicReferenceArray<>(capacity);
+    m_sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      m_sequences.set(i, i);
+    }
+  }
+
+  public int getCapacity() {
+    return m_capacity;
+  }
+
+  /**
+   * Appends the element if the buffer is not full.
+   *
+   * @return <code>true</code> if the element was added, <code>false</code> if the buffer is full
+   */
+  public boolean offer(E element) {
+    Assertions.assertNotNull(element);
+    long pos = m_tail.get();
+    while (true) {
+      int index = index(pos);
+      long dif = m_sequences.get(index) - pos;
+      if (dif == 0) {
+        if (m_tail.compareAndSet(pos, pos + 1)) {
+          m_elements.lazySet(index, element);
+          m_sequences.set(index, pos + 1); // publish
+          signalWaiters();
+          return true;
+        }
+        pos = m_tail.get();
+      }
+      else if (dif < 0) {
+        return false; // slot not yet consumed: full
+      }
+      else {
+        pos = m_tail.get(); // another producer claimed the position
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest element.
+   *
+   * @return the oldest element or <code>null</code> if the buffer is empty
+   */
+  public E poll() {
+    long pos = m_head.get();
+    while (true) {
+      int index = index(pos);
+      long dif = m_sequences.get(index) - (pos + 1);
+      if (dif == 0) {
+        if (m_head.compareAndSet(pos, pos + 1)) {
+          E element = m_elements.get(index);
+          m_elements.lazySet(index, null);
+          m_sequences.set(index, pos + m_capacity); // release the slot for the producer of the next round
+          return element;
+        }
+        pos = m_head.get();
+      }
+      else if (dif < 0) {
+        return null; // slot not yet published: empty
+      }
+      else {
+        pos = m_head.get(); // another consumer claimed the position
+      }
+    }
+  }
+
+  /**
+   * Removes at most <code>maxElements</code> of the oldest elements and adds them to the given collection.
+   *
+   * @return number of elements added to the collection
+   */
+  public int drainTo(Collection<? super E> collection, int maxElements) {
+    int count = 0;
+    while (count < maxElements) {
+      E element = poll();
+      if (element == null) {
+        break;
+      }
+      collection.add(element);
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Waits until an element is available or the timeout elapsed.
+   *
+   * @return <code>true</code> if an element is available, <code>false</code> if the timeout elapsed
+   * @throws InterruptedException
+   *           if the current thread is interrupted while waiting
+   */
+  public boolean awaitNotEmpty(long timeout, TimeUnit unit) throws InterruptedException {
+    if (!isEmpty()) {
+      return true;
+    }
+    final Thread current = Thread.currentThread();
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    m_waiters.add(current);
+    try {
+      // registered before checking again, hence an element published afterwards unparks this thread
+      while (isEmpty()) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+      return true;
+    }
+    finally {
+      m_waiters.remove(current);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the oldest slot holds no published element
+   */
+  public boolean isEmpty() {
+    long pos = m_head.get();
+    return m_sequences.get(index(pos)) != pos + 1;
+  }
+
+  /**
+   * @return the number of elements; is only an estimate while elements are added or removed concurrently
+   */
+  public int size() {
+    long size = m_tail.get() - m_head.get();
+    return (int) Math.max(0, Math.min(size, m_capacity));
+  }
+
+  protected void signalWaiters() {
+    if (m_waiters.isEmpty()) {
+      return;
+    }
+    for (Thread waiter : m_waiters) {
+      LockSupport.unpark(waiter);
+    }
+  }
+
+  protected int index(long pos) {
+    return (int) (pos % m_capacity);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#updateBatch(String, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class BatchExecutionTest {
+
+  @Test
+  public void testUpdateBatch() {
+    SqlServiceMock sql = createSqlServiceMock(2);
+    int[] updateCounts = sql.updateBatch("UPDATE my_table SET s = :state WHERE n = :{names}", new NVPair("state", 7L), new NVPair("names", new String[]{"lorem", "ipsum", "dolor"}));
+    assertArrayEquals(new int[]{1, 1, 1}, updateCounts);
+    assertEquals("Connection.prepareStatement(UPDATE my_table SET s = ? WHERE n = ?)\n"
+        + "PreparedStatement.setObject(1, 7, -5)\n"
+        + "PreparedStatement.setObject(2, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 7, -5)\n"
+        + "PreparedStatement.setObject(2, ipsum, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n"
+        + "PreparedStatement.setObject(1, 7, -5)\n"
+        + "PreparedStatement.setObject(2, dolor, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testUpdateBatchSingleRow() {
+    SqlServiceMock sql = createSqlServiceMock(1000);
+    int[] updateCounts = sql.updateBatch("UPDATE my_table SET s = :state", new NVPair("state", 7L));
+    assertArrayEquals(new int[]{1}, updateCounts);
+    assertEquals("Connection.prepareStatement(UPDATE my_table SET s = ?)\n"
+        + "PreparedStatement.setObject(1, 7, -5)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testUpdateBatchNoRows() {
+    SqlServiceMock sql = createSqlServiceMock(1000);
+    int[] updateCounts = sql.updateBatch("UPDATE my_table SET s = 0 WHERE n = :{names}", new NVPair("names", new String[0]));
+    assertArrayEquals(new int[0], updateCounts);
+    assertEquals("", sql.getProtocol().toString());
+  }
+
+  private static SqlServiceMock createSqlServiceMock(final int batchSize) {
+    SqlServiceMock sql = new SqlServiceMock() {
+      @Override
+      protected int getConfiguredJdbcBatchSize() {
+        return batchSize;
+      }
+    };
+    sql.clearProtocol();
+    return sql;
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.platform.holders.StringHolder;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link BeanSelectRowMapper}
+ */
+@RunWith(PlatformTestRunner.class)
+public class BeanSelectRowMapperTest {
+
+  @Test
+  public void testMapRow() throws SQLException {
+    BeanSelectRowMapper<PersonBean> mapper = new BeanSelectRowMapper<>(PersonBean.class);
+    ResultSet rs = createResultSet("PERSON_NR", "first_name", "Age", "CITY", "UNKNOWN_COLUMN");
+
+    PersonBean bean = mapper.mapRow(rs, new Object[]{42L, "Max", 30L, "Bern", "ignored"});
+    assertEquals(Long.valueOf(42L), bean.getPersonNr());
+    assertEquals("Max", bean.getFirstName());
+    assertEquals(30, bean.getAge());
+    assertEquals("Bern", bean.getCity().getValue());
+
+    // a new bean is created per row
+    PersonBean bean2 = mapper.mapRow(rs, new Object[]{43L, "Moritz", 31L, "Basel", null});
+    assertNotSame(bean, bean2);
+    assertEquals(Long.valueOf(43L), bean2.getPersonNr());
+    assertEquals("Max", bean.getFirstName());
+  }
+
+  @Test
+  public void testNullValues() throws SQLException {
+    BeanSelectRowMapper<PersonBean> mapper = new BeanSelectRowMapper<>(PersonBean.class);
+    PersonBean bean = mapper.mapRow(createResultSet("PERSON_NR", "FIRST_NAME", "AGE", "CITY"), new Object[]{null, null, null, null});
+    assertNull(bean.getPersonNr());
+    assertNull(bean.getFirstName());
+    assertEquals(0, bean.getAge()); // primitive property is not written
+    assertNull(bean.getCity().getValue());
+  }
+
+  @Test
+  public void testColumnsResolvedPerResultSet() throws SQLException {
+    BeanSelectRowMapper<PersonBean> mapper = new BeanSelectRowMapper<>(PersonBean.class);
+    PersonBean bean = mapper.mapRow(createResultSet("PERSON_NR", "FIRST_NAME"), new Object[]{1L, "Max"});
+    assertEquals(Long.valueOf(1L), bean.getPersonNr());
+    assertEquals("Max", bean.getFirstName());
+
+    bean = mapper.mapRow(createResultSet("FIRST_NAME", "PERSON_NR"), new Object[]{"Moritz", 2L});
+    assertEquals(Long.valueOf(2L), bean.getPersonNr());
+    assertEquals("Moritz", bean.getFirstName());
+  }
+
+  private static ResultSet createResultSet(String... columnLabels) {
+    ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(BeanSelectRowMapperTest.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getColumnCount":
+          return columnLabels.length;
+        case "getColumnLabel":
+          return columnLabels[(Integer) args[0] - 1];
+        default:
+          throw new UnsupportedOperationException(method.getName());
+      }
+    });
+    return (ResultSet) Proxy.newProxyInstance(BeanSelectRowMapperTest.class.getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+      if ("getMetaData".equals(method.getName())) {
+        return meta;
+      }
+      throw new UnsupportedOperationException(method.getName());
+    });
+  }
+
+  public static class PersonBean {
+    private Long m_personNr;
+    private String m_firstName;
+    private int m_age;
+    private final StringHolder m_city = new StringHolder();
+
+    public Long getPersonNr() {
+      return m_personNr;
+    }
+
+    public void setPersonNr(Long personNr) {
+      m_personNr = personNr;
+    }
+
+    public String getFirstName() {
+      return m_firstName;
+    }
+
+    public void setFirstName(String firstName) {
+      m_firstName = firstName;
+    }
+
+    public int getAge() {
+      return m_age;
+    }
+
+    public void setAge(int age) {
+      m_age = age;
+    }
+
+    public StringHolder getCity() {
+      return m_city;
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.ConnectionMock;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for the read replica routing of {@link AbstractSqlService}
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class ReadReplicaRoutingTest {
+
+  @Test
+  public void testNotRoutedWithoutReplica() throws Exception {
+    SqlServiceMock sql = new SqlServiceMock();
+    assertFalse(sql.isReadReplicaEnabled());
+    assertFalse(RunContexts.copyCurrent().withProperty(AbstractSqlService.PROP_READ_ONLY, true).call(sql::isReadReplicaRouted));
+  }
+
+  @Test
+  public void testRoutedInReadOnlyRunContext() throws Exception {
+    SqlServiceMock sql = new P_ReadReplicaSqlService();
+    assertTrue(sql.isReadReplicaEnabled());
+    assertFalse(sql.isReadReplicaRouted());
+    assertTrue(RunContexts.copyCurrent().withProperty(AbstractSqlService.PROP_READ_ONLY, true).call(sql::isReadReplicaRouted));
+  }
+
+  @Test
+  public void testRoutedByAnnotation() {
+    SqlServiceMock sql = new P_AnnotatedReadReplicaSqlService();
+    assertTrue(sql.isReadReplicaRouted());
+  }
+
+  @Test
+  public void testFallbackToPrimaryIfReplicaIsDown() {
+    SqlServiceMock sql = new P_AnnotatedReadReplicaSqlService();
+    try {
+      // the replica driver is not available
+      assertNull(sql.getReadReplicaTransaction());
+      assertFalse(sql.isReadReplicaRouted());
+      assertFalse(sql.checkReadReplica());
+    }
+    finally {
+      sql.destroySqlConnectionPool();
+    }
+  }
+
+  @Test
+  public void testSelectOnReplica() throws Exception {
+    StringBuffer replicaProtocol = new StringBuffer();
+    Connection replicaConnection = mock(Connection.class, delegatesTo(new ConnectionMock(replicaProtocol, new Object[][]{{1L, "a"}}).getConnection()));
+    SqlConnectionPool replicaPool = mock(SqlConnectionPool.class);
+    when(replicaPool.leaseConnection(any())).thenReturn(replicaConnection);
+    SqlServiceMock sql = new P_ReadReplicaSqlService() {
+      @Override
+      protected SqlConnectionPool getReadReplicaConnectionPool() {
+        return replicaPool;
+      }
+    };
+
+    Object[][] data = RunContexts.copyCurrent()
+        .withTransactionScope(TransactionScope.REQUIRES_NEW)
+        .withProperty(AbstractSqlService.PROP_READ_ONLY, true)
+        .call(() -> sql.selectLimited("SELECT ID, NAME FROM PERSON", 10));
+
+    assertArrayEquals(new Object[][]{{1L, "a"}}, data);
+    assertTrue(replicaProtocol.toString().contains("SELECT ID, NAME FROM PERSON"));
+    assertEquals("", sql.getProtocol().toString());
+    verify(replicaPool).leaseConnection(sql);
+    verify(replicaConnection).commit();
+    verify(replicaConnection, never()).rollback();
+    verify(replicaPool).releaseConnection(replicaConnection);
+  }
+
+  @Test
+  public void testReadReplicaTransactionHooks() throws Exception {
+    StringBuffer replicaProtocol = new StringBuffer();
+    Connection replicaConnection = new ConnectionMock(replicaProtocol, new Object[][]{{1L, "a"}}).getConnection();
+    List<String> hookCalls = new ArrayList<>();
+    SqlServiceMock sql = new P_ReadReplicaSqlService() {
+      @Override
+      protected Connection execCreateReadReplicaConnection() {
+        hookCalls.add("create");
+        return replicaConnection;
+      }
+
+      @Override
+      protected void execReleaseReadReplicaConnection(Connection conn) {
+        hookCalls.add("release:" + (conn == replicaConnection));
+      }
+
+      @Override
+      protected void execBeginTransaction() {
+        hookCalls.add("beginPrimary");
+      }
+
+      @Override
+      protected void execBeginReadReplicaTransaction(Connection conn) {
+        hookCalls.add("begin:" + (conn == replicaConnection));
+      }
+
+      @Override
+      protected void execEndReadReplicaTransaction(Connection conn, boolean willBeCommitted) {
+        hookCalls.add("end:" + willBeCommitted);
+      }
+    };
+
+    RunContexts.copyCurrent()
+        .withTransactionScope(TransactionScope.REQUIRES_NEW)
+        .withProperty(AbstractSqlService.PROP_READ_ONLY, true)
+        .call(() -> sql.selectLimited("SELECT ID, NAME FROM PERSON", 10));
+
+    assertEquals(Arrays.asList("create", "begin:true", "end:true", "release:true"), hookCalls);
+    assertEquals("", sql.getProtocol().toString());
+  }
+
+  /**
+   * Setup done in the hooks of the primary database would be missing on the read replica.
+   */
+  @Test
+  public void testNotRoutedIfOnlyPrimaryHookOverridden() {
+    SqlServiceMock sql = new P_AnnotatedReadReplicaSqlService() {
+      @Override
+      protected void execBeginTransaction() {
+        // e.g. set the database session context of the current user
+      }
+    };
+    assertTrue(sql.isReadReplicaEnabled());
+    assertFalse(sql.isReadReplicaRouted());
+  }
+
+  @Test
+  public void testFallbackToPrimaryIfReplicaPoolExhausted() throws Exception {
+    SqlConnectionPool replicaPool = mock(SqlConnectionPool.class);
+    when(replicaPool.leaseConnection(any())).thenThrow(new SQLTransientConnectionException("Timeout while leasing database connection"));
+    SqlServiceMock sql = new P_AnnotatedReadReplicaSqlService() {
+      @Override
+      protected SqlConnectionPool getReadReplicaConnectionPool() {
+        return replicaPool;
+      }
+    };
+
+    assertNull(sql.getReadReplicaTransaction());
+    // the replica is not marked down
+    assertTrue(sql.isReadReplicaRouted());
+  }
+
+  private static class P_ReadReplicaSqlService extends SqlServiceMock {
+
+    @Override
+    protected String getConfiguredJdbcDriverName() {
+      return "org.eclipse.scout.rt.server.jdbc.NotExistingDriver";
+    }
+
+    @Override
+    protected String getConfiguredReadReplicaJdbcMappingName() {
+      return "jdbc:replica:mock";
+    }
+  }
+
+  @ReadReplica
+  private static class P_AnnotatedReadReplicaSqlService extends P_ReadReplicaSqlService {
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.shared.services.common.jdbc.KeysetToken;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectKeysetPage(String, String[], boolean[], KeysetToken, int, Object...)} (using the
+ * mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SelectKeysetPageTest {
+
+  private static final String[] KEY_COLUMNS = {"GROUP_NR", "ID"};
+
+  private static final Object[][] RESULT_DATA = new Object[][]{
+      {"lorem", 1L, 10L},
+      {"ipsum", 1L, 11L},
+      {"dolor", 2L, 12L}};
+
+  @Test
+  public void testFirstPageWithNextPage() {
+    SqlServiceMock sql = createSqlServiceMock();
+    KeysetPage page = sql.selectKeysetPage("SELECT NAME, GROUP_NR, ID FROM T", KEY_COLUMNS, null, null, 2);
+
+    assertEquals(2, page.getRows().length);
+    assertArrayEquals(RESULT_DATA[0], page.getRows()[0]);
+    assertArrayEquals(RESULT_DATA[1], page.getRows()[1]);
+    assertTrue(page.hasNextPage());
+    // key values of the last row of the page, taken from the key columns of the result
+    assertEquals(new KeysetToken(1L, 11L), page.getNextToken());
+
+    String protocol = sql.getProtocol().toString();
+    // one more row is selected to detect the last page
+    assertTrue(protocol.contains("ORDER BY GROUP_NR ASC, ID ASC FETCH FIRST 3 ROWS ONLY"));
+    assertFalse(protocol.contains("KEYSET_PAGE WHERE"));
+  }
+
+  @Test
+  public void testLastPage() {
+    SqlServiceMock sql = createSqlServiceMock();
+    KeysetPage page = sql.selectKeysetPage("SELECT NAME, GROUP_NR, ID FROM T", KEY_COLUMNS, null, null, 3);
+
+    assertEquals(3, page.getRows().length);
+    assertFalse(page.hasNextPage());
+    assertNull(page.getNextToken());
+  }
+
+  @Test
+  public void testNextPageBindsToken() {
+    SqlServiceMock sql = createSqlServiceMock();
+    KeysetPage page = sql.selectKeysetPage("SELECT NAME, GROUP_NR, ID FROM T WHERE NAME <> :name", KEY_COLUMNS, null, new KeysetToken(1L, 9L), 2, new NVPair("name", "sit"));
+
+    assertEquals(new KeysetToken(1L, 11L), page.getNextToken());
+    String protocol = sql.getProtocol().toString();
+    assertTrue(protocol.contains("KEYSET_PAGE WHERE ((GROUP_NR>"));
+    assertTrue(protocol.contains("PreparedStatement.setObject(1, sit, 12)"));
+    // (GROUP_NR > :key0) OR (GROUP_NR = :key0 AND ID > :key1)
+    assertTrue(protocol.contains("PreparedStatement.setObject(2, 1, -5)"));
+    assertTrue(protocol.contains("PreparedStatement.setObject(3, 1, -5)"));
+    assertTrue(protocol.contains("PreparedStatement.setObject(4, 9, -5)"));
+  }
+
+  @Test
+  public void testTokenNotMatchingKeyColumns() {
+    SqlServiceMock sql = createSqlServiceMock();
+    assertThrows(AssertionException.class, () -> sql.selectKeysetPage("SELECT NAME, GROUP_NR, ID FROM T", KEY_COLUMNS, null, new KeysetToken(1L), 2));
+    assertEquals("", sql.getProtocol().toString());
+  }
+
+  private static SqlServiceMock createSqlServiceMock() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(RESULT_DATA);
+    sql.setResultColumnNames("NAME", "GROUP_NR", "ID");
+    sql.clearProtocol();
+    return sql;
+  }
+}
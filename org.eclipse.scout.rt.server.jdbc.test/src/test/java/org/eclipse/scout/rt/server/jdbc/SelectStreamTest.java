@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectStream(String, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SelectStreamTest {
+
+  private static final Object[][] RESULT_DATA = new Object[][]{
+      {1L, "lorem"},
+      {2L, "ipsum"},
+      {3L, "dolor"}};
+
+  @Test
+  public void testSelectStream() {
+    SqlServiceMock sql = createSqlServiceMock();
+    try (Stream<Object[]> rows = sql.selectStream("SELECT a, b FROM my_table")) {
+      List<Object[]> list = rows.collect(Collectors.toList());
+      assertEquals(3, list.size());
+      for (int i = 0; i < RESULT_DATA.length; i++) {
+        assertArrayEquals(RESULT_DATA[i], list.get(i));
+      }
+    }
+    assertTrue(sql.getProtocol().toString().contains("ResultSet.close()"));
+  }
+
+  @Test
+  public void testSelectStreamIsLazy() {
+    SqlServiceMock sql = createSqlServiceMock();
+    try (Stream<Object[]> rows = sql.selectStream("SELECT a, b FROM my_table")) {
+      assertEquals("", sql.getProtocol().toString());
+      Iterator<Object[]> it = rows.iterator();
+      assertArrayEquals(RESULT_DATA[0], it.next());
+      String protocol = sql.getProtocol().toString();
+      assertTrue(protocol.startsWith("Connection.prepareStatement(SELECT a, b FROM my_table)\n"));
+      assertFalse(protocol.contains("ResultSet.close()"));
+    }
+    // closing the stream releases the cursor even if not all rows were consumed
+    assertTrue(sql.getProtocol().toString().contains("ResultSet.close()"));
+  }
+
+  @Test
+  public void testSelectStreamWithMapper() {
+    SqlServiceMock sql = createSqlServiceMock();
+    try (Stream<String> rows = sql.selectStream("SELECT a, b FROM my_table", (rs, row) -> row[0] + ":" + row[1])) {
+      assertEquals("1:lorem,2:ipsum,3:dolor", rows.collect(Collectors.joining(",")));
+    }
+  }
+
+  @Test
+  public void testSelectStreamWithMapperReturningNull() {
+    SqlServiceMock sql = createSqlServiceMock();
+    try (Stream<String> rows = sql.selectStream("SELECT a, b FROM my_table", (rs, row) -> (Long) row[0] == 2L ? null : (String) row[1])) {
+      Iterator<String> it = rows.iterator();
+      assertEquals("lorem", it.next());
+      assertThrows(PlatformException.class, it::next);
+    }
+    assertTrue(sql.getProtocol().toString().contains("ResultSet.close()"));
+  }
+
+  private static SqlServiceMock createSqlServiceMock() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(RESULT_DATA);
+    sql.clearProtocol();
+    return sql;
+  }
+}
@@ -17,14 +17,20 @@ import java.sql.Connection;
 public class ConnectionMock extends VerboseMock implements InvocationHandler {
   private final Connection m_conn;
   private final Object[][] m_resultData;
+  private final String[] m_resultColumnNames;
 
   public ConnectionMock(StringBuffer protocol) {
     this(protocol, null);
   }
 
   public ConnectionMock(StringBuffer protocol, Object[][] resultData) {
+    this(protocol, resultData, null);
+  }
+
+  public ConnectionMock(StringBuffer protocol, Object[][] resultData, String[] resultColumnNames) {
     super(protocol);
     m_resultData = resultData;
+    m_resultColumnNames = resultColumnNames;
     m_conn = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, this);
   }
 
@@ -37,7 +43,7 @@ public class ConnectionMock extends VerboseMock implements InvocationHandler {
     String mname = method.getName();
     if ("prepareStatement".equals(mname)) {
       log(Connection.class, mname, args);
-      return new PreparedStatementMock(getProtocol(), m_resultData).getPreparedStatement();
+      return new PreparedStatementMock(getProtocol(), m_resultData, m_resultColumnNames).getPreparedStatement();
     }
     return null;
   }
@@ -15,18 +15,27 @@ import java.lang.reflect.Proxy;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLWarning;
+import java.util.Arrays;
 
 public class PreparedStatementMock extends VerboseMock implements InvocationHandler/*, java.sql.PreparedStatement*/ {
   private final PreparedStatement m_ps;
   private final Object[][] m_resultData;
+  private final String[] m_resultColumnNames;
+  private int m_batchCount;
+  private int m_fetchSize;
 
   public PreparedStatementMock(StringBuffer protocol) {
     this(protocol, null);
   }
 
   public PreparedStatementMock(StringBuffer protocol, Object[][] resultData) {
+    this(protocol, resultData, null);
+  }
+
+  public PreparedStatementMock(StringBuffer protocol, Object[][] resultData, String[] resultColumnNames) {
     super(protocol);
     m_resultData = resultData;
+    m_resultColumnNames = resultColumnNames;
     m_ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, this);
   }
 
@@ -37,7 +46,7 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     String mname = method.getName();
-    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
+    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || mname.endsWith("Batch") || mname.matches("set[a-zA-Z0-9]+")) {
       log(PreparedStatement.class, mname, args);
     }
     //generic setter
@@ -75,10 +84,33 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   }
 
   public ResultSet executeQuery() {
-    return new ResultSetMock(getProtocol(), m_resultData).getResultSet();
+    return new ResultSetMock(getProtocol(), m_resultData, m_resultColumnNames).getResultSet();
   }
 
   public int executeUpdate() {
     return 0;
   }
+
+  public int getFetchSize() {
+    return m_fetchSize;
+  }
+
+  public void setFetchSize(int rows) {
+    m_fetchSize = rows;
+  }
+
+  public void addBatch() {
+    m_batchCount++;
+  }
+
+  public void clearBatch() {
+    m_batchCount = 0;
+  }
+
+  public int[] executeBatch() {
+    int[] updateCounts = new int[m_batchCount];
+    Arrays.fill(updateCounts, 1);
+    m_batchCount = 0;
+    return updateCounts;
+  }
 }
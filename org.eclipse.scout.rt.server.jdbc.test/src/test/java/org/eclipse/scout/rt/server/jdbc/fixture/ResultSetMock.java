@@ -14,6 +14,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.SQLWarning;
 
 /**
@@ -24,6 +25,7 @@ public class ResultSetMock extends VerboseMock implements InvocationHandler /*,
   private final ResultSet m_rs;
   private final ResultSetMetaData m_rsMeta;
   private Object[][] m_resultData;
+  private final String[] m_columnNames;
   private int m_row = -1;
   private boolean m_wasNull;
 
@@ -32,8 +34,17 @@ public class ResultSetMock extends VerboseMock implements InvocationHandler /*,
   }
 
   public ResultSetMock(StringBuffer protocol, Object[][] resultData) {
+    this(protocol, resultData, null);
+  }
+
+  /**
+   * @param columnNames
+   *          names of the result columns, used by {@link ResultSet#findColumn(String)}
+   */
+  public ResultSetMock(StringBuffer protocol, Object[][] resultData, String[] columnNames) {
     super(protocol);
     m_resultData = resultData;
+    m_columnNames = columnNames;
     m_rs = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class}, this);
     m_rsMeta = new ResultSetMetaDataMock(resultData).getResultSetMetaData();
   }
@@ -93,6 +104,17 @@ public class ResultSetMock extends VerboseMock implements InvocationHandler /*,
     return o;
   }
 
+  public int findColumn(String columnLabel) throws SQLException {
+    if (m_columnNames != null) {
+      for (int i = 0; i < m_columnNames.length; i++) {
+        if (m_columnNames[i].equalsIgnoreCase(columnLabel)) {
+          return i + 1;
+        }
+      }
+    }
+    throw new SQLException("Invalid column name " + columnLabel);
+  }
+
   public ResultSetMetaData getMetaData() {
     return m_rsMeta;
   }
@@ -10,9 +10,11 @@
 package org.eclipse.scout.rt.server.jdbc.fixture;
 
 import java.sql.Connection;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.ISelectRowMapper;
 import org.eclipse.scout.rt.server.jdbc.SQL;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
@@ -24,6 +26,7 @@ public class SqlServiceMock extends AbstractSqlService {
 
   private final StringBuffer m_protocol;
   private Object[][] m_resultData;
+  private String[] m_resultColumnNames;
 
   public SqlServiceMock() {
     m_protocol = new StringBuffer();
@@ -48,6 +51,13 @@ public class SqlServiceMock extends AbstractSqlService {
     return m_resultData;
   }
 
+  /**
+   * set the column names of the data returned by any query, used by {@link java.sql.ResultSet#findColumn(String)}
+   */
+  public void setResultColumnNames(String... resultColumnNames) {
+    m_resultColumnNames = resultColumnNames;
+  }
+
   private void createPlainTextLog(String s, Object... bindBases) {
     if (logger.isInfoEnabled()) {
       String plainTextSql = SQL.createPlainText(s, bindBases);
@@ -83,14 +93,25 @@ public class SqlServiceMock extends AbstractSqlService {
     createStatementProcessor(s, bindBases, 0).processSelectInto(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public <T> Stream<T> selectStream(String s, ISelectRowMapper<T> mapper, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectStream(getTransaction(), new PreparedStatementCache(1), mapper);
+  }
+
   @Override
   public int update(String s, Object... bindBases) {
     createPlainTextLog(s, bindBases);
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    createPlainTextLog(s, bindBases);
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), new PreparedStatementCache(1), null, getJdbcBatchSize());
+  }
+
   @Override
   protected Connection getTransaction() {
-    return new ConnectionMock(m_protocol, getResultData()).getConnection();
+    return new ConnectionMock(m_protocol, getResultData(), m_resultColumnNames).getConnection();
   }
 }
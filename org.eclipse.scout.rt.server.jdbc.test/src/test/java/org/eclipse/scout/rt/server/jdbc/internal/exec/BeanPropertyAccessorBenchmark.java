@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.BeanPropertyAccessorTest.Bean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the lookup and invocation of a bean getter and setter (as done for every bean bind of a statement) using
+ * {@link BeanUtility#getFastBeanInfo(Class, Class)} and reflection with {@link BeanPropertyAccessor}.
+ * <p>
+ * Each thread uses its own bean, but all threads share the bean info cache respectively the accessors bound per bean
+ * class: {@link #main(String[])} runs the benchmarks with 8 threads as well to include concurrent lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanPropertyAccessorBenchmark {
+
+  private final Bean m_bean = new Bean();
+
+  @Benchmark
+  public Object reflection() throws ReflectiveOperationException {
+    FastPropertyDescriptor desc = BeanUtility.getFastBeanInfo(m_bean.getClass(), null).getPropertyDescriptor("name");
+    desc.getWriteMethod().invoke(m_bean, "lorem");
+    return desc.getReadMethod().invoke(m_bean);
+  }
+
+  @Benchmark
+  public Object accessor() {
+    BeanPropertyAccessor accessor = BeanPropertyAccessor.get(m_bean.getClass(), "name");
+    accessor.setValue(m_bean, "lorem");
+    return accessor.getValue(m_bean);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[]{1, 8}) {
+      new Runner(new OptionsBuilder()
+          .include(BeanPropertyAccessorBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build())
+          .run();
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BeanPropertyAccessor}
+ */
+public class BeanPropertyAccessorTest {
+
+  @Test
+  public void testReadWrite() {
+    Bean bean = new Bean();
+    BeanPropertyAccessor name = BeanPropertyAccessor.get(Bean.class, "name");
+    assertEquals(String.class, name.getPropertyType());
+    name.setValue(bean, "lorem");
+    assertEquals("lorem", bean.getName());
+    assertEquals("lorem", name.getValue(bean));
+  }
+
+  @Test
+  public void testPrimitiveProperties() {
+    Bean bean = new Bean();
+    BeanPropertyAccessor count = BeanPropertyAccessor.get(Bean.class, "count");
+    assertEquals(int.class, count.getPropertyType());
+    count.setValue(bean, 42);
+    assertEquals(Integer.valueOf(42), count.getValue(bean));
+
+    BeanPropertyAccessor active = BeanPropertyAccessor.get(Bean.class, "active");
+    active.setValue(bean, Boolean.TRUE);
+    assertEquals(Boolean.TRUE, active.getValue(bean));
+  }
+
+  @Test
+  public void testReadOnlyProperty() {
+    BeanPropertyAccessor readOnly = BeanPropertyAccessor.get(Bean.class, "readOnly");
+    assertTrue(readOnly.isReadable());
+    assertFalse(readOnly.isWritable());
+    assertEquals("constant", readOnly.getValue(new Bean()));
+    assertThrows(ProcessingException.class, () -> readOnly.setValue(new Bean(), "x"));
+  }
+
+  @Test
+  public void testInheritedFromNonPublicClass() {
+    BeanPropertyAccessor id = BeanPropertyAccessor.get(SubBean.class, "id");
+    SubBean bean = new SubBean();
+    id.setValue(bean, 7L);
+    assertEquals(Long.valueOf(7L), id.getValue(bean));
+  }
+
+  @Test
+  public void testUnknownProperty() {
+    assertNull(BeanPropertyAccessor.get(Bean.class, "unknown"));
+    assertNull(BeanPropertyAccessor.get(Bean.class, null));
+    assertNull(BeanPropertyAccessor.get(null, "name"));
+  }
+
+  @Test
+  public void testCached() {
+    assertSame(BeanPropertyAccessor.get(Bean.class, "name"), BeanPropertyAccessor.get(Bean.class, "name"));
+  }
+
+  public static class Bean {
+    private String m_name;
+    private int m_count;
+    private boolean m_active;
+
+    public String getName() {
+      return m_name;
+    }
+
+    public void setName(String name) {
+      m_name = name;
+    }
+
+    public int getCount() {
+      return m_count;
+    }
+
+    public void setCount(int count) {
+      m_count = count;
+    }
+
+    public boolean isActive() {
+      return m_active;
+    }
+
+    public void setActive(boolean active) {
+      m_active = active;
+    }
+
+    public String getReadOnly() {
+      return "constant";
+    }
+  }
+
+  static class AbstractBean {
+    private Long m_id;
+
+    public Long getId() {
+      return m_id;
+    }
+
+    public void setId(Long id) {
+      m_id = id;
+    }
+  }
+
+  public static class SubBean extends AbstractBean {
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.eclipse.scout.rt.server.jdbc.ColumnarResult;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ResultRowDecoder.ColumnarAccumulator;
+import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test for {@link ResultRowDecoder}
+ */
+public class ResultRowDecoderTest {
+
+  @Test
+  public void testReadRow() throws SQLException {
+    ResultSet rs = mockResultSet();
+    Mockito.when(rs.getLong(1)).thenReturn(7L);
+    Mockito.when(rs.getDouble(2)).thenReturn(2.5d);
+    Mockito.when(rs.getString(3)).thenReturn("lorem");
+
+    ResultRowDecoder decoder = ResultRowDecoder.create(new OracleSqlStyle(), rs);
+    assertTrue(decoder.isDecoderOf(rs));
+    assertFalse(decoder.isDecoderOf(mockResultSet()));
+    assertEquals(3, decoder.getColumnCount());
+    assertEquals(Types.BIGINT, decoder.getColumnType(0));
+    assertArrayEquals(new Object[]{7L, 2.5d, "lorem"}, decoder.readRow(rs));
+    // metadata is only read once
+    Mockito.verify(rs, Mockito.times(1)).getMetaData();
+  }
+
+  @Test
+  public void testColumnar() throws SQLException {
+    ResultSet rs = mockResultSet();
+    ResultRowDecoder decoder = ResultRowDecoder.create(new OracleSqlStyle(), rs);
+    ColumnarAccumulator accumulator = decoder.createColumnarAccumulator();
+    int rowCount = 100; // more than the initial capacity
+    for (int i = 0; i < rowCount; i++) {
+      boolean nullRow = i % 10 == 0;
+      Mockito.when(rs.getLong(1)).thenReturn(nullRow ? 0L : i);
+      Mockito.when(rs.getDouble(2)).thenReturn(i / 2d);
+      Mockito.when(rs.getString(3)).thenReturn("row" + i);
+      Mockito.when(rs.wasNull()).thenReturn(nullRow, false, false);
+      accumulator.addRow(decoder, rs);
+    }
+
+    ColumnarResult result = accumulator.toColumnarResult();
+    assertEquals(rowCount, result.getRowCount());
+    assertEquals(3, result.getColumnCount());
+    assertEquals(Types.DOUBLE, result.getColumnType(1));
+    for (int i = 0; i < rowCount; i++) {
+      boolean nullRow = i % 10 == 0;
+      assertEquals(nullRow, result.isNull(i, 0));
+      assertEquals(nullRow ? null : Long.valueOf(i), result.getObject(i, 0));
+      assertEquals(nullRow ? 0L : i, result.getLong(i, 0));
+      assertEquals(i / 2d, result.getDouble(i, 1), 0d);
+      assertEquals(i / 2d, result.getDoubleColumn(1)[i], 0d);
+      assertEquals("row" + i, result.getObject(i, 2));
+    }
+    assertArrayEquals(new Object[]{99L, 49.5d, "row99"}, result.toRows()[99]);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testColumnarRowOutOfBounds() throws SQLException {
+    ResultSet rs = mockResultSet();
+    ResultRowDecoder decoder = ResultRowDecoder.create(new OracleSqlStyle(), rs);
+    decoder.createColumnarAccumulator().toColumnarResult().getLong(0, 0);
+  }
+
+  private static ResultSet mockResultSet() throws SQLException {
+    ResultSetMetaData meta = Mockito.mock(ResultSetMetaData.class);
+    Mockito.when(meta.getColumnCount()).thenReturn(3);
+    Mockito.when(meta.getColumnType(1)).thenReturn(Types.BIGINT);
+    Mockito.when(meta.getColumnType(2)).thenReturn(Types.DOUBLE);
+    Mockito.when(meta.getColumnType(3)).thenReturn(Types.VARCHAR);
+    ResultSet rs = Mockito.mock(ResultSet.class);
+    Mockito.when(rs.getMetaData()).thenReturn(meta);
+    return rs;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.server.jdbc.internal.exec.SqlStatementMetrics.Fingerprint;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link SqlStatementMetrics}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlStatementMetricsTest {
+
+  @Test
+  public void testNormalize() {
+    SqlStatementMetrics metrics = new SqlStatementMetrics();
+    assertEquals("select a, b from t1 where x = ? and y = ? and z in (?)",
+        metrics.normalize("SELECT a, b FROM t1 WHERE x = 'it''s' AND y = 12.5 -- comment\n AND z IN (?, ?,?)"));
+    assertEquals("update t set a=? where id=?", metrics.normalize("/* hint */ update  T set A=?\n\twhere id=42"));
+    assertEquals("", metrics.normalize("  "));
+  }
+
+  @Test
+  public void testFingerprint() {
+    SqlStatementMetrics metrics = new SqlStatementMetrics();
+    Fingerprint fingerprint = metrics.getFingerprint("SELECT a FROM t WHERE b IN (?, ?)");
+    assertEquals("SELECT", fingerprint.getOperation());
+    assertEquals(fingerprint.getId(), metrics.getFingerprint("select a\nfrom t where b in (?,?,?,?)").getId());
+    assertNotEquals(fingerprint.getId(), metrics.getFingerprint("SELECT a FROM t WHERE c IN (?, ?)").getId());
+    assertEquals("unknown", metrics.getFingerprint("").getOperation());
+  }
+}
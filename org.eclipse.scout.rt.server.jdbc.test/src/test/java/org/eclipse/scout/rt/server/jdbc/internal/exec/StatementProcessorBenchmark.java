@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.holders.LongHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.holders.StringHolder;
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the construction of a {@link StatementProcessor} (parsing of the statement and resolving of the binds) for
+ * typical statements with and without {@link ParsedStatementCache}.
+ * <p>
+ * {@link #main(String[])} also runs the benchmarks with 8 threads which look up the same entries of the shared
+ * {@link ParsedStatementCache} concurrently.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatementProcessorBenchmark {
+
+  private static final String SELECT = ""
+      + "SELECT P.PERSON_NR, P.NAME, P.FIRST_NAME, P.BIRTHDAY "
+      + "FROM PERSON P "
+      + "WHERE P.COMPANY_NR = :companyNr "
+      + "AND P.NAME LIKE :name "
+      + "AND P.STATUS IN (1, 2, 3) "
+      + "ORDER BY P.NAME";
+
+  private static final String SELECT_INTO = ""
+      + "SELECT P.NAME, P.FIRST_NAME "
+      + "FROM PERSON P "
+      + "WHERE P.PERSON_NR = :personNr "
+      + "INTO :lastName, :firstName";
+
+  private static final String UPDATE = ""
+      + "UPDATE PERSON "
+      + "SET NAME = :lastName, "
+      + "FIRST_NAME = :firstName, "
+      + "MODIFIED = SYSDATE "
+      + "WHERE PERSON_NR = :personNr";
+
+  @Param({"true", "false"})
+  public boolean m_cached;
+
+  private AbstractSqlService m_sqlService;
+  private IBean<?> m_cacheBean;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // starts the platform
+    Platform.get();
+    if (!m_cached) {
+      m_cacheBean = BEANS.getBeanManager().registerBean(new BeanMetaData(ParsedStatementCache.class, new ParsedStatementCache(0)).withOrder(-10_000));
+    }
+    m_sqlService = new AbstractSqlService() {
+    };
+    BeanInstanceUtil.initializeBeanInstance(m_sqlService);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (m_cacheBean != null) {
+      BEANS.getBeanManager().unregisterBean(m_cacheBean);
+      m_cacheBean = null;
+    }
+  }
+
+  @Benchmark
+  public StatementProcessor select() {
+    return new StatementProcessor(m_sqlService, SELECT, new Object[]{
+        new NVPair("companyNr", 4711L),
+        new NVPair("name", "M%")});
+  }
+
+  @Benchmark
+  public StatementProcessor selectInto() {
+    return new StatementProcessor(m_sqlService, SELECT_INTO, new Object[]{
+        new NVPair("personNr", 42L),
+        new NVPair("lastName", new StringHolder()),
+        new NVPair("firstName", new StringHolder())});
+  }
+
+  @Benchmark
+  public StatementProcessor update() {
+    return new StatementProcessor(m_sqlService, UPDATE, new Object[]{
+        new NVPair("personNr", new LongHolder(42L)),
+        new NVPair("lastName", "Muster"),
+        new NVPair("firstName", "Max")});
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[]{1, 8}) {
+      new Runner(new OptionsBuilder()
+          .include(StatementProcessorBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build())
+          .run();
+    }
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link SqlConnectionPool}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolTest {
+
+  private static final long LIFETIME = TimeUnit.HOURS.toMillis(1);
+
+  private AbstractSqlService m_service;
+  private P_SqlConnectionPool m_pool;
+  private ExecutorService m_executor;
+
+  @Before
+  public void before() {
+    m_service = new P_SqlService();
+    m_pool = new P_SqlConnectionPool();
+    m_executor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void after() {
+    m_executor.shutdownNow();
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testConcurrentLeaseAndRelease() throws Exception {
+    m_pool.initialize("test", 3, 0, LIFETIME, LIFETIME, 10_000);
+    Set<Connection> leased = ConcurrentHashMap.newKeySet();
+    AtomicInteger maxLeased = new AtomicInteger();
+
+    List<Future<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(m_executor.submit((Callable<Void>) () -> {
+        for (int j = 0; j < 50; j++) {
+          Connection conn = m_pool.leaseConnection(m_service);
+          assertTrue("connection leased twice", leased.add(conn));
+          maxLeased.accumulateAndGet(leased.size(), Math::max);
+          Thread.yield();
+          leased.remove(conn);
+          m_pool.releaseConnection(conn);
+        }
+        return null;
+      }));
+    }
+    for (Future<Void> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+
+    assertTrue(maxLeased.get() <= 3);
+    assertTrue(m_pool.getCreated().size() <= 3);
+    assertEquals(m_pool.getCreated().size(), m_pool.countEntries(PoolEntry.STATE_IDLE));
+    assertEquals(0, m_pool.countEntries(PoolEntry.STATE_BUSY));
+  }
+
+  @Test
+  public void testWaitForReleasedConnection() throws Exception {
+    m_pool.initialize("test", 1, 0, LIFETIME, LIFETIME, 0);
+    Connection conn = m_pool.leaseConnection(m_service);
+
+    Future<Connection> waiting = m_executor.submit(() -> m_pool.leaseConnection(m_service));
+    Thread.sleep(100);
+    assertFalse(waiting.isDone());
+
+    m_pool.releaseConnection(conn);
+    assertSame(conn, waiting.get(10, TimeUnit.SECONDS));
+    assertEquals(1, m_pool.getCreated().size());
+  }
+
+  @Test
+  public void testLeaseTimeout() throws Exception {
+    m_pool.initialize("test", 1, 0, LIFETIME, LIFETIME, 100);
+    Connection conn = m_pool.leaseConnection(m_service);
+
+    long start = System.nanoTime();
+    assertThrows(SQLTransientConnectionException.class, () -> m_pool.leaseConnection(m_service));
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+
+    // the pool is still usable
+    m_pool.releaseConnection(conn);
+    assertSame(conn, m_pool.leaseConnection(m_service));
+  }
+
+  @Test
+  public void testBusyTimeout() throws Exception {
+    m_pool.initialize("test", 1, 0, LIFETIME, 1_000, 10_000);
+    Connection first = m_pool.leaseConnection(m_service);
+    Thread.sleep(1_100);
+
+    // the busy connection is closed and its permit is released when the pool is managed by the next lease
+    Connection second = m_pool.leaseConnection(m_service);
+    assertNotSame(first, second);
+    waitUntil(() -> m_pool.getClosed().contains(first));
+    assertEquals(1, m_pool.countEntries(PoolEntry.STATE_BUSY));
+
+    // releasing the timed out connection does not add it to the pool again
+    m_pool.releaseConnection(first);
+    m_pool.releaseConnection(second);
+    assertEquals(1, m_pool.countEntries(PoolEntry.STATE_IDLE));
+    assertSame(second, m_pool.leaseConnection(m_service));
+  }
+
+  @Test
+  public void testMinIdle() throws Exception {
+    m_pool.initialize("test", 5, 2, LIFETIME, LIFETIME, 10_000);
+    assertTrue(m_pool.getCreated().isEmpty()); // not pre-warmed before the first lease
+
+    Connection conn = m_pool.leaseConnection(m_service);
+    waitUntil(() -> m_pool.countEntries(PoolEntry.STATE_IDLE) == 2);
+    assertEquals(3, m_pool.getCreated().size());
+
+    m_pool.releaseConnection(conn);
+    assertEquals(3, m_pool.countEntries(PoolEntry.STATE_IDLE));
+
+    // leasing pre-warmed connections creates new idle connections up to the pool size
+    for (int i = 0; i < 3; i++) {
+      m_pool.leaseConnection(m_service);
+    }
+    waitUntil(() -> m_pool.getCreated().size() == 5);
+    assertEquals(2, m_pool.countEntries(PoolEntry.STATE_IDLE));
+    assertEquals(3, m_pool.countEntries(PoolEntry.STATE_BUSY));
+  }
+
+  protected static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      assertTrue("condition not met within 10 seconds", System.nanoTime() - deadline < 0);
+      Thread.sleep(10);
+    }
+  }
+
+  private static class P_SqlService extends SqlServiceMock {
+
+    @Override
+    protected void execTestConnection(Connection conn) {
+      // connections of the pool are never dirty
+    }
+  }
+
+  /**
+   * Pool creating mocked connections.
+   */
+  private static class P_SqlConnectionPool extends SqlConnectionPool {
+
+    private final Set<Connection> m_created = ConcurrentHashMap.newKeySet();
+    private final Set<Connection> m_closed = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected Connection createConnection(AbstractSqlService service) {
+      Connection conn = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "close":
+            m_closed.add((Connection) proxy);
+            return null;
+          case "isClosed":
+            return m_closed.contains(proxy);
+          case "hashCode":
+            return System.identityHashCode(proxy);
+          case "equals":
+            return proxy == args[0];
+          case "toString":
+            return "ConnectionMock@" + Integer.toHexString(System.identityHashCode(proxy));
+          default:
+            return null;
+        }
+      });
+      m_created.add(conn);
+      return conn;
+    }
+
+    public Set<Connection> getCreated() {
+      return m_created;
+    }
+
+    public Set<Connection> getClosed() {
+      return m_closed;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.lookup;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.ISqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link AbstractSqlLookupService#getBatchDataByKey(List)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SqlBatchKeyLookupTest {
+
+  private static final Object[][] RESULT_DATA = new Object[][]{
+      {1L, "apple 1"},
+      {1L, "apple 2"},
+      {1L, "apple 3"},
+      {1L, "apple 4"},
+      {2L, "banana"}};
+
+  private SqlServiceMock m_sqlService;
+  private List<IBean<?>> m_beans;
+
+  @Before
+  public void before() {
+    m_sqlService = new SqlServiceMock();
+    m_sqlService.setResultData(RESULT_DATA);
+    m_beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(ISqlService.class).withInitialInstance(m_sqlService).withApplicationScoped(true));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testBatchDataByKey() {
+    List<List<ILookupRow<Long>>> result = new P_FruitLookupService().getBatchDataByKey(Arrays.asList(
+        createCall(1L, 0),
+        createCall(2L, 0),
+        createCall(3L, 0)));
+
+    String protocol = m_sqlService.getProtocol().toString();
+    // a single statement for all keys
+    assertEquals(protocol.indexOf("Connection.prepareStatement"), protocol.lastIndexOf("Connection.prepareStatement"));
+    assertTrue(protocol.contains("(FRUIT_NR IN (1,2,3))"));
+
+    assertEquals(3, result.size());
+    assertTexts(result.get(0), "apple 1", "apple 2", "apple 3", "apple 4");
+    assertTexts(result.get(1), "banana");
+    // no row for a missing key
+    assertTexts(result.get(2));
+  }
+
+  @Test
+  public void testBatchDataByKeyMaxRowCount() {
+    List<List<ILookupRow<Long>>> result = new P_FruitLookupService().getBatchDataByKey(Arrays.asList(
+        createCall(1L, 2),
+        createCall(2L, 1),
+        createCall(3L, 1)));
+
+    // the rows of the first key must not use up the rows of the others
+    assertTexts(result.get(0), "apple 1", "apple 2");
+    assertTexts(result.get(1), "banana");
+    assertTexts(result.get(2));
+  }
+
+  private static ILookupCall<Long> createCall(Long key, int maxRowCount) {
+    P_FruitLookupCall call = new P_FruitLookupCall();
+    call.setKey(key);
+    call.setMaxRowCount(maxRowCount);
+    return call;
+  }
+
+  private static void assertTexts(List<ILookupRow<Long>> rows, String... expectedTexts) {
+    assertEquals(expectedTexts.length, rows.size());
+    for (int i = 0; i < expectedTexts.length; i++) {
+      assertEquals(expectedTexts[i], rows.get(i).getText());
+    }
+  }
+
+  private static class P_FruitLookupCall extends LookupCall<Long> {
+    private static final long serialVersionUID = 1L;
+  }
+
+  private static class P_FruitLookupService extends AbstractSqlLookupService<Long> {
+
+    @Override
+    protected String getConfiguredSqlSelect() {
+      return "SELECT FRUIT_NR, NAME FROM FRUIT WHERE 1=1 <key>AND FRUIT_NR = :key</key>";
+    }
+
+    @Override
+    protected int getConfiguredSortColumn() {
+      return -1;
+    }
+
+    @Override
+    protected boolean getConfiguredBatchLookupByKey() {
+      return true;
+    }
+  }
+}
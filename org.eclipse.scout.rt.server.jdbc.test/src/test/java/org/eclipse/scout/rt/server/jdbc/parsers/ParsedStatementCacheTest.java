@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ParsedStatementCache}
+ */
+public class ParsedStatementCacheTest {
+
+  private static final String SQL = "SELECT NAME FROM PERSON WHERE PERSON_NR = :personNr AND STATUS IN :{status} INTO :name";
+
+  @Test
+  public void testSameResultAsParser() {
+    ParsedStatementCache cache = new ParsedStatementCache(10);
+    IntoModel expectedInto = new IntoParser(SQL).parse();
+    BindModel expectedBind = new BindParser(expectedInto.getFilteredStatement()).parse();
+
+    for (int i = 0; i < 2; i++) {
+      IntoModel into = cache.getIntoModel(SQL);
+      assertEquals(expectedInto.getFilteredStatement(), into.getFilteredStatement());
+      assertEquals(expectedInto.getOutputTokens().length, into.getOutputTokens().length);
+      assertEquals(expectedInto.getOutputTokens()[0].toString(), into.getOutputTokens()[0].toString());
+
+      BindModel bind = cache.getBindModel(into);
+      assertEquals(expectedBind.getFilteredStatement(), bind.getFilteredStatement());
+      assertEquals(expectedBind.getIOTokens().length, bind.getIOTokens().length);
+      for (int j = 0; j < bind.getIOTokens().length; j++) {
+        assertEquals(expectedBind.getIOTokens()[j].toString(), bind.getIOTokens()[j].toString());
+      }
+    }
+  }
+
+  @Test
+  public void testTokensAreNotShared() {
+    ParsedStatementCache cache = new ParsedStatementCache(10);
+    IntoModel into1 = cache.getIntoModel(SQL);
+    BindModel bind1 = cache.getBindModel(into1);
+    IntoModel into2 = cache.getIntoModel(SQL);
+    BindModel bind2 = cache.getBindModel(into2);
+
+    assertNotSame(into1.getOutputTokens()[0], into2.getOutputTokens()[0]);
+    for (int i = 0; i < bind1.getIOTokens().length; i++) {
+      assertNotSame(bind1.getIOTokens()[i], bind2.getIOTokens()[i]);
+    }
+
+    // resolving binds modifies the tokens
+    ValueInputToken token1 = (ValueInputToken) bind1.getIOTokens()[0];
+    token1.setReplaceToken("?");
+    token1.setParsedOp(null);
+    ((ValueOutputToken) into1.getOutputTokens()[0]).setReplaceToken("?");
+
+    IntoModel into3 = cache.getIntoModel(SQL);
+    BindModel bind3 = cache.getBindModel(into3);
+    ValueInputToken token3 = (ValueInputToken) bind3.getIOTokens()[0];
+    assertEquals(":personNr", token3.getReplaceToken());
+    assertEquals("=", token3.getParsedOp());
+    assertEquals(into3.getOutputTokens()[0].getParsedToken(), into3.getOutputTokens()[0].getReplaceToken());
+  }
+
+  @Test
+  public void testBatchToken() {
+    ParsedStatementCache cache = new ParsedStatementCache(10);
+    cache.getBindModel(cache.getIntoModel(SQL));
+    IToken token = cache.getBindModel(cache.getIntoModel(SQL)).getIOTokens()[1];
+    assertTrue(((ValueInputToken) token).isBatch());
+    assertEquals("status", ((ValueInputToken) token).getName());
+  }
+
+  @Test
+  public void testDisabled() {
+    ParsedStatementCache cache = new ParsedStatementCache(0);
+    IntoModel into = cache.getIntoModel(SQL);
+    BindModel bind = cache.getBindModel(into);
+    assertEquals(new IntoParser(SQL).parse().getFilteredStatement(), into.getFilteredStatement());
+    assertEquals(2, bind.getIOTokens().length);
+  }
+}
@@ -22,6 +22,9 @@ import java.sql.SQLException;
 import java.sql.Types;
 
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
+import org.eclipse.scout.rt.server.jdbc.mssql.MSSQLSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.mysql.MySqlSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.postgresql.PostgreSqlStyle;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -254,6 +257,71 @@ public class AbstractSqlStyleTest {
     assertTrue(o2 instanceof Long);
   }
 
+  @Test
+  public void testCreateColumnReader() throws Exception {
+    ResultSet rs = Mockito.mock(ResultSet.class);
+    ResultSetMetaData meta = Mockito.mock(ResultSetMetaData.class);
+    SqlStyleDecimalConversionLegacy sqlStyle = new SqlStyleDecimalConversionLegacy();
+
+    Mockito.when(rs.getBigDecimal(1)).thenReturn(BigDecimal.valueOf(987654L));
+    Mockito.when(rs.getLong(2)).thenReturn(42L);
+    Mockito.when(rs.getDouble(3)).thenReturn(1.5d);
+    Mockito.when(rs.getString(4)).thenReturn("lorem");
+    Mockito.when(rs.getObject(5)).thenReturn(Boolean.TRUE);
+    Mockito.when(rs.wasNull()).thenReturn(false);
+
+    int[] types = new int[]{Types.DECIMAL, Types.INTEGER, Types.DOUBLE, Types.VARCHAR, Types.OTHER};
+    for (int i = 0; i < types.length; i++) {
+      IColumnReader reader = sqlStyle.createColumnReader(meta, types[i], i + 1);
+      assertEquals(sqlStyle.readBind(rs, meta, types[i], i + 1), reader.read(rs, i + 1));
+    }
+    assertEquals(Long.valueOf(987654L), sqlStyle.createColumnReader(meta, Types.DECIMAL, 1).read(rs, 1));
+
+    Mockito.when(rs.wasNull()).thenReturn(true);
+    for (int i = 0; i < types.length; i++) {
+      assertNull(sqlStyle.createColumnReader(meta, types[i], i + 1).read(rs, i + 1));
+    }
+  }
+
+  @Test
+  public void testCreateColumnReaderUsesOverriddenReadBind() throws Exception {
+    ResultSet rs = Mockito.mock(ResultSet.class);
+    ResultSetMetaData meta = Mockito.mock(ResultSetMetaData.class);
+    SqlStyleDecimalConversionNone sqlStyle = new SqlStyleDecimalConversionNone() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public Object readBind(ResultSet resultSet, ResultSetMetaData metaData, int type, int jdbcBindIndex) throws SQLException {
+        return "custom";
+      }
+    };
+    assertEquals("custom", sqlStyle.createColumnReader(meta, Types.INTEGER, 1).read(rs, 1));
+  }
+
+  @Test
+  public void testCreateKeysetPageFirstPage() {
+    assertEquals("SELECT * FROM (SELECT A, B FROM T) KEYSET_PAGE ORDER BY A ASC, B ASC FETCH FIRST 10 ROWS ONLY",
+        sql.createKeysetPage("SELECT A, B FROM T", new String[]{"A", "B"}, null, null, 10));
+  }
+
+  @Test
+  public void testCreateKeysetPageNextPage() {
+    assertEquals("SELECT * FROM (SELECT A, B FROM T) KEYSET_PAGE WHERE ((A>:k0) OR (A=:k0 AND B<:k1)) ORDER BY A ASC, B DESC FETCH FIRST 10 ROWS ONLY",
+        sql.createKeysetPage("SELECT A, B FROM T", new String[]{"A", "B"}, new boolean[]{true, false}, new String[]{"k0", "k1"}, 10));
+  }
+
+  @Test
+  public void testCreateKeysetPageDialects() {
+    String[] keyColumns = {"A", "B"};
+    String[] keyBindNames = {"k0", "k1"};
+    assertEquals("SELECT * FROM (SELECT A, B FROM T) KEYSET_PAGE WHERE (A, B) > (:k0, :k1) ORDER BY A ASC, B ASC FETCH FIRST 10 ROWS ONLY",
+        new PostgreSqlStyle().createKeysetPage("SELECT A, B FROM T", keyColumns, null, keyBindNames, 10));
+    assertEquals("SELECT * FROM (SELECT A, B FROM T) KEYSET_PAGE WHERE (A, B) < (:k0, :k1) ORDER BY A DESC, B DESC LIMIT 10",
+        new MySqlSqlStyle().createKeysetPage("SELECT A, B FROM T", keyColumns, new boolean[]{false, false}, keyBindNames, 10));
+    assertEquals("SELECT * FROM (SELECT A, B FROM T) KEYSET_PAGE WHERE ((A>:k0) OR (A=:k0 AND B>:k1)) ORDER BY A ASC, B ASC OFFSET 0 ROWS FETCH NEXT 10 ROWS ONLY",
+        new MSSQLSqlStyle().createKeysetPage("SELECT A, B FROM T", keyColumns, null, keyBindNames, 10));
+  }
+
   /**
    * SQL style decimal conversion with no conversion strategy
    */
@@ -13,10 +13,16 @@ import java.security.Permission;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 
@@ -29,26 +35,34 @@ import org.eclipse.scout.rt.platform.annotations.ConfigOperation;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.IConfigProperty;
+import org.eclipse.scout.rt.platform.context.PropertyMap;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.IHolder;
 import org.eclipse.scout.rt.platform.holders.LongHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.holders.StringHolder;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.service.IServiceInventory;
 import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.BooleanUtility;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLeaseTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolMinIdleProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
@@ -57,6 +71,8 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiProviderUrlProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiUrlPkgPrefixesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlPasswordProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlReadReplicaConnectionLeaseTimeoutProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlReadReplicaJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlTransactionMemberIdProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlUsernameProperty;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
@@ -66,6 +82,7 @@ import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.shared.services.common.code.ICodeService;
+import org.eclipse.scout.rt.shared.services.common.jdbc.KeysetToken;
 import org.eclipse.scout.rt.shared.services.common.security.IPermissionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,8 +90,19 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractSqlService implements ISqlService, IServiceInventory {
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlService.class);
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
+  /**
+   * {@link org.eclipse.scout.rt.platform.context.RunContext} property: if set to <code>true</code>, selects are executed
+   * on the read replica (if configured).
+   *
+   * @since 23.2
+   */
+  public static final String PROP_READ_ONLY = "AbstractSqlService.readOnly";
+  private static final long READ_REPLICA_RETRY_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+  private static final String KEYSET_BIND_PREFIX = "keysetKey";
 
   private volatile SqlConnectionPool m_pool;
+  private volatile SqlConnectionPool m_readReplicaPool;
+  private volatile long m_readReplicaDownUntil;
   private final String m_transactionMemberId;
   private final boolean m_directJdbcConnection;
   private final String m_jndiName;
@@ -82,11 +110,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final String m_jndiProviderUrl;
   private final String m_jndiUrlPkgPrefixes;
   private final String m_jdbcMappingName;
+  private final String m_readReplicaJdbcMappingName;
   private final String m_jdbcDriverName;
   private final String m_jdbcProps;
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final int m_jdbcPoolMinIdle;
+  private final long m_jdbcPoolConnectionLeaseTimeout;
+  private final long m_readReplicaConnectionLeaseTimeout;
+  private final boolean m_readReplicaRoutable;
+  private final int m_jdbcBatchSize;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
@@ -113,13 +147,19 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jndiProviderUrl = getPropertyValue(SqlJndiProviderUrlProperty.class, getConfiguredJndiProviderUrl());
     m_jndiUrlPkgPrefixes = getPropertyValue(SqlJndiUrlPkgPrefixesProperty.class, getConfiguredJndiUrlPkgPrefixes());
     m_jdbcMappingName = getPropertyValue(SqlJdbcMappingNameProperty.class, getConfiguredJdbcMappingName());
+    m_readReplicaJdbcMappingName = getPropertyValue(SqlReadReplicaJdbcMappingNameProperty.class, getConfiguredReadReplicaJdbcMappingName());
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolMinIdle = getPropertyValue(SqlJdbcPoolMinIdleProperty.class, getConfiguredJdbcPoolMinIdle());
+    m_jdbcPoolConnectionLeaseTimeout = getPropertyValue(SqlJdbcPoolConnectionLeaseTimeoutProperty.class, getConfiguredJdbcPoolConnectionLeaseTimeout());
+    m_readReplicaConnectionLeaseTimeout = getPropertyValue(SqlReadReplicaConnectionLeaseTimeoutProperty.class, getConfiguredReadReplicaConnectionLeaseTimeout());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
+    m_readReplicaRoutable = isReadReplicaEnabled() && checkReadReplicaHooks();
 
     // load sql style
     Class<? extends ISqlStyle> styleClass = getConfiguredSqlStyle();
@@ -223,6 +263,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return "jdbc:oracle:thin:@localhost:1521:ORCL";
   }
 
+  /**
+   * @return JDBC mapping name of a read replica of the database, <code>null</code> if there is no read replica
+   * @see ReadReplica
+   * @since 23.2
+   */
+  @ConfigProperty(ConfigProperty.STRING)
+  @Order(115)
+  protected String getConfiguredReadReplicaJdbcMappingName() {
+    return null;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(120)
   protected String getConfiguredJdbcProperties() {
@@ -241,12 +292,58 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 300000L;
   }
 
+  /**
+   * @return maximum number of rows sent to the database in one batch by {@link #insertBatch(String, Object...)},
+   *         {@link #updateBatch(String, Object...)} and {@link #deleteBatch(String, Object...)}
+   * @since 23.2
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(156)
+  protected int getConfiguredJdbcBatchSize() {
+    return 1000;
+  }
+
   @ConfigProperty(ConfigProperty.LONG)
   @Order(150)
   protected long getConfiguredJdbcPoolConnectionBusyTimeout() {
     return 21600000L;
   }
 
+  /**
+   * @since 23.2
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(152)
+  protected int getConfiguredJdbcPoolMinIdle() {
+    return 0;
+  }
+
+  /**
+   * Maximum time in milliseconds to wait for a pooled connection if all connections are leased. A lease which times out
+   * fails with a {@link java.sql.SQLTransientConnectionException}.
+   * <p>
+   * <b>Note:</b> Before 23.2 the pool waited indefinitely. Return 0 to restore this behavior.
+   *
+   * @since 23.2
+   */
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(154)
+  protected long getConfiguredJdbcPoolConnectionLeaseTimeout() {
+    return 300000L;
+  }
+
+  /**
+   * Maximum time in milliseconds a select waits for a connection of the read replica if all its connections are
+   * leased. The select is executed on the primary database afterwards, so this timeout should be short.
+   *
+   * @since 23.2
+   */
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(155)
+  protected long getConfiguredReadReplicaConnectionLeaseTimeout() {
+    return 100L;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
@@ -311,6 +408,38 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     releaseConnectionInternal(conn);
   }
 
+  /**
+   * called just after the transaction on the read replica has started, the counterpart of
+   * {@link #execBeginTransaction()} for selects routed to the read replica
+   *
+   * @since 23.2
+   */
+  @ConfigOperation
+  @Order(21)
+  protected void execBeginReadReplicaTransaction(Connection conn) {
+  }
+
+  /**
+   * Leases a connection of the read replica. A lease which times out (see
+   * {@link #getConfiguredReadReplicaConnectionLeaseTimeout()}) fails with a {@link SQLTransientConnectionException}.
+   *
+   * @since 23.2
+   */
+  @ConfigOperation
+  @Order(31)
+  protected Connection execCreateReadReplicaConnection() throws ClassNotFoundException, SQLException {
+    return getReadReplicaConnectionPool().leaseConnection(this);
+  }
+
+  /**
+   * @since 23.2
+   */
+  @ConfigOperation
+  @Order(36)
+  protected void execReleaseReadReplicaConnection(Connection conn) throws SQLException {
+    getReadReplicaConnectionPool().releaseConnection(conn);
+  }
+
   /**
    * Custom functions that can be used in sql statements as binds or sql style independent functions
    * <p>
@@ -408,6 +537,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   protected void execEndTransaction(boolean willBeCommitted) {
   }
 
+  /**
+   * Called just before the transaction on the read replica is committed or rollbacked, the counterpart of
+   * {@link #execEndTransaction(boolean)} for selects routed to the read replica.
+   *
+   * @since 23.2
+   */
+  @ConfigOperation
+  @Order(51)
+  protected void execEndReadReplicaTransaction(Connection conn, boolean willBeCommitted) {
+  }
+
   /*
    * Runtime
    */
@@ -460,6 +600,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcDriverName;
   }
 
+  public String getReadReplicaJdbcMappingName() {
+    return m_readReplicaJdbcMappingName;
+  }
+
+  /**
+   * @return <code>true</code> if a read replica is configured (only supported for direct JDBC connections)
+   * @since 23.2
+   */
+  public boolean isReadReplicaEnabled() {
+    return isDirectJdbcConnection() && StringUtility.hasText(m_readReplicaJdbcMappingName);
+  }
+
   public String getJdbcProperties() {
     return m_jdbcProps;
   }
@@ -484,6 +636,25 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public int getJdbcPoolMinIdle() {
+    return m_jdbcPoolMinIdle;
+  }
+
+  public long getJdbcPoolConnectionLeaseTimeout() {
+    return m_jdbcPoolConnectionLeaseTimeout;
+  }
+
+  /**
+   * @since 23.2
+   */
+  public long getReadReplicaConnectionLeaseTimeout() {
+    return m_readReplicaConnectionLeaseTimeout;
+  }
+
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
@@ -552,11 +723,21 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
       m_pool = BEANS.get(SqlConnectionPool.class);
-      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolMinIdle(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout(), getJdbcPoolConnectionLeaseTimeout());
     }
     return m_pool;
   }
 
+  protected synchronized SqlConnectionPool getReadReplicaConnectionPool() {
+    Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
+    if (m_readReplicaPool == null) {
+      m_readReplicaPool = BEANS.get(SqlConnectionPool.class);
+      m_readReplicaPool.initialize(getClass().getName() + ".readReplica", getReadReplicaJdbcMappingName(), getJdbcPoolSize(), getJdbcPoolMinIdle(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout(),
+          getReadReplicaConnectionLeaseTimeout());
+    }
+    return m_readReplicaPool;
+  }
+
   /**
    * Destroys the current connection pool (created lazy upon releasing conneciton)
    */
@@ -565,6 +746,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
       m_pool.destroy();
       m_pool = null;
     }
+    if (m_readReplicaPool != null) {
+      m_readReplicaPool.destroy();
+      m_readReplicaPool = null;
+    }
   }
 
   @Override
@@ -579,7 +764,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     if (member == null) {
       @SuppressWarnings("resource")
       Connection connection = execCreateConnection();
-      member = new SqlTransactionMember(getTransactionMemberId(), connection);
+      member = new SqlTransactionMember(getTransactionMemberId(), connection, false);
       tx.registerMember(member);
       // this is the start of the transaction
       execBeginTransaction();
@@ -587,14 +772,170 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return member.getConnection();
   }
 
+  /**
+   * @return the connection of the read replica for the current transaction or <code>null</code> if the selects of the
+   *         current transaction are not routed to the read replica or the replica is not available
+   * @see #isReadReplicaRouted()
+   * @since 23.2
+   */
+  protected Connection getReadReplicaTransaction() {
+    if (!isReadReplicaRouted()) {
+      return null;
+    }
+    ITransaction tx = Assertions.assertNotNull(ITransaction.CURRENT.get(), "Transaction required");
+    SqlTransactionMember member = (SqlTransactionMember) tx.getMember(getReadReplicaTransactionMemberId());
+    if (member == null) {
+      Connection connection;
+      try {
+        connection = execCreateReadReplicaConnection();
+      }
+      catch (SQLTransientConnectionException e) {
+        // all connections of the replica are in use, the replica itself is available
+        LOG.debug("No connection of the read replica of {} available, using the primary database", getClass().getSimpleName(), e);
+        return null;
+      }
+      catch (Exception e) {
+        markReadReplicaDown(e);
+        return null;
+      }
+      member = new SqlTransactionMember(getReadReplicaTransactionMemberId(), connection, true);
+      tx.registerMember(member);
+      // this is the start of the transaction on the read replica
+      execBeginReadReplicaTransaction(connection);
+    }
+    return member.getConnection();
+  }
+
+  /**
+   * Selects are routed to the read replica if it is enabled and available, the current transaction did not use the
+   * primary database yet (to read its own changes) and either the service is annotated with {@link ReadReplica} or the
+   * current {@link org.eclipse.scout.rt.platform.context.RunContext} is read-only (see {@link #PROP_READ_ONLY}).
+   * <p>
+   * Selects are never routed if the connection or transaction hooks of the primary database are overridden without
+   * their read replica counterparts, see {@link #checkReadReplicaHooks()}.
+   *
+   * @since 23.2
+   */
+  protected boolean isReadReplicaRouted() {
+    if (!m_readReplicaRoutable || System.currentTimeMillis() < m_readReplicaDownUntil) {
+      return false;
+    }
+    ITransaction tx = ITransaction.CURRENT.get();
+    if (tx == null || tx.getMember(getTransactionMemberId()) != null) {
+      return false;
+    }
+    if (getClass().isAnnotationPresent(ReadReplica.class)) {
+      return true;
+    }
+    PropertyMap propertyMap = PropertyMap.CURRENT.get();
+    return propertyMap != null && BooleanUtility.nvl(propertyMap.<Boolean> get(PROP_READ_ONLY));
+  }
+
+  /**
+   * Tests a connection of the read replica, used by {@link JdbcHealthCecker}. While the read replica is not available,
+   * all selects are executed on the primary database.
+   *
+   * @return <code>true</code> if the read replica is enabled and available
+   * @since 23.2
+   */
+  public boolean checkReadReplica() {
+    if (!isReadReplicaEnabled()) {
+      return false;
+    }
+    Connection conn = null;
+    try {
+      conn = execCreateReadReplicaConnection();
+      execTestConnection(conn);
+      m_readReplicaDownUntil = 0L;
+      return true;
+    }
+    catch (SQLTransientConnectionException e) {
+      // all connections of the replica are in use, the replica itself is available
+      m_readReplicaDownUntil = 0L;
+      return true;
+    }
+    catch (Exception e) {
+      markReadReplicaDown(e);
+      return false;
+    }
+    finally {
+      if (conn != null) {
+        releaseReadReplicaConnection(conn);
+      }
+    }
+  }
+
+  protected String getReadReplicaTransactionMemberId() {
+    return getTransactionMemberId() + ".readReplica";
+  }
+
+  private void markReadReplicaDown(Exception e) {
+    if (System.currentTimeMillis() >= m_readReplicaDownUntil) {
+      LOG.warn("Read replica of {} is not available, using the primary database for the next {}s", getClass().getSimpleName(), TimeUnit.MILLISECONDS.toSeconds(READ_REPLICA_RETRY_INTERVAL), e);
+    }
+    m_readReplicaDownUntil = System.currentTimeMillis() + READ_REPLICA_RETRY_INTERVAL;
+  }
+
+  /**
+   * The session, security or role setup a subclass does in {@link #execCreateConnection()},
+   * {@link #execBeginTransaction()} or {@link #execEndTransaction(boolean)} would be missing on the read replica.
+   * Therefore selects are only routed to the read replica if the corresponding read replica hooks are overridden too.
+   *
+   * @return <code>true</code> if selects may be routed to the read replica
+   */
+  protected boolean checkReadReplicaHooks() {
+    boolean consistent = isReadReplicaHookConsistent("execCreateConnection", new Class[0], "execCreateReadReplicaConnection", new Class[0])
+        && isReadReplicaHookConsistent("execBeginTransaction", new Class[0], "execBeginReadReplicaTransaction", new Class[]{Connection.class})
+        && isReadReplicaHookConsistent("execEndTransaction", new Class[]{boolean.class}, "execEndReadReplicaTransaction", new Class[]{Connection.class, boolean.class});
+    if (!consistent) {
+      LOG.warn("Read replica of {} is not used: a connection or transaction hook is overridden without its read replica counterpart", getClass().getName());
+    }
+    return consistent;
+  }
+
+  /**
+   * @return <code>true</code> if the primary hook is not overridden or the read replica hook is overridden as well
+   */
+  private boolean isReadReplicaHookConsistent(String primaryHook, Class[] primaryParameterTypes, String readReplicaHook, Class[] readReplicaParameterTypes) {
+    return !ConfigurationUtility.isMethodOverwrite(AbstractSqlService.class, primaryHook, primaryParameterTypes, getClass())
+        || ConfigurationUtility.isMethodOverwrite(AbstractSqlService.class, readReplicaHook, readReplicaParameterTypes, getClass());
+  }
+
+  private void releaseReadReplicaConnection(Connection conn) {
+    try {
+      execReleaseReadReplicaConnection(conn);
+    }
+    catch (SQLException | RuntimeException e) {
+      LOG.warn("Could not release read replica connection", e);
+    }
+  }
+
+  /**
+   * Executes a read operation on the read replica if the current transaction is routed to it (see
+   * {@link #isReadReplicaRouted()}), on the primary database otherwise.
+   *
+   * @since 23.2
+   */
+  protected <T> T executeRead(BiFunction<Connection, IStatementCache, T> operation) {
+    Connection conn = getReadReplicaTransaction();
+    if (conn != null) {
+      return operation.apply(conn, getStatementCache(PreparedStatementCache.TRANSACTION_MEMBER_ID + ".readReplica"));
+    }
+    return operation.apply(getTransaction(), getStatementCache());
+  }
+
   /**
    * @return the statement cache used for this {@link ITransaction} transaction
    */
   protected final IStatementCache getStatementCache() {
+    return getStatementCache(PreparedStatementCache.TRANSACTION_MEMBER_ID);
+  }
+
+  private IStatementCache getStatementCache(String transactionMemberId) {
     ITransaction tx = Assertions.assertNotNull(ITransaction.CURRENT.get(), "Transaction required");
-    IStatementCache res = (IStatementCache) tx.getMember(PreparedStatementCache.TRANSACTION_MEMBER_ID);
+    IStatementCache res = (IStatementCache) tx.getMember(transactionMemberId);
     if (res == null) {
-      res = new PreparedStatementCache(getJdbcStatementCacheSize());
+      res = new PreparedStatementCache(transactionMemberId, getJdbcStatementCacheSize());
       tx.registerMember((ITransactionMember) res);
     }
     return res;
@@ -606,32 +947,99 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
   @Override
   public Object[][] select(String s, Object... bindBases) {
-    return createStatementProcessor(s, bindBases, 0).processSelect(getTransaction(), getStatementCache(), null);
+    return executeRead((conn, cache) -> createStatementProcessor(s, bindBases, 0).processSelect(conn, cache, null));
   }
 
   @Override
   public Object[][] selectLimited(String s, int maxRowCount, Object... bindBases) {
-    return createStatementProcessor(s, bindBases, maxRowCount).processSelect(getTransaction(), getStatementCache(), null);
+    return executeRead((conn, cache) -> createStatementProcessor(s, bindBases, maxRowCount).processSelect(conn, cache, null));
   }
 
   @Override
   public void selectInto(String s, Object... bindBases) {
-    createStatementProcessor(s, bindBases, 0).processSelectInto(getTransaction(), getStatementCache(), null);
+    executeRead((conn, cache) -> {
+      createStatementProcessor(s, bindBases, 0).processSelectInto(conn, cache, null);
+      return null;
+    });
   }
 
   @Override
   public void selectIntoLimited(String s, int maxRowCount, Object... bindBases) {
-    createStatementProcessor(s, bindBases, maxRowCount).processSelectInto(getTransaction(), getStatementCache(), null);
+    executeRead((conn, cache) -> {
+      createStatementProcessor(s, bindBases, maxRowCount).processSelectInto(conn, cache, null);
+      return null;
+    });
   }
 
   @Override
   public void selectStreaming(String s, ISelectStreamHandler handler, Object... bindBases) {
-    createStatementProcessor(s, bindBases, 0).processSelectStreaming(getTransaction(), getStatementCache(), handler);
+    executeRead((conn, cache) -> {
+      createStatementProcessor(s, bindBases, 0).processSelectStreaming(conn, cache, handler);
+      return null;
+    });
   }
 
   @Override
   public void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases) {
-    createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
+    executeRead((conn, cache) -> {
+      createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(conn, cache, handler);
+      return null;
+    });
+  }
+
+  @Override
+  public Stream<Object[]> selectStream(String s, Object... bindBases) {
+    return selectStream(s, (rs, row) -> row, bindBases);
+  }
+
+  @Override
+  public <T> Stream<T> selectStream(String s, ISelectRowMapper<T> mapper, Object... bindBases) {
+    return executeRead((conn, cache) -> createStatementProcessor(s, bindBases, 0).processSelectStream(conn, cache, mapper));
+  }
+
+  @Override
+  public ColumnarResult selectColumnar(String s, Object... bindBases) {
+    return executeRead((conn, cache) -> createStatementProcessor(s, bindBases, 0).processSelectColumnar(conn, cache));
+  }
+
+  @Override
+  public KeysetPage selectKeysetPage(String s, String[] keyColumns, boolean[] ascending, KeysetToken token, int pageSize, Object... bindBases) {
+    String[] keyBindNames = null;
+    Object[] pageBindBases = bindBases;
+    if (token != null) {
+      Assertions.assertEqual(keyColumns.length, token.getKeyCount(), "token does not match keyColumns");
+      keyBindNames = new String[keyColumns.length];
+      pageBindBases = Arrays.copyOf(bindBases, bindBases.length + keyColumns.length);
+      for (int i = 0; i < keyColumns.length; i++) {
+        keyBindNames[i] = KEYSET_BIND_PREFIX + i;
+        pageBindBases[bindBases.length + i] = new NVPair(keyBindNames[i], token.getKeyValue(i));
+      }
+    }
+    // one more row than requested to detect whether there is a next page
+    String stm = getSqlStyle().createKeysetPage(s, keyColumns, ascending, keyBindNames, pageSize + 1);
+    int[] keyIndexes = new int[keyColumns.length];
+    List<Object[]> rows;
+    try (Stream<Object[]> stream = selectStream(stm, (rs, row) -> {
+      if (keyIndexes[0] == 0) {
+        for (int i = 0; i < keyColumns.length; i++) {
+          keyIndexes[i] = rs.findColumn(keyColumns[i]);
+        }
+      }
+      return row;
+    }, pageBindBases)) {
+      rows = stream.limit(pageSize + 1L).collect(Collectors.toList());
+    }
+    KeysetToken nextToken = null;
+    if (rows.size() > pageSize) {
+      rows = rows.subList(0, pageSize);
+      Object[] lastRow = rows.get(pageSize - 1);
+      Object[] keyValues = new Object[keyColumns.length];
+      for (int i = 0; i < keyColumns.length; i++) {
+        keyValues[i] = lastRow[keyIndexes[i] - 1];
+      }
+      nextToken = new KeysetToken(keyValues);
+    }
+    return new KeysetPage(rows.toArray(new Object[0][]), nextToken);
   }
 
   @Override
@@ -649,6 +1057,21 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] deleteBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
   @Override
   public boolean callStoredProcedure(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processStoredProcedure(getTransaction(), getStatementCache(), null);
@@ -795,10 +1218,12 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
   private class SqlTransactionMember extends AbstractSqlTransactionMember {
     private final Connection m_conn;
+    private final boolean m_readReplica;
 
-    public SqlTransactionMember(String transactionMemberId, Connection conn) {
+    public SqlTransactionMember(String transactionMemberId, Connection conn, boolean readReplica) {
       super(transactionMemberId);
       m_conn = conn;
+      m_readReplica = readReplica;
     }
 
     public Connection getConnection() {
@@ -809,12 +1234,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     public void commitPhase2() {
       try {
         // this is the end of the transaction
-        try {
-          setFinishingTransaction(true);
-          execEndTransaction(false);
+        if (m_readReplica) {
+          execEndReadReplicaTransaction(m_conn, true);
         }
-        finally {
-          setFinishingTransaction(false);
+        else {
+          try {
+            setFinishingTransaction(true);
+            execEndTransaction(false);
+          }
+          finally {
+            setFinishingTransaction(false);
+          }
         }
         m_conn.commit();
       }
@@ -827,12 +1257,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     public void rollback() {
       try {
         // this is the end of the transaction
-        try {
-          setFinishingTransaction(true);
-          execEndTransaction(false);
+        if (m_readReplica) {
+          execEndReadReplicaTransaction(m_conn, false);
         }
-        finally {
-          setFinishingTransaction(false);
+        else {
+          try {
+            setFinishingTransaction(true);
+            execEndTransaction(false);
+          }
+          finally {
+            setFinishingTransaction(false);
+          }
         }
         m_conn.rollback();
       }
@@ -845,7 +1280,12 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
     @Override
     public void release() {
-      releaseConnection(m_conn);
+      if (m_readReplica) {
+        releaseReadReplicaConnection(m_conn);
+      }
+      else {
+        releaseConnection(m_conn);
+      }
     }
   } // end private class
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.holders.IHolder;
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+
+/**
+ * Maps each row to a new instance of a bean class, e.g. a row data class of a table bean holder or a form data. The
+ * column labels are matched against the property names of the bean, ignoring case and underscores (the column
+ * {@code FIRST_NAME} is written to the property {@code firstName}). Columns without matching property are ignored.
+ * <p>
+ * Properties of type {@link IHolder} receive the value in the existing holder, all other properties are written using
+ * their setter. Values are converted using {@link TypeCastUtility}.
+ * <p>
+ * The mapping of the columns to the properties is resolved once per {@link ResultSet} and kept in the mapper. Hence, an
+ * instance is not thread safe: use a new instance per select and do not share it between concurrently consumed
+ * streams.
+ *
+ * @since 23.2
+ */
+public class BeanSelectRowMapper<T> implements ISelectRowMapper<T> {
+
+  private final Class<T> m_beanType;
+  private final Map<String, FastPropertyDescriptor> m_propertiesByName;
+  private ResultSet m_resultSet;
+  private FastPropertyDescriptor[] m_columnProperties;
+
+  public BeanSelectRowMapper(Class<T> beanType) {
+    m_beanType = beanType;
+    m_propertiesByName = new HashMap<>();
+    for (FastPropertyDescriptor desc : BeanUtility.getFastBeanInfo(beanType, null).getPropertyDescriptors()) {
+      boolean holder = desc.getReadMethod() != null && IHolder.class.isAssignableFrom(desc.getPropertyType());
+      if (holder || desc.getWriteMethod() != null) {
+        m_propertiesByName.put(normalizeName(desc.getName()), desc);
+      }
+    }
+  }
+
+  public Class<T> getBeanType() {
+    return m_beanType;
+  }
+
+  @Override
+  public T mapRow(ResultSet rs, Object[] row) throws SQLException {
+    if (rs != m_resultSet) {
+      m_columnProperties = resolveColumnProperties(rs.getMetaData());
+      m_resultSet = rs;
+    }
+    T bean = BeanUtility.createInstance(m_beanType);
+    if (bean == null) {
+      throw new ProcessingException("{} has no public no-arg constructor", m_beanType.getName());
+    }
+    for (int i = 0; i < row.length && i < m_columnProperties.length; i++) {
+      FastPropertyDescriptor desc = m_columnProperties[i];
+      if (desc != null) {
+        writeProperty(bean, desc, row[i]);
+      }
+    }
+    return bean;
+  }
+
+  protected FastPropertyDescriptor[] resolveColumnProperties(ResultSetMetaData meta) throws SQLException {
+    FastPropertyDescriptor[] columnProperties = new FastPropertyDescriptor[meta.getColumnCount()];
+    for (int i = 0; i < columnProperties.length; i++) {
+      columnProperties[i] = m_propertiesByName.get(normalizeName(meta.getColumnLabel(i + 1)));
+    }
+    return columnProperties;
+  }
+
+  protected void writeProperty(T bean, FastPropertyDescriptor desc, Object value) {
+    try {
+      if (IHolder.class.isAssignableFrom(desc.getPropertyType())) {
+        @SuppressWarnings("unchecked")
+        IHolder<Object> h = (IHolder<Object>) desc.getReadMethod().invoke(bean);
+        if (h != null) {
+          h.setValue(TypeCastUtility.castValue(value, h.getHolderType()));
+        }
+      }
+      else if (value != null || !desc.getPropertyType().isPrimitive()) {
+        desc.getWriteMethod().invoke(bean, TypeCastUtility.castValue(value, desc.getPropertyType()));
+      }
+    }
+    catch (Exception e) {
+      throw new ProcessingException("property " + desc.getName(), e);
+    }
+  }
+
+  protected static String normalizeName(String name) {
+    if (name == null) {
+      return null;
+    }
+    return name.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+}
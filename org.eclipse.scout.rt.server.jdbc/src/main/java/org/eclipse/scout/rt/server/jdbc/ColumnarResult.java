@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.Types;
+import java.util.BitSet;
+
+/**
+ * Result of a select held column by column.
+ * <p>
+ * Integer columns ({@link Types#BIGINT}, {@link Types#INTEGER}, {@link Types#SMALLINT}, {@link Types#TINYINT}) are
+ * stored as <code>long[]</code>, floating point columns ({@link Types#DOUBLE}, {@link Types#FLOAT}, {@link Types#REAL})
+ * as <code>double[]</code>. All other columns are stored as <code>Object[]</code> containing the same values as the
+ * rows returned by {@link ISqlService#select(String, Object...)}. This avoids one boxed value per cell for numeric
+ * heavy results such as reports and aggregations.
+ *
+ * @see ISqlService#selectColumnar(String, Object...)
+ * @since 23.2
+ */
+public class ColumnarResult {
+  private final int m_rowCount;
+  private final int[] m_columnTypes;
+  private final Object[] m_columns;
+  private final BitSet[] m_nulls;
+
+  /**
+   * @param columnTypes
+   *          the {@link Types} of the columns
+   * @param columns
+   *          per column a <code>long[]</code>, <code>double[]</code> or <code>Object[]</code> (depending on the column
+   *          type) with at least <code>rowCount</code> elements
+   * @param nulls
+   *          per column the indices of the rows having SQL NULL values
+   */
+  public ColumnarResult(int rowCount, int[] columnTypes, Object[] columns, BitSet[] nulls) {
+    m_rowCount = rowCount;
+    m_columnTypes = columnTypes;
+    m_columns = columns;
+    m_nulls = nulls;
+  }
+
+  /**
+   * @return <code>true</code> if the column with the given {@link Types} is stored as <code>long[]</code>
+   */
+  public static boolean isLongColumnType(int type) {
+    switch (type) {
+      case Types.BIGINT:
+      case Types.INTEGER:
+      case Types.SMALLINT:
+      case Types.TINYINT:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the column with the given {@link Types} is stored as <code>double[]</code>
+   */
+  public static boolean isDoubleColumnType(int type) {
+    switch (type) {
+      case Types.DOUBLE:
+      case Types.FLOAT:
+      case Types.REAL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public int getRowCount() {
+    return m_rowCount;
+  }
+
+  public int getColumnCount() {
+    return m_columnTypes.length;
+  }
+
+  /**
+   * @return the {@link Types} of the column
+   */
+  public int getColumnType(int column) {
+    return m_columnTypes[column];
+  }
+
+  public boolean isNull(int row, int column) {
+    return m_nulls[column].get(row);
+  }
+
+  /**
+   * @return the value of a column stored as <code>long[]</code>, <code>0</code> if it is SQL NULL
+   */
+  public long getLong(int row, int column) {
+    return ((long[]) m_columns[column])[checkRow(row)];
+  }
+
+  /**
+   * @return the value of a column stored as <code>double[]</code>, <code>0</code> if it is SQL NULL
+   */
+  public double getDouble(int row, int column) {
+    return ((double[]) m_columns[column])[checkRow(row)];
+  }
+
+  /**
+   * @return the value of any column, boxed if necessary (integer values as {@link Long}, floating point values as
+   *         {@link Double}), <code>null</code> if it is SQL NULL
+   */
+  public Object getObject(int row, int column) {
+    checkRow(row);
+    if (isNull(row, column)) {
+      return null;
+    }
+    Object values = m_columns[column];
+    if (values instanceof long[]) {
+      return ((long[]) values)[row];
+    }
+    if (values instanceof double[]) {
+      return ((double[]) values)[row];
+    }
+    return ((Object[]) values)[row];
+  }
+
+  /**
+   * @return the values of a column stored as <code>long[]</code>, the array may be longer than
+   *         {@link #getRowCount()}. The array must not be modified.
+   */
+  public long[] getLongColumn(int column) {
+    return (long[]) m_columns[column];
+  }
+
+  /**
+   * @return the values of a column stored as <code>double[]</code>, the array may be longer than
+   *         {@link #getRowCount()}. The array must not be modified.
+   */
+  public double[] getDoubleColumn(int column) {
+    return (double[]) m_columns[column];
+  }
+
+  /**
+   * @return the result converted to rows as returned by {@link ISqlService#select(String, Object...)}
+   */
+  public Object[][] toRows() {
+    Object[][] rows = new Object[m_rowCount][getColumnCount()];
+    for (int r = 0; r < m_rowCount; r++) {
+      for (int c = 0; c < rows[r].length; c++) {
+        rows[r][c] = getObject(r, c);
+      }
+    }
+    return rows;
+  }
+
+  private int checkRow(int row) {
+    if (row < 0 || row >= m_rowCount) {
+      throw new IndexOutOfBoundsException("row " + row + " of " + m_rowCount);
+    }
+    return row;
+  }
+}
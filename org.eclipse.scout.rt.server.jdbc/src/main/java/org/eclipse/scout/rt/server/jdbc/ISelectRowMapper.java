@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps a row of a select statement to an object of type {@code T}.
+ *
+ * @see ISqlService#selectStream(String, ISelectRowMapper, Object...)
+ * @see BeanSelectRowMapper
+ * @since 23.2
+ */
+@FunctionalInterface
+public interface ISelectRowMapper<T> {
+
+  /**
+   * @param rs
+   *          the {@link ResultSet} positioned on the current row, may be used to access the column meta data
+   * @param row
+   *          the column values of the current row, read using the {@link org.eclipse.scout.rt.server.jdbc.style.ISqlStyle
+   *          ISqlStyle} of the service
+   * @return the mapped row, must not be null (streaming fails if a row is mapped to null)
+   */
+  T mapRow(ResultSet rs, Object[] row) throws SQLException;
+}
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
@@ -17,6 +18,7 @@ import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.service.IService;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
+import org.eclipse.scout.rt.shared.services.common.jdbc.KeysetToken;
 
 /**
  * <p>
@@ -237,6 +239,73 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * Lazy select returning the rows as {@link Stream}
+   * <p>
+   * The statement is executed when the first row is requested. Only the current row is held in memory, further rows
+   * are fetched from the database as the stream is consumed (the fetch size grows up to the number of rows fitting into
+   * the max fetch memory size of the service). The stream must be consumed within the current transaction and must be
+   * closed (e.g. using try-with-resources) to release the cursor unless all rows are consumed.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables. Output binds
+   * ({@code INTO}) are not supported.
+   * </p>
+   *
+   * @since 23.2
+   */
+  Stream<Object[]> selectStream(String s, Object... bindBases);
+
+  /**
+   * Lazy select returning the rows mapped by the given mapper as {@link Stream}, see
+   * {@link #selectStream(String, Object...)}
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @param mapper
+   *          maps the rows, e.g. {@link BeanSelectRowMapper}
+   * @since 23.2
+   */
+  <T> Stream<T> selectStream(String s, ISelectRowMapper<T> mapper, Object... bindBases);
+
+  /**
+   * Select returning the rows held column by column, integer and floating point columns are stored in primitive arrays.
+   * Suited for large numeric results such as reports or aggregations.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables. Output binds
+   * ({@code INTO}) are not supported.
+   * </p>
+   *
+   * @since 23.2
+   */
+  ColumnarResult selectColumnar(String s, Object... bindBases);
+
+  /**
+   * Selects one page of a keyset (seek) paginated select, see
+   * {@link ISqlStyle#createKeysetPage(String, String[], boolean[], String[], int)}. Other than with an offset the cost
+   * of a page is independent of its position, which allows paging through large tables.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables. Output binds
+   * ({@code INTO}) are not supported.
+   * </p>
+   *
+   * @param s
+   *          the select without <code>ORDER BY</code>
+   * @param keyColumns
+   *          the result column names defining the order of the pages, the combination of all key columns must be
+   *          unique and not null
+   * @param ascending
+   *          the sort direction of each key column, <code>null</code> for all ascending
+   * @param token
+   *          the token of the previous page, see {@link KeysetPage#getNextToken()}, <code>null</code> for the first
+   *          page
+   * @param pageSize
+   *          the maximum number of rows of the page
+   * @since 23.2
+   */
+  KeysetPage selectKeysetPage(String s, String[] keyColumns, boolean[] ascending, KeysetToken token, int pageSize, Object... bindBases);
+
   /**
    * insert rows
    * <p>
@@ -267,6 +336,48 @@ public interface ISqlService extends IService {
    */
   int delete(String s, Object... bindBases);
 
+  /**
+   * insert rows using JDBC batch execution
+   * <p>
+   * Same as {@link #insert(String, Object...)}, but the rows of array and table bind bases are not sent one by one.
+   * They are collected and sent to the database in batches of at most {@code scout.sql.jdbc.batchSize} rows.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of inserted rows per input row, as reported by the JDBC driver (may be
+   *         {@link java.sql.Statement#SUCCESS_NO_INFO})
+   * @since 23.2
+   */
+  int[] insertBatch(String s, Object... bindBases);
+
+  /**
+   * update rows using JDBC batch execution
+   * <p>
+   * See {@link #insertBatch(String, Object...)} and the interface comment of {@link ISqlService} for description of
+   * how to use bind variables
+   * </p>
+   *
+   * @return number of updated rows per input row, as reported by the JDBC driver (may be
+   *         {@link java.sql.Statement#SUCCESS_NO_INFO})
+   * @since 23.2
+   */
+  int[] updateBatch(String s, Object... bindBases);
+
+  /**
+   * delete rows using JDBC batch execution
+   * <p>
+   * See {@link #insertBatch(String, Object...)} and the interface comment of {@link ISqlService} for description of
+   * how to use bind variables
+   * </p>
+   *
+   * @return number of deleted rows per input row, as reported by the JDBC driver (may be
+   *         {@link java.sql.Statement#SUCCESS_NO_INFO})
+   * @since 23.2
+   */
+  int[] deleteBatch(String s, Object... bindBases);
+
   /**
    * call a stored procedure
    * <p>
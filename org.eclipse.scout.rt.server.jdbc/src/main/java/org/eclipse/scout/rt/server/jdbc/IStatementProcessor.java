@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.stream.Stream;
 
 public interface IStatementProcessor {
 
@@ -19,8 +20,33 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * The statement is executed when the first row is requested from the returned {@link Stream}. Rows are fetched and
+   * mapped one by one as they are consumed. The stream must be closed to release the cursor, unless it is consumed
+   * completely.
+   *
+   * @since 23.2
+   */
+  <T> Stream<T> processSelectStream(Connection conn, IStatementCache cache, ISelectRowMapper<T> mapper);
+
+  /**
+   * Reads all rows into a {@link ColumnarResult}. Output binds ({@code INTO}) are not supported.
+   *
+   * @since 23.2
+   */
+  ColumnarResult processSelectColumnar(Connection conn, IStatementCache cache);
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Executes the modification using JDBC batches of at most {@code batchSize} rows. Consecutive input rows resulting
+   * in the same statement text are added to the same batch.
+   *
+   * @return update count per input row
+   * @since 23.2
+   */
+  int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize);
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
@@ -11,12 +11,14 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.server.commons.healthcheck.AbstractHealthChecker;
 import org.eclipse.scout.rt.server.commons.healthcheck.HealthCheckCategoryId;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 
 /**
  * Basic JDBC Health Check using {@link ISqlStyle#testConnection(java.sql.Connection)} to verify database connectivity.
+ * The read replica of the service (if any) is checked as well, see {@link AbstractSqlService#checkReadReplica()}.
  *
  * @since 6.1
  */
@@ -32,9 +34,23 @@ public class JdbcHealthCecker extends AbstractHealthChecker {
     ISqlStyle s = SQL.getSqlStyle();
     if (s != null) {
       s.testConnection(SQL.getConnection());
+      checkReadReplica();
       return true;
     }
     return false;
   }
 
+  /**
+   * Tests the read replica (if any). An unavailable replica does not fail the health check because selects fall back
+   * to the primary database, but it is excluded from routing until it is available again.
+   *
+   * @since 23.2
+   */
+  protected void checkReadReplica() {
+    ISqlService service = BEANS.get(SQL.usedServiceType);
+    if (service instanceof AbstractSqlService && ((AbstractSqlService) service).isReadReplicaEnabled()) {
+      ((AbstractSqlService) service).checkReadReplica();
+    }
+  }
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import org.eclipse.scout.rt.shared.services.common.jdbc.KeysetToken;
+
+/**
+ * Page of a keyset paginated select.
+ *
+ * @see ISqlService#selectKeysetPage(String, String[], boolean[], KeysetToken, int, Object...)
+ * @since 23.2
+ */
+public class KeysetPage {
+  private final Object[][] m_rows;
+  private final KeysetToken m_nextToken;
+
+  public KeysetPage(Object[][] rows, KeysetToken nextToken) {
+    m_rows = rows;
+    m_nextToken = nextToken;
+  }
+
+  /**
+   * @return the rows of the page, the first index referencing the rows, the second referencing the column. Cannot be
+   *         <code>null</code>
+   */
+  public Object[][] getRows() {
+    return m_rows;
+  }
+
+  /**
+   * @return the token to select the next page or <code>null</code> if this is the last page
+   */
+  public KeysetToken getNextToken() {
+    return m_nextToken;
+  }
+
+  public boolean hasNextPage() {
+    return m_nextToken != null;
+  }
+}
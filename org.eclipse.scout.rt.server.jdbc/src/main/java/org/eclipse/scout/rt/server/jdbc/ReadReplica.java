@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@link AbstractSqlService} whose selects are executed on the read replica (see
+ * {@link AbstractSqlService#getReadReplicaJdbcMappingName()}) unless the current transaction already used the primary
+ * database.
+ * <p>
+ * Without this annotation, selects are only routed to the read replica if the current
+ * {@link org.eclipse.scout.rt.platform.context.RunContext} has the property
+ * {@link AbstractSqlService#PROP_READ_ONLY} set to <code>true</code>.
+ *
+ * @since 23.2
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface ReadReplica {
+}
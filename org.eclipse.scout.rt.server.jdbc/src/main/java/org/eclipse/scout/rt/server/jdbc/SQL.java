@@ -11,10 +11,12 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+import org.eclipse.scout.rt.shared.services.common.jdbc.KeysetToken;
 
 /**
  * <p>
@@ -103,6 +105,42 @@ public final class SQL {
     return service.selectLimited(s, maxRowCount, bindBases);
   }
 
+  /**
+   * @see ISqlService#selectStream(String, Object...)
+   * @since 23.2
+   */
+  public static Stream<Object[]> selectStream(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectStream(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectStream(String, ISelectRowMapper, Object...)
+   * @since 23.2
+   */
+  public static <T> Stream<T> selectStream(String s, ISelectRowMapper<T> mapper, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectStream(s, mapper, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectColumnar(String, Object...)
+   * @since 23.2
+   */
+  public static ColumnarResult selectColumnar(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectColumnar(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectKeysetPage(String, String[], boolean[], KeysetToken, int, Object...)
+   * @since 23.2
+   */
+  public static KeysetPage selectKeysetPage(String s, String[] keyColumns, boolean[] ascending, KeysetToken token, int pageSize, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectKeysetPage(s, keyColumns, ascending, token, pageSize, bindBases);
+  }
+
   /**
    * @see ISqlService#selectInto(String, Object...)
    */
@@ -143,6 +181,33 @@ public final class SQL {
     return service.delete(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#insertBatch(String, Object...)
+   * @since 23.2
+   */
+  public static int[] insertBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.insertBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#updateBatch(String, Object...)
+   * @since 23.2
+   */
+  public static int[] updateBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.updateBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#deleteBatch(String, Object...)
+   * @since 23.2
+   */
+  public static int[] deleteBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.deleteBatch(s, bindBases);
+  }
+
   /**
    * @see ISqlService#callStoredProcedure(String, Object...)
    */
@@ -113,6 +113,33 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlReadReplicaJdbcMappingNameProperty extends AbstractStringConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.readReplica.mappingName";
+    }
+
+    @Override
+    public String description() {
+      return "The JDBC mapping name of a read replica of the database. Selects in a read-only RunContext or of services annotated with @ReadReplica are executed on the replica, if it is not available on the primary database. Only supported for direct JDBC connections, the same credentials are used as for the primary database. By default no read replica is used.";
+    }
+  }
+
+  public static class SqlReadReplicaConnectionLeaseTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.readReplica.connectionLeaseTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum time in milliseconds a select waits for a connection of the read replica if all its connections are in use. The select is executed on the primary database afterwards. "
+          + "The default value is 100 milliseconds.";
+    }
+  }
+
   public static class SqlJdbcPropertiesProperty extends AbstractStringConfigProperty {
 
     @Override
@@ -191,6 +218,46 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcPoolConnectionLeaseTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.connectionLeaseTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum time in milliseconds to wait for a connection if all connections of the pool are in use. 0 waits indefinitely (the behavior before this property was introduced). "
+          + "The default value is 5 minutes.";
+    }
+  }
+
+  public static class SqlJdbcPoolMinIdleProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.minIdle";
+    }
+
+    @Override
+    public String description() {
+      return "Minimum number of idle connections the pool keeps open. Missing connections are created in the background. The default value is 0 (connections are only created on demand).";
+    }
+  }
+
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent to the database in one JDBC batch by the insertBatch, updateBatch and deleteBatch operations. The default value is 1000.";
+    }
+  }
+
   public static class SqlJdbcStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -204,6 +271,42 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of SQL statements whose parsed binds are cached. 0 disables the cache. The default value is 1000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+  }
+
+  public static class SqlSlowQueryThresholdProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.slowQueryThreshold";
+    }
+
+    @Override
+    public String description() {
+      return "Execution time in milliseconds from which on a SQL statement is logged as slow query including its plain text (with bind values). 0 disables the slow query log. The default value is 0.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -17,22 +17,18 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.util.BomInputStreamReader;
 import org.eclipse.scout.rt.server.csv.CsvSettings;
-import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
-import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.shared.csv.CsvHelper;
 import org.eclipse.scout.rt.shared.csv.IDataConsumer;
 
@@ -206,24 +202,10 @@ public class CsvSqlAdapter {
       }
     }
 
-    try (FileOutputStream out = new FileOutputStream(params.getFile()); Writer w = new OutputStreamWriter(out, params.getEncoding())) {
+    try (FileOutputStream out = new FileOutputStream(params.getFile()); Writer w = new OutputStreamWriter(out, params.getEncoding());
+        Stream<Object[]> rows = m_sqlService.selectStream(sqlText, base)) {
       h.exportHeaderRows(w, params.getWriteColumnNames(), params.getWriteColumnTypes());
-      ISelectStreamHandler handler = new ISelectStreamHandler() {
-        @Override
-        public void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, List<SqlBind> values) {
-          Object[] row = new Object[values.size()];
-          for (int i = 0; i < row.length; i++) {
-            row[i] = values.get(i).getValue();
-          }
-          h.exportDataRow(row, w, false);
-        }
-
-        @Override
-        public void finished(Connection con, PreparedStatement stm, ResultSet rs, int rowCount) {
-          // do nothing
-        }
-      };
-      m_sqlService.selectStreaming(sqlText, handler, base);
+      rows.forEach(row -> h.exportDataRow(row, w, false));
     }
     catch (IOException e) {
       throw new ProcessingException(e.getMessage(), e);
@@ -61,4 +61,9 @@ public class DB2SqlStyle extends AbstractSqlStyle {
   protected String adaptBindNameTimeDateOp(String bindName) {
     return " TO_NUMBER(" + adaptBindName(bindName) + ") ";
   }
+
+  @Override
+  protected boolean isRowValueComparisonSupported() {
+    return true;
+  }
 }
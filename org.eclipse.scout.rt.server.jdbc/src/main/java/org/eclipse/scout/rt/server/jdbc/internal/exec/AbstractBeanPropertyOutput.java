@@ -14,8 +14,6 @@ import java.util.List;
 
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.IHolder;
-import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
-import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
@@ -35,8 +33,7 @@ abstract class AbstractBeanPropertyOutput implements IBindOutput {
     m_source = source;
     //
     try {
-      FastPropertyDescriptor desc = BeanUtility.getFastBeanInfo(beanType, null).getPropertyDescriptor(m_propertyName);
-      m_propertyType = desc.getPropertyType();
+      m_propertyType = BeanPropertyAccessor.get(beanType, m_propertyName).getPropertyType();
     }
     catch (Exception e) {
       throw new ProcessingException("property " + m_propertyName, e);
@@ -94,7 +91,7 @@ abstract class AbstractBeanPropertyOutput implements IBindOutput {
 
   @Override
   public void finishBatch() {
-    FastPropertyDescriptor desc = null;
+    BeanPropertyAccessor accessor = null;
     Object[] beans = getFinalBeanArray();
     if (beans != null) {
       int accSize = m_accumulator.size();
@@ -102,24 +99,24 @@ abstract class AbstractBeanPropertyOutput implements IBindOutput {
         try {
           Object bean = beans[i];
           if (bean != null) {
-            if (desc == null) {
-              desc = BeanUtility.getFastBeanInfo(bean.getClass(), null).getPropertyDescriptor(m_propertyName);
+            if (accessor == null) {
+              accessor = BeanPropertyAccessor.get(bean.getClass(), m_propertyName);
             }
             Object value = null;
             if (i < accSize) {
               value = m_accumulator.get(i);
             }
-            if (IHolder.class.isAssignableFrom(desc.getPropertyType())) {
+            if (IHolder.class.isAssignableFrom(accessor.getPropertyType())) {
               @SuppressWarnings("unchecked")
-              IHolder<Object> h = (IHolder<Object>) desc.getReadMethod().invoke(bean);
+              IHolder<Object> h = (IHolder<Object>) accessor.getValue(bean);
               if (h != null) {
                 Object castValue = TypeCastUtility.castValue(value, h.getHolderType());
                 h.setValue(castValue);
               }
             }
             else {
-              Object castValue = TypeCastUtility.castValue(value, desc.getPropertyType());
-              desc.getWriteMethod().invoke(bean, castValue);
+              Object castValue = TypeCastUtility.castValue(value, accessor.getPropertyType());
+              accessor.setValue(bean, castValue);
             }
           }
         }
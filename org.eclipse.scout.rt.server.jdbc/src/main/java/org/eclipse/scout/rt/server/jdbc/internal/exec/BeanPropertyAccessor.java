@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+
+/**
+ * Reads and writes a bean property without reflection.
+ * <p>
+ * The getter and setter are bound once per bean class and property using {@link LambdaMetafactory} (or plain
+ * {@link MethodHandle}s if the bean class is not visible to this class loader) and shared by all
+ * {@link StatementProcessor}s.
+ */
+final class BeanPropertyAccessor {
+  private static final Lookup LOOKUP = MethodHandles.lookup();
+  private static final ClassValue<ConcurrentMap<String, Optional<BeanPropertyAccessor>>> ACCESSORS = new ClassValue<ConcurrentMap<String, Optional<BeanPropertyAccessor>>>() {
+    @Override
+    protected ConcurrentMap<String, Optional<BeanPropertyAccessor>> computeValue(Class<?> beanType) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private final String m_propertyName;
+  private final Class<?> m_propertyType;
+  private final Function<Object, Object> m_getter;
+  private final BiConsumer<Object, Object> m_setter;
+
+  private BeanPropertyAccessor(String propertyName, Class<?> propertyType, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+    m_propertyName = propertyName;
+    m_propertyType = propertyType;
+    m_getter = getter;
+    m_setter = setter;
+  }
+
+  /**
+   * @return the accessor of the property or <code>null</code> if the bean type has no such property
+   */
+  public static BeanPropertyAccessor get(Class<?> beanType, String propertyName) {
+    if (beanType == null || propertyName == null || propertyName.isEmpty()) {
+      return null;
+    }
+    return ACCESSORS.get(beanType)
+        .computeIfAbsent(propertyName, name -> Optional.ofNullable(create(beanType, name)))
+        .orElse(null);
+  }
+
+  public String getPropertyName() {
+    return m_propertyName;
+  }
+
+  public Class<?> getPropertyType() {
+    return m_propertyType;
+  }
+
+  public boolean isReadable() {
+    return m_getter != null;
+  }
+
+  public boolean isWritable() {
+    return m_setter != null;
+  }
+
+  public Object getValue(Object bean) {
+    if (m_getter == null) {
+      throw new ProcessingException("property {} is not readable", m_propertyName);
+    }
+    return m_getter.apply(bean);
+  }
+
+  public void setValue(Object bean, Object value) {
+    if (m_setter == null) {
+      throw new ProcessingException("property {} is not writable", m_propertyName);
+    }
+    m_setter.accept(bean, value);
+  }
+
+  private static BeanPropertyAccessor create(Class<?> beanType, String propertyName) {
+    Method readMethod;
+    Method writeMethod;
+    Class<?> propertyType;
+    FastPropertyDescriptor desc = BeanUtility.getFastBeanInfo(beanType, null).getPropertyDescriptor(propertyName);
+    if (desc != null) {
+      readMethod = desc.getReadMethod();
+      writeMethod = desc.getWriteMethod();
+      propertyType = desc.getPropertyType();
+    }
+    else {
+      // name not following the bean naming conventions (e.g. table bean columns), look up the accessor methods directly
+      String suffix = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+      readMethod = findMethod(beanType, "get" + suffix);
+      if (readMethod == null) {
+        readMethod = findMethod(beanType, "is" + suffix);
+      }
+      if (readMethod == null) {
+        return null;
+      }
+      propertyType = readMethod.getReturnType();
+      writeMethod = findMethod(beanType, "set" + suffix, propertyType);
+    }
+    if (propertyType == null) {
+      return null;
+    }
+    try {
+      return new BeanPropertyAccessor(propertyName, propertyType, createGetter(readMethod), createSetter(writeMethod));
+    }
+    catch (ReflectiveOperationException e) {
+      throw new ProcessingException("property " + propertyName, e);
+    }
+  }
+
+  private static Method findMethod(Class<?> beanType, String name, Class<?>... parameterTypes) {
+    try {
+      return beanType.getMethod(name, parameterTypes);
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> createGetter(Method method) throws ReflectiveOperationException {
+    if (method == null) {
+      return null;
+    }
+    MethodHandle handle = unreflect(method);
+    if (isLinkable(method, handle.type())) {
+      try {
+        CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+            MethodType.methodType(Object.class, Object.class), handle, handle.type().wrap());
+        return (Function<Object, Object>) site.getTarget().invokeExact();
+      }
+      catch (Throwable t) { // NOSONAR
+        // fall back to the method handle
+      }
+    }
+    MethodHandle getter = handle.asType(MethodType.methodType(Object.class, Object.class));
+    return bean -> {
+      try {
+        return getter.invokeExact(bean);
+      }
+      catch (RuntimeException | Error e) {
+        throw e;
+      }
+      catch (Throwable t) {
+        throw new ProcessingException("property getter " + method.getName(), t);
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BiConsumer<Object, Object> createSetter(Method method) throws ReflectiveOperationException {
+    if (method == null) {
+      return null;
+    }
+    MethodHandle handle = unreflect(method);
+    if (isLinkable(method, handle.type())) {
+      try {
+        CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+            MethodType.methodType(void.class, Object.class, Object.class), handle, handle.type().wrap().changeReturnType(void.class));
+        return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+      }
+      catch (Throwable t) { // NOSONAR
+        // fall back to the method handle
+      }
+    }
+    MethodHandle setter = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    return (bean, value) -> {
+      try {
+        setter.invokeExact(bean, value);
+      }
+      catch (RuntimeException | Error e) {
+        throw e;
+      }
+      catch (Throwable t) {
+        throw new ProcessingException("property setter " + method.getName(), t);
+      }
+    };
+  }
+
+  private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+    try {
+      return LOOKUP.unreflect(method);
+    }
+    catch (IllegalAccessException e) { // NOSONAR
+      // e.g. public method declared in a non-public class
+      method.setAccessible(true);
+      return LOOKUP.unreflect(method);
+    }
+  }
+
+  /**
+   * A lambda is defined in the class loader of this class and can therefore only link against public methods and types
+   * visible to it.
+   */
+  private static boolean isLinkable(Method method, MethodType type) {
+    if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+      return false;
+    }
+    if (!isVisible(type.returnType())) {
+      return false;
+    }
+    for (Class<?> parameterType : type.parameterArray()) {
+      if (!isVisible(parameterType)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isVisible(Class<?> type) {
+    if (type.isPrimitive()) {
+      return true;
+    }
+    try {
+      return Class.forName(type.getName(), false, BeanPropertyAccessor.class.getClassLoader()) == type;
+    }
+    catch (ClassNotFoundException | LinkageError e) { // NOSONAR
+      return false;
+    }
+  }
+}
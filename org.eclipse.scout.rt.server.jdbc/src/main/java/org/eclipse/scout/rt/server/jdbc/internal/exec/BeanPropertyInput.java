@@ -10,8 +10,6 @@
 package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
-import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
-import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
@@ -19,7 +17,7 @@ import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 
 class BeanPropertyInput implements IBindInput {
   private final String m_propertyName;
-  private FastPropertyDescriptor m_propertyDesc;
+  private BeanPropertyAccessor m_propertyAccessor;
   private final Object[] m_beans;
   private Object[] m_rawValues;
   private final ValueInputToken m_target;
@@ -34,16 +32,14 @@ class BeanPropertyInput implements IBindInput {
     m_beans = beans;
     m_target = target;
     try {
-      if (m_propertyDesc == null) {
-        FastPropertyDescriptor test = BeanUtility.getFastBeanInfo(m_beans.getClass().getComponentType(), null).getPropertyDescriptor(m_propertyName);
-        if (test != null && test.getReadMethod() != null) {
-          m_propertyDesc = test;
-        }
+      BeanPropertyAccessor test = BeanPropertyAccessor.get(m_beans.getClass().getComponentType(), m_propertyName);
+      if (test != null && test.isReadable()) {
+        m_propertyAccessor = test;
       }
-      if (m_propertyDesc == null) {
+      if (m_propertyAccessor == null) {
         for (Object bean : m_beans) {
           if (bean != null) {
-            m_propertyDesc = BeanUtility.getFastBeanInfo(bean.getClass(), null).getPropertyDescriptor(m_propertyName);
+            m_propertyAccessor = BeanPropertyAccessor.get(bean.getClass(), m_propertyName);
             break;
           }
         }
@@ -119,12 +115,12 @@ class BeanPropertyInput implements IBindInput {
   public SqlBind produceSqlBindAndSetReplaceToken(ISqlStyle sqlStyle) {
     if (isBatch()) {
       Object value = null;
-      Class<?> valueType = m_propertyDesc != null ? m_propertyDesc.getPropertyType() : null;
+      Class<?> valueType = m_propertyAccessor != null ? m_propertyAccessor.getPropertyType() : null;
       if (m_batchIndex < m_beans.length) {
         Object bean = m_beans[m_batchIndex];
-        if (bean != null && m_propertyDesc != null) {
+        if (bean != null && m_propertyAccessor != null) {
           try {
-            value = m_propertyDesc.getReadMethod().invoke(bean);
+            value = m_propertyAccessor.getValue(bean);
           }
           catch (Exception e) {
             throw new ProcessingException("property " + m_propertyName, e);
@@ -157,9 +153,9 @@ class BeanPropertyInput implements IBindInput {
     m_rawValues = new Object[m_beans.length];
     for (int i = 0; i < m_rawValues.length; i++) {
       Object bean = m_beans[i];
-      if (bean != null && m_propertyDesc != null) {
+      if (bean != null && m_propertyAccessor != null) {
         try {
-          m_rawValues[i] = m_propertyDesc.getReadMethod().invoke(bean);
+          m_rawValues[i] = m_propertyAccessor.getValue(bean);
         }
         catch (Exception e) {
           throw new IllegalArgumentException("property " + m_propertyName, e);
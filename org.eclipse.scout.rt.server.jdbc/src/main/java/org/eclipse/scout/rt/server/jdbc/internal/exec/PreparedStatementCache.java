@@ -17,6 +17,7 @@ import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
@@ -31,9 +32,20 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
 
   private final ConcurrentExpiringMap<String, Integer> m_countCache;
   private final ConcurrentExpiringMap<String, PreparedStatement> m_statementCache;
+  private final SqlStatementMetrics m_metrics;
 
   public PreparedStatementCache(int statementCacheSize) {
-    super(TRANSACTION_MEMBER_ID);
+    this(TRANSACTION_MEMBER_ID, statementCacheSize);
+  }
+
+  /**
+   * Prepared statements belong to a connection, therefore every connection of a transaction needs its own cache.
+   *
+   * @since 23.2
+   */
+  public PreparedStatementCache(String transactionMemberId, int statementCacheSize) {
+    super(transactionMemberId);
+    m_metrics = BEANS.get(SqlStatementMetrics.class);
     m_countCache = new ConcurrentExpiringMap<>(2L, TimeUnit.MINUTES, 200);
     m_statementCache = new ConcurrentExpiringMap<String, PreparedStatement>(1L, TimeUnit.HOURS, statementCacheSize) {
       @Override
@@ -49,6 +61,7 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
     // a statement must be used at least 2 times within 2 minutes in order to be
     // cached
     PreparedStatement ps = m_statementCache.get(s);
+    m_metrics.recordStatementCacheAccess(ps != null);
     if (ps == null) {
       ps = conn.prepareStatement(s);
       Integer count = m_countCache.get(s);
@@ -85,6 +98,7 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
     // a statement must be used at least 2 times within 2 minutes in order to be
     // cached
     CallableStatement cs = (CallableStatement) m_statementCache.get(s);
+    m_metrics.recordStatementCacheAccess(cs != null);
     if (cs == null) {
       cs = conn.prepareCall(s);
       Integer count = m_countCache.get(s);
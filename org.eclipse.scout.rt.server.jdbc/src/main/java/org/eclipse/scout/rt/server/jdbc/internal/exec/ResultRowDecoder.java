@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.eclipse.scout.rt.server.jdbc.ColumnarResult;
+import org.eclipse.scout.rt.server.jdbc.style.IColumnReader;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+
+/**
+ * Decodes the rows of a {@link ResultSet}. The column types and the {@link IColumnReader}s are resolved once from the
+ * {@link ResultSetMetaData} and then used for all rows.
+ */
+final class ResultRowDecoder {
+  private static final int INITIAL_COLUMNAR_CAPACITY = 64;
+
+  private final ResultSet m_resultSet;
+  private final int[] m_columnTypes;
+  private final IColumnReader[] m_readers;
+
+  private ResultRowDecoder(ResultSet resultSet, int[] columnTypes, IColumnReader[] readers) {
+    m_resultSet = resultSet;
+    m_columnTypes = columnTypes;
+    m_readers = readers;
+  }
+
+  public static ResultRowDecoder create(ISqlStyle sqlStyle, ResultSet rs) throws SQLException {
+    ResultSetMetaData meta = rs.getMetaData();
+    int colCount = meta.getColumnCount();
+    int[] columnTypes = new int[colCount];
+    IColumnReader[] readers = new IColumnReader[colCount];
+    for (int i = 0; i < colCount; i++) {
+      columnTypes[i] = meta.getColumnType(i + 1);
+      readers[i] = sqlStyle.createColumnReader(meta, columnTypes[i], i + 1);
+    }
+    return new ResultRowDecoder(rs, columnTypes, readers);
+  }
+
+  /**
+   * @return <code>true</code> if this decoder was created for the given {@link ResultSet}
+   */
+  public boolean isDecoderOf(ResultSet rs) {
+    return m_resultSet == rs;
+  }
+
+  public int getColumnCount() {
+    return m_columnTypes.length;
+  }
+
+  public int getColumnType(int column) {
+    return m_columnTypes[column];
+  }
+
+  public Object readColumn(ResultSet rs, int column) throws SQLException {
+    return m_readers[column].read(rs, column + 1);
+  }
+
+  public Object[] readRow(ResultSet rs) throws SQLException {
+    Object[] row = new Object[m_readers.length];
+    for (int i = 0; i < row.length; i++) {
+      row[i] = m_readers[i].read(rs, i + 1);
+    }
+    return row;
+  }
+
+  /**
+   * Creates an accumulator for the rows of this decoder's {@link ResultSet} held column by column.
+   */
+  public ColumnarAccumulator createColumnarAccumulator() {
+    return new ColumnarAccumulator(m_columnTypes);
+  }
+
+  /**
+   * Collects rows into primitive arrays for numeric columns, see {@link ColumnarResult}.
+   */
+  static final class ColumnarAccumulator {
+    private final int[] m_columnTypes;
+    private final Object[] m_columns;
+    private final BitSet[] m_nulls;
+    private int m_rowCount;
+    private int m_capacity;
+
+    private ColumnarAccumulator(int[] columnTypes) {
+      m_columnTypes = columnTypes;
+      m_columns = new Object[columnTypes.length];
+      m_nulls = new BitSet[columnTypes.length];
+      m_capacity = INITIAL_COLUMNAR_CAPACITY;
+      for (int i = 0; i < columnTypes.length; i++) {
+        if (ColumnarResult.isLongColumnType(columnTypes[i])) {
+          m_columns[i] = new long[m_capacity];
+        }
+        else if (ColumnarResult.isDoubleColumnType(columnTypes[i])) {
+          m_columns[i] = new double[m_capacity];
+        }
+        else {
+          m_columns[i] = new Object[m_capacity];
+        }
+        m_nulls[i] = new BitSet();
+      }
+    }
+
+    /**
+     * Appends the current row of the {@link ResultSet}. Numeric columns are read using the primitive getters of the
+     * {@link ResultSet}, all other columns using the readers of the given decoder.
+     */
+    public void addRow(ResultRowDecoder decoder, ResultSet rs) throws SQLException {
+      if (m_rowCount == m_capacity) {
+        grow();
+      }
+      int row = m_rowCount;
+      for (int i = 0; i < m_columns.length; i++) {
+        Object values = m_columns[i];
+        if (values instanceof long[]) {
+          ((long[]) values)[row] = rs.getLong(i + 1);
+          if (rs.wasNull()) {
+            m_nulls[i].set(row);
+          }
+        }
+        else if (values instanceof double[]) {
+          ((double[]) values)[row] = rs.getDouble(i + 1);
+          if (rs.wasNull()) {
+            m_nulls[i].set(row);
+          }
+        }
+        else {
+          Object value = decoder.readColumn(rs, i);
+          ((Object[]) values)[row] = value;
+          if (value == null) {
+            m_nulls[i].set(row);
+          }
+        }
+      }
+      m_rowCount++;
+    }
+
+    public int getRowCount() {
+      return m_rowCount;
+    }
+
+    public ColumnarResult toColumnarResult() {
+      return new ColumnarResult(m_rowCount, m_columnTypes, m_columns, m_nulls);
+    }
+
+    private void grow() {
+      m_capacity = m_capacity + (m_capacity >> 1);
+      for (int i = 0; i < m_columns.length; i++) {
+        Object values = m_columns[i];
+        if (values instanceof long[]) {
+          m_columns[i] = Arrays.copyOf((long[]) values, m_capacity);
+        }
+        else if (values instanceof double[]) {
+          m_columns[i] = Arrays.copyOf((double[]) values, m_capacity);
+        }
+        else {
+          m_columns[i] = Arrays.copyOf((Object[]) values, m_capacity);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.opentelemetry.AttributesCache;
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.util.collection.StripedConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlSlowQueryThresholdProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Execution metrics of the SQL statements run by {@link StatementProcessor}:
+ * <ul>
+ * <li>execute time (until the statement returned its update count or its first rows)</li>
+ * <li>fetch time (reading the rows of the result)</li>
+ * <li>number of fetched rows</li>
+ * <li>hits and misses of the {@link PreparedStatementCache}</li>
+ * </ul>
+ * <p>
+ * Statement metrics are differentiated by a fingerprint of the normalized statement text (literals and bind
+ * placeholders replaced, IN-lists collapsed, comments and whitespace removed, see {@link #normalize(String)}), so that
+ * executions of the same statement with different binds are aggregated. The normalized text of a fingerprint is logged
+ * on debug level when the fingerprint is created.
+ * </p>
+ * <p>
+ * Statements running longer than {@link SqlSlowQueryThresholdProperty} are logged as warning including their plain
+ * text.
+ * </p>
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class SqlStatementMetrics {
+  private static final Logger LOG = LoggerFactory.getLogger(SqlStatementMetrics.class);
+
+  private static final AttributeKey<String> QUERY_FINGERPRINT = AttributeKey.stringKey("db.query.fingerprint");
+  private static final AttributeKey<String> OPERATION_NAME = AttributeKey.stringKey("db.operation.name");
+  private static final AttributeKey<String> CACHE_RESULT = AttributeKey.stringKey("result");
+  private static final String OTEL_METRIC_EXECUTE_DURATION = "scout.sql.statement.execute.duration";
+  private static final String OTEL_METRIC_FETCH_DURATION = "scout.sql.statement.fetch.duration";
+
+  private static final Pattern IN_LIST_PATTERN = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+  private static final int FINGERPRINT_CACHE_SIZE = 1000;
+
+  private final long m_slowQueryThresholdNanos;
+  private final ConcurrentMap<String, Fingerprint> m_fingerprints;
+  private final AttributesCache<String, String> m_attributes;
+  private final Attributes m_cacheHitAttributes;
+  private final Attributes m_cacheMissAttributes;
+  private final DoubleHistogram m_executeDuration;
+  private final DoubleHistogram m_fetchDuration;
+  private final LongCounter m_fetchedRows;
+  private final LongCounter m_statementCacheRequests;
+
+  public SqlStatementMetrics() {
+    m_slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(CONFIG.getPropertyValue(SqlSlowQueryThresholdProperty.class));
+    m_fingerprints = new StripedConcurrentExpiringMap<>(1L, TimeUnit.HOURS, FINGERPRINT_CACHE_SIZE);
+    m_attributes = AttributesCache.of(FINGERPRINT_CACHE_SIZE, 1, (fingerprint, operation) -> Attributes.of(QUERY_FINGERPRINT, fingerprint, OPERATION_NAME, operation));
+    m_cacheHitAttributes = Attributes.of(CACHE_RESULT, "hit");
+    m_cacheMissAttributes = Attributes.of(CACHE_RESULT, "miss");
+
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.SqlStatementMetrics");
+    m_executeDuration = meter.histogramBuilder(OTEL_METRIC_EXECUTE_DURATION)
+        .setUnit("ms")
+        .setDescription("The time it took to execute a SQL statement (without fetching its rows).")
+        .build();
+    m_fetchDuration = meter.histogramBuilder(OTEL_METRIC_FETCH_DURATION)
+        .setUnit("ms")
+        .setDescription("The time it took to fetch the rows of a SQL query.")
+        .build();
+    m_fetchedRows = meter.counterBuilder("scout.sql.statement.rows")
+        .setUnit("{row}")
+        .setDescription("The number of rows fetched by SQL queries.")
+        .build();
+    m_statementCacheRequests = meter.counterBuilder("scout.sql.statement_cache.requests")
+        .setUnit("{request}")
+        .setDescription("The number of prepared statement cache requests, differentiated by hit and miss.")
+        .build();
+  }
+
+  /**
+   * @param stm
+   *          the executed statement text (with bind placeholders)
+   * @param executeNanos
+   *          time to execute the statement
+   * @param fetchNanos
+   *          time to fetch the rows of a query, 0 if not a query
+   * @param rowCount
+   *          number of rows fetched, -1 if not a query
+   * @param plainText
+   *          supplies the plain text of the statement for the slow query log
+   */
+  public void recordExecution(String stm, long executeNanos, long fetchNanos, int rowCount, Supplier<String> plainText) {
+    Fingerprint fingerprint = getFingerprint(stm);
+    Attributes attributes = m_attributes.getOrCreate(fingerprint.getId(), fingerprint.getOperation());
+    m_executeDuration.record(toMillis(executeNanos), attributes);
+    if (rowCount >= 0) {
+      m_fetchDuration.record(toMillis(fetchNanos), attributes);
+      m_fetchedRows.add(rowCount, attributes);
+    }
+    if (m_slowQueryThresholdNanos > 0 && executeNanos + fetchNanos >= m_slowQueryThresholdNanos) {
+      LOG.warn("Slow SQL statement [fingerprint={}, executeTime={}ms, fetchTime={}ms, rows={}]:\n{}",
+          fingerprint.getId(), TimeUnit.NANOSECONDS.toMillis(executeNanos), TimeUnit.NANOSECONDS.toMillis(fetchNanos), rowCount, plainText.get());
+    }
+  }
+
+  public void recordStatementCacheAccess(boolean hit) {
+    m_statementCacheRequests.add(1, hit ? m_cacheHitAttributes : m_cacheMissAttributes);
+  }
+
+  /**
+   * @return the fingerprint of the given statement text
+   */
+  public Fingerprint getFingerprint(String stm) {
+    Fingerprint fingerprint = m_fingerprints.get(stm);
+    if (fingerprint == null) {
+      String normalized = normalize(stm);
+      fingerprint = new Fingerprint(String.format("%08x", normalized.hashCode()), getOperation(normalized));
+      m_fingerprints.put(stm, fingerprint);
+      LOG.debug("SQL fingerprint {}: {}", fingerprint.getId(), normalized);
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Normalizes a statement text: comments are removed, whitespace is collapsed, string and numeric literals are replaced
+   * by <code>?</code>, lists of <code>?</code> (e.g. IN-lists of varying length) are collapsed to a single
+   * <code>?</code> and the text is converted to lower case.
+   */
+  protected String normalize(String stm) {
+    StringBuilder buf = new StringBuilder(stm.length());
+    int len = stm.length();
+    int i = 0;
+    while (i < len) {
+      char c = stm.charAt(i);
+      if (c == '-' && i + 1 < len && stm.charAt(i + 1) == '-') {
+        // line comment
+        while (i < len && stm.charAt(i) != '\n') {
+          i++;
+        }
+        appendSpace(buf);
+      }
+      else if (c == '/' && i + 1 < len && stm.charAt(i + 1) == '*') {
+        // block comment
+        int end = stm.indexOf("*/", i + 2);
+        i = end < 0 ? len : end + 2;
+        appendSpace(buf);
+      }
+      else if (c == '\'') {
+        // string literal, '' is an escaped quote
+        i++;
+        while (i < len) {
+          if (stm.charAt(i) == '\'') {
+            if (i + 1 < len && stm.charAt(i + 1) == '\'') {
+              i += 2;
+              continue;
+            }
+            break;
+          }
+          i++;
+        }
+        i++;
+        buf.append('?');
+      }
+      else if (Character.isDigit(c) && !isIdentifierPart(buf)) {
+        // numeric literal
+        while (i < len && (Character.isDigit(stm.charAt(i)) || stm.charAt(i) == '.')) {
+          i++;
+        }
+        buf.append('?');
+      }
+      else if (Character.isWhitespace(c)) {
+        i++;
+        appendSpace(buf);
+      }
+      else {
+        buf.append(Character.toLowerCase(c));
+        i++;
+      }
+    }
+    return IN_LIST_PATTERN.matcher(buf.toString().trim()).replaceAll("?");
+  }
+
+  protected String getOperation(String normalized) {
+    int end = 0;
+    while (end < normalized.length() && Character.isLetter(normalized.charAt(end))) {
+      end++;
+    }
+    return end == 0 ? "unknown" : normalized.substring(0, end).toUpperCase(Locale.ROOT);
+  }
+
+  private static void appendSpace(StringBuilder buf) {
+    if (buf.length() > 0 && buf.charAt(buf.length() - 1) != ' ') {
+      buf.append(' ');
+    }
+  }
+
+  private static boolean isIdentifierPart(StringBuilder buf) {
+    if (buf.length() == 0) {
+      return false;
+    }
+    char c = buf.charAt(buf.length() - 1);
+    return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#';
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000d;
+  }
+
+  /**
+   * Fingerprint of a normalized statement text.
+   */
+  public static final class Fingerprint {
+    private final String m_id;
+    private final String m_operation;
+
+    private Fingerprint(String id, String operation) {
+      m_id = id;
+      m_operation = operation;
+    }
+
+    /**
+     * @return hash of the normalized statement text
+     */
+    public String getId() {
+      return m_id;
+    }
+
+    /**
+     * @return the first keyword of the statement (e.g. SELECT, UPDATE)
+     */
+    public String getOperation() {
+      return m_operation;
+    }
+  }
+
+  /**
+   * Custom histogram buckets for the execute and fetch time of SQL statements (time unit: milliseconds).
+   */
+  public static class ExecuteDurationHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return "scout.sql.statement.*.duration";
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 5d, 10d, 25d, 50d, 100d, 250d, 500d, 1_000d, 5_000d, 30_000d);
+    }
+  }
+}
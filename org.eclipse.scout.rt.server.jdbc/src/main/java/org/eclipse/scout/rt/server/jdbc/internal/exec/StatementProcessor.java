@@ -9,8 +9,6 @@
  */
 package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -20,12 +18,19 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
@@ -37,25 +42,26 @@ import org.eclipse.scout.rt.platform.holders.IHolder;
 import org.eclipse.scout.rt.platform.holders.ITableBeanHolder;
 import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.holders.TableBeanHolderFilter;
-import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
-import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.server.IServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlTransactionMember;
+import org.eclipse.scout.rt.server.jdbc.ColumnarResult;
+import org.eclipse.scout.rt.server.jdbc.ISelectRowMapper;
 import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessor;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ResultRowDecoder.ColumnarAccumulator;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -71,6 +77,7 @@ import org.slf4j.LoggerFactory;
 public class StatementProcessor implements IStatementProcessor {
   private static final Logger LOG = LoggerFactory.getLogger(StatementProcessor.class);
   private static final Pattern REGEX_DOT = Pattern.compile("[.]");
+  private static final int DEFAULT_STREAM_FETCH_SIZE = 100;
 
   static {
     if (LOG.isDebugEnabled()) {
@@ -96,6 +103,7 @@ public class StatementProcessor implements IStatementProcessor {
   private int m_currentOutputBatchIndex = -1;
   private String m_currentInputStm;
   private TreeMap<Integer/* jdbcBindIndex */, SqlBind> m_currentInputBindMap;
+  private ResultRowDecoder m_resultRowDecoder;
 
   public StatementProcessor(ISqlService callerService, String stm, Object[] bindBases) {
     this(callerService, stm, bindBases, 0);
@@ -138,10 +146,10 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
+      ParsedStatementCache parsedStatementCache = BEANS.get(ParsedStatementCache.class);
+      IntoModel intoModel = parsedStatementCache.getIntoModel(m_originalStm);
       //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      m_bindModel = parsedStatementCache.getBindModel(intoModel);
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -201,15 +209,19 @@ public class StatementProcessor implements IStatementProcessor {
   }
 
   protected Object[] processResultRow(ResultSet rs) throws SQLException {
-    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
-    ResultSetMetaData meta = rs.getMetaData();
-    int colCount = meta.getColumnCount();
-    Object[] row = new Object[colCount];
-    for (int i = 0; i < colCount; i++) {
-      int type = meta.getColumnType(i + 1);
-      row[i] = sqlStyle.readBind(rs, meta, type, i + 1);
-    }
-    return row;
+    return getResultRowDecoder(rs).readRow(rs);
+  }
+
+  /**
+   * @return the decoder of the given {@link ResultSet}, its column readers are resolved once per {@link ResultSet}
+   */
+  private ResultRowDecoder getResultRowDecoder(ResultSet rs) throws SQLException {
+    ResultRowDecoder decoder = m_resultRowDecoder;
+    if (decoder == null || !decoder.isDecoderOf(rs)) {
+      decoder = ResultRowDecoder.create(m_callerService.getSqlStyle(), rs);
+      m_resultRowDecoder = decoder;
+    }
+    return decoder;
   }
 
   private int getMaxFetchSize(ResultSet rs) throws SQLException {
@@ -225,22 +237,10 @@ public class StatementProcessor implements IStatementProcessor {
   }
 
   protected List<Object[]> processResultRows(ResultSet rs, int maxRowCount) throws SQLException {
-    boolean isDynamicPrefetch = false;
-    int rowCount = 0;
-    int initialFetchSize = 0;
-    int dynamicFetchSize = 0;
-    if (m_callerService.getSqlStyle() != null && m_callerService.getSqlStyle() instanceof OracleSqlStyle) {
-      // init prefetch params
-      isDynamicPrefetch = true;
-      initialFetchSize = rs.getFetchSize();
-      dynamicFetchSize = initialFetchSize;
-    }
+    P_DynamicPrefetch prefetch = new P_DynamicPrefetch(rs, m_callerService.getSqlStyle() instanceof OracleSqlStyle);
     List<Object[]> rows = new ArrayList<>();
     while (rs.next()) {
-      if (isDynamicPrefetch && ++rowCount % dynamicFetchSize == 0 && dynamicFetchSize < getMaxFetchSize(rs)) {
-        dynamicFetchSize = Math.min(Math.max(initialFetchSize, rowCount / 2), getMaxFetchSize(rs));
-        rs.setFetchSize(dynamicFetchSize);
-      }
+      prefetch.rowFetched(rs);
       Object[] row = processResultRow(rs);
       rows.add(row);
       if (maxRowCount > 0 && rows.size() >= maxRowCount) {
@@ -272,8 +272,12 @@ public class StatementProcessor implements IStatementProcessor {
         bindBatch(ps);
         registerActiveStatement(ps);
         try {
+          long startNanos = System.nanoTime();
           rs = ps.executeQuery();
-          for (Object[] row : processResultRows(rs, m_maxRowCount)) {
+          long executedNanos = System.nanoTime();
+          List<Object[]> batchRows = processResultRows(rs, m_maxRowCount);
+          recordExecution(executedNanos - startNanos, System.nanoTime() - executedNanos, batchRows.size());
+          for (Object[] row : batchRows) {
             rows.add(row);
             nextOutputBatch();
             consumeSelectIntoRow(row);
@@ -327,8 +331,12 @@ public class StatementProcessor implements IStatementProcessor {
         bindBatch(ps);
         registerActiveStatement(ps);
         try {
+          long startNanos = System.nanoTime();
           rs = ps.executeQuery();
-          for (Object[] row : processResultRows(rs, m_maxRowCount)) {
+          long executedNanos = System.nanoTime();
+          List<Object[]> batchRows = processResultRows(rs, m_maxRowCount);
+          recordExecution(executedNanos - startNanos, System.nanoTime() - executedNanos, batchRows.size());
+          for (Object[] row : batchRows) {
             nextOutputBatch();
             consumeSelectIntoRow(row);
           }
@@ -359,12 +367,66 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @Override
+  public <T> Stream<T> processSelectStream(Connection conn, IStatementCache cache, ISelectRowMapper<T> mapper) {
+    P_ResultRowIterator<T> iterator = new P_ResultRowIterator<>(conn, cache, mapper);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(iterator::close);
+  }
+
+  @SuppressWarnings({"resource", "squid:S2095"})
+  @Override
+  public ColumnarResult processSelectColumnar(Connection conn, IStatementCache cache) {
+    PreparedStatement ps = null;
+    ResultSet rs = null;
+    try {
+      ColumnarAccumulator accumulator = null;
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        ps = cache.getPreparedStatement(conn, m_currentInputStm);
+        bindBatch(ps);
+        registerActiveStatement(ps);
+        try {
+          long startNanos = System.nanoTime();
+          rs = ps.executeQuery();
+          long executedNanos = System.nanoTime();
+          ResultRowDecoder decoder = getResultRowDecoder(rs);
+          if (accumulator == null) {
+            accumulator = decoder.createColumnarAccumulator();
+          }
+          int startRowCount = accumulator.getRowCount();
+          P_DynamicPrefetch prefetch = new P_DynamicPrefetch(rs, m_callerService.getSqlStyle() instanceof OracleSqlStyle);
+          while ((m_maxRowCount <= 0 || accumulator.getRowCount() < m_maxRowCount) && rs.next()) {
+            prefetch.rowFetched(rs);
+            accumulator.addRow(decoder, rs);
+          }
+          recordExecution(executedNanos - startNanos, System.nanoTime() - executedNanos, accumulator.getRowCount() - startRowCount);
+        }
+        finally {
+          unregisterActiveStatement(ps);
+          releasePreparedStatementAndResultSet(ps, cache, rs);
+          ps = null;
+          rs = null;
+        }
+      }
+      if (accumulator == null) {
+        return new ColumnarResult(0, new int[0], new Object[0], new BitSet[0]);
+      }
+      return accumulator.toColumnarResult();
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+  }
+
   @SuppressWarnings({"resource", "squid:S2095"})
   @Override
   public void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler) {
     PreparedStatement ps = null;
     ResultSet rs = null;
-    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
     try {
       int rowCount = 0;
       while (hasNextInputBatch()) {
@@ -375,23 +437,32 @@ public class StatementProcessor implements IStatementProcessor {
         bindBatch(ps);
         registerActiveStatement(ps);
         try {
+          long startNanos = System.nanoTime();
           rs = ps.executeQuery();
+          long executeNanos = System.nanoTime() - startNanos;
 
-          ResultSetMetaData meta = rs.getMetaData();
-          int colCount = meta.getColumnCount();
+          // the time spent in the handler is not part of the fetch time
+          long fetchNanos = 0;
+          int batchRowCount = 0;
+          long fetchStartNanos = System.nanoTime();
+          ResultRowDecoder decoder = getResultRowDecoder(rs);
+          int colCount = decoder.getColumnCount();
           while (rs.next()) {
             List<SqlBind> row = new ArrayList<>(colCount);
             for (int i = 0; i < colCount; i++) {
-              int type = meta.getColumnType(i + 1);
-              Object value = sqlStyle.readBind(rs, meta, type, i + 1);
-              row.add(new SqlBind(type, value));
+              row.add(new SqlBind(decoder.getColumnType(i), decoder.readColumn(rs, i)));
             }
+            fetchNanos += System.nanoTime() - fetchStartNanos;
             handler.handleRow(conn, ps, rs, rowCount, row);
+            fetchStartNanos = System.nanoTime();
             rowCount++;
+            batchRowCount++;
             if (m_maxRowCount > 0 && rowCount >= m_maxRowCount) {
               break;
             }
           }
+          fetchNanos += System.nanoTime() - fetchStartNanos;
+          recordExecution(executeNanos, fetchNanos, batchRowCount);
         }
         finally {
           unregisterActiveStatement(ps);
@@ -438,7 +509,9 @@ public class StatementProcessor implements IStatementProcessor {
         bindBatch(ps);
         registerActiveStatement(ps);
         try {
+          long startNanos = System.nanoTime();
           rowCount = rowCount + ps.executeUpdate();
+          recordExecution(System.nanoTime() - startNanos, 0, -1);
         }
         finally {
           unregisterActiveStatement(ps);
@@ -456,6 +529,89 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings("resource")
+  @Override
+  public int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize) {
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int batchCount = 0;
+    int executedCount = 0;
+    List<int[]> updateCountChunks = new ArrayList<>();
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        // rows expanding to a different statement text (e.g. because of a bound array) cannot share the same batch
+        if (ps != null && !m_currentInputStm.equals(batchStm)) {
+          executedCount += addUpdateCounts(updateCountChunks, executeBatch(ps, batchStm));
+          batchCount = 0;
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          batchStm = m_currentInputStm;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        batchCount++;
+        if (batchSize > 0 && batchCount >= batchSize) {
+          executedCount += addUpdateCounts(updateCountChunks, executeBatch(ps, batchStm));
+          batchCount = 0;
+        }
+      }
+      if (ps != null && batchCount > 0) {
+        executedCount += addUpdateCounts(updateCountChunks, executeBatch(ps, batchStm));
+        batchCount = 0;
+      }
+      int[] updateCounts = new int[executedCount];
+      int pos = 0;
+      for (int[] chunk : updateCountChunks) {
+        System.arraycopy(chunk, 0, updateCounts, pos, chunk.length);
+        pos += chunk.length;
+      }
+      return updateCounts;
+    }
+    catch (SQLException | RuntimeException e) {
+      if (ps != null) {
+        try {
+          ps.clearBatch();
+        }
+        catch (SQLException | RuntimeException e2) { // NOSONAR
+          LOG.debug("Could not clear batch", e2);
+        }
+      }
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false))
+          .withContextInfo("batchRow", executedCount + batchCount);
+    }
+    finally {
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  protected int[] executeBatch(PreparedStatement ps, String stm) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      long startNanos = System.nanoTime();
+      int[] updateCounts = ps.executeBatch();
+      BEANS.get(SqlStatementMetrics.class).recordExecution(stm, System.nanoTime() - startNanos, 0, -1, () -> SqlFormatter.wellform(stm).trim());
+      return updateCounts;
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
+  protected static int addUpdateCounts(List<int[]> updateCountChunks, int[] batchUpdateCounts) {
+    if (batchUpdateCounts == null || batchUpdateCounts.length == 0) {
+      return 0;
+    }
+    updateCountChunks.add(batchUpdateCounts);
+    return batchUpdateCounts.length;
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -477,7 +633,9 @@ public class StatementProcessor implements IStatementProcessor {
         bindBatch(cs);
         registerActiveStatement(cs);
         try {
+          long startNanos = System.nanoTime();
           status = status && cs.execute();
+          recordExecution(System.nanoTime() - startNanos, 0, -1);
           nextOutputBatch();
           consumeOutputRow(cs);
         }
@@ -1000,81 +1158,35 @@ public class StatementProcessor implements IStatementProcessor {
     else if (bindBase instanceof ITableBeanHolder) {
       // handle all terminal cases for table holder
       ITableBeanHolder table = (ITableBeanHolder) bindBase;
-      try {
-        Method m = table.getRowType().getMethod("get" + Character.toUpperCase(path[0].charAt(0)) + path[0].substring(1));
-        if (m != null) {
-          found = true;
-          return new TableBeanHolderInput(table, null, path[0], bindToken);
-        }
-      }
-      catch (NoSuchMethodException | SecurityException t) {
-        found = false;
-        // nop
+      if (isReadableProperty(table.getRowType(), path[0])) {
+        found = true;
+        return new TableBeanHolderInput(table, null, path[0], bindToken);
       }
     }
     else if (bindBase instanceof TableBeanHolderFilter) {
       // handle all terminal cases for table holder filter
       TableBeanHolderFilter filter = (TableBeanHolderFilter) bindBase;
       ITableBeanHolder table = filter.getTableBeanHolder();
-      try {
-        Method m = table.getRowType().getMethod("get" + Character.toUpperCase(path[0].charAt(0)) + path[0].substring(1));
-        if (m != null) {
-          found = true;
-          return new TableBeanHolderInput(table, filter.getFilteredRows(), path[0], bindToken);
-        }
-      }
-      catch (NoSuchMethodException | SecurityException t) {
-        // nop
-        found = false;
+      if (isReadableProperty(table.getRowType(), path[0])) {
+        found = true;
+        return new TableBeanHolderInput(table, filter.getFilteredRows(), path[0], bindToken);
       }
     }
     else if (bindBase instanceof IBeanArrayHolder) {
       // handle all terminal cases for BeanArrayHolder
       IBeanArrayHolder<?> holder = (IBeanArrayHolder) bindBase;
-      try {
-        Method m = holder.getHolderType().getMethod("get" + Character.toUpperCase(path[0].charAt(0)) + path[0].substring(1));
-        if (m != null) {
-          found = true;
-          return new BeanArrayHolderInput(holder, null, path[0], bindToken);
-        }
-      }
-      catch (NoSuchMethodException | SecurityException t1) {
-        try {
-          Method m = holder.getHolderType().getMethod("is" + Character.toUpperCase(path[0].charAt(0)) + path[0].substring(1));
-          if (m != null) {
-            found = true;
-            return new BeanArrayHolderInput(holder, null, path[0], bindToken);
-          }
-        }
-        catch (NoSuchMethodException | SecurityException t2) {
-          found = false;
-          // nop
-        }
+      if (isReadableProperty(holder.getHolderType(), path[0])) {
+        found = true;
+        return new BeanArrayHolderInput(holder, null, path[0], bindToken);
       }
     }
     else if (bindBase instanceof BeanArrayHolderFilter) {
       // handle all terminal cases for table holder filter
       BeanArrayHolderFilter filter = (BeanArrayHolderFilter) bindBase;
       IBeanArrayHolder<?> holder = filter.getBeanArrayHolder();
-      try {
-        Method m = holder.getHolderType().getMethod("get" + Character.toUpperCase(path[0].charAt(0)) + path[0].substring(1));
-        if (m != null) {
-          found = true;
-          return new BeanArrayHolderInput(holder, filter.getFilteredBeans(), path[0], bindToken);
-        }
-      }
-      catch (NoSuchMethodException | SecurityException t1) {
-        try {
-          Method m = holder.getHolderType().getMethod("is" + Character.toUpperCase(path[0].charAt(0)) + path[0].substring(1));
-          if (m != null) {
-            found = true;
-            return new BeanArrayHolderInput(holder, null, path[0], bindToken);
-          }
-        }
-        catch (NoSuchMethodException | SecurityException t2) {
-          found = false;
-          // nop
-        }
+      if (isReadableProperty(holder.getHolderType(), path[0])) {
+        found = true;
+        return new BeanArrayHolderInput(holder, filter.getFilteredBeans(), path[0], bindToken);
       }
     }
     else if (bindBase != null) {
@@ -1085,28 +1197,21 @@ public class StatementProcessor implements IStatementProcessor {
         return new BeanPropertyInput(path[0], ((Collection) bindBase).toArray(), bindToken);
       }
       /* bean property */
-      try {
-        Object propertyBean = bindBase;
-        FastPropertyDescriptor pd = BeanUtility.getFastBeanInfo(propertyBean.getClass(), null).getPropertyDescriptor(path[0]);
-        Method getter = pd != null ? pd.getReadMethod() : null;
-        if (getter != null) {
-          // getter exists
-          o = getter.invoke(propertyBean);
-          found = true;
-          if (terminal) {
-            return createInputTerminal(o, getter.getReturnType(), bindToken);
-          }
-          else {
-            if (o == null) {
-              throw new ProcessingException("input bind {} resolves to null on path element: {}", bindToken, path[0]);
-            }
+      Object propertyBean = bindBase;
+      BeanPropertyAccessor accessor = BeanPropertyAccessor.get(propertyBean.getClass(), path[0]);
+      if (accessor != null && accessor.isReadable()) {
+        // getter exists
+        o = accessor.getValue(propertyBean);
+        found = true;
+        if (terminal) {
+          return createInputTerminal(o, accessor.getPropertyType(), bindToken);
+        }
+        else {
+          if (o == null) {
+            throw new ProcessingException("input bind {} resolves to null on path element: {}", bindToken, path[0]);
           }
         }
       }
-      catch (IllegalAccessException | InvocationTargetException e) {
-        LOG.warn("Exception while invoking bean getter", e);
-        LOG.debug("Cannot access property.", e);
-      }
     }
     //
     if (found) {
@@ -1256,87 +1361,51 @@ public class StatementProcessor implements IStatementProcessor {
     else if (bindBase instanceof ITableBeanHolder) {
       // handle all terminal cases for table holder
       ITableBeanHolder table = (ITableBeanHolder) bindBase;
-      try {
-        Method m = table.getRowType().getMethod("get" + Character.toUpperCase(path[0].charAt(0)) + path[0].substring(1));
-        if (m != null) {
-          found = true;
-          return new TableBeanHolderOutput(table, path[0], bindToken);
-        }
-      }
-      catch (NoSuchMethodException | SecurityException t) {
-        // nop
-        found = false;
+      if (isReadableProperty(table.getRowType(), path[0])) {
+        found = true;
+        return new TableBeanHolderOutput(table, path[0], bindToken);
       }
     }
     else if (bindBase instanceof IBeanArrayHolder) {
       // handle all terminal cases for BeanArrayHolder
       IBeanArrayHolder holder = (IBeanArrayHolder) bindBase;
-      try {
-        Method m = holder.getHolderType().getMethod("get" + Character.toUpperCase(path[0].charAt(0)) + path[0].substring(1));
-        if (m != null) {
-          found = true;
-          return new BeanArrayHolderOutput(holder, path[0], bindToken);
-        }
-      }
-      catch (NoSuchMethodException | SecurityException t1) {
-        try {
-          Method m = holder.getHolderType().getMethod("is" + Character.toUpperCase(path[0].charAt(0)) + path[0].substring(1));
-          if (m != null) {
-            found = true;
-            return new BeanArrayHolderOutput(holder, path[0], bindToken);
-          }
-        }
-        catch (NoSuchMethodException | SecurityException t2) {
-          found = false;
-          // nop
-        }
+      if (isReadableProperty(holder.getHolderType(), path[0])) {
+        found = true;
+        return new BeanArrayHolderOutput(holder, path[0], bindToken);
       }
     }
     else/* bean property */ {
       // handle all terminal cases for bean property
-      try {
-        FastPropertyDescriptor pd = BeanUtility.getFastBeanInfo(bindBase.getClass(), null).getPropertyDescriptor(path[0]);
-        if (terminal) {
-          Method setter = pd != null ? pd.getWriteMethod() : null;
-          if (setter != null) {
-            found = true;
-            return new AbstractBeanPropertyOutput(bindBase.getClass(), path[0], bindToken) {
-              @Override
-              protected Object[] getFinalBeanArray() {
-                return new Object[]{bindBase};
-              }
-            };
-          }
-          else {
-            Method getter = pd != null ? pd.getReadMethod() : null;
-            if (getter != null) {
-              o = getter.invoke(bindBase, (Object[]) null);
-              if (o instanceof ITableBeanHolder) {
-                throw new ProcessingException("output bind '{}' is a table bean and should not be a terminal", bindToken.getName());
-              }
-              else if (o instanceof IBeanArrayHolder) {
-                throw new ProcessingException("output bind '{}' is a bean array and should not be a terminal", bindToken.getName());
-              }
-              else if (o instanceof IHolder) {
-                return createOutputTerminal((IHolder) o, bindToken);
-              }
-              else {
-                return null;
-              }
+      BeanPropertyAccessor accessor = BeanPropertyAccessor.get(bindBase.getClass(), path[0]);
+      if (terminal) {
+        if (accessor != null && accessor.isWritable()) {
+          found = true;
+          return new AbstractBeanPropertyOutput(bindBase.getClass(), path[0], bindToken) {
+            @Override
+            protected Object[] getFinalBeanArray() {
+              return new Object[]{bindBase};
             }
-          }
+          };
         }
-        else {
-          Method getter = pd != null ? pd.getReadMethod() : null;
-          if (getter != null) {
-            Object readValue = getter.invoke(bindBase, (Object[]) null);
-            o = readValue;
-            found = true;
+        else if (accessor != null && accessor.isReadable()) {
+          o = accessor.getValue(bindBase);
+          if (o instanceof ITableBeanHolder) {
+            throw new ProcessingException("output bind '{}' is a table bean and should not be a terminal", bindToken.getName());
+          }
+          else if (o instanceof IBeanArrayHolder) {
+            throw new ProcessingException("output bind '{}' is a bean array and should not be a terminal", bindToken.getName());
+          }
+          else if (o instanceof IHolder) {
+            return createOutputTerminal((IHolder) o, bindToken);
+          }
+          else {
+            return null;
           }
         }
       }
-      catch (IllegalAccessException | InvocationTargetException e) {
-        LOG.warn("Exception while invoking bean getter", e);
+      else if (accessor != null && accessor.isReadable()) {
+        o = accessor.getValue(bindBase);
+        found = true;
       }
     }
     //
@@ -1475,8 +1544,178 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * Grows the fetch size of a {@link ResultSet} while its rows are read, up to the number of rows fitting into
+   * {@link AbstractSqlService#getMaxFetchMemorySize()}.
+   */
+  private final class P_DynamicPrefetch {
+    private final boolean m_enabled;
+    private final int m_initialFetchSize;
+    private int m_fetchSize;
+    private int m_rowCount;
+
+    private P_DynamicPrefetch(ResultSet rs, boolean enabled) throws SQLException {
+      m_initialFetchSize = enabled ? rs.getFetchSize() : 0;
+      m_enabled = enabled && m_initialFetchSize > 0;
+      m_fetchSize = m_initialFetchSize;
+    }
+
+    private void rowFetched(ResultSet rs) throws SQLException {
+      if (m_enabled && ++m_rowCount % m_fetchSize == 0 && m_fetchSize < getMaxFetchSize(rs)) {
+        m_fetchSize = Math.min(Math.max(m_initialFetchSize, m_rowCount / 2), getMaxFetchSize(rs));
+        rs.setFetchSize(m_fetchSize);
+      }
+    }
+  }
+
+  /**
+   * Lazily executes the input batches and reads the rows of their {@link ResultSet}s. Only the current row is held in
+   * memory, further rows are fetched from the database when requested by the consumer. The open cursor is closed once
+   * all rows were read, the maximum row count is reached, an error occurs or {@link #close()} is called.
+   */
+  private final class P_ResultRowIterator<T> implements Iterator<T> {
+    private final Connection m_conn;
+    private final IStatementCache m_cache;
+    private final ISelectRowMapper<T> m_mapper;
+    private PreparedStatement m_ps;
+    private ResultSet m_rs;
+    private int m_previousFetchSize;
+    private P_DynamicPrefetch m_prefetch;
+    private long m_executeNanos;
+    private long m_fetchNanos;
+    private int m_batchRowCount;
+    private T m_nextRow;
+    private int m_rowCount;
+    private boolean m_closed;
+
+    private P_ResultRowIterator(Connection conn, IStatementCache cache, ISelectRowMapper<T> mapper) {
+      m_conn = conn;
+      m_cache = cache;
+      m_mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (m_nextRow != null) {
+        return true;
+      }
+      if (m_closed) {
+        return false;
+      }
+      try {
+        while (m_maxRowCount <= 0 || m_rowCount < m_maxRowCount) {
+          if (m_rs == null) {
+            if (!hasNextInputBatch()) {
+              break;
+            }
+            executeNextInputBatch();
+          }
+          long fetchStartNanos = System.nanoTime();
+          if (m_rs.next()) {
+            m_prefetch.rowFetched(m_rs);
+            Object[] row = processResultRow(m_rs);
+            m_fetchNanos += System.nanoTime() - fetchStartNanos;
+            m_batchRowCount++;
+            m_nextRow = Assertions.assertNotNull(m_mapper.mapRow(m_rs, row), "{} mapped row {} to null", m_mapper, m_rowCount + 1);
+            m_rowCount++;
+            return true;
+          }
+          m_fetchNanos += System.nanoTime() - fetchStartNanos;
+          releaseCurrentInputBatch();
+        }
+      }
+      catch (SQLException | RuntimeException e) {
+        close();
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+      close();
+      return false;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T row = m_nextRow;
+      m_nextRow = null;
+      return row;
+    }
+
+    @SuppressWarnings("resource")
+    private void executeNextInputBatch() throws SQLException {
+      nextInputBatch();
+      prepareInputStatementAndBinds();
+      dump();
+      m_ps = m_cache.getPreparedStatement(m_conn, m_currentInputStm);
+      bindBatch(m_ps);
+      // without a fetch size, some drivers (e.g. PostgreSQL) read the whole result into memory
+      m_previousFetchSize = m_ps.getFetchSize();
+      if (m_previousFetchSize <= 0) {
+        m_ps.setFetchSize(DEFAULT_STREAM_FETCH_SIZE);
+      }
+      registerActiveStatement(m_ps);
+      long startNanos = System.nanoTime();
+      m_rs = m_ps.executeQuery();
+      m_executeNanos = System.nanoTime() - startNanos;
+      m_fetchNanos = 0;
+      m_batchRowCount = 0;
+      m_prefetch = new P_DynamicPrefetch(m_rs, true);
+    }
+
+    private void releaseCurrentInputBatch() {
+      if (m_ps == null) {
+        return;
+      }
+      unregisterActiveStatement(m_ps);
+      if (m_rs != null) {
+        recordExecution(m_executeNanos, m_fetchNanos, m_batchRowCount);
+      }
+      try {
+        if (m_previousFetchSize != m_ps.getFetchSize()) {
+          m_ps.setFetchSize(m_previousFetchSize); // statement may be cached
+        }
+      }
+      catch (SQLException | RuntimeException e) { // NOSONAR
+        LOG.debug("Could not reset fetch size", e);
+      }
+      releasePreparedStatementAndResultSet(m_ps, m_cache, m_rs);
+      m_ps = null;
+      m_rs = null;
+      m_prefetch = null;
+    }
+
+    private void close() {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+      m_nextRow = null;
+      releaseCurrentInputBatch();
+    }
+  }
+
+  /**
+   * Records the execution of the current input batch in {@link SqlStatementMetrics}.
+   *
+   * @param rowCount
+   *          number of fetched rows, -1 if the statement is not a query
+   */
+  private void recordExecution(long executeNanos, long fetchNanos, int rowCount) {
+    BEANS.get(SqlStatementMetrics.class).recordExecution(m_currentInputStm, executeNanos, fetchNanos, rowCount, () -> createSqlDump(false, true));
+  }
+
+  private static boolean isReadableProperty(Class<?> beanType, String propertyName) {
+    BeanPropertyAccessor accessor = BeanPropertyAccessor.get(beanType, propertyName);
+    return accessor != null && accessor.isReadable();
+  }
+
   private void releasePreparedStatementAndResultSet(PreparedStatement ps, IStatementCache cache, ResultSet rs) {
     if (rs != null) {
+      if (m_resultRowDecoder != null && m_resultRowDecoder.isDecoderOf(rs)) {
+        m_resultRowDecoder = null;
+      }
       try {
         rs.close();
       }
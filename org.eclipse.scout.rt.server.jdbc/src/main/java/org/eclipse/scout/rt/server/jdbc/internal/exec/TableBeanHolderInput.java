@@ -9,10 +9,6 @@
  */
 package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
-import java.lang.reflect.Method;
-
-import org.eclipse.scout.rt.platform.BEANS;
-import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.ITableBeanHolder;
 import org.eclipse.scout.rt.platform.holders.ITableBeanRowHolder;
@@ -25,7 +21,7 @@ class TableBeanHolderInput implements IBindInput {
 
   private final ITableBeanHolder m_table;
   private final ITableBeanRowHolder[] m_filteredRows;
-  private final Method m_getterMethod;
+  private final BeanPropertyAccessor m_propertyAccessor;
   private final ValueInputToken m_target;
   private int m_batchIndex = -1;
   private int m_jdbcBindIndex = -1;
@@ -38,11 +34,9 @@ class TableBeanHolderInput implements IBindInput {
     else {
       m_filteredRows = filteredRows;
     }
-    try {
-      m_getterMethod = table.getRowType().getMethod("get" + Character.toUpperCase(columnName.charAt(0)) + columnName.substring(1));
-    }
-    catch (NoSuchMethodException | SecurityException e) {
-      throw new ProcessingException("unexpected exception", e);
+    m_propertyAccessor = BeanPropertyAccessor.get(table.getRowType(), columnName);
+    if (m_propertyAccessor == null || !m_propertyAccessor.isReadable()) {
+      throw new ProcessingException("unexpected exception", new NoSuchMethodException(table.getRowType().getName() + ".get" + columnName));
     }
     m_target = target;
   }
@@ -89,12 +83,7 @@ class TableBeanHolderInput implements IBindInput {
   public SqlBind produceSqlBindAndSetReplaceToken(ISqlStyle sqlStyle) {
     Object value = null;
     if (m_batchIndex < m_filteredRows.length) {
-      try {
-        value = m_getterMethod.invoke(m_filteredRows[m_batchIndex]);
-      }
-      catch (ReflectiveOperationException e) {
-        throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
-      }
+      value = m_propertyAccessor.getValue(m_filteredRows[m_batchIndex]);
     }
 
     if (m_target.isPlainValue()) {
@@ -107,7 +96,7 @@ class TableBeanHolderInput implements IBindInput {
     }
     else {
       m_target.setReplaceToken("?");
-      return sqlStyle.buildBindFor(value, m_getterMethod.getReturnType());
+      return sqlStyle.buildBindFor(value, m_propertyAccessor.getPropertyType());
     }
   }
 
@@ -9,10 +9,6 @@
  */
 package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
-import java.lang.reflect.Method;
-
-import org.eclipse.scout.rt.platform.BEANS;
-import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.ITableBeanHolder;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
@@ -22,8 +18,7 @@ import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 
 class TableBeanHolderOutput implements IBindOutput {
   private final ITableBeanHolder m_holder;
-  private final Method m_getterMethod;
-  private final Method m_setterMethod;
+  private final BeanPropertyAccessor m_propertyAccessor;
   private final Class m_beanType;
   private final ValueOutputToken m_source;
   private int m_batchIndex = -1;
@@ -31,14 +26,11 @@ class TableBeanHolderOutput implements IBindOutput {
 
   public TableBeanHolderOutput(ITableBeanHolder holder, String columnName, ValueOutputToken source) {
     m_holder = holder;
-    try {
-      m_getterMethod = m_holder.getRowType().getMethod("get" + Character.toUpperCase(columnName.charAt(0)) + columnName.substring(1));
-      m_beanType = m_getterMethod.getReturnType();
-      m_setterMethod = m_holder.getRowType().getMethod("set" + Character.toUpperCase(columnName.charAt(0)) + columnName.substring(1), new Class[]{m_beanType});
-    }
-    catch (NoSuchMethodException | SecurityException e) {
-      throw new ProcessingException("unexpected exception", e);
+    m_propertyAccessor = BeanPropertyAccessor.get(m_holder.getRowType(), columnName);
+    if (m_propertyAccessor == null || !m_propertyAccessor.isReadable() || !m_propertyAccessor.isWritable()) {
+      throw new ProcessingException("unexpected exception", new NoSuchMethodException(m_holder.getRowType().getName() + ".set" + columnName));
     }
+    m_beanType = m_propertyAccessor.getPropertyType();
     m_source = source;
   }
 
@@ -74,7 +66,7 @@ class TableBeanHolderOutput implements IBindOutput {
 
   @Override
   public Class getBindType() {
-    return m_getterMethod.getReturnType();
+    return m_beanType;
   }
 
   @Override
@@ -96,13 +88,8 @@ class TableBeanHolderOutput implements IBindOutput {
   @SuppressWarnings("unchecked")
   public void consumeValue(Object value) {
     ensureSize(m_holder, m_batchIndex + 1);
-    try {
-      Object castValue = TypeCastUtility.castValue(value, m_beanType);
-      m_setterMethod.invoke(m_holder.getRows()[m_batchIndex], new Object[]{castValue});
-    }
-    catch (ReflectiveOperationException e) {
-      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
-    }
+    Object castValue = TypeCastUtility.castValue(value, m_beanType);
+    m_propertyAccessor.setValue(m_holder.getRows()[m_batchIndex], castValue);
   }
 
   @Override
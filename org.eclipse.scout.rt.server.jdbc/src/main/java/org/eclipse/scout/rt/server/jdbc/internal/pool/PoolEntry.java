@@ -10,11 +10,21 @@
 package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @SuppressWarnings({"squid:S00116", "squid:ClassVariableVisibilityCheck"})
 class PoolEntry {
-  public Connection conn;
-  public long createTime;
-  public long leaseBegin;
-  public int leaseCount;
+  public static final int STATE_BUSY = 0;
+  public static final int STATE_IDLE = 1;
+  public static final int STATE_REMOVED = 2;
+
+  public volatile Connection conn;
+  public volatile long createTime;
+  public volatile long leaseBegin;
+  public volatile int leaseCount;
+  /**
+   * The thread changing the state of an entry (compare-and-set) owns the transition, e.g. only the thread changing
+   * from {@link #STATE_IDLE} to {@link #STATE_BUSY} may lease the connection.
+   */
+  public final AtomicInteger state = new AtomicInteger(STATE_BUSY);
 }
@@ -30,13 +30,23 @@ public class SqlConnectionBuilder {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionBuilder.class);
 
   public Connection createJdbcConnection(AbstractSqlService sqlService) throws ClassNotFoundException, SQLException {
+    return createJdbcConnection(sqlService, sqlService.getJdbcMappingName());
+  }
+
+  /**
+   * Creates a connection using the credentials and properties of the given service but a different JDBC mapping name
+   * (e.g. of a read replica).
+   *
+   * @since 23.2
+   */
+  public Connection createJdbcConnection(AbstractSqlService sqlService, String jdbcMappingName) throws ClassNotFoundException, SQLException {
     String user = sqlService.getUsername();
     String pass = sqlService.getPassword();
     Class.forName(sqlService.getJdbcDriverName());
     //
     Connection conn;
     if (user != null && pass != null) {
-      conn = DriverManager.getConnection(sqlService.getJdbcMappingName(), user, pass); // NOSONAR
+      conn = DriverManager.getConnection(jdbcMappingName, user, pass); // NOSONAR
     }
     else {
       Properties p = null;
@@ -56,10 +66,10 @@ public class SqlConnectionBuilder {
         }
       }
       if (p != null) {
-        conn = DriverManager.getConnection(sqlService.getJdbcMappingName(), p); // NOSONAR
+        conn = DriverManager.getConnection(jdbcMappingName, p); // NOSONAR
       }
       else {
-        conn = DriverManager.getConnection(sqlService.getJdbcMappingName()); // NOSONAR
+        conn = DriverManager.getConnection(jdbcMappingName); // NOSONAR
       }
     }
     conn.setAutoCommit(false);
@@ -11,15 +11,19 @@ package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Deque;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
@@ -43,6 +47,20 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
  * System-wide connection pool for pooling connections There is one pool for every ISqlService sub class type If
  * possible, every scout Session is provided with always the same connection it had in the last request this class is
  * thread-safe
+ * <p>
+ * The pool does not hold a lock while connections are created, tested or closed:
+ * <ul>
+ * <li>The number of leased connections is bounded by a fair {@link Semaphore} with one permit per connection. Threads
+ * waiting for a connection are served in FIFO order and give up after the lease timeout.</li>
+ * <li>A thread owning a permit while all connections are idle but not yet available (just being released or created by
+ * the background job) waits until a connection is made available or closed.</li>
+ * <li>Idle connections are kept in a lock-free stack (most recently released first). An entry is leased by changing
+ * its state from idle to busy (compare-and-set), so a connection is never handed out twice.</li>
+ * <li>A new connection is only created after a slot was reserved in the total connection count, which never exceeds
+ * the pool size.</li>
+ * <li>If a minimum number of idle connections is configured, missing idle connections are created by a background
+ * job.</li>
+ * </ul>
  */
 @Bean
 @SuppressWarnings("squid:S1166")
@@ -59,13 +77,25 @@ public class SqlConnectionPool {
   /*
    * Instance
    */
-  private final Object m_poolLock = new Object();
-  private final Set<PoolEntry> m_idleEntries = new HashSet<>();
-  private final Set<PoolEntry> m_busyEntries = new HashSet<>();
+  private final List<PoolEntry> m_entries = new CopyOnWriteArrayList<>();
+  private final Deque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger m_totalCount = new AtomicInteger();
+  private volatile Semaphore m_leasePermits;
+  private final AtomicBoolean m_prewarming = new AtomicBoolean(false);
+  /**
+   * Incremented whenever an idle connection is made available or a connection is removed from the pool.
+   */
+  private final AtomicLong m_availableVersion = new AtomicLong();
+  private final AtomicInteger m_availableWaiters = new AtomicInteger();
+  private final Object m_availableMonitor = new Object();
+  private volatile AbstractSqlService m_service;
   private volatile String m_name;
+  private volatile String m_jdbcMappingName;
   private volatile int m_poolSize;
+  private volatile int m_minIdle;
   private volatile long m_connectionLifetime;
   private volatile long m_connectionBusyTimeout;
+  private volatile long m_leaseTimeout;
   private final AtomicBoolean m_initialized = new AtomicBoolean(false);
   /*
    * OpenTelemetry
@@ -74,11 +104,37 @@ public class SqlConnectionPool {
   private Attributes m_defaultAttributes;
 
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    initialize(name, poolSize, 0, connectionLifetime, connectionBusyTimeout, 0L);
+  }
+
+  /**
+   * @param minIdle
+   *          minimum number of idle connections kept open by a background job (0 to create connections only on demand)
+   * @param leaseTimeout
+   *          maximum time in milliseconds to wait for a connection if all connections are leased (0 to wait
+   *          indefinitely)
+   * @since 23.2
+   */
+  public void initialize(String name, int poolSize, int minIdle, long connectionLifetime, long connectionBusyTimeout, long leaseTimeout) {
+    initialize(name, null, poolSize, minIdle, connectionLifetime, connectionBusyTimeout, leaseTimeout);
+  }
+
+  /**
+   * @param jdbcMappingName
+   *          JDBC mapping name of the pooled connections, <code>null</code> to use
+   *          {@link AbstractSqlService#getJdbcMappingName()} (e.g. a read replica)
+   * @since 23.2
+   */
+  public void initialize(String name, String jdbcMappingName, int poolSize, int minIdle, long connectionLifetime, long connectionBusyTimeout, long leaseTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
+    m_jdbcMappingName = jdbcMappingName;
     m_poolSize = poolSize;
+    m_minIdle = Math.min(minIdle, poolSize);
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
+    m_leaseTimeout = leaseTimeout;
+    m_leasePermits = new Semaphore(poolSize, true);
     startManagePool();
     initMetrics();
   }
@@ -121,8 +177,8 @@ public class SqlConnectionPool {
     Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
     //noinspection resource
     meter.batchCallback(() -> {
-      connectionsUsage.record(m_idleEntries.size(), idleConnectionsAttributes);
-      connectionsUsage.record(m_busyEntries.size(), usedConnectionsAttributes);
+      connectionsUsage.record(countEntries(PoolEntry.STATE_IDLE), idleConnectionsAttributes);
+      connectionsUsage.record(countEntries(PoolEntry.STATE_BUSY), usedConnectionsAttributes);
       maxConnections.record(m_poolSize, m_defaultAttributes);
     },
         connectionsUsage,
@@ -131,128 +187,248 @@ public class SqlConnectionPool {
 
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
+    m_service = service;
     managePool();
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    assertNotDestroyed();
 
-      PoolEntry candidate = null;
+    final boolean timed = m_leaseTimeout > 0;
+    final long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(m_leaseTimeout);
+    acquireLeasePermit(timed, deadline);
+    PoolEntry candidate = null;
+    try {
       while (candidate == null) {
+        assertNotDestroyed();
+        final long availableVersion = m_availableVersion.get();
         // get next available conn
-        for (PoolEntry m_idleEntry : m_idleEntries) {
-          candidate = m_idleEntry;
-          break;
-        }
-        if (candidate == null && m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
+        candidate = pollIdleEntry();
+        if (candidate == null) {
           // create new connection
-          PoolEntry test = new PoolEntry();
-          test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
-          LOG.info("created jdbc connection {}", test.conn);
-          service.callbackAfterConnectionCreated(test.conn);
-          test.createTime = System.currentTimeMillis();
-          m_idleEntries.add(test);
-          candidate = test;
+          candidate = createEntry(service);
         }
         if (candidate == null) {
-          // wait
-          try {
-            m_poolLock.wait();
-          }
-          catch (InterruptedException ie) {
-            Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
-            throw new ThreadInterruptedError("Interrupted while leasing database connection");
-          }
+          // the pool is full but we own a permit: a connection is just being released, created by the pre-warming job or closed
+          awaitAvailable(availableVersion, timed, deadline);
         }
         // test candidate connection
-        if (candidate != null) {
-          try {
-            service.callbackTestConnection(candidate.conn);
+        else if (!testConnection(service, candidate)) {
+          candidate = null;
+        }
+      }
+    }
+    catch (ClassNotFoundException | SQLException | RuntimeException | Error e) { // NOSONAR
+      m_leasePermits.release();
+      throw e;
+    }
+
+    candidate.leaseCount++; // NOSONAR only modified by the lessee
+    LOG.debug("lease   {}", candidate.conn);
+    double elapsedAcquired = TimingUtility.msElapsed(startTime);
+    m_connectionWaitTime.record(elapsedAcquired, m_defaultAttributes);
+    ensureMinIdle();
+    return candidate.conn;
+  }
+
+  /**
+   * Waits (in FIFO order) until less than pool size connections are leased.
+   *
+   * @param deadline
+   *          {@link System#nanoTime()} after which waiting is given up, only used if <code>timed</code>
+   */
+  protected void acquireLeasePermit(boolean timed, long deadline) throws SQLException {
+    try {
+      if (!timed) {
+        m_leasePermits.acquire();
+      }
+      else if (!m_leasePermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException(String.format("Timeout while leasing database connection from pool %s after %d ms", m_name, m_leaseTimeout));
+      }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+  }
+
+  /**
+   * Waits until a connection was made available or removed since the given version of {@link #m_availableVersion} was
+   * read.
+   *
+   * @param deadline
+   *          {@link System#nanoTime()} after which waiting is given up, only used if <code>timed</code>
+   */
+  protected void awaitAvailable(long version, boolean timed, long deadline) throws SQLException {
+    m_availableWaiters.incrementAndGet();
+    try {
+      synchronized (m_availableMonitor) {
+        while (m_availableVersion.get() == version) {
+          if (!timed) {
+            m_availableMonitor.wait();
           }
-          catch (Exception e) {
-            // remove candidate from idle pool and close it
-            m_idleEntries.remove(candidate);
-            LOG.warn("closing dirty connection: {}", candidate.conn, e);
-            try {
-              candidate.conn.close();
-            }
-            catch (Exception fatal) {
-              LOG.warn("could not close candidate connection", fatal);
+          else {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+              throw new SQLTransientConnectionException(String.format("Timeout while leasing database connection from pool %s after %d ms", m_name, m_leaseTimeout));
             }
-            candidate = null;
+            TimeUnit.NANOSECONDS.timedWait(m_availableMonitor, remaining);
           }
         }
-      }// end while
-       // move to busy pool
-      m_idleEntries.remove(candidate);
-      candidate.leaseBegin = System.currentTimeMillis();
-      candidate.leaseCount++;
-      m_busyEntries.add(candidate);
-      LOG.debug("lease   {}", candidate.conn);
-      double elapsedAcquired = TimingUtility.msElapsed(startTime);
-      m_connectionWaitTime.record(elapsedAcquired, m_defaultAttributes);
-      return candidate.conn;
+      }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    finally {
+      m_availableWaiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * Wakes up the threads waiting in {@link #awaitAvailable(long, boolean, long)}. Called after an idle connection was
+   * made available or a connection was removed.
+   */
+  protected void signalAvailable() {
+    m_availableVersion.incrementAndGet();
+    // waiters register before reading the version a second time: either they see the new version or they are notified
+    if (m_availableWaiters.get() > 0) {
+      synchronized (m_availableMonitor) {
+        m_availableMonitor.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * @return an idle entry which is now in state busy or <code>null</code> if there are no idle entries
+   */
+  protected PoolEntry pollIdleEntry() {
+    PoolEntry entry;
+    while ((entry = m_idleEntries.pollFirst()) != null) {
+      if (entry.state.compareAndSet(PoolEntry.STATE_IDLE, PoolEntry.STATE_BUSY)) {
+        entry.leaseBegin = System.currentTimeMillis();
+        return entry;
+      }
+      // removed concurrently by managePool
+    }
+    return null;
+  }
+
+  /**
+   * Creates a new connection if the pool is not full.
+   *
+   * @return the new entry in state busy or <code>null</code> if the pool is full
+   */
+  protected PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    int total;
+    do {
+      total = m_totalCount.get();
+      if (total >= m_poolSize) {
+        return null;
+      }
+    }
+    while (!m_totalCount.compareAndSet(total, total + 1));
+
+    Connection conn = null;
+    boolean success = false;
+    try {
+      conn = createConnection(service);
+      LOG.info("created jdbc connection {}", conn);
+      service.callbackAfterConnectionCreated(conn);
+      PoolEntry entry = new PoolEntry();
+      entry.conn = conn;
+      entry.createTime = System.currentTimeMillis();
+      entry.leaseBegin = entry.createTime;
+      m_entries.add(entry);
+      success = true;
+      return entry;
+    }
+    finally {
+      if (!success) {
+        m_totalCount.decrementAndGet();
+        signalAvailable();
+        if (conn != null) {
+          closeConnection(conn);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return a new JDBC connection for the given service (using the JDBC mapping name of this pool, if set)
+   * @since 23.2
+   */
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service, m_jdbcMappingName != null ? m_jdbcMappingName : service.getJdbcMappingName());
+  }
+
+  /**
+   * Tests the connection of a busy entry. If the test fails, the entry is removed and its connection closed.
+   */
+  protected boolean testConnection(AbstractSqlService service, PoolEntry candidate) {
+    try {
+      service.callbackTestConnection(candidate.conn);
+      return true;
+    }
+    catch (Exception e) {
+      // remove candidate from pool and close it
+      LOG.warn("closing dirty connection: {}", candidate.conn, e);
+      removeEntry(candidate, PoolEntry.STATE_BUSY);
+      closeConnection(candidate.conn);
+      return false;
     }
   }
 
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
-
-      PoolEntry candidate = null;
-      for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-        PoolEntry e = (PoolEntry) it.next();
-        if (e.conn == conn) {
-          candidate = e;
-          it.remove();
-          break;
-        }
+    assertNotDestroyed();
+
+    PoolEntry candidate = null;
+    for (PoolEntry e : m_entries) {
+      if (e.conn == conn && e.state.get() == PoolEntry.STATE_BUSY) {
+        candidate = e;
+        break;
       }
-      // check close status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.isClosed()) {
-            candidate = null;
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
+    }
+    boolean clean = candidate != null;
+    // check close status of connection
+    if (clean) {
+      try {
+        clean = !conn.isClosed();
       }
-      // check error status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.getWarnings() != null) {
-            /*
-             * connection is normally valid again after clearing the warnings.
-             * Since oracle is not supporting warnings, the subsequent call has no effect!
-             */
-            candidate.conn.clearWarnings();
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
+      catch (Exception e) {
+        // ignore
+        clean = false;
+      }
+    }
+    // check error status of connection
+    if (clean) {
+      try {
+        if (conn.getWarnings() != null) {
+          /*
+           * connection is normally valid again after clearing the warnings.
+           * Since oracle is not supporting warnings, the subsequent call has no effect!
+           */
+          conn.clearWarnings();
         }
       }
-      // all checks passed, candidate is either non-null or null, in the latter
-      // case conn is a dirty connection
-      // back to idle pool
-      if (candidate != null) {
-        // move to idle pool
-        candidate.leaseBegin = 0;
-        m_idleEntries.add(candidate);
+      catch (Exception e) {
+        // ignore
+        clean = false;
       }
-      else {
-        LOG.warn("closing dirty connection: {}", conn);
-        try {
-          conn.close();
-        }
-        catch (SQLException e) {
-          // ignored
-        }
+    }
+    // all checks passed, if not clean conn is a dirty connection
+    if (clean && candidate.state.compareAndSet(PoolEntry.STATE_BUSY, PoolEntry.STATE_IDLE)) {
+      // back to idle pool
+      m_idleEntries.addFirst(candidate);
+      signalAvailable();
+      m_leasePermits.release();
+    }
+    else {
+      // the permit is released by the thread removing the busy entry (not if it was removed by managePool already)
+      if (candidate != null && removeEntry(candidate, PoolEntry.STATE_BUSY)) {
+        m_leasePermits.release();
       }
-      m_poolLock.notifyAll();
+      LOG.warn("closing dirty connection: {}", conn);
+      closeConnection(conn);
     }
     managePool();
   }
@@ -260,23 +436,36 @@ public class SqlConnectionPool {
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
-    synchronized (m_poolLock) {
-      buf.append("Total connections: ").append(m_busyEntries.size() + m_idleEntries.size());
-      buf.append("\n");
-      buf.append("Busy: ").append(m_busyEntries.size());
-      buf.append("\n");
-      for (PoolEntry e : m_busyEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+    StringBuilder busy = new StringBuilder();
+    StringBuilder idle = new StringBuilder();
+    int busyCount = 0;
+    int idleCount = 0;
+    for (PoolEntry e : m_entries) {
+      Connection conn = e.conn;
+      if (conn == null) {
+        continue;
+      }
+      int state = e.state.get();
+      if (state == PoolEntry.STATE_BUSY) {
+        busyCount++;
+        busy.append("  class=").append(conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
             .append(fmt.format(new Date(e.leaseBegin)));
-        buf.append("\n");
+        busy.append("\n");
       }
-      buf.append("Idle: ").append(m_idleEntries.size());
-      buf.append("\n");
-      for (PoolEntry e : m_idleEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
-        buf.append("\n");
+      else if (state == PoolEntry.STATE_IDLE) {
+        idleCount++;
+        idle.append("  class=").append(conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
+        idle.append("\n");
       }
     }
+    buf.append("Total connections: ").append(busyCount + idleCount);
+    buf.append("\n");
+    buf.append("Busy: ").append(busyCount);
+    buf.append("\n");
+    buf.append(busy);
+    buf.append("Idle: ").append(idleCount);
+    buf.append("\n");
+    buf.append(idle);
     return buf.toString();
   }
 
@@ -285,36 +474,109 @@ public class SqlConnectionPool {
    */
   private void managePool() {
     try {
-      synchronized (m_poolLock) {
-        if (isDestroyed()) {
-          return;
-        }
+      if (isDestroyed()) {
+        return;
+      }
 
-        // close old idle connections
-        for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
+      long now = System.currentTimeMillis();
+      for (PoolEntry e : m_entries) {
+        int state = e.state.get();
+        if (state == PoolEntry.STATE_IDLE && now - e.createTime > m_connectionLifetime) {
+          // close old idle connections
+          if (removeEntry(e, PoolEntry.STATE_IDLE)) {
+            m_idleEntries.remove(e);
             closeConnectionAsync(e.conn, "expired idle connection");
-            e.conn = null;
-            it.remove();
           }
         }
-        // close timed out busy connections
-        for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
+        else if (state == PoolEntry.STATE_BUSY && now - e.leaseBegin > m_connectionBusyTimeout) {
+          // close timed out busy connections
+          if (removeEntry(e, PoolEntry.STATE_BUSY)) {
+            m_leasePermits.release();
             closeConnectionAsync(e.conn, "timed out busy connection");
-            e.conn = null;
-            it.remove();
           }
         }
       }
+      ensureMinIdle();
     }
     catch (Exception t) {
       LOG.warn("Unexpected Problem while managing SQL connection pool", t);
     }
   }
 
+  /**
+   * Creates idle connections in the background until {@link #m_minIdle} idle connections are available (or the pool is
+   * full).
+   */
+  protected void ensureMinIdle() {
+    final AbstractSqlService service = m_service;
+    if (m_minIdle <= 0 || service == null || isDestroyed() || !isPrewarmingRequired()) {
+      return;
+    }
+    if (!m_prewarming.compareAndSet(false, true)) {
+      return;
+    }
+    Jobs.schedule(() -> {
+      boolean failed = false;
+      try {
+        while (!isDestroyed() && isPrewarmingRequired()) {
+          PoolEntry entry = createEntry(service);
+          if (entry == null) {
+            break;
+          }
+          entry.state.set(PoolEntry.STATE_IDLE);
+          m_idleEntries.addLast(entry);
+          signalAvailable();
+        }
+      }
+      catch (Exception e) {
+        failed = true;
+        LOG.warn("Could not create idle SQL connection for pool {}", m_name, e);
+      }
+      finally {
+        m_prewarming.set(false);
+      }
+      if (!failed) {
+        // a lease may have skipped scheduling this job while it was finishing
+        ensureMinIdle();
+      }
+    }, Jobs.newInput()
+        .withName("Creating idle SQL connections for pool {}", m_name)
+        .withExecutionHint(m_identity));
+  }
+
+  protected boolean isPrewarmingRequired() {
+    return countEntries(PoolEntry.STATE_IDLE) < m_minIdle && m_totalCount.get() < m_poolSize;
+  }
+
+  /**
+   * Removes an entry which is in the given state.
+   *
+   * @return <code>true</code> if the entry was removed by this call
+   */
+  protected boolean removeEntry(PoolEntry entry, int expectedState) {
+    if (!entry.state.compareAndSet(expectedState, PoolEntry.STATE_REMOVED)) {
+      return false;
+    }
+    m_entries.remove(entry);
+    m_totalCount.decrementAndGet();
+    signalAvailable();
+    return true;
+  }
+
+  protected int countEntries(int state) {
+    int count = 0;
+    for (PoolEntry e : m_entries) {
+      if (e.state.get() == state) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  protected void assertNotDestroyed() {
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+  }
+
   /**
    * Returns whether this SQL pool was destroyed, and cannot be used anymore.
    */
@@ -325,31 +587,38 @@ public class SqlConnectionPool {
   /**
    * Destroys this connection pool. Upon return, this pool cannot be used anymore.
    */
-  public void destroy() {
+  public synchronized void destroy() {
     if (isDestroyed()) {
       return;
     }
+    m_destroyed = true;
 
-    synchronized (m_poolLock) {
-      if (isDestroyed()) {
-        return; // double-checked locking
-      }
-      m_destroyed = true;
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
 
-      // Cancel jobs.
-      Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
-          .andMatchExecutionHint(m_identity)
-          .toFilter(), true);
-
-      for (final PoolEntry idleEntry : m_idleEntries) {
-        closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
+    for (final PoolEntry entry : m_entries) {
+      if (removeEntry(entry, PoolEntry.STATE_IDLE) || removeEntry(entry, PoolEntry.STATE_BUSY)) {
+        closeConnectionAsync(entry.conn, "destroying SQL connection pool");
       }
-      m_idleEntries.clear();
+    }
+    m_idleEntries.clear();
 
-      for (final PoolEntry busyEntry : m_busyEntries) {
-        closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
-      }
-      m_busyEntries.clear();
+    // wake up waiting threads (they fail because the pool is destroyed)
+    signalAvailable();
+    Semaphore leasePermits = m_leasePermits;
+    if (leasePermits != null) {
+      leasePermits.release(leasePermits.getQueueLength() + 1);
+    }
+  }
+
+  protected void closeConnection(Connection connection) {
+    try {
+      connection.close();
+    }
+    catch (Exception e) {
+      LOG.warn("could not close connection {}", connection, e);
     }
   }
 
@@ -9,7 +9,13 @@
  */
 package org.eclipse.scout.rt.server.jdbc.lookup;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,6 +32,7 @@ import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.SQL;
 import org.eclipse.scout.rt.server.services.lookup.AbstractLookupService;
+import org.eclipse.scout.rt.server.services.lookup.IBatchKeyLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
@@ -52,8 +59,11 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Valid bind names are: Object key, String text, String all, Object rec, {@link TriState} active<br>
  * Valid xml tags are: &lt;key&gt;, &lt;text&gt;, &lt;all&gt;, &lt;rec&gt;
+ * <p>
+ * Key lookups of a {@link org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall BatchLookupCall} may be loaded
+ * with a single statement, see {@link #getConfiguredBatchLookupByKey()}.
  */
-public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<T> {
+public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<T> implements IBatchKeyLookupService<T> {
 
   @SuppressWarnings("bsiRulesDefinition:htmlInString")
   private static final Pattern REFUSING_ALL_TAGS_REGEX = Pattern.compile("<all>\\s*and\\s*([0-9]+)\\s*=\\s*([0-9]+)\\s*</all>", Pattern.DOTALL);
@@ -78,6 +88,23 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return 1;
   }
 
+  /**
+   * Enables loading the rows of multiple key lookups with a single statement, see
+   * {@link #getBatchDataByKey(List)}.
+   * <p>
+   * The bind <code>:key</code> is bound to the collection of all keys and must therefore be used as
+   * <code>&lt;key&gt;AND KEY_COLUMN = :key&lt;/key&gt;</code>, which is expanded to <code>KEY_COLUMN IN (...)</code>.
+   * The first column of the select must be the key. The batch select is not limited, the max row count of each call
+   * is applied to the rows of its key.
+   *
+   * @since 23.2
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(30)
+  protected boolean getConfiguredBatchLookupByKey() {
+    return false;
+  }
+
   /**
    * This method is called on server side to load lookup rows.
    */
@@ -114,6 +141,48 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return execLoadLookupRows(sql, filterSqlByKey(sql), call);
   }
 
+  @Override
+  public boolean isBatchLookupByKeySupported() {
+    return getConfiguredBatchLookupByKey();
+  }
+
+  @Override
+  public List<List<ILookupRow<T>>> getBatchDataByKey(List<ILookupCall<T>> calls) {
+    // keys of the rows are only comparable with the keys of the calls if they are converted to the key type
+    if (!isBatchLookupByKeySupported() || calls.size() < 2 || determineGenericsParameterClass() == Object.class) {
+      List<List<ILookupRow<T>>> result = new ArrayList<>(calls.size());
+      for (ILookupCall<T> call : calls) {
+        result.add(getDataByKey(call));
+      }
+      return result;
+    }
+    Set<T> keys = new LinkedHashSet<>();
+    for (ILookupCall<T> call : calls) {
+      keys.add(call.getKey());
+    }
+    // the key of the copy is only used as bind and expanded to an IN list
+    ILookupCall<T> batchCall = calls.get(0).copy();
+    ((ILookupCall) batchCall).setKey(keys);
+    // not limited, as the rows of one key must not use up the rows of the others; limited per call below
+    batchCall.setMaxRowCount(0);
+    String sql = getConfiguredSqlSelect();
+    List<ILookupRow<T>> rows = execLoadLookupRows(sql, filterSqlByKey(sql), batchCall);
+
+    Map<T, List<ILookupRow<T>>> rowsByKey = new HashMap<>();
+    for (ILookupRow<T> row : rows) {
+      rowsByKey.computeIfAbsent(row.getKey(), k -> new ArrayList<>()).add(row);
+    }
+    List<List<ILookupRow<T>>> result = new ArrayList<>(calls.size());
+    for (ILookupCall<T> call : calls) {
+      List<ILookupRow<T>> callRows = rowsByKey.getOrDefault(call.getKey(), Collections.emptyList());
+      if (call.getMaxRowCount() > 0 && callRows.size() > call.getMaxRowCount()) {
+        callRows = callRows.subList(0, call.getMaxRowCount());
+      }
+      result.add(new ArrayList<>(callRows));
+    }
+    return result;
+  }
+
   @Override
   public List<ILookupRow<T>> getDataByText(ILookupCall<T> call) {
     // change wildcards in text to db specific wildcards
@@ -67,4 +67,9 @@ public class MSSQLSqlStyle extends AbstractSqlStyle {
       testStatement.execute("SELECT 1");
     }
   }
+
+  @Override
+  protected String createFetchFirst(int rowCount) {
+    return "OFFSET 0 ROWS FETCH NEXT " + rowCount + " ROWS ONLY";
+  }
 }
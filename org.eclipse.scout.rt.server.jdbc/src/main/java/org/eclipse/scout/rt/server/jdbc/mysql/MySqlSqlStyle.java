@@ -119,4 +119,14 @@ public class MySqlSqlStyle extends AbstractSqlStyle {
   public String createNotContains(String attribute, String bindName) {
     return UPPERCASE_SQL_METHOD + attribute + ") not like " + UPPERCASE_SQL_METHOD + CONCATENATE_SQL_METHOD + SQL_ANY + "," + adaptBindName(bindName) + "," + SQL_ANY + "))";
   }
+
+  @Override
+  protected boolean isRowValueComparisonSupported() {
+    return true;
+  }
+
+  @Override
+  protected String createFetchFirst(int rowCount) {
+    return "LIMIT " + rowCount;
+  }
 }
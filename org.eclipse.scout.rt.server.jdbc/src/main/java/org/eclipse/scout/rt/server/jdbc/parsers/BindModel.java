@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.jdbc.parsers;
 
 import java.util.ArrayList;
 
+import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
@@ -37,6 +38,36 @@ public class BindModel {
     m_ioTokens = ioList.toArray(new IToken[0]);
   }
 
+  /**
+   * @return a copy of this model. Tokens are modified while binds are resolved, therefore each statement execution
+   *         needs its own tokens.
+   * @since 23.2
+   */
+  public BindModel copy() {
+    IToken[] tokens = new IToken[m_allTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = copyToken(m_allTokens[i]);
+    }
+    return new BindModel(tokens);
+  }
+
+  protected static IToken copyToken(IToken token) {
+    if (token instanceof ValueInputToken) {
+      return ((ValueInputToken) token).copy();
+    }
+    if (token instanceof ValueOutputToken) {
+      return ((ValueOutputToken) token).copy();
+    }
+    if (token instanceof FunctionInputToken) {
+      return ((FunctionInputToken) token).copy();
+    }
+    if (token instanceof DatabaseSpecificToken) {
+      return ((DatabaseSpecificToken) token).copy();
+    }
+    // TextToken is immutable
+    return token;
+  }
+
   public IToken[] getAllTokens() {
     return m_allTokens;
   }
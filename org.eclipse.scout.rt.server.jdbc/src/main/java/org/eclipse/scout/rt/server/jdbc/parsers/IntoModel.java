@@ -20,6 +20,18 @@ public class IntoModel {
     m_intoTokens = intoTokens;
   }
 
+  /**
+   * @return a copy of this model with copies of its output tokens
+   * @since 23.2
+   */
+  public IntoModel copy() {
+    ValueOutputToken[] intoTokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < intoTokens.length; i++) {
+      intoTokens[i] = m_intoTokens[i].copy();
+    }
+    return new IntoModel(m_filteredStatement, intoTokens);
+  }
+
   public ValueOutputToken[] getOutputTokens() {
     return m_intoTokens;
   }
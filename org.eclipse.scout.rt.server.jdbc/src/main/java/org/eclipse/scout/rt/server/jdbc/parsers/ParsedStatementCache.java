@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.StripedConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+
+/**
+ * Cache of the parse results of SQL statements ({@link IntoParser} and {@link BindParser}), keyed by the statement
+ * text.
+ * <p>
+ * The cached models are never handed out: tokens are modified while binds are resolved, therefore
+ * {@link #getIntoModel(String)} and {@link #getBindModel(IntoModel)} return copies. Copying the tokens is considerably
+ * cheaper than parsing the statement again.
+ * <p>
+ * The cache is bounded by {@link SqlParsedStatementCacheSizeProperty} (least recently used statements are evicted). A
+ * size of 0 disables the cache.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class ParsedStatementCache {
+
+  private final ConcurrentMap<String, IntoModel> m_intoModels;
+  private final ConcurrentMap<String, BindModel> m_bindModels;
+
+  public ParsedStatementCache() {
+    this(CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class));
+  }
+
+  public ParsedStatementCache(int size) {
+    if (size > 0) {
+      m_intoModels = new StripedConcurrentExpiringMap<>(1L, TimeUnit.HOURS, size);
+      m_bindModels = new StripedConcurrentExpiringMap<>(1L, TimeUnit.HOURS, size);
+    }
+    else {
+      m_intoModels = null;
+      m_bindModels = null;
+    }
+  }
+
+  /**
+   * @return the parsed 'select into' model of the given statement
+   */
+  public IntoModel getIntoModel(String stm) {
+    if (m_intoModels == null) {
+      return new IntoParser(stm).parse();
+    }
+    IntoModel model = m_intoModels.get(stm);
+    if (model == null) {
+      model = new IntoParser(stm).parse();
+      m_intoModels.put(stm, model);
+    }
+    return model.copy();
+  }
+
+  /**
+   * @return the parsed bind model of the statement without 'select into' binds (see
+   *         {@link IntoModel#getFilteredStatement()})
+   */
+  public BindModel getBindModel(IntoModel intoModel) {
+    String stm = intoModel.getFilteredStatement();
+    if (m_bindModels == null) {
+      return new BindParser(stm).parse();
+    }
+    BindModel model = m_bindModels.get(stm);
+    if (model == null) {
+      model = new BindParser(stm).parse();
+      m_bindModels.put(stm, model);
+    }
+    return model.copy();
+  }
+
+  public void clear() {
+    if (m_intoModels != null) {
+      m_intoModels.clear();
+      m_bindModels.clear();
+    }
+  }
+}
@@ -21,6 +21,16 @@ public class DatabaseSpecificToken implements IToken {
     m_name = name;
   }
 
+  /**
+   * @return a copy of this token with the same parse info
+   * @since 23.2
+   */
+  public DatabaseSpecificToken copy() {
+    DatabaseSpecificToken copy = new DatabaseSpecificToken(m_parsedToken, m_name);
+    copy.m_replaceToken = m_replaceToken;
+    return copy;
+  }
+
   @Override
   public boolean isInput() {
     return false;
@@ -31,6 +31,17 @@ public class FunctionInputToken implements IToken {
     m_plainSql = plainSql;
   }
 
+  /**
+   * @return a copy of this token with the same parse and bind info
+   * @since 23.2
+   */
+  public FunctionInputToken copy() {
+    FunctionInputToken copy = new FunctionInputToken(m_parsedToken, m_name, m_args, m_plainValue, m_plainSql);
+    copy.m_replaceToken = m_replaceToken;
+    copy.m_plainToken = m_plainToken;
+    return copy;
+  }
+
   @Override
   public boolean isInput() {
     return true;
@@ -43,6 +43,19 @@ public class ValueInputToken implements IToken {
     }
   }
 
+  /**
+   * @return a copy of this token with the same parse and bind info
+   * @since 23.2
+   */
+  public ValueInputToken copy() {
+    ValueInputToken copy = new ValueInputToken(m_parsedToken, m_name, m_plainValue, m_plainSql);
+    copy.m_parsedOp = m_parsedOp;
+    copy.m_parsedAttribute = m_parsedAttribute;
+    copy.m_replaceToken = m_replaceToken;
+    copy.m_batch = m_batch;
+    return copy;
+  }
+
   @Override
   public boolean isInput() {
     return true;
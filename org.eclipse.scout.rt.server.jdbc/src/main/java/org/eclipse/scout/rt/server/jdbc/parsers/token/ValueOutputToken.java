@@ -29,6 +29,17 @@ public class ValueOutputToken implements IToken {
     }
   }
 
+  /**
+   * @return a copy of this token with the same parse and bind info
+   * @since 23.2
+   */
+  public ValueOutputToken copy() {
+    ValueOutputToken copy = new ValueOutputToken(m_parsedToken, m_name, m_selectInto);
+    copy.m_replaceToken = m_replaceToken;
+    copy.m_batch = m_batch;
+    return copy;
+  }
+
   @Override
   public boolean isInput() {
     return false;
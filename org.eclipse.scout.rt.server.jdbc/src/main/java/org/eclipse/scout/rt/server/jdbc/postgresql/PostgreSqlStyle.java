@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.style.AbstractSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.style.IColumnReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +58,21 @@ public class PostgreSqlStyle extends AbstractSqlStyle {
     return super.readBind(rs, meta, type, jdbcBindIndex);
   }
 
+  @Override
+  public IColumnReader createColumnReader(final ResultSetMetaData meta, final int type, final int jdbcBindIndex) throws SQLException {
+    IColumnReader reader = super.createColumnReader(meta, type, jdbcBindIndex);
+    if (Types.BIT == type) {
+      return (rs, index) -> {
+        Object result = rs.getObject(index);
+        if (result instanceof Boolean) {
+          return result;
+        }
+        return reader.read(rs, index);
+      };
+    }
+    return reader;
+  }
+
   @Override
   protected SqlBind createBindFor(Object o, Class c) {
     if (Boolean.class.isAssignableFrom(c)) {
@@ -88,4 +104,9 @@ public class PostgreSqlStyle extends AbstractSqlStyle {
   protected int getMaxListSize() {
     return MAX_LIST_SIZE;
   }
+
+  @Override
+  protected boolean isRowValueComparisonSupported() {
+    return true;
+  }
 }
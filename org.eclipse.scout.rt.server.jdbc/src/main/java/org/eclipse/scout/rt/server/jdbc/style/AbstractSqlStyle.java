@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.Date;
 
 import org.eclipse.scout.rt.platform.holders.IHolder;
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
@@ -39,6 +40,12 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractSqlStyle implements ISqlStyle {
   private static final long serialVersionUID = 1L;
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlStyle.class);
+  private static final ClassValue<Boolean> SPECIALIZED_COLUMN_READERS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> styleClass) {
+      return isColumnReaderConsistentWithReadBind(styleClass);
+    }
+  };
 
   @Override
   public String getConcatOp() {
@@ -480,41 +487,11 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
         break;
       }
       case Types.CLOB: {
-        Clob c = rs.getClob(jdbcBindIndex);
-        if (c == null) {
-          o = null;
-        }
-        else {
-          try {
-            int len = (int) c.length();
-            if (len > 0) {
-              // fast read
-              o = IOUtility.readString(c.getCharacterStream(), len);
-            }
-            else {
-              // dynamic read
-              o = IOUtility.readString(c.getCharacterStream());
-            }
-          }
-          catch (SQLException e) {
-            throw e;
-          }
-          catch (Exception e) {
-            SQLException sqe = new SQLException("read CLOB on column0=" + jdbcBindIndex);
-            sqe.initCause(e);
-            throw sqe;
-          }
-        }
+        o = readClob(rs, jdbcBindIndex);
         break;
       }
       case Types.BLOB: {
-        Blob b = rs.getBlob(jdbcBindIndex);
-        if (b == null) {
-          o = null;
-        }
-        else {
-          o = b.getBytes(1, (int) b.length());
-        }
+        o = readBlob(rs, jdbcBindIndex);
         break;
       }
       default: {
@@ -528,6 +505,146 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return o;
   }
 
+  /**
+   * Returns readers which directly call the typed getter of the {@link ResultSet} for the column type. If a subclass
+   * overrides {@link #readBind(ResultSet, ResultSetMetaData, int, int)} without also overriding this method, the
+   * reader delegates to {@link #readBind(ResultSet, ResultSetMetaData, int, int)}.
+   */
+  @Override
+  public IColumnReader createColumnReader(ResultSetMetaData meta, int type, int jdbcBindIndex) throws SQLException {
+    if (!SPECIALIZED_COLUMN_READERS.get(getClass())) {
+      return (rs, index) -> readBind(rs, meta, type, index);
+    }
+    switch (type) {
+      // General Number
+      case Types.DECIMAL:
+      case Types.NUMERIC: {
+        DecimalConversion decimalConversion = getConfiguredDecimalConversionStrategy();
+        return (rs, index) -> {
+          Object o = decimalConversion.convertDecimalType(rs.getBigDecimal(index));
+          return rs.wasNull() ? null : o;
+        };
+      }
+      // Long
+      case Types.BIT:
+      case Types.BIGINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.TINYINT: {
+        return (rs, index) -> {
+          long l = rs.getLong(index);
+          return rs.wasNull() ? null : Long.valueOf(l);
+        };
+      }
+      // Double
+      case Types.DOUBLE:
+      case Types.FLOAT:
+      case Types.REAL: {
+        return (rs, index) -> {
+          double d = rs.getDouble(index);
+          return rs.wasNull() ? null : Double.valueOf(d);
+        };
+      }
+      // String
+      case Types.VARCHAR:
+      case Types.CHAR:
+      case Types.LONGVARCHAR: {
+        return (rs, index) -> {
+          String str = rs.getString(index);
+          return rs.wasNull() ? null : str;
+        };
+      }
+      // Date
+      case Types.DATE:
+      case Types.TIMESTAMP: {
+        return (rs, index) -> {
+          Timestamp ts = rs.getTimestamp(index);
+          return rs.wasNull() ? null : ts;
+        };
+      }
+      case Types.TIME: {
+        return (rs, index) -> {
+          java.sql.Time t = rs.getTime(index);
+          return rs.wasNull() ? null : t;
+        };
+      }
+      // Raw
+      case Types.LONGVARBINARY:
+      case Types.VARBINARY:
+      case Types.BINARY: {
+        return (rs, index) -> {
+          byte[] bytes = rs.getBytes(index);
+          return rs.wasNull() ? null : bytes;
+        };
+      }
+      case Types.CLOB: {
+        return (rs, index) -> {
+          String str = readClob(rs, index);
+          return rs.wasNull() ? null : str;
+        };
+      }
+      case Types.BLOB: {
+        return (rs, index) -> {
+          byte[] bytes = readBlob(rs, index);
+          return rs.wasNull() ? null : bytes;
+        };
+      }
+      default: {
+        return (rs, index) -> {
+          Object o = rs.getObject(index);
+          return rs.wasNull() ? null : o;
+        };
+      }
+    }
+  }
+
+  protected String readClob(ResultSet rs, int jdbcBindIndex) throws SQLException {
+    Clob c = rs.getClob(jdbcBindIndex);
+    if (c == null) {
+      return null;
+    }
+    try {
+      int len = (int) c.length();
+      if (len > 0) {
+        // fast read
+        return IOUtility.readString(c.getCharacterStream(), len);
+      }
+      // dynamic read
+      return IOUtility.readString(c.getCharacterStream());
+    }
+    catch (SQLException e) {
+      throw e;
+    }
+    catch (Exception e) {
+      SQLException sqe = new SQLException("read CLOB on column0=" + jdbcBindIndex);
+      sqe.initCause(e);
+      throw sqe;
+    }
+  }
+
+  protected byte[] readBlob(ResultSet rs, int jdbcBindIndex) throws SQLException {
+    Blob b = rs.getBlob(jdbcBindIndex);
+    if (b == null) {
+      return null;
+    }
+    return b.getBytes(1, (int) b.length());
+  }
+
+  /**
+   * @return <code>true</code> if {@link #createColumnReader(ResultSetMetaData, int, int)} is declared at the same or a
+   *         more specific level than {@link #readBind(ResultSet, ResultSetMetaData, int, int)}
+   */
+  private static boolean isColumnReaderConsistentWithReadBind(Class<?> styleClass) {
+    try {
+      Class<?> readBindOwner = styleClass.getMethod("readBind", ResultSet.class, ResultSetMetaData.class, int.class, int.class).getDeclaringClass();
+      Class<?> columnReaderOwner = styleClass.getMethod("createColumnReader", ResultSetMetaData.class, int.class, int.class).getDeclaringClass();
+      return readBindOwner.isAssignableFrom(columnReaderOwner);
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return false;
+    }
+  }
+
   @Override
   public void registerOutput(CallableStatement cs, int index, Class c) throws SQLException {
     if (c == null) {
@@ -1040,6 +1157,116 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return "NVL";
   }
 
+  @Override
+  public String createKeysetPage(String select, String[] keyColumns, boolean[] ascending, String[] keyBindNames, int pageSize) {
+    Assertions.assertTrue(keyColumns != null && keyColumns.length > 0, "keyColumns must not be empty");
+    Assertions.assertTrue(ascending == null || ascending.length == keyColumns.length, "ascending must match keyColumns");
+    Assertions.assertTrue(keyBindNames == null || keyBindNames.length == keyColumns.length, "keyBindNames must match keyColumns");
+    Assertions.assertTrue(pageSize > 0, "pageSize must be positive");
+    StringBuilder buf = new StringBuilder();
+    buf.append("SELECT * FROM (");
+    buf.append(select);
+    buf.append(") KEYSET_PAGE");
+    if (keyBindNames != null) {
+      buf.append(" WHERE ");
+      buf.append(createKeysetSeekCondition(keyColumns, ascending, keyBindNames));
+    }
+    buf.append(" ORDER BY ");
+    for (int i = 0; i < keyColumns.length; i++) {
+      if (i > 0) {
+        buf.append(", ");
+      }
+      buf.append(keyColumns[i]);
+      buf.append(isKeysetAscending(ascending, i) ? " ASC" : " DESC");
+    }
+    buf.append(" ");
+    buf.append(createFetchFirst(pageSize));
+    return buf.toString();
+  }
+
+  /**
+   * @return the condition selecting the rows ordered after the given key. This is the row value comparison
+   *         <code>(A, B) &gt; (:key0, :key1)</code> if it is supported (see {@link #isRowValueComparisonSupported()})
+   *         and all key columns have the same sort direction, otherwise the expanded condition
+   *         <code>(A &gt; :key0) OR (A = :key0 AND B &gt; :key1)</code> which is supported by all databases
+   */
+  protected String createKeysetSeekCondition(String[] keyColumns, boolean[] ascending, String[] keyBindNames) {
+    if (isRowValueComparisonSupported()) {
+      String rowValueCondition = createKeysetRowValueCondition(keyColumns, ascending, keyBindNames);
+      if (rowValueCondition != null) {
+        return rowValueCondition;
+      }
+    }
+    StringBuilder buf = new StringBuilder();
+    buf.append("(");// bracket 1
+    for (int i = 0; i < keyColumns.length; i++) {
+      if (i > 0) {
+        buf.append(" OR ");
+      }
+      buf.append("(");// bracket 2
+      for (int k = 0; k < i; k++) {
+        buf.append(createEQ(keyColumns[k], keyBindNames[k]));
+        buf.append(" AND ");
+      }
+      if (isKeysetAscending(ascending, i)) {
+        buf.append(createGT(keyColumns[i], keyBindNames[i]));
+      }
+      else {
+        buf.append(createLT(keyColumns[i], keyBindNames[i]));
+      }
+      buf.append(")");// bracket 2
+    }
+    buf.append(")");// bracket 1
+    return buf.toString();
+  }
+
+  /**
+   * @return <code>true</code> if the database supports row value comparisons like <code>(A, B) &gt; (1, 2)</code>.
+   *         They are used for keyset pagination as they allow the database to seek a composite index directly. The
+   *         default is <code>false</code>.
+   * @since 23.2
+   */
+  protected boolean isRowValueComparisonSupported() {
+    return false;
+  }
+
+  /**
+   * @return the row value comparison <code>(A, B) &gt; (:key0, :key1)</code> if all key columns have the same sort
+   *         direction, otherwise <code>null</code>
+   */
+  protected String createKeysetRowValueCondition(String[] keyColumns, boolean[] ascending, String[] keyBindNames) {
+    boolean asc = isKeysetAscending(ascending, 0);
+    for (int i = 1; i < keyColumns.length; i++) {
+      if (isKeysetAscending(ascending, i) != asc) {
+        return null;
+      }
+    }
+    StringBuilder buf = new StringBuilder();
+    buf.append("(");
+    buf.append(String.join(", ", keyColumns));
+    buf.append(asc ? ") > (" : ") < (");
+    for (int i = 0; i < keyBindNames.length; i++) {
+      if (i > 0) {
+        buf.append(", ");
+      }
+      buf.append(adaptBindName(keyBindNames[i]));
+    }
+    buf.append(")");
+    return buf.toString();
+  }
+
+  /**
+   * @return the clause limiting a select to the first <code>rowCount</code> rows, appended after the
+   *         <code>ORDER BY</code> clause
+   */
+  protected String createFetchFirst(int rowCount) {
+    return "FETCH FIRST " + rowCount + " ROWS ONLY";
+  }
+
+  protected boolean isKeysetAscending(boolean[] ascending, int index) {
+    return ascending == null || ascending[index];
+  }
+
   protected Object[] toArray(Object array) {
     if (array == null) {
       return new Object[0];
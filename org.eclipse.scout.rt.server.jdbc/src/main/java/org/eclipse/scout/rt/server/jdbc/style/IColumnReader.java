@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.style;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the value of a column from the current row of a {@link ResultSet}.
+ *
+ * @see ISqlStyle#createColumnReader(java.sql.ResultSetMetaData, int, int)
+ * @since 23.2
+ */
+@FunctionalInterface
+public interface IColumnReader {
+
+  /**
+   * @return the value of the column, <code>null</code> if the column is SQL NULL
+   */
+  Object read(ResultSet rs, int jdbcBindIndex) throws SQLException;
+}
@@ -148,6 +148,17 @@ public interface ISqlStyle extends Serializable {
    */
   Object readBind(ResultSet rs, ResultSetMetaData meta, int type, int jdbcBindIndex) throws SQLException;
 
+  /**
+   * Creates a reader for a column of a {@link ResultSet}. The reader is resolved once per result based on the column
+   * type and then used for every row, instead of dispatching on the column type for every value. The reader returns
+   * the same values as {@link #readBind(ResultSet, ResultSetMetaData, int, int)}.
+   *
+   * @since 23.2
+   */
+  default IColumnReader createColumnReader(ResultSetMetaData meta, int type, int jdbcBindIndex) throws SQLException {
+    return (rs, index) -> readBind(rs, meta, type, index);
+  }
+
   /**
    * apply out parameter to a stored procedure call in a {@link CallableStatement}
    */
@@ -1152,6 +1163,40 @@ public interface ISqlStyle extends Serializable {
    */
   String getNvlToken();
 
+  /**
+   * Creates a keyset (seek) paginated select returning the page following the row with the given key values.
+   * <p>
+   * The select is wrapped and restricted to the rows ordered after the last key, only the first <code>pageSize</code>
+   * rows are fetched. Other than with an offset the cost of a page is independent of its position, given there is an
+   * index on the key columns.
+   * </p>
+   * <p>
+   * In an Oracle implementation this could be represented as
+   * </p>
+   *
+   * <pre>
+   * SELECT * FROM (select) KEYSET_PAGE
+   * WHERE (A &gt; :key0) OR (A = :key0 AND B &gt; :key1)
+   * ORDER BY A ASC, B ASC
+   * FETCH FIRST pageSize ROWS ONLY
+   * </pre>
+   *
+   * @param select
+   *          the select without <code>ORDER BY</code>
+   * @param keyColumns
+   *          the result column names defining the order of the pages, the combination of all key columns must be
+   *          unique and not null
+   * @param ascending
+   *          the sort direction of each key column, <code>null</code> for all ascending
+   * @param keyBindNames
+   *          the bind names of the last key values of the previous page (or "<code>&#38;text</code>" for non-binds, see
+   *          also {@link ISqlStyle#PLAIN_BIND_MARKER_PREFIX}), <code>null</code> for the first page
+   * @param pageSize
+   *          the maximum number of rows of the page
+   * @since 23.2
+   */
+  String createKeysetPage(String select, String[] keyColumns, boolean[] ascending, String[] keyBindNames, int pageSize);
+
   void commit();
 
   void rollback();
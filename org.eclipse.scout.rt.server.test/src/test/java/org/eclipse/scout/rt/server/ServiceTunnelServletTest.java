@@ -12,14 +12,18 @@ package org.eclipse.scout.rt.server;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import javax.security.auth.Subject;
 import javax.servlet.http.HttpServletRequest;
@@ -32,9 +36,16 @@ import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.security.IAccessControlService;
+import org.eclipse.scout.rt.security.NonePermissionCollection;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ServiceTunnelMaxBatchSizeProperty;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NotificationStreamEnabled;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationStreamer;
 import org.eclipse.scout.rt.server.commons.context.HttpRunContextProducer;
 import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
 import org.eclipse.scout.rt.server.commons.servlet.logging.ServletDiagnosticsProviderFactory;
@@ -43,9 +54,16 @@ import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.session.ServerSessionCache;
 import org.eclipse.scout.rt.server.session.ServerSessionProvider;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamRequest;
+import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
+import org.eclipse.scout.rt.shared.security.RemoteServiceAccessPermission;
 import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.shared.servicetunnel.RemoteServiceWithoutAuthorization;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelException;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
@@ -171,6 +189,164 @@ public class ServiceTunnelServletTest {
     assertEquals(0, res.getNotifications().size());
   }
 
+  /**
+   * The requests of a batch are executed in parallel, a failing request must only fail its own response and the
+   * responses must be in the order of the requests.
+   */
+  @Test
+  public void testPostBatch() {
+    ServiceTunnelServlet s = new ServiceTunnelServlet() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected ServiceTunnelResponse invokeService(ServerRunContext serverRunContext, ServiceTunnelRequest serviceTunnelRequest) {
+        String arg = (String) serviceTunnelRequest.getArgs()[0];
+        if ("fail".equals(arg)) {
+          throw new PlatformException("expected failure");
+        }
+        if ("slow".equals(arg)) {
+          // completes after the following requests
+          SleepUtil.sleepSafe(200, TimeUnit.MILLISECONDS);
+        }
+        return new ServiceTunnelResponse(arg);
+      }
+    };
+    ServiceTunnelBatchRequest batchRequest = new ServiceTunnelBatchRequest(Arrays.asList(
+        createPingRequest("slow"),
+        createPingRequest("fail"),
+        createPingRequest("fast")));
+
+    ServiceTunnelResponse res = s.doPost(batchRequest);
+
+    assertTrue(res instanceof ServiceTunnelBatchResponse);
+    List<ServiceTunnelResponse> responses = ((ServiceTunnelBatchResponse) res).getResponses();
+    assertEquals(3, responses.size());
+    assertEquals("slow", responses.get(0).getData());
+    assertNull(responses.get(0).getException());
+    assertNull(responses.get(1).getData());
+    assertTrue(responses.get(1).getException() instanceof HttpServiceTunnelException);
+    assertEquals(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, ((HttpServiceTunnelException) responses.get(1).getException()).getHttpStatus());
+    assertEquals("fast", responses.get(2).getData());
+    assertNull(responses.get(2).getException());
+  }
+
+  @Test
+  public void testAcceptBatch() throws IOException {
+    ServiceTunnelBatchRequest batchRequest = new ServiceTunnelBatchRequest(Arrays.asList(
+        createPingRequest("a"),
+        createPingRequest("b")));
+
+    createServletRunContext(m_requestMock, m_responseMock).run(() -> assertTrue(new ServiceTunnelServlet().acceptBatchRequest(batchRequest)));
+
+    verify(m_responseMock, never()).sendError(anyInt(), anyString());
+  }
+
+  @Test
+  public void testRejectBatchExceedingMaxSize() throws IOException {
+    m_beans.add(BeanTestingHelper.get().mockConfigProperty(ServiceTunnelMaxBatchSizeProperty.class, 2));
+    ServiceTunnelBatchRequest batchRequest = new ServiceTunnelBatchRequest(Arrays.asList(
+        createPingRequest("a"),
+        createPingRequest("b"),
+        createPingRequest("c")));
+
+    assertBatchRejected(batchRequest);
+  }
+
+  @Test
+  public void testRejectNestedBatch() throws IOException {
+    ServiceTunnelBatchRequest batchRequest = new ServiceTunnelBatchRequest(Arrays.asList(
+        createPingRequest("a"),
+        new ServiceTunnelBatchRequest(Arrays.asList(createPingRequest("b")))));
+
+    assertBatchRejected(batchRequest);
+  }
+
+  /**
+   * A batched stream request would otherwise be executed as a plain call of
+   * {@link IClientNotificationService#getNotifications(NodeId)}, bypassing {@link NotificationStreamEnabled}.
+   */
+  @Test
+  public void testRejectNotificationStreamInBatch() throws IOException {
+    ServiceTunnelBatchRequest batchRequest = new ServiceTunnelBatchRequest(Arrays.asList(
+        createPingRequest("a"),
+        createNotificationStreamRequest()));
+
+    assertBatchRejected(batchRequest);
+  }
+
+  private void assertBatchRejected(ServiceTunnelBatchRequest batchRequest) throws IOException {
+    createServletRunContext(m_requestMock, m_responseMock).run(() -> assertFalse(new ServiceTunnelServlet().acceptBatchRequest(batchRequest)));
+
+    verify(m_responseMock).sendError(eq(HttpServletResponse.SC_BAD_REQUEST), anyString());
+  }
+
+  private static ServiceTunnelRequest createPingRequest(String arg) {
+    ServiceTunnelRequest req = new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{arg});
+    req.setUserAgent(UserAgents.createDefault().createIdentifier());
+    return req;
+  }
+
+  @Test
+  public void testPostNotificationStream() throws IOException {
+    ClientNotificationStreamer streamer = mock(ClientNotificationStreamer.class);
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(ClientNotificationStreamer.class, streamer)));
+    m_beans.add(BeanTestingHelper.get().mockConfigProperty(NotificationStreamEnabled.class, true));
+
+    ClientNotificationStreamRequest streamRequest = createNotificationStreamRequest();
+    createServletRunContext(m_requestMock, m_responseMock).run(() -> createNotificationStreamServlet().doPostNotificationStream(streamRequest));
+
+    verify(m_responseMock, never()).sendError(anyInt());
+    verify(m_responseMock).flushBuffer();
+    verify(streamer).stream(eq(streamRequest.getNodeId()), any(), any());
+  }
+
+  @Test
+  public void testPostNotificationStreamDisabled() throws IOException {
+    ClientNotificationStreamer streamer = mock(ClientNotificationStreamer.class);
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(ClientNotificationStreamer.class, streamer)));
+
+    createServletRunContext(m_requestMock, m_responseMock).run(() -> createNotificationStreamServlet().doPostNotificationStream(createNotificationStreamRequest()));
+
+    verify(m_responseMock).sendError(eq(HttpServletResponse.SC_FORBIDDEN), anyString());
+    verify(m_responseMock, never()).flushBuffer();
+    verifyNoInteractions(streamer);
+  }
+
+  /**
+   * A subject without the {@link RemoteServiceAccessPermission} for {@link IClientNotificationService} must not get a
+   * notification stream. The service is whitelisted by {@link RemoteServiceWithoutAuthorization} by default, hence the
+   * invoker used here authorizes every service operation.
+   */
+  @Test
+  public void testPostNotificationStreamUnauthorized() throws IOException {
+    ClientNotificationStreamer streamer = mock(ClientNotificationStreamer.class);
+    IAccessControlService accessControlService = mock(IAccessControlService.class);
+    when(accessControlService.getPermissions()).thenReturn(BEANS.get(NonePermissionCollection.class));
+    m_beans.addAll(BeanTestingHelper.get().registerBeans(
+        new BeanMetaData(ClientNotificationStreamer.class, streamer),
+        new BeanMetaData(IAccessControlService.class, accessControlService),
+        new BeanMetaData(ServiceOperationInvoker.class).withInitialInstance(new AuthorizingServiceOperationInvoker()).withApplicationScoped(true)));
+    m_beans.add(BeanTestingHelper.get().mockConfigProperty(NotificationStreamEnabled.class, true));
+
+    createServletRunContext(m_requestMock, m_responseMock).run(() -> createNotificationStreamServlet().doPostNotificationStream(createNotificationStreamRequest()));
+
+    verify(m_responseMock).sendError(HttpServletResponse.SC_FORBIDDEN);
+    verify(m_responseMock, never()).flushBuffer();
+    verifyNoInteractions(streamer);
+  }
+
+  private ServiceTunnelServlet createNotificationStreamServlet() {
+    ServiceTunnelServlet s = new ServiceTunnelServlet();
+    s.lazyInit(m_requestMock, m_responseMock);
+    return s;
+  }
+
+  private static ClientNotificationStreamRequest createNotificationStreamRequest() {
+    ClientNotificationStreamRequest req = new ClientNotificationStreamRequest(NodeId.of("testNodeId"));
+    req.setUserAgent(UserAgents.createDefault().createIdentifier());
+    return req;
+  }
+
   private Answer<IServerSession> slowCreateTestsession(final TestServerSession testSession) {
     return invocation -> {
       Thread.sleep(2000); // simulate long running task
@@ -227,6 +403,14 @@ public class ServiceTunnelServletTest {
     }
   }
 
+  private static class AuthorizingServiceOperationInvoker extends ServiceOperationInvoker {
+
+    @Override
+    protected boolean mustAuthorize(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+      return true;
+    }
+  }
+
   private static RunContext createServletRunContext(final HttpServletRequest req, final HttpServletResponse resp) {
     return RunContexts.copyCurrent(true)
         .withSubject(Subject.getSubject(AccessController.getContext()))
@@ -11,6 +11,8 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -73,6 +75,86 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testDroppedCount() {
+    putTestNotifications(MAX_TEST_CAPACITY);
+    assertEquals(MAX_TEST_CAPACITY, m_queue.getSize());
+    assertEquals(0, m_queue.getDroppedCount());
+
+    putTestNotifications(3);
+    assertEquals(MAX_TEST_CAPACITY, m_queue.getSize());
+    assertEquals(3, m_queue.getDroppedCount());
+  }
+
+  @Test
+  public void testCapacityReachedByBatch() {
+    ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+    List<ClientNotificationMessage> batch = new ArrayList<>();
+    for (int i = 0; i < MAX_TEST_CAPACITY + 2; i++) {
+      batch.add(new ClientNotificationMessage(allNodes, "test" + i, true, "cid"));
+    }
+    m_queue.put(batch);
+    List<ClientNotificationMessage> notifications = m_queue.getNotifications(100, 10, TimeUnit.MILLISECONDS);
+    assertEquals(MAX_TEST_CAPACITY, notifications.size());
+    assertEquals("test2", notifications.get(0).getNotification());
+    assertEquals(2, m_queue.getDroppedCount());
+  }
+
+  @Test
+  public void testConsumeRemovesDuplicates() {
+    ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+    ClientNotificationMessage message = new ClientNotificationMessage(allNodes, "test", true, "cid");
+    m_queue.put(message);
+    m_queue.put(message);
+    List<ClientNotificationMessage> notifications = m_queue.consume(10, 10, TimeUnit.MILLISECONDS);
+    assertEquals(1, notifications.size());
+    assertEquals("test", notifications.get(0).getNotification());
+  }
+
+  /**
+   * Notifications are coalesced per address, each address at the position of its last notification.
+   */
+  @Test
+  public void testConsumeKeepsOrderOfInterleavedAddresses() {
+    ClientNotificationAddress user1 = ClientNotificationAddress.createUserAddress(Collections.singleton("user1"));
+    ClientNotificationAddress user2 = ClientNotificationAddress.createUserAddress(Collections.singleton("user2"));
+    m_queue.put(new ClientNotificationMessage(user1, "a1", true, "cid1"));
+    m_queue.put(new ClientNotificationMessage(user2, "b1", true, "cid2"));
+    m_queue.put(new ClientNotificationMessage(user1, "a2", true, "cid3"));
+    m_queue.put(new ClientNotificationMessage(user2, "b2", true, "cid4"));
+
+    List<ClientNotificationMessage> notifications = m_queue.consume(10, 10, TimeUnit.MILLISECONDS);
+    assertEquals(4, notifications.size());
+    assertNotification(notifications.get(0), user1, "a1", "cid3");
+    assertNotification(notifications.get(1), user1, "a2", "cid3");
+    assertNotification(notifications.get(2), user2, "b1", "cid4");
+    assertNotification(notifications.get(3), user2, "b2", "cid4");
+  }
+
+  /**
+   * Two transactions invalidating the same address result in one notification with the correlation id of the newer
+   * transaction, placed after the notifications queued in between.
+   */
+  @Test
+  public void testConsumeCoalescesAcrossTransactions() {
+    ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+    ClientNotificationAddress user1 = ClientNotificationAddress.createUserAddress(Collections.singleton("user1"));
+    m_queue.put(new ClientNotificationMessage(allNodes, "invalidate", true, "cid1"));
+    m_queue.put(new ClientNotificationMessage(user1, "a1", true, "cid2"));
+    m_queue.put(new ClientNotificationMessage(allNodes, "invalidate", true, "cid3"));
+
+    List<ClientNotificationMessage> notifications = m_queue.consume(10, 10, TimeUnit.MILLISECONDS);
+    assertEquals(2, notifications.size());
+    assertNotification(notifications.get(0), user1, "a1", "cid2");
+    assertNotification(notifications.get(1), allNodes, "invalidate", "cid3");
+  }
+
+  private static void assertNotification(ClientNotificationMessage message, ClientNotificationAddress address, String notification, String correlationId) {
+    assertEquals(address, message.getAddress());
+    assertEquals(notification, message.getNotification());
+    assertEquals(correlationId, message.getCorrelationId());
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
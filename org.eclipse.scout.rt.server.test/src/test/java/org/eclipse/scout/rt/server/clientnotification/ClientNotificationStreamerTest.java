@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ClientNotificationStreamer}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ClientNotificationStreamerTest {
+  private static final NodeId TEST_NODE = NodeId.of("Node1");
+
+  private ClientNotificationRegistry m_registry;
+  private IServiceTunnelContentHandler m_contentHandler;
+
+  @Before
+  public void before() {
+    m_registry = new ClientNotificationRegistry(60 * 1000);
+    m_registry.registerNode(TEST_NODE);
+    m_contentHandler = new BinaryServiceTunnelContentHandler();
+    m_contentHandler.initialize();
+  }
+
+  @Test
+  public void testStreamNotifications() throws Exception {
+    m_registry.putForAllNodes("notification1", false);
+    m_registry.putForAllNodes("notification2", false);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new P_ClientNotificationStreamer(200).stream(TEST_NODE, m_contentHandler, out);
+
+    List<ClientNotificationMessage> received = new ArrayList<>();
+    List<ServiceTunnelResponse> frames = readFrames(out.toByteArray());
+    assertTrue(frames.size() > 1); // frames without notifications are written after each blocking timeout
+    for (ServiceTunnelResponse frame : frames) {
+      assertNull(frame.getException());
+      @SuppressWarnings("unchecked")
+      List<ClientNotificationMessage> notifications = (List<ClientNotificationMessage>) frame.getData();
+      received.addAll(notifications);
+    }
+    assertEquals(2, received.size());
+    assertEquals("notification1", received.get(0).getNotification());
+    assertEquals("notification2", received.get(1).getNotification());
+
+    // the notifications were consumed from the queue
+    assertTrue(m_registry.consume(TEST_NODE, 10, 1, TimeUnit.MILLISECONDS).isEmpty());
+  }
+
+  @Test(expected = IOException.class)
+  public void testConnectionClosedByClient() throws IOException {
+    new P_ClientNotificationStreamer(60 * 1000).stream(TEST_NODE, m_contentHandler, new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("closed");
+      }
+    });
+  }
+
+  protected List<ServiceTunnelResponse> readFrames(byte[] data) throws IOException, ClassNotFoundException {
+    List<ServiceTunnelResponse> frames = new ArrayList<>();
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+    while (in.available() > 0) {
+      byte[] frame = new byte[in.readInt()];
+      in.readFully(frame);
+      frames.add(m_contentHandler.readResponse(new ByteArrayInputStream(frame)));
+    }
+    return frames;
+  }
+
+  private class P_ClientNotificationStreamer extends ClientNotificationStreamer {
+
+    P_ClientNotificationStreamer(int maxStreamDuration) {
+      super(20, 30, maxStreamDuration);
+    }
+
+    @Override
+    protected ClientNotificationRegistry getRegistry() {
+      return m_registry;
+    }
+  }
+}
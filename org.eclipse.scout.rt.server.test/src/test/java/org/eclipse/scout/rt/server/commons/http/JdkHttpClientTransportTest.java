@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.http;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.shared.http.DefaultHttpTransportManager;
+import org.eclipse.scout.rt.shared.http.JdkHttpClientTransport.StreamingBodyPublisher;
+import org.eclipse.scout.rt.shared.http.JdkHttpClientTransportFactory;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpContent;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpTransport;
+
+/**
+ * Test for {@link org.eclipse.scout.rt.shared.http.JdkHttpClientTransport} streaming content of unknown length.
+ */
+@RunWith(PlatformTestRunner.class)
+public class JdkHttpClientTransportTest {
+  /**
+   * Size of the buffer of {@link StreamingBodyPublisher}
+   */
+  private static final int STREAMING_BUFFER_SIZE = 64 * 1024;
+  private static final int CONTENT_LENGTH = 1024 * 1024;
+
+  private P_JdkHttpClient m_client;
+  private TestingHttpServer m_server;
+
+  @Before
+  public void before() {
+    m_client = new P_JdkHttpClient();
+    m_server = new TestingHttpServer(TestingHttpPorts.PORT_33008);
+    m_server.start();
+  }
+
+  @After
+  public void after() {
+    m_client.stop();
+    m_server.stop();
+  }
+
+  @Test
+  public void testPostStreaming() throws IOException {
+    byte[] content = createContent();
+    AtomicReference<byte[]> received = new AtomicReference<>();
+    m_server.withServletPostHandler((req, resp) -> {
+      received.set(IOUtility.readBytes(req.getInputStream()));
+      resp.setContentType("text/plain;charset=UTF-8");
+      resp.getOutputStream().print("received " + received.get().length);
+    });
+
+    HttpRequest req = m_client.getHttpRequestFactory().buildPostRequest(new GenericUrl(m_server.getServletUrl()), new HttpContent() {
+      @Override
+      public void writeTo(OutputStream out) throws IOException {
+        for (int i = 0; i < content.length; i += 1000) {
+          out.write(content, i, Math.min(1000, content.length - i));
+        }
+      }
+
+      @Override
+      public boolean retrySupported() {
+        return false;
+      }
+
+      @Override
+      public String getType() {
+        return "application/octet-stream";
+      }
+
+      @Override
+      public long getLength() {
+        return -1; // unknown length, streamed
+      }
+    });
+    HttpResponse resp = req.execute();
+
+    assertEquals(200, resp.getStatusCode());
+    assertEquals("received " + CONTENT_LENGTH, resp.parseAsString());
+    assertArrayEquals(content, received.get());
+  }
+
+  @Test
+  public void testStreamingBodyPublisherIsBounded() throws InterruptedException {
+    byte[] content = createContent();
+    StreamingBodyPublisher publisher = new StreamingBodyPublisher();
+    ByteArrayOutputStream received = new ByteArrayOutputStream();
+    AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    CountDownLatch completed = new CountDownLatch(1);
+    publisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+      @Override
+      public void onSubscribe(Flow.Subscription s) {
+        subscription.set(s);
+      }
+
+      @Override
+      public void onNext(ByteBuffer item) {
+        received.write(item.array(), item.arrayOffset() + item.position(), item.remaining());
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        error.set(throwable);
+        completed.countDown();
+      }
+
+      @Override
+      public void onComplete() {
+        completed.countDown();
+      }
+    });
+
+    AtomicLong written = new AtomicLong();
+    IFuture<Void> writer = Jobs.schedule(() -> {
+      try (OutputStream out = publisher.getOutputStream()) {
+        for (int i = 0; i < content.length; i += 1000) {
+          int len = Math.min(1000, content.length - i);
+          out.write(content, i, len);
+          written.addAndGet(len);
+        }
+      }
+      return null;
+    }, Jobs.newInput()
+        .withRunContext(RunContexts.copyCurrent()));
+
+    // nothing requested yet: the writer is blocked once the buffer is full
+    SleepUtil.sleepSafe(200, TimeUnit.MILLISECONDS);
+    assertFalse(writer.isDone());
+    // the buffer plus the chunk being filled
+    assertTrue(written.get() < 2 * STREAMING_BUFFER_SIZE);
+
+    subscription.get().request(Long.MAX_VALUE);
+    writer.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    assertTrue(completed.await(10, TimeUnit.SECONDS));
+    assertNull(error.get());
+    assertArrayEquals(content, received.toByteArray());
+  }
+
+  private static byte[] createContent() {
+    // more than the buffer of the streamed content
+    byte[] content = new byte[CONTENT_LENGTH];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) (i % 251);
+    }
+    return content;
+  }
+
+  private static class P_JdkHttpClient extends DefaultHttpTransportManager {
+
+    @Override
+    protected HttpTransport createHttpTransport() {
+      return new JdkHttpClientTransportFactory().newHttpTransport(this);
+    }
+
+    public void stop() {
+      removeHttpTransport();
+    }
+  }
+}
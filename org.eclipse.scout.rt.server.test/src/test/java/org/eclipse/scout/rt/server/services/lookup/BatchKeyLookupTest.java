@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+/**
+ * Test {@link BatchLookupService#getBatchDataByKey(BatchLookupCall)} with an {@link IBatchKeyLookupService}
+ */
+@RunWith(PlatformTestRunner.class)
+public class BatchKeyLookupTest {
+  @BeanMock
+  private IFruitLookupService m_lookupService;
+
+  @Before
+  public void setUp() {
+    Mockito.when(m_lookupService.isBatchLookupByKeySupported()).thenReturn(true);
+    Mockito.doAnswer(invocation -> createCallResult(invocation.getArgument(0))).when(m_lookupService).getDataByKey(Mockito.<ILookupCall<Object>> any());
+    Mockito.doAnswer(invocation -> {
+      List<ILookupCall<Object>> calls = invocation.getArgument(0);
+      List<List<ILookupRow<Object>>> result = new ArrayList<>();
+      for (ILookupCall<Object> call : calls) {
+        result.add(createCallResult(call));
+      }
+      return result;
+    }).when(m_lookupService).getBatchDataByKey(Mockito.any());
+  }
+
+  @Test
+  public void testKeyBatch() {
+    BatchLookupCall batchCall = new BatchLookupCall();
+    for (int i = 0; i < 1000; i++) {
+      FruitLookupCall call = new FruitLookupCall();
+      call.setKey((i % 100) + 1L);
+      call.setText(i < 500 ? "a" : "b");
+      batchCall.addLookupCall(call);
+    }
+    List<List<ILookupRow<?>>> result = new BatchLookupService().getBatchDataByKey(batchCall);
+
+    // one batch per distinct text, each containing the distinct keys only
+    Mockito.verify(m_lookupService, Mockito.times(2)).getBatchDataByKey(Mockito.argThat(calls -> calls.size() == 100));
+    Mockito.verify(m_lookupService, Mockito.never()).getDataByKey(Mockito.any());
+    assertResult(batchCall, result);
+  }
+
+  @Test
+  public void testKeyBatchWithNullKey() {
+    BatchLookupCall batchCall = new BatchLookupCall();
+    batchCall.addLookupCall(new FruitLookupCall());
+    FruitLookupCall call = new FruitLookupCall();
+    call.setKey(1L);
+    batchCall.addLookupCall(call);
+    List<List<ILookupRow<?>>> result = new BatchLookupService().getBatchDataByKey(batchCall);
+
+    assertEquals(2, result.size());
+    assertEquals(0, result.get(0).size());
+    assertEquals(1, result.get(1).size());
+    Mockito.verify(m_lookupService, Mockito.times(1)).getBatchDataByKey(Mockito.any());
+  }
+
+  @Test
+  public void testKeyBatchNotSupported() {
+    Mockito.when(m_lookupService.isBatchLookupByKeySupported()).thenReturn(false);
+    BatchLookupCall batchCall = createBatchCall(new FruitLookupCall(), new FruitLookupCall());
+    List<List<ILookupRow<?>>> result = new BatchLookupService().getBatchDataByKey(batchCall);
+
+    Mockito.verify(m_lookupService, Mockito.never()).getBatchDataByKey(Mockito.any());
+    Mockito.verify(m_lookupService, Mockito.times(2)).getDataByKey(Mockito.any());
+    assertResult(batchCall, result);
+  }
+
+  @Test
+  public void testKeyBatchWithOverriddenGetDataByKey() {
+    BatchLookupCall batchCall = createBatchCall(new OverridingFruitLookupCall(), new OverridingFruitLookupCall());
+    List<List<ILookupRow<?>>> result = new BatchLookupService().getBatchDataByKey(batchCall);
+
+    // the override of the lookup call must not be bypassed
+    Mockito.verify(m_lookupService, Mockito.never()).getBatchDataByKey(Mockito.any());
+    Mockito.verify(m_lookupService, Mockito.times(2)).getDataByKey(Mockito.any());
+    assertResult(batchCall, result);
+  }
+
+  private static BatchLookupCall createBatchCall(FruitLookupCall... calls) {
+    BatchLookupCall batchCall = new BatchLookupCall();
+    for (int i = 0; i < calls.length; i++) {
+      calls[i].setKey(i + 1L);
+      calls[i].setText("a");
+      batchCall.addLookupCall(calls[i]);
+    }
+    return batchCall;
+  }
+
+  private static void assertResult(BatchLookupCall batchCall, List<List<ILookupRow<?>>> result) {
+    List<ILookupCall<?>> calls = batchCall.getCallBatch();
+    assertEquals(calls.size(), result.size());
+    for (int i = 0; i < result.size(); i++) {
+      assertEquals(1, result.get(i).size());
+      assertEquals(calls.get(i).getKey(), result.get(i).get(0).getKey());
+      assertEquals(calls.get(i).getText() + calls.get(i).getKey(), result.get(i).get(0).getText());
+    }
+  }
+
+  private static List<ILookupRow<Object>> createCallResult(ILookupCall<?> call) {
+    List<ILookupRow<Object>> result = new ArrayList<>();
+    result.add(new LookupRow<>(call.getKey(), call.getText() + call.getKey()));
+    return result;
+  }
+
+  public static class FruitLookupCall extends LookupCall<Object> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected Class<? extends ILookupService<Object>> getConfiguredService() {
+      return IFruitLookupService.class;
+    }
+  }
+
+  public static class OverridingFruitLookupCall extends FruitLookupCall {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public List<? extends ILookupRow<Object>> getDataByKey() {
+      return super.getDataByKey();
+    }
+  }
+
+  public interface IFruitLookupService extends IBatchKeyLookupService<Object> {
+  }
+}
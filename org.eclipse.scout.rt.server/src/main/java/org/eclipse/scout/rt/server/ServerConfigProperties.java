@@ -11,9 +11,12 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelMaxBatchSizeProperty;
 
 public final class ServerConfigProperties {
 
@@ -70,4 +73,26 @@ public final class ServerConfigProperties {
       return String.format("Absolute path to the root directory of the '%s'. The default value is null.", RemoteFileService.class.getSimpleName());
     }
   }
+
+  /**
+   * @since 23.2
+   */
+  public static class ServiceTunnelMaxBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 32;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.maxServerBatchSize";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum number of service calls the server accepts in one batched request. Larger batches are rejected. "
+          + "Must not be lower than '%s' of the clients. The default value is 32.", BEANS.get(HttpServiceTunnelMaxBatchSizeProperty.class).getKey());
+    }
+  }
 }
@@ -102,6 +102,21 @@ public class ServiceOperationInvoker {
     }
   }
 
+  /**
+   * Checks the access to the service operation of the {@link ServiceTunnelRequest} like
+   * {@link #invoke(RunContext, ServiceTunnelRequest)} does, without invoking it. Must be called within the run context
+   * the request is served in.
+   *
+   * @throws SecurityException
+   *           if the service operation must not be called by the current subject
+   * @since 23.2
+   */
+  public void checkServiceAccess(ServiceTunnelRequest serviceReq) throws ClassNotFoundException {
+    Class<?> serviceInterfaceClass = SerializationUtility.getClassLoader().loadClass(serviceReq.getServiceInterfaceClassName());
+    Method serviceOp = BEANS.get(ServiceUtility.class).getServiceOperation(serviceInterfaceClass, serviceReq.getOperation(), serviceReq.getParameterTypes());
+    getValidatedServiceAccess(serviceInterfaceClass, serviceOp, serviceReq.getArgs());
+  }
+
   private void updateInspector(CallInspector callInspector, ServiceTunnelResponse serviceRes) {
     if (callInspector != null) {
       try {
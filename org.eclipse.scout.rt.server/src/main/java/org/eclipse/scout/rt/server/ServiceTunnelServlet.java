@@ -13,6 +13,8 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.SocketException;
 import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.LongPredicate;
 
@@ -22,8 +24,12 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
+import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.TransactionCancelledError;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.concurrent.AbstractInterruptionError;
@@ -31,7 +37,10 @@ import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ServiceTunnelMaxBatchSizeProperty;
 import org.eclipse.scout.rt.server.admin.html.AdminSession;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NotificationStreamEnabled;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationStreamer;
 import org.eclipse.scout.rt.server.commons.idempotent.DuplicateRequestException;
 import org.eclipse.scout.rt.server.commons.idempotent.SequenceNumberDuplicateDetector;
 import org.eclipse.scout.rt.server.commons.servlet.AbstractHttpServlet;
@@ -44,9 +53,14 @@ import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry;
 import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry.IRegistrationHandle;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamRequest;
+import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelException;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -128,6 +142,13 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
           .produce(servletRequest, servletResponse)
           .run(() -> {
             ServiceTunnelRequest serviceRequest = deserializeServiceRequest();
+            if (serviceRequest instanceof ClientNotificationStreamRequest) {
+              doPostNotificationStream((ClientNotificationStreamRequest) serviceRequest);
+              return;
+            }
+            if (serviceRequest instanceof ServiceTunnelBatchRequest && !acceptBatchRequest((ServiceTunnelBatchRequest) serviceRequest)) {
+              return;
+            }
             ServiceTunnelResponse serviceResponse = doPost(serviceRequest);
 
             // Clear the current thread's interruption status before writing the response to the output stream.
@@ -178,6 +199,9 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
   }
 
   protected ServiceTunnelResponse doPost(ServiceTunnelRequest serviceRequest) {
+    if (serviceRequest instanceof ServiceTunnelBatchRequest) {
+      return doPostBatch((ServiceTunnelBatchRequest) serviceRequest);
+    }
     if (LOG.isDebugEnabled()) {
       LOG.debug("requestSequence {} {}.{}", serviceRequest.getRequestSequence(), serviceRequest.getServiceInterfaceClassName(), serviceRequest.getOperation());
     }
@@ -195,6 +219,119 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     }
   }
 
+  /**
+   * Checks a {@link ServiceTunnelBatchRequest} before any of its requests is executed and rejects it with
+   * {@link HttpServletResponse#SC_BAD_REQUEST} if it contains more requests than allowed by
+   * {@link ServiceTunnelMaxBatchSizeProperty}, a nested batch or a {@link ClientNotificationStreamRequest}.
+   *
+   * @return {@code true} if the batch may be executed, {@code false} if it was rejected
+   * @since 23.2
+   */
+  protected boolean acceptBatchRequest(ServiceTunnelBatchRequest batchRequest) throws IOException {
+    String error = null;
+    int maxBatchSize = CONFIG.getPropertyValue(ServiceTunnelMaxBatchSizeProperty.class);
+    if (batchRequest.getRequests().size() > maxBatchSize) {
+      error = "Batch exceeds the maximum size of " + maxBatchSize + " requests";
+    }
+    else if (batchRequest.getRequests().stream().anyMatch(r -> r instanceof ServiceTunnelBatchRequest)) {
+      error = "Batch must not contain nested batches";
+    }
+    else if (batchRequest.getRequests().stream().anyMatch(r -> r instanceof ClientNotificationStreamRequest)) {
+      error = "Batch must not contain notification stream requests";
+    }
+    if (error == null) {
+      return true;
+    }
+    LOG.warn("Batch request rejected: {} [requestSequence={}, size={}]", error, batchRequest.getRequestSequence(), batchRequest.getRequests().size());
+    IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_RESPONSE.get().sendError(HttpServletResponse.SC_BAD_REQUEST, error);
+    return false;
+  }
+
+  /**
+   * Demultiplexes the requests of a {@link ServiceTunnelBatchRequest}. The requests were issued independently by the
+   * client and are therefore executed in parallel, each in its own transaction. The batch must have been accepted by
+   * {@link #acceptBatchRequest(ServiceTunnelBatchRequest)}.
+   *
+   * @since 23.2
+   */
+  protected ServiceTunnelResponse doPostBatch(ServiceTunnelBatchRequest batchRequest) {
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("requestSequence {} batch of {} requests", batchRequest.getRequestSequence(), batchRequest.getRequests().size());
+    }
+
+    List<IFuture<ServiceTunnelResponse>> futures = new ArrayList<>();
+    for (ServiceTunnelRequest serviceRequest : batchRequest.getRequests()) {
+      futures.add(Jobs.schedule(() -> doPost(serviceRequest), Jobs.newInput()
+          .withRunContext(ServerRunContexts.copyCurrent())
+          .withName("Batched service request [seq={}]", serviceRequest.getRequestSequence())
+          .withExceptionHandling(null, false)));
+    }
+
+    List<ServiceTunnelResponse> responses = new ArrayList<>(futures.size());
+    for (IFuture<ServiceTunnelResponse> future : futures) {
+      try {
+        responses.add(future.awaitDoneAndGet());
+      }
+      catch (ThreadInterruptedError e) {
+        futures.forEach(f -> f.cancel(true));
+        throw e;
+      }
+      catch (DuplicateRequestException e) {
+        LOG.warn("Duplicate Request", e);
+        responses.add(new ServiceTunnelResponse(new HttpServiceTunnelException(HttpServletResponse.SC_CONFLICT, "Request is a duplicate")));
+      }
+      catch (RuntimeException e) {
+        // only fail the affected request, as the servlet does for a single request
+        LOG.error("Batched service request failed", e);
+        responses.add(new ServiceTunnelResponse(new HttpServiceTunnelException(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Service tunnel request failed")));
+      }
+    }
+    return new ServiceTunnelBatchResponse(responses);
+  }
+
+  /**
+   * Keeps the connection open and pushes the notifications of the requesting node, see
+   * {@link ClientNotificationStreamer}. Returns once the stream ended or the client closed the connection.
+   * <p>
+   * The stream is only served if enabled by {@link NotificationStreamEnabled} and is authorized like a call to
+   * {@link IClientNotificationService#getNotifications(NodeId)}.
+   *
+   * @since 23.2
+   */
+  protected void doPostNotificationStream(ClientNotificationStreamRequest streamRequest) throws Exception {
+    HttpServletRequest req = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get();
+    HttpServletResponse resp = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_RESPONSE.get();
+
+    if (!CONFIG.getPropertyValue(NotificationStreamEnabled.class)) {
+      resp.sendError(HttpServletResponse.SC_FORBIDDEN, "Notification stream is disabled");
+      return;
+    }
+
+    final ServerRunContext serverRunContext = createServiceTunnelRunContext(streamRequest);
+    serverRunContext.run(() -> {
+      try {
+        m_svcInvoker.get().checkServiceAccess(streamRequest);
+      }
+      catch (SecurityException e) {
+        LOG.warn("Notification stream denied [clientNodeId={}]", streamRequest.getNodeId(), e);
+        resp.sendError(HttpServletResponse.SC_FORBIDDEN);
+        return;
+      }
+
+      m_httpServletControl.get().doDefaults(this, req, resp);
+      m_httpCacheControl.get().checkAndSetCacheHeaders(req, resp, null);
+      resp.setContentType(m_contentHandler.getContentType());
+      resp.flushBuffer(); // commit the headers, so that the client starts reading
+      try {
+        BEANS.get(ClientNotificationStreamer.class).stream(streamRequest.getNodeId(), m_contentHandler, resp.getOutputStream());
+      }
+      catch (IOException e) {
+        // the response is already committed, an error cannot be sent anymore
+        LOG.debug("Notification stream closed by client [clientNodeId={}]", streamRequest.getNodeId(), e);
+      }
+    }, DefaultExceptionTranslator.class);
+  }
+
   protected String interruptInfo(boolean interrupted) {
     return interrupted ? ", thread was interrupted" : ", thread was not interrupted";
   }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.id.IIds;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.AttributesCache;
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} for the {@link ClientNotificationNodeQueue}s of all registered nodes, tagged by node id.
+ * <p>
+ * Queue depth and dropped notifications are read from the queues when the metrics are collected. The time
+ * notifications waited in a queue until they were consumed is recorded by {@link ClientNotificationNodeQueue} using
+ * {@link #recordWaitDuration(long)}.
+ *
+ * @since 23.2
+ */
+public class ClientNotificationMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationMetricProvider.class);
+
+  public static final String OTEL_METRIC_QUEUE_WAIT_DURATION = "scout.clientnotification.queue.wait.duration";
+
+  private static final AttributeKey<String> NODE_ID = AttributeKey.stringKey("scout.clientnotification.node.id");
+  private static final String NO_QUALIFIER = "";
+
+  private final AttributesCache<String, String> m_nodeAttributes = AttributesCache.of(64, 1, (nodeId, unused) -> Attributes.of(NODE_ID, nodeId));
+
+  private volatile DoubleHistogram m_waitDuration;
+  private BatchCallback m_batchCallback;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.clientnotification.queue.size")
+        .setDescription("The number of client notifications queued for a node.")
+        .setUnit("{notification}")
+        .buildObserver();
+    ObservableLongMeasurement dropped = meter.counterBuilder("scout.clientnotification.queue.dropped")
+        .setDescription("The number of client notifications dropped because the capacity of the queue was reached.")
+        .setUnit("{notification}")
+        .buildObserver();
+
+    m_batchCallback = meter.batchCallback(() -> {
+      for (ClientNotificationNodeQueue queue : getQueues()) {
+        Attributes attributes = m_nodeAttributes.getOrCreate(IIds.toString(queue.getNodeId()), NO_QUALIFIER);
+        size.record(queue.getSize(), attributes);
+        dropped.record(queue.getDroppedCount(), attributes);
+      }
+    },
+        size,
+        dropped);
+
+    m_waitDuration = meter.histogramBuilder(OTEL_METRIC_QUEUE_WAIT_DURATION)
+        .setDescription("The time client notifications waited in the queue of a node until they were consumed.")
+        .setUnit("ms")
+        .build();
+  }
+
+  protected List<ClientNotificationNodeQueue> getQueues() {
+    return BEANS.get(ClientNotificationRegistry.class).getQueues();
+  }
+
+  /**
+   * Records the time a notification waited in a queue. Does nothing if this provider is not registered.
+   *
+   * @param durationNanos
+   *          duration in nanoseconds
+   */
+  public void recordWaitDuration(long durationNanos) {
+    DoubleHistogram waitDuration = m_waitDuration;
+    if (waitDuration != null) {
+      waitDuration.record(durationNanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+  }
+
+  @Override
+  public void close() {
+    m_waitDuration = null;
+    if (m_batchCallback != null) {
+      try {
+        m_batchCallback.close();
+      }
+      catch (RuntimeException e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+      m_batchCallback = null;
+    }
+  }
+
+  /**
+   * Custom histogram buckets for <code>scout.clientnotification.queue.wait.duration</code> (time unit: milliseconds).
+   */
+  public static class WaitDurationHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_QUEUE_WAIT_DURATION;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 5d, 10d, 50d, 100d, 250d, 500d, 1_000d, 5_000d, 10_000d, 60_000d);
+    }
+  }
+}
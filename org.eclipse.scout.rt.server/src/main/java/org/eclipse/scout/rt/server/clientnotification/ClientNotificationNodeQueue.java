@@ -14,22 +14,27 @@ import static java.util.stream.Collectors.toList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.FinalValue;
+import org.eclipse.scout.rt.platform.util.ImmutablePair;
+import org.eclipse.scout.rt.platform.util.Pair;
+import org.eclipse.scout.rt.platform.util.concurrent.BoundedRingBuffer;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NodeQueueCapacity;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
@@ -39,16 +44,29 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A queue for a client node, that keeps track of notifications for that node.
+ * <p>
+ * The notifications are kept in a {@link BoundedRingBuffer}, so that the producers (e.g. committing transactions) do
+ * not contend with each other or with the consumer of the node. If the capacity is reached, the oldest notifications
+ * are dropped. The consumer drains the available notifications in batches and coalesces the notifications of each
+ * address using the {@link ClientNotificationCoalescer}. Queue depth, dropped notifications and the time notifications
+ * waited in the queue are exposed by the {@link ClientNotificationMetricProvider}.
  */
 @Bean
 public class ClientNotificationNodeQueue {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationNodeQueue.class);
 
+  /**
+   * Time to wait for further notifications after some were received, to not go back with one notification when some
+   * are about to pop up.
+   */
+  private static final long ADDITIONAL_WAIT_MILLIS = 234;
+
   private final FinalValue<NodeId> m_nodeId = new FinalValue<>();
 
   private final int m_capacity;
-  private final BlockingDeque<ClientNotificationMessage> m_notifications;
+  private final BoundedRingBuffer<QueuedMessage> m_notifications;
   private final AtomicLong m_lastConsumeAccess;
+  private final LongAdder m_droppedCount = new LongAdder();
 
   public ClientNotificationNodeQueue() {
     this(CONFIG.getPropertyValue(NodeQueueCapacity.class));
@@ -56,7 +74,7 @@ public class ClientNotificationNodeQueue {
 
   public ClientNotificationNodeQueue(int capacity) {
     m_capacity = capacity;
-    m_notifications = new LinkedBlockingDeque<>(capacity);
+    m_notifications = new BoundedRingBuffer<>(capacity);
     m_lastConsumeAccess = new AtomicLong(System.currentTimeMillis());
   }
 
@@ -75,6 +93,22 @@ public class ClientNotificationNodeQueue {
     return m_capacity;
   }
 
+  /**
+   * @return number of notifications currently queued
+   * @since 23.2
+   */
+  public int getSize() {
+    return m_notifications.size();
+  }
+
+  /**
+   * @return number of notifications dropped because the capacity was reached
+   * @since 23.2
+   */
+  public long getDroppedCount() {
+    return m_droppedCount.sum();
+  }
+
   public void put(ClientNotificationMessage notification) {
     put(CollectionUtility.arrayList(notification));
   }
@@ -88,39 +122,55 @@ public class ClientNotificationNodeQueue {
    * Put notifications into queue and drop the oldest ones, if capacity is reached.
    */
   private void putDroppingOld(Collection<? extends ClientNotificationMessage> notifications) {
-    List<ClientNotificationMessage> droppedNotifications = new ArrayList<>();
+    if (notifications.isEmpty()) {
+      return;
+    }
+    List<QueuedMessage> dropped = new ArrayList<>();
+    // make room for the whole batch at once
+    int excess = m_notifications.size() + notifications.size() - m_capacity;
+    if (excess > 0) {
+      m_notifications.drainTo(dropped, excess);
+    }
+    long now = System.nanoTime();
     for (ClientNotificationMessage message : notifications) {
-      boolean inserted = m_notifications.offer(message);
+      QueuedMessage queued = new QueuedMessage(message, now);
+      boolean inserted = m_notifications.offer(queued);
       while (!inserted) {
-        ClientNotificationMessage removed = m_notifications.poll();
+        // concurrent producers filled the queue
+        QueuedMessage removed = m_notifications.poll();
         if (removed != null) {
-          droppedNotifications.add(removed);
+          dropped.add(removed);
         }
-        inserted = m_notifications.offer(message);
+        inserted = m_notifications.offer(queued);
       }
     }
-    if (!droppedNotifications.isEmpty()) {
-      if (LOG.isWarnEnabled()) {
-        Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
-            .map(m -> m.getNotification().getClass().getSimpleName() + " -> " + m.getAddress().prettyPrint())
-            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
-            .entrySet().stream()
-            .sorted(Entry.<String, Long> comparingByValue().reversed())
-            .map(e -> e.getKey() + " (" + e.getValue() + "x)")
-            .collect(Collectors.joining(", ", "[", "]"));
-
-        LOG.warn("Notification queue capacity reached. Added {}, removed oldest {} notification messages. [clientNodeId={}, lastConsumeAccess={}, newNotifications={}, droppedNotifications={}]",
-            notifications.size(), droppedNotifications.size(), getNodeId(), getLastConsumeAccessFormatted(), infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()));
-      }
-      if (LOG.isDebugEnabled()) {
-        Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
-            .map(m -> m.toString())
-            .collect(Collectors.joining("\n    ", "\n    ", ""));
-
-        LOG.debug("Notification queue capacity reached. Details:\n  newNotifications={}\n  droppedNotifications={}",
-            infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()),
-            new Exception("stacktrace for further analysis"));
-      }
+    if (!dropped.isEmpty()) {
+      m_droppedCount.add(dropped.size());
+      logDropped(notifications, dropped.stream().map(QueuedMessage::getMessage).collect(toList()));
+    }
+  }
+
+  protected void logDropped(Collection<? extends ClientNotificationMessage> notifications, List<ClientNotificationMessage> droppedNotifications) {
+    if (LOG.isWarnEnabled()) {
+      Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
+          .map(m -> m.getNotification().getClass().getSimpleName() + " -> " + m.getAddress().prettyPrint())
+          .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+          .entrySet().stream()
+          .sorted(Entry.<String, Long> comparingByValue().reversed())
+          .map(e -> e.getKey() + " (" + e.getValue() + "x)")
+          .collect(Collectors.joining(", ", "[", "]"));
+
+      LOG.warn("Notification queue capacity reached. Added {}, removed oldest {} notification messages. [clientNodeId={}, lastConsumeAccess={}, newNotifications={}, droppedNotifications={}]",
+          notifications.size(), droppedNotifications.size(), getNodeId(), getLastConsumeAccessFormatted(), infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()));
+    }
+    if (LOG.isDebugEnabled()) {
+      Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
+          .map(m -> m.toString())
+          .collect(Collectors.joining("\n    ", "\n    ", ""));
+
+      LOG.debug("Notification queue capacity reached. Details:\n  newNotifications={}\n  droppedNotifications={}",
+          infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()),
+          new Exception("stacktrace for further analysis"));
     }
   }
 
@@ -135,30 +185,28 @@ public class ClientNotificationNodeQueue {
     return DateUtility.format(new Date(getLastConsumeAccess()), "yyyy-MM-dd HH:mm:ss.SSS");
   }
 
+  /**
+   * Waits for notifications and returns them coalesced, see {@link #coalesce(List)}.
+   */
   public List<ClientNotificationMessage> consume(int maxAmount, long maxWaitTime, TimeUnit unit) {
     m_lastConsumeAccess.set(System.currentTimeMillis());
 
-    List<ClientNotificationMessage> result = getNotifications(maxAmount, maxWaitTime, unit);
+    List<ClientNotificationMessage> result = coalesce(getNotifications(maxAmount, maxWaitTime, unit));
     LOG.debug("consumed {} notifications. [clientNodeId={}]", result.size(), getNodeId());
     return result;
   }
 
   protected List<ClientNotificationMessage> getNotifications(int maxAmount, long maxWaitTime, TimeUnit unit) {
-    List<ClientNotificationMessage> collected = new LinkedList<>();
+    List<ClientNotificationMessage> collected = new ArrayList<>();
     try {
-      //blocking wait to get first message
-      ClientNotificationMessage next = m_notifications.poll(maxWaitTime, unit);
-      if (next != null) {
-        collected.add(next);
-      }
+      //blocking wait to get first messages
+      if (m_notifications.awaitNotEmpty(maxWaitTime, unit)) {
+        drain(collected, maxAmount);
 
-      //add more available notifications
-      //with short wait timeout to not go back with one notification when some are about to pop up.
-      int timeout = 234; // 0 for no reschedule
-      while (next != null && collected.size() < maxAmount) {
-        next = m_notifications.poll(timeout, TimeUnit.MILLISECONDS);
-        if (next != null) {
-          collected.add(next);
+        //add more available notifications
+        //with short wait timeout to not go back with one notification when some are about to pop up.
+        while (collected.size() < maxAmount && m_notifications.awaitNotEmpty(ADDITIONAL_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+          drain(collected, maxAmount);
         }
       }
     }
@@ -168,6 +216,70 @@ public class ClientNotificationNodeQueue {
     return collected;
   }
 
+  /**
+   * Removes all available notifications up to <code>maxAmount</code> in total.
+   */
+  protected void drain(List<ClientNotificationMessage> collected, int maxAmount) {
+    List<QueuedMessage> drained = new ArrayList<>(Math.min(maxAmount - collected.size(), m_capacity));
+    m_notifications.drainTo(drained, maxAmount - collected.size());
+    if (drained.isEmpty()) {
+      return;
+    }
+    ClientNotificationMetricProvider metricProvider = BEANS.opt(ClientNotificationMetricProvider.class);
+    long now = System.nanoTime();
+    for (QueuedMessage queued : drained) {
+      collected.add(queued.getMessage());
+      if (metricProvider != null) {
+        metricProvider.recordWaitDuration(now - queued.getEnqueued());
+      }
+    }
+  }
+
+  /**
+   * Coalesces the notifications per address and cluster distribution, also across transactions. Each coalesced group
+   * takes the position of the last occurrence of its address, so it is delivered after all notifications of other
+   * addresses queued before its newest notification, and carries the correlation id of its newest notification.
+   */
+  protected List<ClientNotificationMessage> coalesce(List<ClientNotificationMessage> notifications) {
+    if (notifications.size() < 2) {
+      return notifications;
+    }
+    Map<Pair<Boolean, IClientNotificationAddress>, List<ClientNotificationMessage>> messagesPerGroup = new HashMap<>();
+    Map<Pair<Boolean, IClientNotificationAddress>, Integer> lastIndexPerGroup = new HashMap<>();
+    for (int i = 0; i < notifications.size(); i++) {
+      ClientNotificationMessage message = notifications.get(i);
+      Pair<Boolean, IClientNotificationAddress> group = ImmutablePair.of(message.isDistributeOverCluster(), message.getAddress());
+      messagesPerGroup.computeIfAbsent(group, k -> new ArrayList<>()).add(message);
+      lastIndexPerGroup.put(group, i);
+    }
+
+    List<ClientNotificationMessage> result = new ArrayList<>(notifications.size());
+    for (int i = 0; i < notifications.size(); i++) {
+      ClientNotificationMessage message = notifications.get(i);
+      Pair<Boolean, IClientNotificationAddress> group = ImmutablePair.of(message.isDistributeOverCluster(), message.getAddress());
+      if (lastIndexPerGroup.get(group) == i) {
+        result.addAll(coalesce(message, messagesPerGroup.get(group)));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param newest
+   *          the newest notification of the group, its correlation id is used for all coalesced notifications
+   * @param messages
+   *          the notifications with the same address and cluster distribution as <code>newest</code>
+   */
+  protected List<ClientNotificationMessage> coalesce(ClientNotificationMessage newest, List<ClientNotificationMessage> messages) {
+    if (messages.size() < 2) {
+      return messages;
+    }
+    return BEANS.get(ClientNotificationCoalescer.class).coalesce(newest.isDistributeOverCluster(), newest.getAddress(), messages).stream()
+        .map(m -> Objects.equals(m.getCorrelationId(), newest.getCorrelationId()) ? m
+            : new ClientNotificationMessage(m.getAddress(), m.getNotification(), m.isDistributeOverCluster(), newest.getCorrelationId()))
+        .collect(toList());
+  }
+
   private List<ClientNotificationMessage> getRelevantNotifications(Collection<? extends ClientNotificationMessage> notificationInput) {
     return notificationInput.stream()
         .filter(msg -> isRelevant(msg.getAddress()))
@@ -180,4 +292,25 @@ public class ClientNotificationNodeQueue {
         || CollectionUtility.hasElements(address.getSessionIds())
         || CollectionUtility.hasElements(address.getUserIds());
   }
+
+  protected static class QueuedMessage {
+    private final ClientNotificationMessage m_message;
+    private final long m_enqueued;
+
+    protected QueuedMessage(ClientNotificationMessage message, long enqueued) {
+      m_message = message;
+      m_enqueued = enqueued;
+    }
+
+    public ClientNotificationMessage getMessage() {
+      return m_message;
+    }
+
+    /**
+     * @return {@link System#nanoTime()} when the message was queued
+     */
+    public long getEnqueued() {
+      return m_enqueued;
+    }
+  }
 }
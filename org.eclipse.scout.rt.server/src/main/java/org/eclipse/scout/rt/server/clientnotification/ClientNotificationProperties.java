@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.server.clientnotification;
 
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 
 /**
@@ -92,4 +93,42 @@ public final class ClientNotificationProperties {
       return "scout.clientnotification.notificationQueueExpireTime";
     }
   }
+
+  public static class MaxNotificationStreamDuration extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 5 * 60 * 1000;
+    }
+
+    @Override
+    public String description() {
+      return "The maximum amount of time in milliseconds the notifications of a node are pushed over the same connection, if the node uses the push transport. "
+          + "The client opens a new connection afterwards, which allows load balancers to redistribute the connections. The default is 5 minutes.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.maxNotificationStreamDuration";
+    }
+  }
+
+  public static class NotificationStreamEnabled extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the backend server accepts requests of nodes to push their client notifications over a persistent connection. "
+          + "Must be enabled if the UI servers use 'scout.clientnotification.push'. The default is false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.streamEnabled";
+    }
+  }
 }
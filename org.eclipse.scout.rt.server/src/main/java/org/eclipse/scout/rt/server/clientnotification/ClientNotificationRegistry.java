@@ -10,15 +10,15 @@
 package org.eclipse.scout.rt.server.clientnotification;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
@@ -46,7 +46,7 @@ import org.slf4j.LoggerFactory;
 @ApplicationScoped
 public class ClientNotificationRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationRegistry.class);
-  private final Map<NodeId, ClientNotificationNodeQueue> m_notificationQueues = new HashMap<>();
+  private final Map<NodeId, ClientNotificationNodeQueue> m_notificationQueues = new ConcurrentHashMap<>();
 
   /**
    * If no message is consumed for a certain amount of time [ms], queues are removed to avoid overflows. This may
@@ -73,14 +73,12 @@ public class ClientNotificationRegistry {
    * This method should only be accessed from {@link ClientNotificationService}
    */
   protected void unregisterNode(NodeId nodeId) {
-    synchronized (m_notificationQueues) {
-      LOG.info("Removing queue of unregistered node [clientNodeId={}]", nodeId);
-      m_notificationQueues.remove(nodeId);
-    }
+    LOG.info("Removing queue of unregistered node [clientNodeId={}]", nodeId);
+    m_notificationQueues.remove(nodeId);
   }
 
   /**
-   * This method should only be accessed from {@link ClientNotificationService}
+   * This method should only be accessed from {@link ClientNotificationService} and {@link ClientNotificationStreamer}
    *
    * @param maxAmount
    *          maximum number of notifications to be consumed
@@ -96,9 +94,7 @@ public class ClientNotificationRegistry {
 
   protected ClientNotificationNodeQueue getOrCreateQueue(NodeId nodeId) {
     Assertions.assertNotNull(nodeId);
-    synchronized (m_notificationQueues) {
-      return m_notificationQueues.computeIfAbsent(nodeId, this::createNewQueue);
-    }
+    return m_notificationQueues.computeIfAbsent(nodeId, this::createNewQueue);
   }
 
   protected ClientNotificationNodeQueue createNewQueue(NodeId nodeId) {
@@ -111,9 +107,15 @@ public class ClientNotificationRegistry {
    * Nodes that have been registered with {@link #registerNode(NodeId)}
    */
   public Set<NodeId> getRegisteredNodeIds() {
-    synchronized (m_notificationQueues) {
-      return new HashSet<>(m_notificationQueues.keySet());
-    }
+    return new HashSet<>(m_notificationQueues.keySet());
+  }
+
+  /**
+   * @return snapshot of the queues of all registered nodes
+   * @since 23.2
+   */
+  protected List<ClientNotificationNodeQueue> getQueues() {
+    return new ArrayList<>(m_notificationQueues.values());
   }
 
   // put methods
@@ -221,16 +223,12 @@ public class ClientNotificationRegistry {
    *          may be <code>null</code>
    */
   public void publishWithoutClusterNotification(Collection<? extends ClientNotificationMessage> messages, NodeId excludedUiNodeId) {
-    synchronized (m_notificationQueues) {
-      Iterator<ClientNotificationNodeQueue> iter = m_notificationQueues.values().iterator();
-      while (iter.hasNext()) {
-        ClientNotificationNodeQueue queue = iter.next();
-        if (!queue.getNodeId().equals(excludedUiNodeId)) {
-          queue.put(messages);
-          if (isQueueExpired(queue)) {
-            LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
-            iter.remove();
-          }
+    // no global lock: concurrent publishers only meet in the (lock-free) ring buffer of each queue
+    for (ClientNotificationNodeQueue queue : m_notificationQueues.values()) {
+      if (!queue.getNodeId().equals(excludedUiNodeId)) {
+        queue.put(messages);
+        if (isQueueExpired(queue) && m_notificationQueues.remove(queue.getNodeId(), queue)) {
+          LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
         }
       }
     }
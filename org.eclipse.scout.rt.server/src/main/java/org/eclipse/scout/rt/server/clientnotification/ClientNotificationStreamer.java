@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.MaxNotificationBlockingTimeOut;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.MaxNotificationMessages;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.MaxNotificationStreamDuration;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes the notifications of a node to the client over a persistent connection, see
+ * {@link ClientNotificationStreamRequest}.
+ * <p>
+ * The notifications are consumed from the same {@link ClientNotificationNodeQueue} as by
+ * {@link ClientNotificationService#getNotifications(NodeId)}, with the same chunk size and blocking timeout. Hence
+ * capacity and delivery semantics are the same as for polling: consumed notifications are removed from the queue and
+ * are lost if they cannot be written to the client. A frame is written after each blocking timeout even if it contains
+ * no notifications, so that a closed connection is detected and the liveness check of the client is satisfied.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class ClientNotificationStreamer {
+  private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationStreamer.class);
+
+  private final int m_blockingTimeout;
+  private final int m_maxNotifications;
+  private final int m_maxStreamDuration;
+
+  public ClientNotificationStreamer() {
+    this(Assertions.assertNotNull(CONFIG.getPropertyValue(MaxNotificationBlockingTimeOut.class)),
+        Assertions.assertNotNull(CONFIG.getPropertyValue(MaxNotificationMessages.class)),
+        Assertions.assertNotNull(CONFIG.getPropertyValue(MaxNotificationStreamDuration.class)));
+  }
+
+  public ClientNotificationStreamer(int blockingTimeout, int maxNotifications, int maxStreamDuration) {
+    m_blockingTimeout = blockingTimeout;
+    m_maxNotifications = maxNotifications;
+    m_maxStreamDuration = maxStreamDuration;
+  }
+
+  /**
+   * Writes the notifications of the given node to the output stream until the maximum stream duration elapsed, the
+   * current {@link RunMonitor} is cancelled or the client closed the connection.
+   *
+   * @throws IOException
+   *           if the notifications could not be written (e.g. connection closed by the client)
+   */
+  public void stream(NodeId nodeId, IServiceTunnelContentHandler contentHandler, OutputStream out) throws IOException {
+    Assertions.assertNotNull(nodeId);
+    LOG.debug("Start streaming notifications [clientNodeId={}]", nodeId);
+    DataOutputStream dataOut = new DataOutputStream(out);
+    RunMonitor runMonitor = RunMonitor.CURRENT.get();
+    long end = System.currentTimeMillis() + m_maxStreamDuration;
+    while (System.currentTimeMillis() < end && !runMonitor.isCancelled() && !Thread.currentThread().isInterrupted()) {
+      List<ClientNotificationMessage> notifications = getRegistry().consume(nodeId, m_maxNotifications, m_blockingTimeout, TimeUnit.MILLISECONDS);
+      writeFrame(dataOut, contentHandler, new ServiceTunnelResponse(new ArrayList<>(notifications)));
+    }
+    LOG.debug("Stop streaming notifications [clientNodeId={}]", nodeId);
+  }
+
+  protected ClientNotificationRegistry getRegistry() {
+    return BEANS.get(ClientNotificationRegistry.class);
+  }
+
+  protected void writeFrame(DataOutputStream out, IServiceTunnelContentHandler contentHandler, ServiceTunnelResponse response) throws IOException {
+    ByteArrayOutputStream frame = new ByteArrayOutputStream();
+    contentHandler.writeResponse(frame, response);
+    out.writeInt(frame.size());
+    frame.writeTo(out);
+    out.flush();
+  }
+}
@@ -10,15 +10,22 @@
 package org.eclipse.scout.rt.server.services.lookup;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
 import org.eclipse.scout.rt.shared.services.lookup.IBatchLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
 import org.eclipse.scout.rt.shared.services.lookup.IServerBatchLookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
 
 /**
  * Implementation of {@link IBatchLookupService} that can be used in a server.<br>
@@ -30,17 +37,97 @@ import org.eclipse.scout.rt.shared.services.lookup.IServerBatchLookupService;
 @Order(5100)
 public class BatchLookupService implements IServerBatchLookupService {
 
+  private final Map<Class<?>, Boolean> m_overridesGetDataByKey = new ConcurrentHashMap<>();
+
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByKey(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
-    List<List<ILookupRow<?>>> result = new ArrayList<>();
+    List<List<ILookupRow<?>>> result = new ArrayList<>(Collections.nCopies(calls.size(), null));
     BatchLookupResultCache cache = new BatchLookupResultCache();
-    for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByKey(call)));
+    Map<ILookupCall<?>, List<Integer>> keyBatches = new LinkedHashMap<>();
+    for (int i = 0; i < calls.size(); i++) {
+      ILookupCall<?> call = calls.get(i);
+      ILookupCall<?> keyBatch = createKeyBatch(call);
+      if (keyBatch == null) {
+        result.set(i, new ArrayList<>(cache.getDataByKey(call)));
+      }
+      else {
+        keyBatches.computeIfAbsent(keyBatch, k -> new ArrayList<>()).add(i);
+      }
+    }
+    for (List<Integer> indexes : keyBatches.values()) {
+      loadKeyBatch(calls, indexes, cache, result);
     }
     return result;
   }
 
+  /**
+   * @return a copy of the call without key if the call may be loaded together with other calls by
+   *         {@link IBatchKeyLookupService#getBatchDataByKey(List)}, otherwise <code>null</code>. Calls having an equal
+   *         copy are loaded together.
+   * @since 23.2
+   */
+  protected ILookupCall<?> createKeyBatch(ILookupCall<?> call) {
+    if (!(call instanceof LookupCall) || call.getKey() == null || !BatchLookupResultCache.isCacheable(call.getClass())) {
+      return null;
+    }
+    ILookupService<?> service = ((LookupCall<?>) call).getLookupService();
+    if (!(service instanceof IBatchKeyLookupService) || !((IBatchKeyLookupService<?>) service).isBatchLookupByKeySupported()) {
+      return null;
+    }
+    if (overridesGetDataByKey(call.getClass())) {
+      return null;
+    }
+    LookupCall<?> keyBatch = ((LookupCall<?>) call).copy();
+    keyBatch.setKey(null);
+    return keyBatch;
+  }
+
+  /**
+   * @return <code>true</code> if the lookup call class overrides {@link LookupCall#getDataByKey()}, which would be
+   *         bypassed by a batch
+   * @since 23.2
+   */
+  protected boolean overridesGetDataByKey(Class<?> lookupCallClass) {
+    return m_overridesGetDataByKey.computeIfAbsent(lookupCallClass, c -> ConfigurationUtility.isMethodOverwrite(LookupCall.class, "getDataByKey", new Class[0], c));
+  }
+
+  /**
+   * Loads the calls with the given indexes, which only differ in their key, with a single
+   * {@link IBatchKeyLookupService#getBatchDataByKey(List)} invocation.
+   *
+   * @since 23.2
+   */
+  @SuppressWarnings("unchecked")
+  protected void loadKeyBatch(List<ILookupCall<?>> calls, List<Integer> indexes, BatchLookupResultCache cache, List<List<ILookupRow<?>>> result) {
+    // equal calls are loaded once
+    Map<ILookupCall<?>, List<Integer>> uncachedCalls = new LinkedHashMap<>();
+    for (Integer index : indexes) {
+      ILookupCall<?> call = calls.get(index);
+      List<ILookupRow<?>> rows = cache.getCachedResult(call);
+      if (rows != null) {
+        result.set(index, rows);
+      }
+      else {
+        uncachedCalls.computeIfAbsent(call, k -> new ArrayList<>()).add(index);
+      }
+    }
+    if (uncachedCalls.isEmpty()) {
+      return;
+    }
+    List<ILookupCall> batchCalls = new ArrayList<>(uncachedCalls.keySet());
+    IBatchKeyLookupService service = (IBatchKeyLookupService) ((LookupCall) batchCalls.get(0)).getLookupService();
+    List<List<ILookupRow<?>>> batchResult = service.getBatchDataByKey(batchCalls);
+    for (int i = 0; i < batchCalls.size(); i++) {
+      ILookupCall<?> call = batchCalls.get(i);
+      List<ILookupRow<?>> rows = batchResult.get(i);
+      cache.putCachedResult(call, rows);
+      for (Integer index : uncachedCalls.get(call)) {
+        result.set(index, new ArrayList<>(rows));
+      }
+    }
+  }
+
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByText(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+
+/**
+ * Lookup service able to load the rows of multiple key lookups at once.
+ * <p>
+ * {@link BatchLookupService} groups the calls of a {@link BatchLookupCall} which only differ in their key and passes
+ * each group to {@link #getBatchDataByKey(List)} instead of calling {@link #getDataByKey(ILookupCall)} for every call.
+ *
+ * @since 23.2
+ */
+public interface IBatchKeyLookupService<LOOKUP_ROW_KEY_TYPE> extends ILookupService<LOOKUP_ROW_KEY_TYPE> {
+
+  /**
+   * @return <code>true</code> if {@link #getBatchDataByKey(List)} loads multiple calls at once. Otherwise the calls are
+   *         not grouped by {@link BatchLookupService} and are loaded one by one by {@link ILookupCall#getDataByKey()}.
+   */
+  boolean isBatchLookupByKeySupported();
+
+  /**
+   * @param calls
+   *          lookup calls with distinct keys, otherwise equal (same class, text, master, active, etc.)
+   * @return the result of {@link #getDataByKey(ILookupCall)} for each call, in the order of the calls
+   */
+  List<List<ILookupRow<LOOKUP_ROW_KEY_TYPE>>> getBatchDataByKey(List<ILookupCall<LOOKUP_ROW_KEY_TYPE>> calls);
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.shared.servicetunnel.CompactServiceTunnelContentHandlerTest.PersonFormData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures writing and reading of a {@link ServiceTunnelResponse} containing a form data with value fields and table
+ * rows using the {@link BinaryServiceTunnelContentHandler} and the {@link CompactServiceTunnelContentHandler}. The
+ * payload sizes of the same responses are compared by
+ * {@link CompactServiceTunnelContentHandlerTest#testResponseSmallerThanBinary()}.
+ * <p>
+ * The compact handler only replaces the class descriptors, which Java serialization writes once per stream. Hence the
+ * difference is a fixed amount per response: it is noticeable with 1 row and small with 100 rows, where encoding the
+ * objects dominates for both handlers.
+ * <p>
+ * The handler is shared by all threads: {@link #main(String[])} runs the benchmarks with 8 threads as well to include
+ * concurrent lookups in the {@link ServiceTunnelClassRegistry}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompactServiceTunnelContentHandlerBenchmark {
+
+  @Param({"binary", "compact"})
+  public String m_handlerType;
+
+  @Param({"1", "100"})
+  public int m_rowCount;
+
+  private BinaryServiceTunnelContentHandler m_handler;
+  private ServiceTunnelResponse m_response;
+  private byte[] m_data;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    // starts the platform
+    Platform.get();
+    m_handler = "compact".equals(m_handlerType) ? new CompactServiceTunnelContentHandler() : new BinaryServiceTunnelContentHandler();
+    m_handler.initialize();
+    m_response = new ServiceTunnelResponse(CompactServiceTunnelContentHandlerTest.createFormData(m_rowCount), null);
+    m_data = write();
+  }
+
+  @Benchmark
+  public byte[] write() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    m_handler.writeResponse(out, m_response);
+    return out.toByteArray();
+  }
+
+  @Benchmark
+  public PersonFormData read() throws Exception {
+    return (PersonFormData) m_handler.readResponse(new ByteArrayInputStream(m_data)).getData();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[]{1, 8}) {
+      new Runner(new OptionsBuilder()
+          .include(CompactServiceTunnelContentHandlerBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build())
+          .run();
+    }
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link CompactServiceTunnelContentHandler} and {@link CompactObjectSerializer}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactServiceTunnelContentHandlerTest {
+
+  @Test
+  public void request() throws Exception {
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, createRequest(10));
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+
+    assertEquals("test", readRequest.getServiceInterfaceClassName());
+    PersonFormData formData = (PersonFormData) readRequest.getArgs()[0];
+    assertEquals("Muster", formData.getName().getValue());
+    assertEquals(Long.valueOf(42L), formData.getPersonNr().getValue());
+    assertEquals(10, formData.getAddresses().getRowCount());
+    assertEquals("city 9", formData.getAddresses().rowAt(9).getCity());
+  }
+
+  @Test
+  public void response() throws Exception {
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(createFormData(3), null));
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals(3, ((PersonFormData) readResponse.getData()).getAddresses().getRowCount());
+  }
+
+  @Test
+  public void testSmallerThanBinary() throws Exception {
+    ServiceTunnelRequest request = createRequest(10);
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+    binaryHandler.initialize();
+    ByteArrayOutputStream binary = new ByteArrayOutputStream();
+    binaryHandler.writeRequest(binary, request);
+
+    CompactServiceTunnelContentHandler compactHandler = new CompactServiceTunnelContentHandler();
+    compactHandler.initialize();
+    ByteArrayOutputStream compact = new ByteArrayOutputStream();
+    compactHandler.writeRequest(compact, request);
+
+    assertTrue(String.format("compact: %s, binary: %s", compact.size(), binary.size()), compact.size() < binary.size());
+  }
+
+  @Test
+  public void testResponseSmallerThanBinary() throws Exception {
+    for (int rowCount : new int[]{1, 100}) {
+      ServiceTunnelResponse response = new ServiceTunnelResponse(createFormData(rowCount), null);
+      BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+      binaryHandler.initialize();
+      ByteArrayOutputStream binary = new ByteArrayOutputStream();
+      binaryHandler.writeResponse(binary, response);
+
+      CompactServiceTunnelContentHandler compactHandler = new CompactServiceTunnelContentHandler();
+      compactHandler.initialize();
+      ByteArrayOutputStream compact = new ByteArrayOutputStream();
+      compactHandler.writeResponse(compact, response);
+
+      assertTrue(String.format("rows: %s, compact: %s, binary: %s", rowCount, compact.size(), binary.size()), compact.size() < binary.size());
+    }
+  }
+
+  @Test(expected = ProcessingException.class)
+  public void testWhitelistChecked() throws Exception {
+    CompactObjectSerializer serializer = new CompactObjectSerializer(null, BEANS.get(ServiceTunnelClassRegistry.class));
+    byte[] data = serializer.serialize(createFormData(1));
+    serializer.withWhitelist(className -> !className.startsWith(PersonFormData.class.getName()));
+    serializer.deserialize(data, PersonFormData.class);
+  }
+
+  @Test(expected = InvalidClassException.class)
+  public void testDifferentRegistry() throws IOException, ClassNotFoundException {
+    byte[] data = new CompactObjectSerializer(null, BEANS.get(ServiceTunnelClassRegistry.class)).serialize("test");
+    ServiceTunnelClassRegistry otherRegistry = new ServiceTunnelClassRegistry() {
+      @Override
+      protected List<Class<?>> createRegisteredClasses() {
+        List<Class<?>> classes = super.createRegisteredClasses();
+        classes.add(PersonFormData.class);
+        return classes;
+      }
+    };
+    new CompactObjectSerializer(null, otherRegistry).deserialize(data, String.class);
+  }
+
+  static ServiceTunnelRequest createRequest(int rowCount) {
+    return new ServiceTunnelRequest("test", "store", new Class[]{PersonFormData.class}, new Object[]{createFormData(rowCount)});
+  }
+
+  static PersonFormData createFormData(int rowCount) {
+    PersonFormData formData = new PersonFormData();
+    formData.getPersonNr().setValue(42L);
+    formData.getName().setValue("Muster");
+    formData.getFirstName().setValue("Hans");
+    formData.getBirthday().setValue(new Date(0));
+    for (int i = 0; i < rowCount; i++) {
+      PersonFormData.Addresses.AddressesRowData row = formData.getAddresses().addRow();
+      row.setAddressNr((long) i);
+      row.setStreet("street " + i);
+      row.setCity("city " + i);
+      row.setZipCode(String.valueOf(1000 + i));
+    }
+    return formData;
+  }
+
+  public static class PersonFormData extends AbstractFormData {
+    private static final long serialVersionUID = 1L;
+
+    public PersonNr getPersonNr() {
+      return getFieldByClass(PersonNr.class);
+    }
+
+    public Name getName() {
+      return getFieldByClass(Name.class);
+    }
+
+    public FirstName getFirstName() {
+      return getFieldByClass(FirstName.class);
+    }
+
+    public Birthday getBirthday() {
+      return getFieldByClass(Birthday.class);
+    }
+
+    public Addresses getAddresses() {
+      return getFieldByClass(Addresses.class);
+    }
+
+    public static class PersonNr extends AbstractValueFieldData<Long> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Name extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class FirstName extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Birthday extends AbstractValueFieldData<Date> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Addresses extends AbstractTableFieldBeanData {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public AddressesRowData addRow() {
+        return (AddressesRowData) super.addRow();
+      }
+
+      @Override
+      public AddressesRowData rowAt(int index) {
+        return (AddressesRowData) super.rowAt(index);
+      }
+
+      @Override
+      public AddressesRowData createRow() {
+        return new AddressesRowData();
+      }
+
+      @Override
+      public Class<? extends AbstractTableRowData> getRowType() {
+        return AddressesRowData.class;
+      }
+
+      public static class AddressesRowData extends AbstractTableRowData {
+        private static final long serialVersionUID = 1L;
+
+        private Long m_addressNr;
+        private String m_street;
+        private String m_city;
+        private String m_zipCode;
+        private final List<String> m_tags = new ArrayList<>();
+
+        public Long getAddressNr() {
+          return m_addressNr;
+        }
+
+        public void setAddressNr(Long addressNr) {
+          m_addressNr = addressNr;
+        }
+
+        public String getStreet() {
+          return m_street;
+        }
+
+        public void setStreet(String street) {
+          m_street = street;
+        }
+
+        public String getCity() {
+          return m_city;
+        }
+
+        public void setCity(String city) {
+          m_city = city;
+        }
+
+        public String getZipCode() {
+          return m_zipCode;
+        }
+
+        public void setZipCode(String zipCode) {
+          m_zipCode = zipCode;
+        }
+
+        public List<String> getTags() {
+          return m_tags;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link HttpServiceTunnelCallBatcher}
+ */
+@RunWith(PlatformTestRunner.class)
+public class HttpServiceTunnelCallBatcherTest {
+
+  @Test
+  public void testCallsOfSameSessionAreBatched() {
+    P_CallBatcher batcher = new P_CallBatcher(1000, 32);
+    List<ServiceTunnelResponse> responses = invokeConcurrently(batcher, "s1", "s1", "s1", "s1", "s1");
+
+    assertEquals(1, batcher.m_sentRequests.size());
+    assertTrue(batcher.m_sentRequests.get(0) instanceof ServiceTunnelBatchRequest);
+    assertEquals(5, ((ServiceTunnelBatchRequest) batcher.m_sentRequests.get(0)).getRequests().size());
+    assertEquals("s1", batcher.m_sentRequests.get(0).getSessionId());
+    for (int i = 0; i < responses.size(); i++) {
+      assertEquals("op" + i, responses.get(i).getData());
+    }
+  }
+
+  @Test
+  public void testMaxBatchSize() {
+    P_CallBatcher batcher = new P_CallBatcher(60_000, 2);
+    List<ServiceTunnelResponse> responses = invokeConcurrently(batcher, "s1", "s1", "s1", "s1");
+
+    // full batches are sent without waiting for the window to elapse
+    assertEquals(2, batcher.m_sentRequests.size());
+    for (ServiceTunnelRequest request : batcher.m_sentRequests) {
+      assertEquals(2, ((ServiceTunnelBatchRequest) request).getRequests().size());
+    }
+    for (int i = 0; i < responses.size(); i++) {
+      assertEquals("op" + i, responses.get(i).getData());
+    }
+  }
+
+  @Test
+  public void testSessionsAreNotMixed() {
+    P_CallBatcher batcher = new P_CallBatcher(1000, 32);
+    List<ServiceTunnelResponse> responses = invokeConcurrently(batcher, "s1", "s2");
+
+    // a single request is not wrapped into a batch
+    assertEquals(2, batcher.m_sentRequests.size());
+    for (ServiceTunnelRequest request : batcher.m_sentRequests) {
+      assertFalse(request instanceof ServiceTunnelBatchRequest);
+    }
+    assertEquals("op0", responses.get(0).getData());
+    assertEquals("op1", responses.get(1).getData());
+  }
+
+  @Test
+  public void testFailedBatch() {
+    HttpServiceTunnelException exception = new HttpServiceTunnelException(500, "failed");
+    P_CallBatcher batcher = new P_CallBatcher(1000, 32) {
+      @Override
+      protected ServiceTunnelResponse invokeRemote(ServiceTunnelRequest request) {
+        m_sentRequests.add(request);
+        return new ServiceTunnelResponse(exception);
+      }
+    };
+    List<ServiceTunnelResponse> responses = invokeConcurrently(batcher, "s1", "s1", "s1");
+
+    assertEquals(1, batcher.m_sentRequests.size());
+    for (ServiceTunnelResponse response : responses) {
+      assertSame(exception, response.getException());
+    }
+  }
+
+  protected static List<ServiceTunnelResponse> invokeConcurrently(HttpServiceTunnelCallBatcher batcher, String... sessionIds) {
+    List<IFuture<ServiceTunnelResponse>> futures = new ArrayList<>();
+    for (int i = 0; i < sessionIds.length; i++) {
+      ServiceTunnelRequest request = new ServiceTunnelRequest("IPingService", "op" + i, null, null);
+      request.setSessionId(sessionIds[i]);
+      futures.add(Jobs.schedule(() -> batcher.invoke(request), Jobs.newInput()
+          .withRunContext(RunContexts.empty())));
+    }
+    List<ServiceTunnelResponse> responses = new ArrayList<>();
+    for (IFuture<ServiceTunnelResponse> future : futures) {
+      responses.add(future.awaitDoneAndGet());
+    }
+    return responses;
+  }
+
+  private static class P_CallBatcher extends HttpServiceTunnelCallBatcher {
+    protected final List<ServiceTunnelRequest> m_sentRequests = new CopyOnWriteArrayList<>();
+
+    P_CallBatcher(long windowMillis, int maxBatchSize) {
+      super(null, windowMillis, maxBatchSize);
+    }
+
+    @Override
+    protected ServiceTunnelResponse invokeRemote(ServiceTunnelRequest request) {
+      m_sentRequests.add(request);
+      if (!(request instanceof ServiceTunnelBatchRequest)) {
+        return new ServiceTunnelResponse(request.getOperation());
+      }
+      List<ServiceTunnelResponse> responses = new ArrayList<>();
+      for (ServiceTunnelRequest r : ((ServiceTunnelBatchRequest) request).getRequests()) {
+        responses.add(new ServiceTunnelResponse(r.getOperation()));
+      }
+      return new ServiceTunnelBatchResponse(responses);
+    }
+  }
+}
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
@@ -32,6 +33,7 @@ import org.junit.runner.RunWith;
 import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
 import com.google.api.client.testing.http.MockLowLevelHttpResponse;
 
 /**
@@ -73,17 +75,45 @@ public class HttpServiceTunnelTest {
     assertEquals(401, ((HttpServiceTunnelException) response.getException()).getHttpStatus());
   }
 
+  @Test
+  public void testTunnelStreaming() throws IOException {
+    when(mockUrl.getValue()).thenReturn("http://localhost");
+    MockLowLevelHttpRequest lowLevelRequest = new MockLowLevelHttpRequest()
+        .setResponse(new MockLowLevelHttpResponse().setContent(serialize(new ServiceTunnelResponse("testData"))));
+    HttpServiceTunnel tunnel = createHttpServiceTunnel(new MockHttpTransport.Builder()
+        .setLowLevelHttpRequest(lowLevelRequest)
+        .build(), true);
+    tunnel.setContentHandler(getTestContentHandler());
+
+    ServiceTunnelRequest request = new ServiceTunnelRequest("IPingService", "ping", null, null);
+    ServiceTunnelResponse response = tunnel.tunnel(request);
+    assertNotNull(response);
+    assertEquals("testData", response.getData());
+    // content of unknown length is sent chunked
+    assertEquals(-1, lowLevelRequest.getContentLength());
+    assertEquals("ping", lowLevelRequest.getContentAsString());
+  }
+
   protected HttpServiceTunnel createHttpServiceTunnel(final MockLowLevelHttpResponse expectedResponse) {
+    return createHttpServiceTunnel(new MockHttpTransport.Builder()
+        .setLowLevelHttpResponse(expectedResponse)
+        .build(), false);
+  }
+
+  protected HttpServiceTunnel createHttpServiceTunnel(final MockHttpTransport transport, boolean streaming) {
     HttpServiceTunnel tunnel = new HttpServiceTunnel() {
 
+      @Override
+      public boolean isStreaming() {
+        return streaming;
+      }
+
       @Override
       protected IHttpTransportManager getHttpTransportManager() {
 
         return new AbstractHttpTransportManager() {
 
-          private MockHttpTransport m_transport = new MockHttpTransport.Builder()
-              .setLowLevelHttpResponse(expectedResponse)
-              .build();
+          private MockHttpTransport m_transport = transport;
 
           @Override
           public HttpTransport getHttpTransport() {
@@ -156,7 +186,8 @@ public class HttpServiceTunnelTest {
       }
 
       @Override
-      public void writeRequest(OutputStream out, ServiceTunnelRequest msg) {
+      public void writeRequest(OutputStream out, ServiceTunnelRequest msg) throws IOException {
+        out.write(msg.getOperation().getBytes(StandardCharsets.UTF_8));
       }
 
       @Override
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.clientnotification;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+
+/**
+ * Request to receive the notifications of a node pushed by the server over a persistent connection, see
+ * {@link IClientNotificationService#getNotifications(NodeId)} for the polling alternative.
+ * <p>
+ * The server answers with a stream of frames, each consisting of the length (4 bytes) followed by a
+ * {@link ServiceTunnelResponse} written by the content handler of the tunnel. The data of a response is the list of
+ * {@link ClientNotificationMessage}s consumed from the queue of the node (empty if no notification arrived within the
+ * blocking timeout). The server closes the stream after a maximum duration, the client then opens a new one.
+ *
+ * @since 23.2
+ */
+public class ClientNotificationStreamRequest extends ServiceTunnelRequest {
+  private static final long serialVersionUID = 1L;
+
+  public ClientNotificationStreamRequest(NodeId nodeId) {
+    super(IClientNotificationService.class.getName(), "getNotifications", new Class[]{NodeId.class}, new Object[]{nodeId});
+  }
+
+  public NodeId getNodeId() {
+    return (NodeId) getArgs()[0];
+  }
+}
@@ -183,4 +183,28 @@ public final class HttpConfigurationProperties {
       return "scout.http.redirectPost";
     }
   }
+
+  /**
+   * Connect timeout of the {@link JdkHttpClientTransportFactory JDK HTTP client}.
+   *
+   * @since 23.2
+   */
+  public static class JdkHttpTransportConnectTimeoutProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 20 * 1000; // default: 20 seconds
+    }
+
+    @Override
+    public String description() {
+      return "Specifies the connect timeout in milliseconds of the JDK HTTP client. As the connect timeout is a property of the client, "
+          + "the connect timeout of the requests is ignored. A value of 0 or less disables the timeout. The default value is 20 seconds.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.http.jdk.connectTimeout";
+    }
+  }
 }
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.util.StreamingContent;
+
+/**
+ * {@link HttpTransport} based on the {@link HttpClient} of the JDK, see {@link JdkHttpClientTransportFactory}.
+ *
+ * @since 23.2
+ */
+public class JdkHttpClientTransport extends HttpTransport {
+
+  /**
+   * Headers managed by the {@link HttpClient} itself, setting them is not allowed.
+   */
+  protected static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+  /**
+   * Maximum number of bytes of content of unknown length buffered until the {@link HttpClient} sends them, see
+   * {@link StreamingBodyPublisher}.
+   */
+  protected static final int STREAMING_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Size of the chunks content of unknown length is passed to the {@link HttpClient} in.
+   */
+  protected static final int STREAMING_CHUNK_SIZE = 8 * 1024;
+
+  private final HttpClient m_httpClient;
+
+  public JdkHttpClientTransport(HttpClient httpClient) {
+    m_httpClient = httpClient;
+  }
+
+  public HttpClient getHttpClient() {
+    return m_httpClient;
+  }
+
+  @Override
+  public boolean supportsMethod(String method) {
+    return true;
+  }
+
+  @Override
+  protected LowLevelHttpRequest buildRequest(String method, String url) {
+    return new JdkHttpClientRequest(m_httpClient, method, url);
+  }
+
+  public static class JdkHttpClientRequest extends LowLevelHttpRequest {
+    private final HttpClient m_httpClient;
+    private final String m_method;
+    private final HttpRequest.Builder m_builder;
+    private int m_readTimeout;
+
+    public JdkHttpClientRequest(HttpClient httpClient, String method, String url) {
+      m_httpClient = httpClient;
+      m_method = method;
+      m_builder = HttpRequest.newBuilder(URI.create(url));
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+      if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+        m_builder.header(name, value);
+      }
+    }
+
+    /**
+     * The connect timeout is a property of the {@link HttpClient} and therefore ignored, see
+     * {@link HttpConfigurationProperties.JdkHttpTransportConnectTimeoutProperty}.
+     */
+    @Override
+    public void setTimeout(int connectTimeout, int readTimeout) {
+      m_readTimeout = readTimeout;
+    }
+
+    @Override
+    public LowLevelHttpResponse execute() throws IOException {
+      if (getContentType() != null) {
+        m_builder.header("Content-Type", getContentType());
+      }
+      if (getContentEncoding() != null) {
+        m_builder.header("Content-Encoding", getContentEncoding());
+      }
+      if (m_readTimeout > 0) {
+        m_builder.timeout(Duration.ofMillis(m_readTimeout));
+      }
+      StreamingContent content = getStreamingContent();
+      if (content != null && getContentLength() < 0) {
+        return executeStreaming(content);
+      }
+      m_builder.method(m_method, createBodyPublisher(content));
+      try {
+        return new JdkHttpClientResponse(m_httpClient.send(m_builder.build(), BodyHandlers.ofInputStream()));
+      }
+      catch (InterruptedException e) {
+        throw createInterruptedIOException(e);
+      }
+    }
+
+    protected BodyPublisher createBodyPublisher(StreamingContent content) throws IOException {
+      if (content == null) {
+        return BodyPublishers.noBody();
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream(getContentLength() > 0 ? (int) getContentLength() : 1024);
+      content.writeTo(out);
+      return BodyPublishers.ofByteArray(out.toByteArray());
+    }
+
+    /**
+     * Content of unknown length is written by the current thread to a {@link StreamingBodyPublisher} while the request
+     * is sent by the {@link HttpClient} (chunked transfer encoding for HTTP/1.1, data frames for HTTP/2).
+     */
+    protected LowLevelHttpResponse executeStreaming(StreamingContent content) throws IOException {
+      StreamingBodyPublisher publisher = new StreamingBodyPublisher();
+      m_builder.method(m_method, publisher);
+      CompletableFuture<HttpResponse<InputStream>> future = m_httpClient.sendAsync(m_builder.build(), BodyHandlers.ofInputStream());
+      // the server responded or the request failed: unblock the writer
+      future.whenComplete((response, error) -> publisher.cancel());
+      OutputStream out = publisher.getOutputStream();
+      try {
+        content.writeTo(out);
+        // not closed if writing failed, as closing completes the content
+        out.close();
+      }
+      catch (IOException | RuntimeException e) {
+        if (!future.isDone()) {
+          publisher.fail(e);
+          future.cancel(true);
+          throw e;
+        }
+        // the server responded before the whole content was written (e.g. rejected the request) or the request failed
+      }
+      try {
+        return new JdkHttpClientResponse(future.get());
+      }
+      catch (InterruptedException e) {
+        future.cancel(true);
+        throw createInterruptedIOException(e);
+      }
+      catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        }
+        throw new IOException(e.getCause());
+      }
+    }
+
+    protected InterruptedIOException createInterruptedIOException(InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException ioe = new InterruptedIOException("Interrupted while waiting for the response");
+      ioe.initCause(e);
+      return ioe;
+    }
+  }
+
+  /**
+   * {@link BodyPublisher} of content of unknown length written to {@link #getOutputStream()}. The content is passed to
+   * the {@link HttpClient} in chunks of {@link #STREAMING_CHUNK_SIZE} bytes as requested by it. At most
+   * {@link #STREAMING_BUFFER_SIZE} bytes are buffered, a writer exceeding it is blocked until the client requested
+   * more content.
+   * <p>
+   * The content can only be sent once, a second subscriber (e.g. a redirect) fails.
+   */
+  public static class StreamingBodyPublisher implements BodyPublisher {
+    private final BlockingQueue<ByteBuffer> m_queue = new ArrayBlockingQueue<>(STREAMING_BUFFER_SIZE / STREAMING_CHUNK_SIZE);
+    private final AtomicReference<Flow.Subscriber<? super ByteBuffer>> m_subscriber = new AtomicReference<>();
+    private final AtomicLong m_demand = new AtomicLong();
+    private final AtomicInteger m_drainRequests = new AtomicInteger();
+    private final OutputStream m_out = new P_OutputStream();
+    private volatile boolean m_subscribed;
+    private volatile boolean m_completed;
+    private volatile Throwable m_error;
+    private volatile boolean m_terminated;
+
+    @Override
+    public long contentLength() {
+      return -1;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+      if (!m_subscriber.compareAndSet(null, subscriber)) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+          @Override
+          public void request(long n) {
+            // nop
+          }
+
+          @Override
+          public void cancel() {
+            // nop
+          }
+        });
+        subscriber.onError(new IOException("Streamed content cannot be sent more than once"));
+        return;
+      }
+      subscriber.onSubscribe(new P_Subscription());
+      m_subscribed = true;
+      drain();
+    }
+
+    /**
+     * @return the stream to write the content to. It blocks while the buffer is full and throws an
+     *         {@link IOException} once the content is not sent anymore. Closing it completes the content.
+     */
+    public OutputStream getOutputStream() {
+      return m_out;
+    }
+
+    /**
+     * Stops sending the content, e.g. because the server already responded, and unblocks the writer.
+     */
+    public void cancel() {
+      m_terminated = true;
+      m_queue.clear();
+    }
+
+    /**
+     * Fails the request because the content could not be written completely.
+     */
+    public void fail(Throwable error) {
+      m_error = error;
+      m_queue.clear();
+      drain();
+    }
+
+    /**
+     * Passes the buffered content to the subscriber as long as it requests more. Only one thread drains at a time,
+     * calls while draining make the draining thread check again.
+     */
+    protected void drain() {
+      if (m_drainRequests.getAndIncrement() != 0) {
+        return;
+      }
+      do {
+        Flow.Subscriber<? super ByteBuffer> subscriber = m_subscriber.get();
+        if (subscriber != null && m_subscribed) {
+          while (!m_terminated && m_error == null && m_demand.get() > 0) {
+            ByteBuffer chunk = m_queue.poll();
+            if (chunk == null) {
+              break;
+            }
+            m_demand.decrementAndGet();
+            subscriber.onNext(chunk);
+          }
+          if (!m_terminated) {
+            // read before checking the queue, the last chunk is queued before the content is completed
+            boolean completed = m_completed;
+            Throwable error = m_error;
+            if (error != null) {
+              m_terminated = true;
+              subscriber.onError(error);
+            }
+            else if (completed && m_queue.isEmpty()) {
+              m_terminated = true;
+              subscriber.onComplete();
+            }
+          }
+        }
+      }
+      while (m_drainRequests.decrementAndGet() != 0);
+    }
+
+    protected void enqueue(ByteBuffer chunk) throws IOException {
+      if (m_terminated || m_error != null) {
+        throw new IOException("Streamed content is not sent anymore");
+      }
+      try {
+        m_queue.put(chunk);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        InterruptedIOException ioe = new InterruptedIOException("Interrupted while writing the content");
+        ioe.initCause(e);
+        throw ioe;
+      }
+      drain();
+    }
+
+    private class P_Subscription implements Flow.Subscription {
+
+      @Override
+      public void request(long n) {
+        if (n <= 0) {
+          fail(new IllegalArgumentException("non-positive subscription request: " + n));
+          return;
+        }
+        m_demand.accumulateAndGet(n, (demand, increment) -> demand + increment < 0 ? Long.MAX_VALUE : demand + increment);
+        drain();
+      }
+
+      @Override
+      public void cancel() {
+        StreamingBodyPublisher.this.cancel();
+      }
+    }
+
+    private class P_OutputStream extends OutputStream {
+      private ByteBuffer m_chunk;
+      private boolean m_closed;
+
+      @Override
+      public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        if (m_closed) {
+          throw new IOException("Stream closed");
+        }
+        while (len > 0) {
+          if (m_chunk == null) {
+            m_chunk = ByteBuffer.allocate(STREAMING_CHUNK_SIZE);
+          }
+          int n = Math.min(len, m_chunk.remaining());
+          m_chunk.put(b, off, n);
+          off += n;
+          len -= n;
+          if (!m_chunk.hasRemaining()) {
+            flushChunk();
+          }
+        }
+      }
+
+      @Override
+      public void close() throws IOException {
+        if (m_closed) {
+          return;
+        }
+        m_closed = true;
+        flushChunk();
+        m_completed = true;
+        drain();
+      }
+
+      private void flushChunk() throws IOException {
+        if (m_chunk == null || m_chunk.position() == 0) {
+          return;
+        }
+        ByteBuffer chunk = m_chunk;
+        m_chunk = null;
+        chunk.flip();
+        enqueue(chunk);
+      }
+    }
+  }
+
+  public static class JdkHttpClientResponse extends LowLevelHttpResponse {
+    private final HttpResponse<InputStream> m_response;
+    private final List<String> m_headerNames = new ArrayList<>();
+    private final List<String> m_headerValues = new ArrayList<>();
+
+    public JdkHttpClientResponse(HttpResponse<InputStream> response) {
+      m_response = response;
+      for (Entry<String, List<String>> entry : response.headers().map().entrySet()) {
+        if (entry.getKey().startsWith(":")) {
+          continue; // HTTP/2 pseudo header
+        }
+        for (String value : entry.getValue()) {
+          m_headerNames.add(entry.getKey());
+          m_headerValues.add(value);
+        }
+      }
+    }
+
+    public HttpResponse<InputStream> getResponse() {
+      return m_response;
+    }
+
+    @Override
+    public InputStream getContent() {
+      return m_response.body();
+    }
+
+    @Override
+    public String getContentEncoding() {
+      return m_response.headers().firstValue("Content-Encoding").orElse(null);
+    }
+
+    @Override
+    public long getContentLength() {
+      return m_response.headers().firstValueAsLong("Content-Length").orElse(-1L);
+    }
+
+    @Override
+    public String getContentType() {
+      return m_response.headers().firstValue("Content-Type").orElse(null);
+    }
+
+    @Override
+    public String getStatusLine() {
+      return (m_response.version() == Version.HTTP_2 ? "HTTP/2 " : "HTTP/1.1 ") + m_response.statusCode();
+    }
+
+    @Override
+    public int getStatusCode() {
+      return m_response.statusCode();
+    }
+
+    /**
+     * The {@link HttpClient} does not expose the reason phrase (which does not exist in HTTP/2).
+     */
+    @Override
+    public String getReasonPhrase() {
+      return null;
+    }
+
+    @Override
+    public int getHeaderCount() {
+      return m_headerNames.size();
+    }
+
+    @Override
+    public String getHeaderName(int index) {
+      return m_headerNames.get(index);
+    }
+
+    @Override
+    public String getHeaderValue(int index) {
+      return m_headerValues.get(index);
+    }
+
+    @Override
+    public void disconnect() throws IOException {
+      m_response.body().close();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.http;
+
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Builder;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.time.Duration;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.JdkHttpTransportConnectTimeoutProperty;
+import org.eclipse.scout.rt.shared.http.proxy.ConfigurableProxySelector;
+import org.eclipse.scout.rt.shared.servicetunnel.http.MultiSessionCookieStore;
+
+import com.google.api.client.http.HttpTransport;
+
+/**
+ * <p>
+ * Factory to create {@link JdkHttpClientTransport} instances based on the {@link HttpClient} of the JDK.
+ * </p>
+ * <p>
+ * HTTP/2 is preferred: over TLS it is negotiated using ALPN, for plain HTTP an upgrade to h2c is requested. All
+ * concurrent requests to the same host are multiplexed over a single connection, therefore no connection pool has to
+ * be configured. Servers not supporting HTTP/2 are served using HTTP/1.1.
+ * </p>
+ *
+ * @since 23.2
+ */
+public class JdkHttpClientTransportFactory implements IHttpTransportFactory {
+
+  @Override
+  public HttpTransport newHttpTransport(IHttpTransportManager manager) {
+    Builder builder = HttpClient.newBuilder()
+        .version(Version.HTTP_2)
+        .followRedirects(Redirect.NORMAL);
+
+    installConnectTimeout(builder);
+    installConfigurableProxySelector(builder);
+    installMultiSessionCookieStore(builder);
+
+    interceptNewHttpTransport(builder, manager);
+    manager.interceptNewHttpTransport(new JdkHttpClientTransportBuilder(builder));
+
+    return new JdkHttpClientTransport(builder.build());
+  }
+
+  /**
+   * Install the connect timeout, see {@link JdkHttpTransportConnectTimeoutProperty}.
+   */
+  protected void installConnectTimeout(Builder builder) {
+    int connectTimeout = CONFIG.getPropertyValue(JdkHttpTransportConnectTimeoutProperty.class);
+    if (connectTimeout > 0) {
+      builder.connectTimeout(Duration.ofMillis(connectTimeout));
+    }
+  }
+
+  /**
+   * Install an instance of the {@link ConfigurableProxySelector} to select proxies.
+   */
+  protected void installConfigurableProxySelector(Builder builder) {
+    builder.proxy(BEANS.get(ConfigurableProxySelector.class));
+  }
+
+  /**
+   * Install a {@link MultiSessionCookieStore} to store cookies by session.
+   */
+  protected void installMultiSessionCookieStore(Builder builder) {
+    builder.cookieHandler(new CookieManager(BEANS.get(MultiSessionCookieStore.class), CookiePolicy.ACCEPT_ALL));
+  }
+
+  /**
+   * Intercept the building of the new {@link HttpTransport}.
+   */
+  protected void interceptNewHttpTransport(Builder builder, IHttpTransportManager manager) {
+    // nop
+  }
+
+  public static class JdkHttpClientTransportBuilder implements IHttpTransportBuilder {
+    private final Builder m_builder;
+
+    public JdkHttpClientTransportBuilder(Builder builder) {
+      m_builder = builder;
+    }
+
+    public Builder getBuilder() {
+      return m_builder;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.services.common.jdbc;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Continuation token of a keyset paginated select, holds the key values of the last row of a page. A table page may
+ * keep the token to load the next page.
+ *
+ * @since 23.2
+ */
+public final class KeysetToken implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final Object[] m_keyValues;
+
+  public KeysetToken(Object... keyValues) {
+    m_keyValues = keyValues.clone();
+  }
+
+  /**
+   * @return a copy of the key values in the order of the key columns
+   */
+  public Object[] getKeyValues() {
+    return m_keyValues.clone();
+  }
+
+  public Object getKeyValue(int index) {
+    return m_keyValues[index];
+  }
+
+  public int getKeyCount() {
+    return m_keyValues.length;
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(m_keyValues);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return Arrays.equals(m_keyValues, ((KeysetToken) obj).m_keyValues);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + Arrays.toString(m_keyValues);
+  }
+}
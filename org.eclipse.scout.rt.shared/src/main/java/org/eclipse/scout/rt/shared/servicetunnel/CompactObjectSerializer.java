@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.serialization.AbstractObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.IObjectReplacer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+
+/**
+ * {@link AbstractObjectSerializer} writing a compact class id instead of the class descriptor (class name,
+ * serialVersionUID, field names and types) of the classes contained in the serialized object graph.
+ * <p>
+ * Only the class descriptors change: objects are still written and read by {@link ObjectOutputStream} and
+ * {@link ObjectInputStream}, including their reflective field access. Java serialization writes each descriptor once
+ * per stream anyway, so the saving is a fixed amount per message (a few hundred bytes for typical form data) and does
+ * not grow with the number of objects. It mainly pays off for small messages.
+ * <p>
+ * Classes registered in the {@link ServiceTunnelClassRegistry} are written as their id. All other classes are written
+ * as name and schema hash, the local class is used as schema when reading. Therefore both sides must use the same
+ * versions of the serialized classes, which is verified using the {@link ServiceTunnelClassRegistry#getFingerprint()
+ * fingerprint} of the registry and the {@link ServiceTunnelClassRegistry#getSchemaHash(ObjectStreamClass) schema hash}
+ * of unregistered classes.
+ * <p>
+ * The blacklist and whitelist are checked for every class, before an unregistered class is loaded.
+ *
+ * @since 23.2
+ */
+public class CompactObjectSerializer extends AbstractObjectSerializer {
+
+  private final ServiceTunnelClassRegistry m_registry;
+
+  public CompactObjectSerializer(IObjectReplacer objectReplacer, ServiceTunnelClassRegistry registry) {
+    super(objectReplacer);
+    m_registry = registry;
+  }
+
+  public ServiceTunnelClassRegistry getRegistry() {
+    return m_registry;
+  }
+
+  @Override
+  public ObjectOutputStream createObjectOutputStream(OutputStream out) throws IOException {
+    new DataOutputStream(out).writeInt(m_registry.getFingerprint());
+    return new CompactObjectOutputStream(out, getObjectReplacer(), m_registry);
+  }
+
+  @Override
+  public ObjectInputStream createObjectInputStream(InputStream in) throws IOException {
+    int fingerprint = new DataInputStream(in).readInt();
+    if (fingerprint != m_registry.getFingerprint()) {
+      throw new InvalidClassException("registered classes differ from the ones of the sender");
+    }
+    return new CompactObjectInputStream(in, getObjectReplacer(), getBlacklist(), getWhitelist(), m_registry);
+  }
+
+  public static class CompactObjectOutputStream extends ReplacingObjectOutputStream {
+    protected final ServiceTunnelClassRegistry m_registry;
+
+    public CompactObjectOutputStream(OutputStream out, IObjectReplacer objectReplacer, ServiceTunnelClassRegistry registry) throws IOException {
+      super(out, objectReplacer);
+      m_registry = registry;
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+      int id = m_registry.getClassId(desc.forClass());
+      if (id >= 0) {
+        writeVarInt(id + 1);
+        return;
+      }
+      writeVarInt(0);
+      writeUTF(desc.getName());
+      writeInt(ServiceTunnelClassRegistry.getSchemaHash(desc));
+    }
+
+    protected void writeVarInt(int value) throws IOException {
+      while ((value & ~0x7F) != 0) {
+        write((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      write(value);
+    }
+  }
+
+  public static class CompactObjectInputStream extends ResolvingObjectInputStream {
+    protected final ServiceTunnelClassRegistry m_registry;
+
+    public CompactObjectInputStream(InputStream in, IObjectReplacer objectReplacer, Predicate<String> blacklist, Predicate<String> whitelist, ServiceTunnelClassRegistry registry) throws IOException {
+      super(in, objectReplacer, blacklist, whitelist);
+      m_registry = registry;
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+      int value = readVarInt();
+      if (value > 0) {
+        Class<?> c = m_registry.getRegisteredClass(value - 1);
+        if (c == null) {
+          throw new StreamCorruptedException("unknown class id " + (value - 1));
+        }
+        return lookup(c);
+      }
+      String className = readUTF();
+      int schemaHash = readInt();
+      // check before the class is loaded, resolveClass checks registered classes
+      checkClassName(className);
+      ObjectStreamClass desc = lookup(Class.forName(className, false, SerializationUtility.getClassLoader()));
+      if (ServiceTunnelClassRegistry.getSchemaHash(desc) != schemaHash) {
+        throw new InvalidClassException(className, "class differs from the one of the sender");
+      }
+      return desc;
+    }
+
+    protected ObjectStreamClass lookup(Class<?> c) throws InvalidClassException {
+      ObjectStreamClass desc = ObjectStreamClass.lookup(c);
+      if (desc == null) {
+        throw new InvalidClassException(c.getName(), "class is not serializable");
+      }
+      return desc;
+    }
+
+    protected int readVarInt() throws IOException {
+      int value = 0;
+      for (int shift = 0; shift < 32; shift += 7) {
+        int b = readUnsignedByte();
+        value |= (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new StreamCorruptedException("malformed class id");
+    }
+  }
+}
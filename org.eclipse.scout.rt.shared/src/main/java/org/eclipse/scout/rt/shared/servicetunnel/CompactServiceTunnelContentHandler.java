@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+
+/**
+ * {@link BinaryServiceTunnelContentHandler} using the {@link CompactObjectSerializer}, which writes the classes
+ * registered in the {@link ServiceTunnelClassRegistry} as ids instead of class descriptors. The objects themselves are
+ * encoded by Java serialization as with the {@link BinaryServiceTunnelContentHandler}, see
+ * {@link CompactObjectSerializer}.
+ * <p>
+ * Not used by default: the client and the server must both use this handler (e.g. by a subclass with an order lower
+ * than the one of {@link BinaryServiceTunnelContentHandler}) and the same versions of the registry and the transferred
+ * classes.
+ *
+ * @since 23.2
+ */
+@Order(5020)
+public class CompactServiceTunnelContentHandler extends BinaryServiceTunnelContentHandler {
+
+  private static final String CONTENT_TYPE = "application/x-scout-compact";
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  protected IObjectSerializer createObjectSerializer() {
+    return new CompactObjectSerializer(new ServiceTunnelObjectReplacer(), BEANS.get(ServiceTunnelClassRegistry.class));
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Several independent {@link ServiceTunnelRequest}s of the same session sent in one tunnel request. The server answers
+ * with a {@link ServiceTunnelBatchResponse} containing the responses in the same order.
+ *
+ * @since 23.2
+ */
+public class ServiceTunnelBatchRequest extends ServiceTunnelRequest {
+  private static final long serialVersionUID = 1L;
+
+  private final List<ServiceTunnelRequest> m_requests;
+
+  public ServiceTunnelBatchRequest(List<ServiceTunnelRequest> requests) {
+    super(null, null, null, null);
+    m_requests = new ArrayList<>(requests);
+  }
+
+  public List<ServiceTunnelRequest> getRequests() {
+    return m_requests;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder();
+    buf.append("Batch of ").append(m_requests.size()).append(" remote calls [");
+    buf.append("requestSequence='").append(getRequestSequence()).append("', ");
+    buf.append("sessionId='").append(getSessionId()).append("']");
+    for (ServiceTunnelRequest request : m_requests) {
+      buf.append("\n").append(request);
+    }
+    return buf.toString();
+  }
+}
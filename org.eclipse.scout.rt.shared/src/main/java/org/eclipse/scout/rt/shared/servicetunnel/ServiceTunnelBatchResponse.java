@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Responses to the requests of a {@link ServiceTunnelBatchRequest}, in the same order.
+ *
+ * @since 23.2
+ */
+public class ServiceTunnelBatchResponse extends ServiceTunnelResponse {
+  private static final long serialVersionUID = 1L;
+
+  private final List<ServiceTunnelResponse> m_responses;
+
+  public ServiceTunnelBatchResponse(List<ServiceTunnelResponse> responses) {
+    super(null, null);
+    m_responses = new ArrayList<>(responses);
+  }
+
+  public List<ServiceTunnelResponse> getResponses() {
+    return m_responses;
+  }
+
+  @Override
+  public String toString() {
+    ToStringBuilder tsb = new ToStringBuilder(this);
+    tsb.attr("responses", getResponses());
+    return tsb.toString();
+  }
+}
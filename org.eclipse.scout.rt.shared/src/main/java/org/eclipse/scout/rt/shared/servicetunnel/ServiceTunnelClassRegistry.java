@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.TriState;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamRequest;
+import org.eclipse.scout.rt.shared.data.basic.MemoryOptimizedObject;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractFormFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
+import org.eclipse.scout.rt.shared.data.form.properties.AbstractPropertyData;
+import org.eclipse.scout.rt.shared.extension.AbstractContributionComposite;
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+
+/**
+ * Classes known by both sides of the service tunnel, used by {@link CompactObjectSerializer} to write a class id
+ * instead of the class descriptor.
+ * <p>
+ * The ids are the indices of {@link #createRegisteredClasses()}, therefore the client and the server must use the same
+ * list. Frequently transferred application classes (e.g. form data) may be added by replacing this bean.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class ServiceTunnelClassRegistry {
+
+  private volatile Table m_table;
+
+  /**
+   * @return the registered classes, the order must not depend on the runtime environment. All classes must be
+   *         serializable.
+   */
+  protected List<Class<?>> createRegisteredClasses() {
+    return new ArrayList<>(Arrays.asList(
+        // tunnel
+        ServiceTunnelRequest.class,
+        ServiceTunnelResponse.class,
+        ServiceTunnelBatchRequest.class,
+        ServiceTunnelBatchResponse.class,
+        ClientNotificationStreamRequest.class,
+        ClientNotificationMessage.class,
+        NodeId.class,
+        // java
+        Object[].class,
+        String[].class,
+        Class[].class,
+        byte[].class,
+        int[].class,
+        long[].class,
+        Number.class,
+        Long.class,
+        Integer.class,
+        Short.class,
+        Byte.class,
+        Double.class,
+        Float.class,
+        Boolean.class,
+        Character.class,
+        Enum.class,
+        BigDecimal.class,
+        BigInteger.class,
+        Long[].class,
+        Integer[].class,
+        Date.class,
+        Locale.class,
+        UUID.class,
+        ArrayList.class,
+        LinkedList.class,
+        HashMap.class,
+        LinkedHashMap.class,
+        TreeMap.class,
+        HashSet.class,
+        LinkedHashSet.class,
+        TreeSet.class,
+        Throwable.class,
+        Exception.class,
+        RuntimeException.class,
+        StackTraceElement.class,
+        StackTraceElement[].class,
+        // scout
+        TriState.class,
+        PlatformException.class,
+        ProcessingException.class,
+        VetoException.class,
+        AbstractContributionComposite.class,
+        AbstractFormData.class,
+        AbstractFormFieldData.class,
+        AbstractValueFieldData.class,
+        AbstractPropertyData.class,
+        AbstractTableFieldBeanData.class,
+        AbstractTableRowData.class,
+        AbstractTableRowData[].class,
+        MemoryOptimizedObject.class,
+        LookupRow.class,
+        LookupCall.class,
+        BatchLookupCall.class));
+  }
+
+  /**
+   * @return the id of the registered class or -1 if the class is not registered
+   */
+  public int getClassId(Class<?> c) {
+    Integer id = getTable().m_ids.get(c);
+    return id != null ? id : -1;
+  }
+
+  /**
+   * @return the registered class with the given id or <code>null</code> if there is none
+   */
+  public Class<?> getRegisteredClass(int id) {
+    Class<?>[] classes = getTable().m_classes;
+    return id >= 0 && id < classes.length ? classes[id] : null;
+  }
+
+  /**
+   * @return hash of the schemas of all registered classes, used to detect client and server using different classes
+   */
+  public int getFingerprint() {
+    return getTable().m_fingerprint;
+  }
+
+  /**
+   * @return hash of the class name, the serialVersionUID and the serializable fields of the class
+   */
+  public static int getSchemaHash(ObjectStreamClass desc) {
+    int h = desc.getName().hashCode();
+    h = 31 * h + Long.hashCode(desc.getSerialVersionUID());
+    for (ObjectStreamField field : desc.getFields()) {
+      h = 31 * h + field.getName().hashCode();
+      h = 31 * h + field.getTypeCode();
+      h = 31 * h + (field.getTypeString() != null ? field.getTypeString().hashCode() : 0);
+    }
+    return h;
+  }
+
+  protected Table getTable() {
+    Table table = m_table;
+    if (table == null) {
+      synchronized (this) {
+        table = m_table;
+        if (table == null) {
+          table = new Table(createRegisteredClasses());
+          m_table = table;
+        }
+      }
+    }
+    return table;
+  }
+
+  protected static class Table {
+    private final Class<?>[] m_classes;
+    private final Map<Class<?>, Integer> m_ids;
+    private final int m_fingerprint;
+
+    protected Table(List<Class<?>> classes) {
+      m_classes = classes.toArray(new Class<?>[0]);
+      m_ids = new HashMap<>(m_classes.length * 2);
+      int fingerprint = 1;
+      for (int i = 0; i < m_classes.length; i++) {
+        ObjectStreamClass desc = ObjectStreamClass.lookup(m_classes[i]);
+        Assertions.assertNotNull(desc, "registered class {} is not serializable", m_classes[i]);
+        Assertions.assertNull(m_ids.put(m_classes[i], i), "class {} is registered twice", m_classes[i]);
+        fingerprint = 31 * fingerprint + getSchemaHash(desc);
+      }
+      m_fingerprint = fingerprint;
+    }
+  }
+}
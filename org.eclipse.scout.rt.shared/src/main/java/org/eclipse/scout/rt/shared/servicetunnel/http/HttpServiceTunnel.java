@@ -9,32 +9,48 @@
  */
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.UriUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamRequest;
+import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
+import org.eclipse.scout.rt.shared.services.common.context.IRunMonitorCancelService;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelCallBatcher.BatchingRemoteServiceInvocationCallable;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelBatchWindowProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelMaxBatchSizeProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelStreamingProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
@@ -52,6 +68,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   private final URL m_serverUrl;
   private final GenericUrl m_genericUrl;
   private final boolean m_active;
+  private final LazyValue<HttpServiceTunnelCallBatcher> m_callBatcher = new LazyValue<>(this::createCallBatcher);
 
   public HttpServiceTunnel() {
     this(getConfiguredServerUrl());
@@ -100,6 +117,20 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    *           {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}
    */
   protected HttpResponse executeRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    return executeRequest(call, new ByteArrayContentEx(null, callData, false), callData);
+  }
+
+  /**
+   * Execute a {@link ServiceTunnelRequest} with the given content, see {@link #executeRequest(ServiceTunnelRequest,
+   * byte[])}.
+   *
+   * @param content
+   *          the serialized call, e.g. a {@link ServiceTunnelRequestContent} if {@link #isStreaming()}
+   * @param callData
+   *          the serialized call or <code>null</code> if the call is serialized directly into the HTTP connection
+   * @since 23.2
+   */
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, HttpContent content, byte[] callData) throws IOException {
     // fast check of wrong URL's for this tunnel
     if (!"http".equalsIgnoreCase(getServerUrl().getProtocol()) && !"https".equalsIgnoreCase(getServerUrl().getProtocol())) {
       throw new IOException("URL '" + getServerUrl().toString() + "' is not supported by this tunnel ('" + getClass().getName() + "').");
@@ -110,7 +141,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
 
     HttpRequestFactory requestFactory = getHttpTransportManager().getHttpRequestFactory();
-    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), new ByteArrayContentEx(null, callData, false));
+    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), content);
     HttpHeaders headers = request.getHeaders();
     headers.setCacheControl("no-cache");
     headers.setContentType(getContentHandler().getContentType());
@@ -119,6 +150,15 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     return request.execute();
   }
 
+  /**
+   * @return <code>true</code> if requests are serialized directly into the HTTP connection instead of a byte array,
+   *         see {@link HttpServiceTunnelStreamingProperty}
+   * @since 23.2
+   */
+  public boolean isStreaming() {
+    return CONFIG.getPropertyValue(HttpServiceTunnelStreamingProperty.class);
+  }
+
   /**
    * @return the {@link IHttpTransportManager}
    */
@@ -134,7 +174,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    * @param call
    *          request information
    * @param callData
-   *          data as byte array
+   *          data as byte array or <code>null</code> if {@link #isStreaming()}
    * @throws IOException
    * @since 6.0
    */
@@ -184,11 +224,89 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
 
   @Override
   public Object invokeService(Class serviceInterfaceClass, Method operation, Object[] callerArgs) {
+    ensureContentHandler();
+    return super.invokeService(serviceInterfaceClass, operation, callerArgs);
+  }
+
+  protected void ensureContentHandler() {
     if (m_contentHandler == null) {
       m_contentHandler = BEANS.get(IServiceTunnelContentHandler.class);
       m_contentHandler.initialize();
     }
-    return super.invokeService(serviceInterfaceClass, operation, callerArgs);
+  }
+
+  /**
+   * Sends a request the server answers with a stream of {@link ServiceTunnelResponse} frames (e.g. a
+   * {@link ClientNotificationStreamRequest}) and passes each received response to the given consumer in the current
+   * thread. Returns once the server closed the stream. The connection is closed if the current {@link RunMonitor} is
+   * cancelled.
+   *
+   * @throws HttpServiceTunnelException
+   *           if the server responded with an HTTP error
+   * @since 23.2
+   */
+  public void receiveStream(ServiceTunnelRequest request, Consumer<ServiceTunnelResponse> responseConsumer) throws IOException, ClassNotFoundException {
+    ensureContentHandler();
+    interceptRequest(request);
+
+    final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
+    getContentHandler().writeRequest(requestMessage, request);
+    final HttpResponse resp = executeRequest(request, requestMessage.toByteArray());
+
+    final RunMonitor runMonitor = RunMonitor.CURRENT.get();
+    final AtomicBoolean cancelled = new AtomicBoolean();
+    final ICancellable cancellable = new ICancellable() {
+      @Override
+      public boolean isCancelled() {
+        return cancelled.get();
+      }
+
+      @Override
+      public boolean cancel(boolean interruptIfRunning) {
+        if (cancelled.getAndSet(true)) {
+          return false;
+        }
+        try {
+          // unblocks the thread reading the stream
+          resp.disconnect();
+        }
+        catch (IOException e) {
+          LOG.debug("Failed to close stream", e);
+        }
+        return true;
+      }
+    };
+    if (runMonitor != null) {
+      runMonitor.registerCancellable(cancellable);
+    }
+    try {
+      interceptHttpResponse(resp, request);
+      if (resp.getStatusCode() != 0 && (resp.getStatusCode() < 200 || resp.getStatusCode() > 299)) {
+        throw new HttpServiceTunnelException(resp.getStatusCode(), "Service tunnel stream request failed with status code {}", resp.getStatusCode());
+      }
+
+      try (DataInputStream in = new DataInputStream(resp.getContent())) {
+        while (true) {
+          int length;
+          try {
+            length = in.readInt();
+          }
+          catch (EOFException e) { // NOSONAR
+            LOG.debug("Stream closed by server");
+            return;
+          }
+          byte[] frame = new byte[length];
+          in.readFully(frame);
+          responseConsumer.accept(getContentHandler().readResponse(new ByteArrayInputStream(frame)));
+        }
+      }
+    }
+    finally {
+      if (runMonitor != null) {
+        runMonitor.unregisterCancellable(cancellable);
+      }
+      resp.disconnect();
+    }
   }
 
   /**
@@ -198,9 +316,44 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    * operation can be cancelled once the current {@link RunMonitor} gets cancelled.
    */
   protected RemoteServiceInvocationCallable createRemoteServiceInvocationCallable(ServiceTunnelRequest serviceRequest) {
+    HttpServiceTunnelCallBatcher callBatcher = m_callBatcher.get();
+    if (callBatcher != null && isBatchable(serviceRequest)) {
+      return new BatchingRemoteServiceInvocationCallable(this, serviceRequest, callBatcher);
+    }
     return new RemoteServiceInvocationCallable(this, serviceRequest);
   }
 
+  /**
+   * @return the {@link HttpServiceTunnelCallBatcher} used to coalesce the calls of a session or <code>null</code> if
+   *         batching is disabled (default), see {@link HttpServiceTunnelBatchWindowProperty}.
+   * @since 23.2
+   */
+  protected HttpServiceTunnelCallBatcher createCallBatcher() {
+    long windowMillis = CONFIG.getPropertyValue(HttpServiceTunnelBatchWindowProperty.class);
+    int maxBatchSize = CONFIG.getPropertyValue(HttpServiceTunnelMaxBatchSizeProperty.class);
+    if (windowMillis <= 0 || maxBatchSize <= 1) {
+      return null;
+    }
+    return new HttpServiceTunnelCallBatcher(this, windowMillis, maxBatchSize);
+  }
+
+  /**
+   * Calls without session, cancellation requests and long running calls (e.g. polling of client notifications) are
+   * never batched, since the response of a batch is only sent once all its calls completed.
+   * <p>
+   * Override this method to exclude further long running services.
+   *
+   * @since 23.2
+   */
+  protected boolean isBatchable(ServiceTunnelRequest serviceRequest) {
+    if (serviceRequest.getSessionId() == null) {
+      return false;
+    }
+    String serviceName = serviceRequest.getServiceInterfaceClassName();
+    return !IRunMonitorCancelService.class.getName().equals(serviceName)
+        && !IClientNotificationService.class.getName().equals(serviceName);
+  }
+
   @Override
   protected ServiceTunnelResponse tunnel(final ServiceTunnelRequest serviceRequest) {
     if (LOG.isDebugEnabled()) {
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces the service calls of the same session issued within a short window into one
+ * {@link ServiceTunnelBatchRequest}, see {@link HttpServiceTunnelConfigurationProperties.HttpServiceTunnelBatchWindowProperty}.
+ * <p>
+ * The first call of a session opens a batch which is sent once the window elapsed or the maximum batch size is
+ * reached. Every caller waits for the response of the batch and receives its own {@link ServiceTunnelResponse}.
+ * Cancellation of a single call still works using its request sequence, because the server registers each call of a
+ * batch separately.
+ *
+ * @since 23.2
+ */
+public class HttpServiceTunnelCallBatcher {
+  private static final Logger LOG = LoggerFactory.getLogger(HttpServiceTunnelCallBatcher.class);
+
+  private final HttpServiceTunnel m_tunnel;
+  private final long m_windowMillis;
+  private final int m_maxBatchSize;
+  private final Map<String, Batch> m_openBatches = new HashMap<>();
+
+  public HttpServiceTunnelCallBatcher(HttpServiceTunnel tunnel, long windowMillis, int maxBatchSize) {
+    m_tunnel = tunnel;
+    m_windowMillis = windowMillis;
+    m_maxBatchSize = maxBatchSize;
+  }
+
+  public long getWindowMillis() {
+    return m_windowMillis;
+  }
+
+  public int getMaxBatchSize() {
+    return m_maxBatchSize;
+  }
+
+  /**
+   * Adds the request to the open batch of its session and waits until the response is received.
+   *
+   * @return {@link ServiceTunnelResponse} of the request; is never <code>null</code>.
+   */
+  public ServiceTunnelResponse invoke(ServiceTunnelRequest request) throws Exception {
+    CompletableFuture<ServiceTunnelResponse> result = add(request);
+    try {
+      return result.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new ServiceTunnelResponse(new ThreadInterruptedError("Interrupted while waiting for the response of the batch.", e));
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  protected CompletableFuture<ServiceTunnelResponse> add(ServiceTunnelRequest request) {
+    String sessionId = request.getSessionId();
+    CompletableFuture<ServiceTunnelResponse> result = new CompletableFuture<>();
+    Batch batch;
+    boolean opened = false;
+    boolean full;
+    synchronized (m_openBatches) {
+      batch = m_openBatches.get(sessionId);
+      if (batch == null) {
+        batch = new Batch(sessionId);
+        m_openBatches.put(sessionId, batch);
+        opened = true;
+      }
+      batch.m_requests.add(request);
+      batch.m_results.add(result);
+      full = batch.m_requests.size() >= m_maxBatchSize;
+      if (full) {
+        m_openBatches.remove(sessionId);
+      }
+    }
+    if (opened || full) {
+      scheduleSend(batch, full ? 0L : m_windowMillis);
+    }
+    return result;
+  }
+
+  /**
+   * Schedules the sending of the batch in a separate job, so that cancelling a single call does not cancel the batch.
+   */
+  protected void scheduleSend(Batch batch, long delayMillis) {
+    Jobs.schedule(() -> send(batch), Jobs.newInput()
+        .withRunContext(RunContext.CURRENT.get().copy()
+            .withRunMonitor(BEANS.get(RunMonitor.class)))
+        .withName("Sending batched service requests [session={}]", batch.m_sessionId)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(delayMillis, TimeUnit.MILLISECONDS))
+        .withExceptionHandling(null, false));
+  }
+
+  protected void send(Batch batch) {
+    List<ServiceTunnelRequest> requests;
+    List<CompletableFuture<ServiceTunnelResponse>> results;
+    synchronized (m_openBatches) {
+      if (batch.m_sent) {
+        return;
+      }
+      batch.m_sent = true;
+      m_openBatches.remove(batch.m_sessionId, batch);
+      requests = new ArrayList<>(batch.m_requests);
+      results = new ArrayList<>(batch.m_results);
+    }
+
+    try {
+      if (requests.size() == 1) {
+        results.get(0).complete(invokeRemote(requests.get(0)));
+        return;
+      }
+      ServiceTunnelResponse response = invokeRemote(createBatchRequest(requests));
+      if (response instanceof ServiceTunnelBatchResponse && ((ServiceTunnelBatchResponse) response).getResponses().size() == requests.size()) {
+        List<ServiceTunnelResponse> responses = ((ServiceTunnelBatchResponse) response).getResponses();
+        for (int i = 0; i < results.size(); i++) {
+          results.get(i).complete(responses.get(i));
+        }
+      }
+      else {
+        // the batch failed as a whole (e.g. HTTP error)
+        LOG.debug("Batch of {} requests failed: {}", requests.size(), response);
+        results.forEach(result -> result.complete(response));
+      }
+    }
+    catch (Exception | Error e) { // NOSONAR
+      results.forEach(result -> result.completeExceptionally(e));
+    }
+  }
+
+  protected ServiceTunnelBatchRequest createBatchRequest(List<ServiceTunnelRequest> requests) {
+    ServiceTunnelRequest first = requests.get(0);
+    ServiceTunnelBatchRequest batchRequest = new ServiceTunnelBatchRequest(requests);
+    batchRequest.setSessionId(first.getSessionId());
+    batchRequest.setClientNodeId(first.getClientNodeId());
+    batchRequest.setUserAgent(first.getUserAgent());
+    return batchRequest;
+  }
+
+  protected ServiceTunnelResponse invokeRemote(ServiceTunnelRequest request) throws Exception {
+    return new RemoteServiceInvocationCallable(m_tunnel, request).call();
+  }
+
+  protected static class Batch {
+    private final String m_sessionId;
+    private final List<ServiceTunnelRequest> m_requests = new ArrayList<>();
+    private final List<CompletableFuture<ServiceTunnelResponse>> m_results = new ArrayList<>();
+    private boolean m_sent;
+
+    protected Batch(String sessionId) {
+      m_sessionId = sessionId;
+    }
+  }
+
+  /**
+   * {@link RemoteServiceInvocationCallable} adding its request to the batch of its session.
+   */
+  public static class BatchingRemoteServiceInvocationCallable extends RemoteServiceInvocationCallable {
+    private final HttpServiceTunnelCallBatcher m_batcher;
+    private final ServiceTunnelRequest m_serviceRequest;
+
+    public BatchingRemoteServiceInvocationCallable(HttpServiceTunnel tunnel, ServiceTunnelRequest serviceRequest, HttpServiceTunnelCallBatcher batcher) {
+      super(tunnel, serviceRequest);
+      m_serviceRequest = serviceRequest;
+      m_batcher = batcher;
+    }
+
+    @Override
+    public ServiceTunnelResponse call() throws Exception {
+      return m_batcher.invoke(m_serviceRequest);
+    }
+  }
+}
@@ -10,9 +10,15 @@
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractClassConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsPerRouteProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsTotalProperty;
+import org.eclipse.scout.rt.shared.http.HttpTransportFactoryProperty;
+import org.eclipse.scout.rt.shared.http.IHttpTransportFactory;
+import org.eclipse.scout.rt.shared.http.JdkHttpClientTransportFactory;
 
 public final class HttpServiceTunnelConfigurationProperties {
 
@@ -69,4 +75,95 @@ public final class HttpServiceTunnelConfigurationProperties {
           BEANS.get(ApacheHttpTransportMaxConnectionsTotalProperty.class).getKey());
     }
   }
+
+  /**
+   * @since 23.2
+   */
+  public static class HttpServiceTunnelTransportFactoryProperty extends AbstractClassConfigProperty<IHttpTransportFactory> {
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.transportFactory";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Fully qualified class name of the HTTP transport factory used by the HTTP service tunnel. The class must implement '%s'.\n"
+          + "Use '%s' to multiplex all service calls over a single HTTP/2 connection (the server must support HTTP/2 or h2c).\n"
+          + "By default the factory of '%s' is used.",
+          IHttpTransportFactory.class.getName(), JdkHttpClientTransportFactory.class.getName(), BEANS.get(HttpTransportFactoryProperty.class).getKey());
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class HttpServiceTunnelBatchWindowProperty extends AbstractLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.batchWindow";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return "Time in milliseconds the HTTP service tunnel waits for further service calls of the same session before sending them in one request.\n"
+          + "The server executes the calls of such a request in parallel and responds once all of them completed. Calls of long running services should therefore be excluded from batching.\n"
+          + "The server must support batched requests.\n"
+          + "The default value is 0 which disables batching.";
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class HttpServiceTunnelMaxBatchSizeProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 32;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.maxBatchSize";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum number of service calls sent in one request if batching is enabled using '%s'. The default value is 32.",
+          BEANS.get(HttpServiceTunnelBatchWindowProperty.class).getKey());
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class HttpServiceTunnelStreamingProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.streaming";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return "Specifies if the HTTP service tunnel serializes requests directly into the HTTP connection (using chunked transfer encoding) instead of buffering them in memory first.\n"
+          + "Reduces the memory used to send large arguments (e.g. files). All proxies between client and server must support chunked requests.\n"
+          + "The default value is false.";
+    }
+  }
 }
@@ -14,8 +14,10 @@ import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.shared.http.AbstractHttpTransportManager;
 import org.eclipse.scout.rt.shared.http.ApacheHttpTransportFactory.ApacheHttpTransportBuilder;
 import org.eclipse.scout.rt.shared.http.IHttpTransportBuilder;
+import org.eclipse.scout.rt.shared.http.IHttpTransportFactory;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
 import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelTransportMaxConnectionsPerRouteProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelTransportFactoryProperty;
 import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelTransportMaxConnectionsTotalProperty;
 
 /**
@@ -23,6 +25,12 @@ import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigura
  */
 public class HttpServiceTunnelTransportManager extends AbstractHttpTransportManager {
 
+  @Override
+  protected Class<? extends IHttpTransportFactory> getHttpTransportFactory() {
+    Class<? extends IHttpTransportFactory> factory = CONFIG.getPropertyValue(HttpServiceTunnelTransportFactoryProperty.class);
+    return factory != null ? factory : super.getHttpTransportFactory();
+  }
+
   @Override
   public void interceptNewHttpTransport(IHttpTransportBuilder builder0) {
     super.interceptNewHttpTransport(builder0);
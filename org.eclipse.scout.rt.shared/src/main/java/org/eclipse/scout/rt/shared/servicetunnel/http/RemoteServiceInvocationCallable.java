@@ -66,15 +66,24 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
 
     final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
     try {
-      // Create the request.
-      final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
-      m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
-      requestMessage.close();
-      final byte[] requestData = requestMessage.toByteArray();
-      nBytes = requestData.length;
+      HttpResponse resp;
+      if (m_tunnel.isStreaming()) {
+        // Send the request to the server while serializing it.
+        ServiceTunnelRequestContent content = new ServiceTunnelRequestContent(m_tunnel.getContentHandler(), m_serviceRequest);
+        resp = m_tunnel.executeRequest(m_serviceRequest, content, null);
+        nBytes = content.getWrittenBytes();
+      }
+      else {
+        // Create the request.
+        final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
+        m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
+        requestMessage.close();
+        final byte[] requestData = requestMessage.toByteArray();
+        nBytes = requestData.length;
 
-      // Send the request to the server.
-      HttpResponse resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+        // Send the request to the server.
+        resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      }
       try {
         // Receive the response.
         m_tunnel.interceptHttpResponse(resp, m_serviceRequest);
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+
+import com.google.api.client.http.HttpContent;
+
+/**
+ * {@link HttpContent} serializing a {@link ServiceTunnelRequest} directly into the HTTP output stream. The length is
+ * unknown in advance, therefore the request is sent using chunked transfer encoding.
+ *
+ * @since 23.2
+ */
+public class ServiceTunnelRequestContent implements HttpContent {
+  private final IServiceTunnelContentHandler m_contentHandler;
+  private final ServiceTunnelRequest m_serviceRequest;
+  private long m_writtenBytes;
+
+  public ServiceTunnelRequestContent(IServiceTunnelContentHandler contentHandler, ServiceTunnelRequest serviceRequest) {
+    m_contentHandler = contentHandler;
+    m_serviceRequest = serviceRequest;
+  }
+
+  @Override
+  public long getLength() {
+    return -1;
+  }
+
+  @Override
+  public String getType() {
+    return m_contentHandler.getContentType();
+  }
+
+  /**
+   * The request is not repeated, the server would reject it as duplicate.
+   */
+  @Override
+  public boolean retrySupported() {
+    return false;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    m_writtenBytes = 0;
+    m_contentHandler.writeRequest(new FilterOutputStream(out) {
+      @Override
+      public void write(int b) throws IOException {
+        out.write(b);
+        m_writtenBytes++;
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        m_writtenBytes += len;
+      }
+
+      @Override
+      public void close() throws IOException {
+        // the HTTP transport closes the stream
+        flush();
+      }
+    }, m_serviceRequest);
+  }
+
+  /**
+   * @return number of bytes written by the last {@link #writeTo(OutputStream)}
+   */
+  public long getWrittenBytes() {
+    return m_writtenBytes;
+  }
+}